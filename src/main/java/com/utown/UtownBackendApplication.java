@@ -2,12 +2,20 @@ package com.utown;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class UtownBackendApplication {
 
+	/**
+	 * Startup steps kept for {@code /actuator/startup}; a POST to the endpoint drains them.
+	 */
+	private static final int STARTUP_STEPS = 2048;
+
 	public static void main(String[] args) {
-		SpringApplication.run(UtownBackendApplication.class, args);
+		SpringApplication application = new SpringApplication(UtownBackendApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+		application.run(args);
 	}
 
 }
@@ -6,14 +6,19 @@ import com.utown.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+/**
+ * Creates the default admin account after the application is ready, on its own thread, so the existence
+ * check and the BCrypt encode do not delay startup.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class AdminUserInitializer implements CommandLineRunner {
+public class AdminUserInitializer {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
@@ -30,19 +35,22 @@ public class AdminUserInitializer implements CommandLineRunner {
     @Value("${admin.auto-create:true}")
     private Boolean autoCreate;
 
-    @Override
-    public void run(String... args) {
+    @EventListener(ApplicationReadyEvent.class)
+    public void createAdminIfMissing() {
         if (!autoCreate) {
             log.info("Admin auto-creation is disabled");
             return;
         }
+        Thread.ofVirtual().name("admin-user-initializer").start(this::createAdmin);
+    }
 
-        if (userRepository.existsByPhoneNumber(adminPhone)) {
-            log.info("Admin user already exists: {}", adminPhone);
-            return;
-        }
-
+    private void createAdmin() {
         try {
+            if (userRepository.existsByPhoneNumber(adminPhone)) {
+                log.info("Admin user already exists: {}", adminPhone);
+                return;
+            }
+
             User admin = User.builder()
                     .phoneNumber(adminPhone)
                     .passwordHash(passwordEncoder.encode(adminPassword))
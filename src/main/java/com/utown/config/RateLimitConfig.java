@@ -0,0 +1,23 @@
+package com.utown.config;
+
+import com.utown.ratelimit.LocalRateLimitStore;
+import com.utown.ratelimit.RateLimitStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+    private static final int STRIPES = 64;
+
+    /**
+     * With {@code rate-limit.store=shared} no local store is created and startup fails unless
+     * a shared {@link RateLimitStore} is registered.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.store", havingValue = "local", matchIfMissing = true)
+    public RateLimitStore localRateLimitStore(RateLimitProperties properties) {
+        return new LocalRateLimitStore(properties.getMaxKeys(), STRIPES);
+    }
+}
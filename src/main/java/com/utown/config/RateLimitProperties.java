@@ -0,0 +1,44 @@
+package com.utown.config;
+
+import com.utown.ratelimit.BucketPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Data
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * {@code local} keeps the buckets on this node; {@code shared} expects a cluster-wide
+     * {@code RateLimitStore} bean to be provided.
+     */
+    private String store = "local";
+
+    /**
+     * Upper bound on buckets held by the local store.
+     */
+    private int maxKeys = 100_000;
+
+    private Limit loginPerIp = new Limit(20, 3_000);
+    private Limit loginPerPhone = new Limit(5, 60_000);
+    private Limit passwordResetPerIp = new Limit(10, 30_000);
+    private Limit passwordResetPerPhone = new Limit(3, 300_000);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity;
+        private long refillMs;
+
+        public BucketPolicy toPolicy() {
+            return new BucketPolicy(capacity, refillMs);
+        }
+    }
+}
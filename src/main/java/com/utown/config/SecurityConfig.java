@@ -11,8 +11,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -71,7 +69,7 @@ public class SecurityConfig {
                         .hasRole("CLIENT")
                         .requestMatchers("/api/restaurant-owner/**")
                         .hasAnyRole("RESTAURANT_OWNER", "ADMIN")
-                        .requestMatchers("/api/admin/**", "/api/users/**")
+                        .requestMatchers("/api/admin/**", "/api/users/**", "/actuator/**")
                         .hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
@@ -115,9 +113,4 @@ public class SecurityConfig {
 
         return source;
     }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.utown.config;
+
+import com.utown.sqlstats.StatementStatsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsConfig {
+
+    /**
+     * Wraps the pooled data source so every statement is counted against the scope of the current
+     * thread. Result sets are proxied to count fetched rows only with {@code sql-stats.count-rows},
+     * since that intercepts every {@code ResultSet.next()}. Static so the post-processor is registered
+     * before the data source.
+     */
+    @Bean
+    public static BeanPostProcessor statementStatsDataSourceProxy(Environment environment) {
+        StatementStatsListener listener = new StatementStatsListener();
+        boolean countRows = environment.getProperty("sql-stats.count-rows", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener);
+                if (countRows) {
+                    builder.proxyResultSet().methodListener(listener);
+                }
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.utown.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "sql-stats")
+@Data
+public class SqlStatsProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * {@code log} warns about repeated statements and budget overruns; {@code fail} throws instead,
+     * so a regression fails the test that triggered it.
+     */
+    private String mode = "log";
+
+    /**
+     * Adds {@code X-Sql-*} headers with the statement counts to JSON responses.
+     */
+    private boolean headers = false;
+
+    /**
+     * Counts fetched rows by proxying every result set; without it only update counts are rows.
+     */
+    private boolean countRows = false;
+
+    /**
+     * Statements allowed per request or STOMP message when the handler declares no {@code @StatementBudget}.
+     */
+    private int defaultBudget = 30;
+
+    /**
+     * Executions of one statement shape within a request at which it is reported as N+1.
+     */
+    private int repeatedThreshold = 5;
+
+    public boolean isFailMode() {
+        return "fail".equalsIgnoreCase(mode);
+    }
+}
@@ -0,0 +1,39 @@
+package com.utown.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utown.tracing.FileSpanExporter;
+import com.utown.tracing.OtlpHttpSpanExporter;
+import com.utown.tracing.SpanExporter;
+import com.utown.tracing.TailSampler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Locale;
+
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public TailSampler tailSampler(TracingProperties properties) {
+        return new TailSampler(properties.getSlowThresholdMs(), properties.getSampleRate());
+    }
+
+    @Bean
+    public SpanExporter spanExporter(TracingProperties properties, ObjectMapper objectMapper) throws IOException {
+        if (!properties.isEnabled()) {
+            return spans -> { };
+        }
+        return switch (properties.getExporter().toLowerCase(Locale.ROOT)) {
+            case "file" -> new FileSpanExporter(
+                    Path.of(properties.getFilePath()), properties.getFileMaxBytes(),
+                    properties.getServiceName(), objectMapper);
+            case "otlp" -> new OtlpHttpSpanExporter(
+                    URI.create(properties.getOtlpEndpoint()), properties.getServiceName(), objectMapper);
+            case "none" -> spans -> { };
+            default -> throw new IllegalStateException("Unknown tracing.exporter: " + properties.getExporter());
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.utown.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "tracing")
+@Data
+public class TracingProperties {
+
+    /**
+     * Registers the HTTP filter, STOMP interceptor and component aspect that start and record spans.
+     * Off unless an exporter is configured to receive them (on with the {@code dev} profile).
+     */
+    private boolean enabled = false;
+
+    /**
+     * {@code file} appends OTLP/JSON lines to {@link #filePath}; {@code otlp} posts them to
+     * {@link #otlpEndpoint}; {@code none} samples but discards.
+     */
+    private String exporter = "none";
+
+    private String serviceName = "utown-backend";
+
+    private String filePath = System.getProperty("java.io.tmpdir") + "/utown-traces.jsonl";
+
+    /**
+     * Size at which {@link #filePath} is rolled over to {@code <filePath>.1}.
+     */
+    private long fileMaxBytes = 64L * 1024 * 1024;
+
+    private String otlpEndpoint = "http://localhost:4318/v1/traces";
+
+    /**
+     * Share of traces kept that are neither slow, failed nor sampled upstream.
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * Traces whose root span takes at least this long are always kept.
+     */
+    private long slowThresholdMs = 500;
+
+    private int maxSpansPerTrace = 256;
+
+    /**
+     * Kept traces waiting for the export thread; beyond this they are dropped.
+     */
+    private int queueCapacity = 2048;
+
+    /**
+     * Traces written per export call.
+     */
+    private int batchSize = 64;
+}
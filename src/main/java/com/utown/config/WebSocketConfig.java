@@ -1,21 +1,35 @@
 package com.utown.config;
 
 import com.utown.security.WebSocketChannelInterceptor;
+import com.utown.security.jwt.StompAuthenticationInterceptor;
+import com.utown.sqlstats.StatementStatsChannelInterceptor;
+import com.utown.tracing.TracingChannelInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+/**
+ * Ordered before {@link WebSocketSecurityConfig} so its inbound interceptors, CONNECT authentication
+ * included, run before Spring Security's authorization of the frame.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
+@Order(Ordered.HIGHEST_PRECEDENCE + 99)
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
     private final WebSocketChannelInterceptor webSocketChannelInterceptor;
+    private final ObjectProvider<StatementStatsChannelInterceptor> statementStatsChannelInterceptor;
+    private final ObjectProvider<TracingChannelInterceptor> tracingChannelInterceptor;
 
     @Value("${cors.allowed-origins:http://localhost:3000,http://localhost:5173,http://localhost:4200}")
     private String allowedOrigins;
@@ -36,6 +50,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(webSocketChannelInterceptor);
+        // Tracing and statement counting go first so they also cover the subscription checks
+        tracingChannelInterceptor.ifAvailable(registration::interceptors);
+        statementStatsChannelInterceptor.ifAvailable(registration::interceptors);
+        registration.interceptors(stompAuthenticationInterceptor, webSocketChannelInterceptor);
     }
 }
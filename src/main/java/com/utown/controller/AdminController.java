@@ -1,13 +1,29 @@
 package com.utown.controller;
 
+import com.utown.recommendation.RecommendationService;
+import com.utown.service.DashboardStatsService;
+import com.utown.service.OrderService;
+import com.utown.service.RestaurantService;
+import com.utown.service.SalesRollupBackfillService;
+import com.utown.service.UserService;
+import com.utown.streaming.StreamFormat;
+import com.utown.tracking.RiderTrackingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -16,19 +32,56 @@ import java.util.Map;
 @Tag(name = "Admin", description = "Endpoints for ADMIN")
 @SecurityRequirement(name = "bearerAuth")
 @PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
 public class AdminController {
 
+    private final RestaurantService restaurantService;
+    private final OrderService orderService;
+    private final DashboardStatsService dashboardStatsService;
+    private final SalesRollupBackfillService salesRollupBackfillService;
+    private final RecommendationService recommendationService;
+    private final RiderTrackingService riderTrackingService;
+    private final UserService userService;
+
     @GetMapping("/dashboard")
     @Operation(summary = "Admin Dashboard", description = "Статистика для администратора")
     public ResponseEntity<Map<String, Object>> getDashboard() {
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "Admin dashboard data",
-                "stats", Map.of(
-                        "totalUsers", 100,
-                        "totalRestaurants", 50,
-                        "totalOrders", 1000
-                )
+                "stats", dashboardStatsService.snapshot()
+        ));
+    }
+
+    @PostMapping("/analytics/backfill")
+    @Operation(summary = "Пересчёт аналитики", description = "Пересобрать почасовые/дневные/месячные сводки продаж из истории заказов")
+    public ResponseEntity<Map<String, Object>> backfillAnalytics() {
+        int restaurants = salesRollupBackfillService.backfillAll();
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "Sales rollups rebuilt",
+                "restaurants", restaurants
+        ));
+    }
+
+    @PostMapping("/recommendations/rebuild")
+    @Operation(summary = "Пересчёт рекомендаций", description = "Пересобрать граф «часто заказывают вместе» из истории заказов")
+    public ResponseEntity<Map<String, Object>> rebuildRecommendations() {
+        int restaurants = recommendationService.rebuild();
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "Recommendation graphs rebuilt",
+                "restaurants", restaurants
+        ));
+    }
+
+    @GetMapping("/orders/{orderId}/track")
+    @Operation(summary = "Трек курьера", description = "Маршрут курьера по заказу для разбора доставки")
+    public ResponseEntity<Map<String, Object>> getOrderTrack(@PathVariable Long orderId) {
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "Rider track",
+                "points", riderTrackingService.getTrack(orderId)
         ));
     }
 
@@ -40,4 +93,39 @@ public class AdminController {
                 "message", "All users"
         ));
     }
+
+    @PatchMapping("/users/{userId}/active")
+    @Operation(summary = "Блокировка пользователя", description = "Включить или отключить аккаунт; при отключении все токены пользователя сразу перестают действовать")
+    public ResponseEntity<Map<String, Object>> setUserActive(
+            @PathVariable Long userId,
+            @RequestParam boolean active
+    ) {
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", active ? "User activated" : "User deactivated",
+                "user", userService.setActive(userId, active)
+        ));
+    }
+
+    @GetMapping("/export/restaurants")
+    @Operation(summary = "Экспорт ресторанов", description = "Все рестораны потоком, NDJSON по умолчанию")
+    public ResponseEntity<StreamingResponseBody> exportRestaurants(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        StreamFormat format = StreamFormat.fromAccept(accept, StreamFormat.NDJSON);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(restaurantService.exportRestaurants(format));
+    }
+
+    @GetMapping("/export/orders")
+    @Operation(summary = "Экспорт заказов", description = "Все заказы потоком, NDJSON по умолчанию")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        StreamFormat format = StreamFormat.fromAccept(accept, StreamFormat.NDJSON);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(orderService.exportOrders(format));
+    }
 }
@@ -8,6 +8,8 @@ import com.utown.model.dto.auth.PasswordResetRequestDto;
 import com.utown.model.dto.auth.PasswordResetVerifyDto;
 import com.utown.model.dto.auth.RefreshTokenRequest;
 import com.utown.model.dto.auth.RegisterRequest;
+import com.utown.ratelimit.RateLimitService;
+import com.utown.security.AuthenticatedUser;
 import com.utown.service.AuthService;
 import com.utown.service.PasswordResetService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,6 +19,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +41,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final PasswordResetService passwordResetService;
+    private final RateLimitService rateLimitService;
 
     @PostMapping("/register")
     @Operation(
@@ -80,13 +84,20 @@ public class AuthController {
             @ApiResponse(
                     responseCode = "401",
                     description = "Invalid credentials"
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many login attempts, see Retry-After"
             )
     })
     public ResponseEntity<AuthResponse> login(
-            @Valid @RequestBody LoginRequest request
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
     ) {
         log.info("POST /api/auth/login - phoneNumber: {}", request.getPhoneNumber());
 
+        rateLimitService.checkLogin(request.getPhoneNumber(), httpRequest.getRemoteAddr());
+
         AuthResponse response = authService.login(request);
 
         return ResponseEntity.ok(response);
@@ -122,7 +133,7 @@ public class AuthController {
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "User logout",
-            description = "Invalidate all refresh tokens for the authenticated user"
+            description = "Invalidate all refresh tokens and access tokens of the authenticated user"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -137,9 +148,7 @@ public class AuthController {
     public ResponseEntity<Void> logout(Authentication authentication) {
         log.info("POST /api/auth/logout");
 
-        Long userId = (Long) authentication.getPrincipal();
-
-        authService.logout(userId);
+        authService.logout(AuthenticatedUser.from(authentication));
 
         return ResponseEntity.ok().build();
     }
@@ -157,13 +166,20 @@ public class AuthController {
             @ApiResponse(
                     responseCode = "404",
                     description = "User not found"
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many reset attempts, see Retry-After"
             )
     })
     public ResponseEntity<ApiResponseDTO<Map<String, Object>>> requestPasswordReset(
-            @Valid @RequestBody PasswordResetRequestDto request
+            @Valid @RequestBody PasswordResetRequestDto request,
+            HttpServletRequest httpRequest
     ) {
         log.info("POST /api/auth/password/reset/request - username: {}", request.getUsername());
 
+        rateLimitService.checkPasswordReset(request.getUsername(), httpRequest.getRemoteAddr());
+
         Map<String, Object> response = passwordResetService.requestPasswordReset(request);
 
         return ResponseEntity.ok(ApiResponseDTO.success(response, "Reset code sent"));
@@ -182,13 +198,20 @@ public class AuthController {
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid code, expired, or too many attempts"
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many reset attempts, see Retry-After"
             )
     })
     public ResponseEntity<ApiResponseDTO<Map<String, Object>>> verifyResetCode(
-            @Valid @RequestBody PasswordResetVerifyDto request
+            @Valid @RequestBody PasswordResetVerifyDto request,
+            HttpServletRequest httpRequest
     ) {
         log.info("POST /api/auth/password/reset/verify - username: {}", request.getUsername());
 
+        rateLimitService.checkPasswordReset(request.getUsername(), httpRequest.getRemoteAddr());
+
         Map<String, Object> response = passwordResetService.verifyResetCode(request);
 
         return ResponseEntity.ok(ApiResponseDTO.success(response, "Code verified"));
@@ -207,13 +230,20 @@ public class AuthController {
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid or expired reset token"
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many reset attempts, see Retry-After"
             )
     })
     public ResponseEntity<ApiResponseDTO<Map<String, Object>>> confirmPasswordReset(
-            @Valid @RequestBody PasswordResetConfirmDto request
+            @Valid @RequestBody PasswordResetConfirmDto request,
+            HttpServletRequest httpRequest
     ) {
         log.info("POST /api/auth/password/reset/confirm");
 
+        rateLimitService.checkPasswordReset(null, httpRequest.getRemoteAddr());
+
         Map<String, Object> response = passwordResetService.confirmPasswordReset(request);
 
         return ResponseEntity.ok(ApiResponseDTO.success(response, "Password updated successfully"));
@@ -2,7 +2,9 @@ package com.utown.controller;
 
 import com.utown.model.dto.cart.AddToCartRequest;
 import com.utown.model.dto.cart.CartDTO;
+import com.utown.model.dto.cart.CartSuggestionDTO;
 import com.utown.model.dto.cart.UpdateCartItemRequest;
+import com.utown.recommendation.RecommendationService;
 import com.utown.service.CartService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,6 +14,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/cart")
 @RequiredArgsConstructor
@@ -19,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class CartController {
 
     private final CartService cartService;
+    private final RecommendationService recommendationService;
 
     @GetMapping
     @Operation(summary = "Get user's cart", description = "Retrieve current user's shopping cart")
@@ -28,6 +33,17 @@ public class CartController {
         return ResponseEntity.ok(cart);
     }
 
+    @GetMapping("/suggestions")
+    @Operation(summary = "Get cart suggestions", description = "Dishes frequently ordered together with the items in the cart")
+    public ResponseEntity<List<CartSuggestionDTO>> getSuggestions(
+            Authentication authentication,
+            @RequestParam(defaultValue = "5") int limit
+    ) {
+        Long userId = (Long) authentication.getPrincipal();
+        List<CartSuggestionDTO> suggestions = recommendationService.getCartSuggestions(userId, Math.clamp(limit, 1, 20));
+        return ResponseEntity.ok(suggestions);
+    }
+
     @PostMapping("/items")
     @Operation(summary = "Add item to cart", description = "Add a menu item to the shopping cart")
     public ResponseEntity<CartDTO> addItemToCart(
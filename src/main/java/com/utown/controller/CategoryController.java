@@ -3,19 +3,21 @@ package com.utown.controller;
 import com.utown.model.dto.restaurant.CategoryDTO;
 import com.utown.model.dto.restaurant.CreateCategoryRequest;
 import com.utown.service.CategoryService;
+import com.utown.streaming.StreamFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -34,8 +36,12 @@ public class CategoryController {
 
     @GetMapping
     @Operation(summary = "Get all active categories", description = "Get list of all active categories")
-    public ResponseEntity<List<CategoryDTO>> getAllCategories() {
-        List<CategoryDTO> categories = categoryService.getAllActiveCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<StreamingResponseBody> getAllCategories(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        StreamFormat format = StreamFormat.fromAccept(accept, StreamFormat.JSON);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(categoryService.streamActiveCategories(format));
     }
 }
@@ -4,7 +4,9 @@ import com.utown.model.dto.restaurant.CreateMenuItemRequest;
 import com.utown.model.dto.restaurant.MenuItemDTO;
 import com.utown.model.dto.restaurant.RestaurantMenuDTO;
 import com.utown.model.dto.restaurant.UpdateMenuItemRequest;
+import com.utown.security.AuthenticatedUser;
 import com.utown.service.MenuItemService;
+import com.utown.streaming.StreamFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -12,6 +14,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,11 +25,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api")
@@ -61,12 +64,17 @@ public class MenuItemController {
             summary = "Get restaurant menu items",
             description = "Get all menu items of a restaurant without grouping"
     )
-    public ResponseEntity<List<MenuItemDTO>> getRestaurantMenuItems(
+    public ResponseEntity<StreamingResponseBody> getRestaurantMenuItems(
             @Parameter(description = "Restaurant ID")
-            @PathVariable Long id
+            @PathVariable Long id,
+
+            @Parameter(description = "application/x-ndjson for one item per line, JSON array otherwise")
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
-        List<MenuItemDTO> menuItems = menuItemService.getRestaurantMenuItems(id);
-        return ResponseEntity.ok(menuItems);
+        StreamFormat format = StreamFormat.fromAccept(accept, StreamFormat.JSON);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(menuItemService.streamRestaurantMenuItems(id, format));
     }
 
     @GetMapping("/menu-items/{id}")
@@ -93,8 +101,7 @@ public class MenuItemController {
             @Valid @RequestBody CreateMenuItemRequest request,
             Authentication authentication
     ) {
-        Long currentUserId = (Long) authentication.getPrincipal();
-        MenuItemDTO created = menuItemService.createMenuItem(request, currentUserId);
+        MenuItemDTO created = menuItemService.createMenuItem(request, AuthenticatedUser.from(authentication));
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
@@ -111,8 +118,7 @@ public class MenuItemController {
             @Valid @RequestBody UpdateMenuItemRequest request,
             Authentication authentication
     ) {
-        Long currentUserId = (Long) authentication.getPrincipal();
-        MenuItemDTO updated = menuItemService.updateMenuItem(id, request, currentUserId);
+        MenuItemDTO updated = menuItemService.updateMenuItem(id, request, AuthenticatedUser.from(authentication));
         return ResponseEntity.ok(updated);
     }
 
@@ -128,8 +134,7 @@ public class MenuItemController {
             @PathVariable Long id,
             Authentication authentication
     ) {
-        Long currentUserId = (Long) authentication.getPrincipal();
-        menuItemService.deleteMenuItem(id, currentUserId);
+        menuItemService.deleteMenuItem(id, AuthenticatedUser.from(authentication));
         return ResponseEntity.noContent().build();
     }
 }
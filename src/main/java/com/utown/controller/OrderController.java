@@ -3,6 +3,7 @@ package com.utown.controller;
 import com.utown.model.dto.order.*;
 import com.utown.model.enums.UserRole;
 import com.utown.service.OrderService;
+import com.utown.sqlstats.StatementBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -40,6 +41,7 @@ public class OrderController {
     @GetMapping("/my")
     @Operation(summary = "Get my orders", description = "Get current user's orders")
     @PreAuthorize("hasRole('CLIENT')")
+    @StatementBudget(5)
     public ResponseEntity<Page<OrderDTO>> getMyOrders(
             Authentication authentication,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
@@ -52,6 +54,7 @@ public class OrderController {
     @GetMapping("/restaurant/{restaurantId}")
     @Operation(summary = "Get restaurant orders", description = "Get orders for a specific restaurant")
     @PreAuthorize("hasAnyRole('RESTAURANT_OWNER', 'ADMIN')")
+    @StatementBudget(6)
     public ResponseEntity<Page<OrderDTO>> getRestaurantOrders(
             Authentication authentication,
             @PathVariable Long restaurantId,
@@ -3,9 +3,13 @@ package com.utown.controller;
 import com.utown.model.dto.ApiResponseDTO;
 import com.utown.model.dto.restaurant.CreateRestaurantRequest;
 import com.utown.model.dto.restaurant.RestaurantDto;
+import com.utown.model.dto.restaurant.TrendingDTO;
 import com.utown.model.dto.restaurant.UpdateRestaurantRequest;
 import com.utown.model.dto.restaurant.UpdateRestaurantStatusRequest;
+import com.utown.model.enums.TrendingWindow;
+import com.utown.security.AuthenticatedUser;
 import com.utown.service.RestaurantService;
+import com.utown.trending.TrendingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -43,6 +47,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class RestaurantController {
 
     private final RestaurantService restaurantService;
+    private final TrendingService trendingService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -102,7 +107,7 @@ public class RestaurantController {
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "DESC") Sort.Direction direction
     ) {
-        log.info("GET /api/restaurants - page={}, size={}", page, size);
+        log.debug("GET /api/restaurants - page={}, size={}", page, size);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
         Page<RestaurantDto> restaurants = restaurantService.getAllRestaurants(pageable);
@@ -110,6 +115,31 @@ public class RestaurantController {
         return ResponseEntity.ok(ApiResponseDTO.success(restaurants));
     }
 
+    @GetMapping("/trending")
+    @Operation(
+            summary = "Get trending dishes and restaurants",
+            description = "Most ordered dishes and restaurants in a sliding window, optionally for one city. "
+                    + "Served from an in-memory snapshot refreshed every few seconds (public endpoint)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Trending snapshot retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TrendingDTO.class))
+            )
+    })
+    public ResponseEntity<ApiResponseDTO<TrendingDTO>> getTrending(
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "LAST_HOUR") TrendingWindow window,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.debug("GET /api/restaurants/trending - city={}, window={}", city, window);
+
+        TrendingDTO response = trendingService.getTrending(city, window, Math.max(limit, 1));
+
+        return ResponseEntity.ok(ApiResponseDTO.success(response));
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "Get restaurant by ID",
@@ -129,7 +159,7 @@ public class RestaurantController {
     public ResponseEntity<ApiResponseDTO<RestaurantDto>> getRestaurantById(
             @PathVariable Long id
     ) {
-        log.info("GET /api/restaurants/{} - Getting restaurant", id);
+        log.debug("GET /api/restaurants/{} - Getting restaurant", id);
 
         RestaurantDto response = restaurantService.getRestaurantById(id);
 
@@ -137,7 +167,7 @@ public class RestaurantController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @restaurantSecurity.isOwner(#id, principal)")
+    @PreAuthorize("hasRole('ADMIN') or @restaurantSecurity.isOwner(#id, authentication)")
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "Update restaurant",
@@ -178,7 +208,7 @@ public class RestaurantController {
     }
 
     @PatchMapping("/{id}/status")
-    @PreAuthorize("hasRole('ADMIN') or @restaurantSecurity.isOwner(#id, principal)")
+    @PreAuthorize("hasRole('ADMIN') or @restaurantSecurity.isOwner(#id, authentication)")
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "Update restaurant status (open/close)",
@@ -211,7 +241,7 @@ public class RestaurantController {
         log.info("PATCH /api/restaurants/{}/status - Updating restaurant status to: {} by user: {}",
                 id, request.getIsOpen(), userId);
 
-        restaurantService.updateRestaurantStatus(id, userId, request.getIsOpen());
+        restaurantService.updateRestaurantStatus(id, AuthenticatedUser.from(authentication), request.getIsOpen());
 
         return ResponseEntity.ok(ApiResponseDTO.success(null, "Restaurant status updated successfully"));
     }
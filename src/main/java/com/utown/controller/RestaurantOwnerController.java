@@ -1,13 +1,21 @@
 package com.utown.controller;
 
+import com.utown.model.dto.analytics.SalesAnalyticsDTO;
 import com.utown.model.dto.restaurant.UpdateRestaurantStatusRequest;
+import com.utown.model.enums.RollupGranularity;
+import com.utown.model.enums.UserRole;
+import com.utown.security.AuthenticatedUser;
 import com.utown.service.RestaurantService;
+import com.utown.service.SalesAnalyticsService;
+import com.utown.streaming.StreamFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -15,9 +23,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @RestController
@@ -29,6 +41,7 @@ import java.util.Map;
 public class RestaurantOwnerController {
 
     private final RestaurantService restaurantService;
+    private final SalesAnalyticsService salesAnalyticsService;
 
     @PatchMapping("/restaurants/{id}/status")
     @Operation(
@@ -43,9 +56,7 @@ public class RestaurantOwnerController {
 
             Authentication authentication
     ) {
-        Long currentUserId = (Long) authentication.getPrincipal();
-
-        restaurantService.updateRestaurantStatus(id, currentUserId, request.getIsOpen());
+        restaurantService.updateRestaurantStatus(id, AuthenticatedUser.from(authentication), request.getIsOpen());
 
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -56,14 +67,49 @@ public class RestaurantOwnerController {
 
     @GetMapping("/restaurants/my")
     @Operation(summary = "My restaurants", description = "Get to list owner's restaurants ")
-    public ResponseEntity<Map<String, Object>> getMyRestaurants(Authentication authentication) {
+    public ResponseEntity<StreamingResponseBody> getMyRestaurants(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            Authentication authentication
+    ) {
         Long currentUserId = (Long) authentication.getPrincipal();
+        StreamFormat format = StreamFormat.fromAccept(accept, StreamFormat.JSON);
 
-        var restaurants = restaurantService.getRestaurantsByOwnerId(currentUserId);
-        
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "data", restaurants
-        ));
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(restaurantService.streamRestaurantsByOwnerId(currentUserId, format));
+    }
+
+    @GetMapping("/restaurants/{id}/analytics")
+    @Operation(
+            summary = "Аналитика продаж ресторана",
+            description = "Выручка, количество заказов, средний чек и топ блюд по часам, дням или месяцам"
+    )
+    public ResponseEntity<SalesAnalyticsDTO> getAnalytics(
+            @Parameter(description = "ID ресторана")
+            @PathVariable Long id,
+
+            @Parameter(description = "Начало периода (ISO date-time), по умолчанию 30 дней назад")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "Конец периода, не включая (ISO date-time), по умолчанию сейчас")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+
+            @Parameter(description = "HOUR, DAY или MONTH, по умолчанию DAY")
+            @RequestParam(required = false) RollupGranularity granularity,
+
+            Authentication authentication
+    ) {
+        Long currentUserId = (Long) authentication.getPrincipal();
+        UserRole userRole = extractUserRole(authentication);
+
+        return ResponseEntity.ok(salesAnalyticsService.getAnalytics(id, currentUserId, userRole, from, to, granularity));
+    }
+
+    private UserRole extractUserRole(Authentication authentication) {
+        String role = authentication.getAuthorities().stream()
+                .findFirst()
+                .map(grantedAuthority -> grantedAuthority.getAuthority().replace("ROLE_", ""))
+                .orElse("CLIENT");
+        return UserRole.valueOf(role);
     }
 }
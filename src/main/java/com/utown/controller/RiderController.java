@@ -0,0 +1,41 @@
+package com.utown.controller;
+
+import com.utown.dispatch.DispatchService;
+import com.utown.exception.ForbiddenException;
+import com.utown.model.dto.rider.RiderLocationMessage;
+import com.utown.tracking.RiderTrackingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class RiderController {
+
+    private static final String RIDER_AUTHORITY = "ROLE_RIDER";
+
+    private final DispatchService dispatchService;
+    private final RiderTrackingService riderTrackingService;
+
+    @MessageMapping("/riders/location")
+    public void reportLocation(@Payload RiderLocationMessage message, Principal principal) {
+        Long riderId = riderId(principal);
+        dispatchService.updateRiderLocation(riderId, message);
+        riderTrackingService.record(riderId, message);
+    }
+
+    private static Long riderId(Principal principal) {
+        if (!(principal instanceof Authentication authentication)
+                || authentication.getAuthorities().stream()
+                .noneMatch(authority -> RIDER_AUTHORITY.equals(authority.getAuthority()))) {
+            throw new ForbiddenException("Only riders can report their location");
+        }
+        return (Long) authentication.getPrincipal();
+    }
+}
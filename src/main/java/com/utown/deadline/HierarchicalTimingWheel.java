@@ -0,0 +1,153 @@
+package com.utown.deadline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel keyed by a {@code long} id, with at most one pending timer per key.
+ * Level {@code n} has {@code wheelSize} buckets of {@code tickMillis * wheelSize^n} each; a timer sits in the
+ * lowest level whose span covers it and cascades down when its higher-level bucket comes round,
+ * so scheduling, cancelling and each tick are O(1) amortised regardless of how many timers are pending.
+ * <p>
+ * Cancelled or replaced timers are only marked and dropped when their bucket is reached.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelSpans;
+    private final List<List<Timer<T>>> buckets;
+    private final Map<Long, Timer<T>> timersByKey = new HashMap<>();
+    private final List<Timer<T>> overdue = new ArrayList<>();
+
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelSpans = new long[levels];
+        this.buckets = new ArrayList<>(levels * wheelSize);
+        this.currentTick = startMillis / tickMillis;
+
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            levelSpans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        for (int i = 0; i < levels * wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Arms a timer for {@code key}, replacing any timer already pending for it.
+     * A deadline that has already passed fires on the next {@link #advance}.
+     */
+    public synchronized void schedule(long key, long deadlineMillis, T payload) {
+        Timer<T> timer = new Timer<>(key, deadlineMillis / tickMillis, payload);
+        Timer<T> previous = timersByKey.put(key, timer);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        place(timer);
+    }
+
+    public synchronized boolean cancel(long key) {
+        Timer<T> timer = timersByKey.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        timer.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis} and returns the payloads of every timer that expired on the way.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        drain(overdue, expired);
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            for (int level = levelSpans.length - 1; level > 0; level--) {
+                if (currentTick % levelSpans[level] == 0) {
+                    List<Timer<T>> bucket = bucket(level, currentTick / levelSpans[level]);
+                    List<Timer<T>> cascading = new ArrayList<>(bucket);
+                    bucket.clear();
+                    for (Timer<T> timer : cascading) {
+                        if (!timer.cancelled) {
+                            place(timer);
+                        }
+                    }
+                }
+            }
+
+            drain(bucket(0, currentTick), expired);
+            drain(overdue, expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return timersByKey.size();
+    }
+
+    private void place(Timer<T> timer) {
+        long delay = timer.expirationTick - currentTick;
+        if (delay <= 0) {
+            overdue.add(timer);
+            return;
+        }
+
+        for (int level = 0; level < levelSpans.length; level++) {
+            long levelCapacity = levelSpans[level] * wheelSize;
+            if (delay < levelCapacity) {
+                bucket(level, timer.expirationTick / levelSpans[level]).add(timer);
+                return;
+            }
+        }
+
+        // Beyond the top level: park it in the last top-level bucket before the wheel wraps,
+        // it is re-placed with the correct delay when that bucket cascades
+        int top = levelSpans.length - 1;
+        bucket(top, currentTick / levelSpans[top] + wheelSize - 1).add(timer);
+    }
+
+    private void drain(List<Timer<T>> bucket, List<T> expired) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        for (Timer<T> timer : bucket) {
+            if (!timer.cancelled) {
+                timersByKey.remove(timer.key);
+                expired.add(timer.payload);
+            }
+        }
+        bucket.clear();
+    }
+
+    private List<Timer<T>> bucket(int level, long slot) {
+        return buckets.get(level * wheelSize + (int) (slot % wheelSize));
+    }
+
+    private static final class Timer<T> {
+        private final long key;
+        private final long expirationTick;
+        private final T payload;
+        private boolean cancelled;
+
+        private Timer(long key, long expirationTick, T payload) {
+            this.key = key;
+            this.expirationTick = expirationTick;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.utown.deadline;
+
+import com.utown.event.OrderCreatedEvent;
+import com.utown.event.OrderStatusChangedEvent;
+import com.utown.model.dto.order.OrderDeadlineSource;
+import com.utown.model.enums.OrderStatus;
+import com.utown.repository.OrderRepository;
+import com.utown.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Per-order deadlines kept in a {@link HierarchicalTimingWheel} instead of polling the orders table:
+ * a PENDING order is auto-cancelled once the restaurant has not confirmed it within the timeout,
+ * a CONFIRMED or PREPARING order is escalated to the restaurant once it overruns its estimated delivery time.
+ * <p>
+ * Deadlines are armed from order events and re-armed from the open orders at startup. The wheel may briefly
+ * hold a stale deadline; {@link OrderService} re-checks the order's status before acting on it.
+ */
+@Service
+@Slf4j
+public class OrderDeadlineService {
+
+    static final String AUTO_CANCEL_REASON = "Automatically cancelled: the restaurant did not confirm the order in time";
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final long pendingTimeoutMillis;
+    private final HierarchicalTimingWheel<OrderDeadline> wheel;
+
+    public OrderDeadlineService(
+            OrderRepository orderRepository,
+            OrderService orderService,
+            @Value("${orders.pending-timeout-ms:900000}") long pendingTimeoutMillis,
+            @Value("${orders.deadline-tick-ms:1000}") long tickMillis
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.pendingTimeoutMillis = pendingTimeoutMillis;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<OrderDeadlineSource> openOrders = orderRepository.findOpenOrderDeadlines();
+        for (OrderDeadlineSource order : openOrders) {
+            arm(order.orderId(), order.status(), order.createdAt(), order.estimatedDeliveryTime());
+        }
+        log.info("Order deadlines armed for {} open orders", wheel.size());
+    }
+
+    @TransactionalEventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        arm(event.orderId(), OrderStatus.PENDING, event.createdAt(), null);
+    }
+
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        arm(event.orderId(), event.newStatus(), event.createdAt(), event.estimatedDeliveryTime());
+    }
+
+    @Scheduled(fixedDelayString = "${orders.deadline-tick-ms:1000}")
+    public void tick() {
+        List<OrderDeadline> expired = wheel.advance(System.currentTimeMillis());
+
+        for (OrderDeadline deadline : expired) {
+            try {
+                switch (deadline.action()) {
+                    case AUTO_CANCEL -> orderService.autoCancelStaleOrder(deadline.orderId(), AUTO_CANCEL_REASON);
+                    case ESCALATE -> orderService.escalateOverdueOrder(deadline.orderId());
+                }
+            } catch (Exception e) {
+                log.error("Failed to handle {} deadline of order {}: {}",
+                        deadline.action(), deadline.orderId(), e.getMessage());
+            }
+        }
+    }
+
+    private void arm(Long orderId, OrderStatus status, LocalDateTime createdAt, LocalDateTime estimatedDeliveryTime) {
+        switch (status) {
+            case PENDING -> {
+                long createdMillis = createdAt != null ? toEpochMillis(createdAt) : System.currentTimeMillis();
+                wheel.schedule(orderId, createdMillis + pendingTimeoutMillis,
+                        new OrderDeadline(orderId, Action.AUTO_CANCEL));
+            }
+            case CONFIRMED, PREPARING -> {
+                if (estimatedDeliveryTime != null) {
+                    wheel.schedule(orderId, toEpochMillis(estimatedDeliveryTime),
+                            new OrderDeadline(orderId, Action.ESCALATE));
+                } else {
+                    wheel.cancel(orderId);
+                }
+            }
+            default -> wheel.cancel(orderId);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    enum Action {
+        AUTO_CANCEL,
+        ESCALATE
+    }
+
+    record OrderDeadline(Long orderId, Action action) {
+    }
+}
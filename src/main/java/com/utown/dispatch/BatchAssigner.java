@@ -0,0 +1,87 @@
+package com.utown.dispatch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * One dispatch round: matches pickups to riders by global greedy on distance. Every pickup proposes its
+ * {@code candidatesPerPickup} nearest eligible riders, all proposals are sorted by distance and accepted
+ * while both sides are still free. Pickups whose candidates were all taken by closer pickups propose again,
+ * so a rider is only left idle if no remaining pickup is within reach.
+ * <p>
+ * Greedy gives up the optimality of a Hungarian matching ({@code O(n^3)}) for {@code O(P k log(P k))},
+ * which keeps a round with thousands of riders in milliseconds.
+ */
+public final class BatchAssigner {
+
+    private static final int MAX_PASSES = 4;
+
+    private static final Comparator<Proposal> BY_DISTANCE = Comparator.comparingDouble(Proposal::distanceKm)
+            .thenComparingLong(Proposal::orderId)
+            .thenComparingLong(Proposal::riderId);
+
+    private final int candidatesPerPickup;
+    private final double maxDistanceKm;
+
+    public BatchAssigner(int candidatesPerPickup, double maxDistanceKm) {
+        if (candidatesPerPickup < 1 || maxDistanceKm <= 0) {
+            throw new IllegalArgumentException("Invalid assignment parameters");
+        }
+        this.candidatesPerPickup = candidatesPerPickup;
+        this.maxDistanceKm = maxDistanceKm;
+    }
+
+    public List<Assignment> assign(List<Pickup> pickups, RiderGrid riders, LongPredicate available) {
+        List<Assignment> assignments = new ArrayList<>();
+        Set<Long> takenRiders = new HashSet<>();
+        List<Pickup> open = pickups;
+
+        for (int pass = 0; pass < MAX_PASSES && !open.isEmpty(); pass++) {
+            List<Proposal> proposals = new ArrayList<>(open.size() * candidatesPerPickup);
+            LongPredicate free = riderId -> !takenRiders.contains(riderId) && available.test(riderId);
+            for (Pickup pickup : open) {
+                for (RiderGrid.Neighbour rider : riders.nearest(
+                        pickup.latitude(), pickup.longitude(), candidatesPerPickup, maxDistanceKm, free)) {
+                    proposals.add(new Proposal(pickup.orderId(), rider.riderId(), rider.distanceKm()));
+                }
+            }
+            if (proposals.isEmpty()) {
+                break;
+            }
+            proposals.sort(BY_DISTANCE);
+
+            Set<Long> assignedOrders = new HashSet<>();
+            for (Proposal proposal : proposals) {
+                if (!assignedOrders.contains(proposal.orderId()) && takenRiders.add(proposal.riderId())) {
+                    assignedOrders.add(proposal.orderId());
+                    assignments.add(new Assignment(proposal.orderId(), proposal.riderId(), proposal.distanceKm()));
+                }
+            }
+
+            List<Pickup> remaining = new ArrayList<>();
+            for (Pickup pickup : open) {
+                if (!assignedOrders.contains(pickup.orderId())) {
+                    remaining.add(pickup);
+                }
+            }
+            if (remaining.size() == open.size()) {
+                break;
+            }
+            open = remaining;
+        }
+        return assignments;
+    }
+
+    public record Pickup(long orderId, double latitude, double longitude) {
+    }
+
+    public record Assignment(long orderId, long riderId, double distanceKm) {
+    }
+
+    private record Proposal(long orderId, long riderId, double distanceKm) {
+    }
+}
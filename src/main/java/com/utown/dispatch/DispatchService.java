@@ -0,0 +1,123 @@
+package com.utown.dispatch;
+
+import com.utown.event.OrderStatusChangedEvent;
+import com.utown.exception.BadRequestException;
+import com.utown.model.dto.order.ReadyOrderSource;
+import com.utown.model.dto.rider.RiderLocationMessage;
+import com.utown.model.enums.OrderStatus;
+import com.utown.repository.OrderRepository;
+import com.utown.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches READY orders to riders. Riders report their position over STOMP into a {@link RiderGrid};
+ * every few seconds a {@link BatchAssigner} round pairs the waiting orders with the nearest free riders
+ * and each pair is recorded on the order with a conditional UPDATE.
+ * <p>
+ * The rider of every READY or DELIVERING order is kept in {@link RiderAssignments}, rebuilt from the orders
+ * at startup, so subscription checks for riders need no query. A rider carries one order at a time.
+ */
+@Service
+@Slf4j
+public class DispatchService {
+
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final RiderAssignments assignments;
+    private final RiderGrid riders;
+    private final BatchAssigner assigner;
+    private final long riderStaleMillis;
+    private final int maxOrdersPerRound;
+
+    public DispatchService(
+            OrderRepository orderRepository,
+            OrderService orderService,
+            RiderAssignments assignments,
+            @Value("${dispatch.grid-cell-degrees:0.01}") double gridCellDegrees,
+            @Value("${dispatch.candidates-per-order:8}") int candidatesPerOrder,
+            @Value("${dispatch.max-pickup-distance-km:5}") double maxPickupDistanceKm,
+            @Value("${dispatch.rider-stale-ms:60000}") long riderStaleMillis,
+            @Value("${dispatch.max-orders-per-round:500}") int maxOrdersPerRound
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.assignments = assignments;
+        this.riders = new RiderGrid(gridCellDegrees);
+        this.assigner = new BatchAssigner(candidatesPerOrder, maxPickupDistanceKm);
+        this.riderStaleMillis = riderStaleMillis;
+        this.maxOrdersPerRound = maxOrdersPerRound;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        for (Object[] row : orderRepository.findActiveRiderAssignments()) {
+            assignments.assign((Long) row[0], (Long) row[1]);
+        }
+        log.info("Dispatch rebuilt with {} riders on active orders", assignments.size());
+    }
+
+    public void updateRiderLocation(Long riderId, RiderLocationMessage message) {
+        if (Boolean.FALSE.equals(message.getOnShift())) {
+            riders.remove(riderId);
+            return;
+        }
+        if (message.getLatitude() == null || message.getLongitude() == null
+                || Math.abs(message.getLatitude()) > 90 || Math.abs(message.getLongitude()) > 180) {
+            throw new BadRequestException("Invalid rider location");
+        }
+        riders.update(riderId, message.getLatitude(), message.getLongitude(), System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${dispatch.round-ms:5000}")
+    public void assignRound() {
+        riders.evictReportedBefore(System.currentTimeMillis() - riderStaleMillis);
+        if (riders.size() == 0) {
+            return;
+        }
+
+        List<ReadyOrderSource> waiting = orderRepository.findReadyOrdersWithoutRider(PageRequest.of(0, maxOrdersPerRound));
+        if (waiting.isEmpty()) {
+            return;
+        }
+
+        List<BatchAssigner.Pickup> pickups = new ArrayList<>(waiting.size());
+        for (ReadyOrderSource order : waiting) {
+            pickups.add(new BatchAssigner.Pickup(
+                    order.orderId(), order.latitude().doubleValue(), order.longitude().doubleValue()));
+        }
+
+        List<BatchAssigner.Assignment> matches = assigner.assign(pickups, riders, riderId -> !assignments.isBusy(riderId));
+
+        int assigned = 0;
+        for (BatchAssigner.Assignment match : matches) {
+            try {
+                if (orderService.assignRider(match.orderId(), match.riderId())) {
+                    assignments.assign(match.orderId(), match.riderId());
+                    assigned++;
+                }
+            } catch (Exception e) {
+                log.error("Failed to assign order {} to rider {}: {}", match.orderId(), match.riderId(), e.getMessage());
+            }
+        }
+
+        log.info("Dispatch round: {} of {} waiting orders assigned, {} riders on shift",
+                assigned, waiting.size(), riders.size());
+    }
+
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.newStatus() == OrderStatus.COMPLETED || event.newStatus() == OrderStatus.CANCELLED) {
+            assignments.release(event.orderId());
+        }
+    }
+}
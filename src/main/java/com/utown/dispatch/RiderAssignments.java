@@ -0,0 +1,46 @@
+package com.utown.dispatch;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Which rider carries which READY or DELIVERING order, kept in both directions for O(1) lookups.
+ * Separate from {@link DispatchService} so the STOMP channel interceptor can use it without depending
+ * on the order services, which themselves need the broker.
+ */
+@Component
+public class RiderAssignments {
+
+    private final Map<Long, Long> riderByOrder = new ConcurrentHashMap<>();
+    private final Map<Long, Long> orderByRider = new ConcurrentHashMap<>();
+
+    public void assign(Long orderId, Long riderId) {
+        riderByOrder.put(orderId, riderId);
+        orderByRider.put(riderId, orderId);
+    }
+
+    public void release(Long orderId) {
+        Long riderId = riderByOrder.remove(orderId);
+        if (riderId != null) {
+            orderByRider.remove(riderId, orderId);
+        }
+    }
+
+    public boolean isAssignedRider(Long orderId, Long riderId) {
+        return riderId != null && riderId.equals(riderByOrder.get(orderId));
+    }
+
+    public boolean isBusy(long riderId) {
+        return orderByRider.containsKey(riderId);
+    }
+
+    public Long findOrder(Long riderId) {
+        return orderByRider.get(riderId);
+    }
+
+    public int size() {
+        return riderByOrder.size();
+    }
+}
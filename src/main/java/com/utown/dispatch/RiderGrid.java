@@ -0,0 +1,234 @@
+package com.utown.dispatch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * In-memory spatial index of rider positions: a uniform grid of {@code cellDegrees} square cells.
+ * Moving a rider is O(1); a nearest-riders query scans rings of cells outwards from the query point
+ * and stops as soon as no unscanned cell can hold anything closer than what it already found,
+ * or once it is past {@code maxDistanceKm}.
+ */
+public final class RiderGrid {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+    private static final int MAX_RINGS = 512;
+
+    private final double cellDegrees;
+    private final Map<Long, Position> positions = new HashMap<>();
+    private final Map<Long, Map<Long, Position>> cells = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public RiderGrid(double cellDegrees) {
+        if (cellDegrees <= 0) {
+            throw new IllegalArgumentException("cellDegrees must be positive");
+        }
+        this.cellDegrees = cellDegrees;
+    }
+
+    public void update(long riderId, double latitude, double longitude, long reportedAtMillis) {
+        long cell = cellOf(latitude, longitude);
+        lock.writeLock().lock();
+        try {
+            Position position = new Position(riderId, latitude, longitude, cell, reportedAtMillis);
+            Position previous = positions.put(riderId, position);
+            if (previous != null && previous.cell != cell) {
+                removeFromCell(previous.cell, riderId);
+            }
+            cells.computeIfAbsent(cell, key -> new HashMap<>()).put(riderId, position);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long riderId) {
+        lock.writeLock().lock();
+        try {
+            Position previous = positions.remove(riderId);
+            if (previous == null) {
+                return false;
+            }
+            removeFromCell(previous.cell, riderId);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops every rider whose last report is older than {@code cutoffMillis}.
+     */
+    public int evictReportedBefore(long cutoffMillis) {
+        lock.writeLock().lock();
+        try {
+            List<Position> stale = new ArrayList<>();
+            for (Position position : positions.values()) {
+                if (position.reportedAtMillis < cutoffMillis) {
+                    stale.add(position);
+                }
+            }
+            for (Position position : stale) {
+                positions.remove(position.riderId);
+                removeFromCell(position.cell, position.riderId);
+            }
+            return stale.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Position get(long riderId) {
+        lock.readLock().lock();
+        try {
+            return positions.get(riderId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return positions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} riders accepted by {@code eligible} within {@code maxDistanceKm}, nearest first.
+     */
+    public List<Neighbour> nearest(double latitude, double longitude, int limit, double maxDistanceKm,
+                                   LongPredicate eligible) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        int centreLat = latCell(latitude);
+        int centreLon = lonCell(longitude);
+        double maxLatitude = Math.min(Math.abs(latitude) + maxDistanceKm / KM_PER_DEGREE, 89.0);
+        double kmPerLonDegree = KM_PER_DEGREE * Math.cos(Math.toRadians(maxLatitude));
+        double lonScale = lonScale(latitude);
+        int maxRing = (int) Math.min(Math.ceil(maxDistanceKm / (cellDegrees * kmPerLonDegree)) + 1, MAX_RINGS);
+
+        // Max-heap on distance holding the best candidates so far
+        PriorityQueue<Neighbour> best = new PriorityQueue<>(limit + 1, Neighbour.BY_DISTANCE.reversed());
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ring <= maxRing; ring++) {
+                if (ring > 0) {
+                    double ringDistanceKm = distanceToRing(latitude, longitude, centreLat, centreLon, ring, kmPerLonDegree);
+                    if (ringDistanceKm > maxDistanceKm
+                            || (best.size() == limit && ringDistanceKm > best.peek().distanceKm())) {
+                        break;
+                    }
+                }
+                scanRing(centreLat, centreLon, ring, latitude, longitude, lonScale, limit, maxDistanceKm, eligible, best);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Neighbour> nearest = new ArrayList<>(best);
+        nearest.sort(Neighbour.BY_DISTANCE);
+        return nearest;
+    }
+
+    /**
+     * Lower bound on the distance from the query point to any cell of {@code ring}: the distance
+     * to the nearest side of the square formed by the rings inside it.
+     */
+    private double distanceToRing(double latitude, double longitude, int centreLat, int centreLon, int ring,
+                                  double kmPerLonDegree) {
+        double south = latitude - (centreLat - ring + 1) * cellDegrees;
+        double north = (centreLat + ring) * cellDegrees - latitude;
+        double west = longitude - (centreLon - ring + 1) * cellDegrees;
+        double east = (centreLon + ring) * cellDegrees - longitude;
+        return Math.min(Math.min(south, north) * KM_PER_DEGREE, Math.min(west, east) * kmPerLonDegree);
+    }
+
+    private void scanRing(int centreLat, int centreLon, int ring, double latitude, double longitude, double lonScale,
+                          int limit, double maxDistanceKm, LongPredicate eligible, PriorityQueue<Neighbour> best) {
+        for (int dLat = -ring; dLat <= ring; dLat++) {
+            boolean edgeRow = dLat == -ring || dLat == ring;
+            // Inner rows of the ring only have their two end cells
+            int step = edgeRow ? 1 : 2 * ring;
+            for (int dLon = -ring; dLon <= ring; dLon += step) {
+                Map<Long, Position> riders = cells.get(cellKey(centreLat + dLat, centreLon + dLon));
+                if (riders == null) {
+                    continue;
+                }
+                for (Position position : riders.values()) {
+                    double distance = distanceKm(latitude, longitude, position.latitude, position.longitude, lonScale);
+                    if (distance > maxDistanceKm
+                            || (best.size() == limit && distance > best.peek().distanceKm())
+                            || !eligible.test(position.riderId)) {
+                        continue;
+                    }
+                    best.add(new Neighbour(position.riderId, distance));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+    }
+
+    private void removeFromCell(long cell, long riderId) {
+        Map<Long, Position> riders = cells.get(cell);
+        if (riders != null && riders.remove(riderId) != null && riders.isEmpty()) {
+            cells.remove(cell);
+        }
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return cellKey(latCell(latitude), lonCell(longitude));
+    }
+
+    private int latCell(double latitude) {
+        return (int) Math.floor(latitude / cellDegrees);
+    }
+
+    private int lonCell(double longitude) {
+        return (int) Math.floor(longitude / cellDegrees);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Equirectangular distance from the first point, accurate to a few metres over dispatch distances
+     * and several times cheaper than haversine in the hot loop.
+     */
+    public static double distanceKm(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        return distanceKm(fromLatitude, fromLongitude, toLatitude, toLongitude, lonScale(fromLatitude));
+    }
+
+    private static double distanceKm(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude,
+                                     double lonScale) {
+        double dy = (toLatitude - fromLatitude) * KM_PER_DEGREE;
+        double dx = (toLongitude - fromLongitude) * KM_PER_DEGREE * lonScale;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private static double lonScale(double latitude) {
+        return Math.cos(Math.toRadians(latitude));
+    }
+
+    public record Position(long riderId, double latitude, double longitude, long cell, long reportedAtMillis) {
+    }
+
+    public record Neighbour(long riderId, double distanceKm) {
+        static final Comparator<Neighbour> BY_DISTANCE =
+                Comparator.comparingDouble(Neighbour::distanceKm).thenComparingLong(Neighbour::riderId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.utown.event;
+
+import com.utown.model.entity.Order;
+import com.utown.model.entity.OrderItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot of a newly placed order. Listeners run after commit, so the event carries values
+ * instead of the entity to keep them away from lazy associations.
+ */
+public record OrderCreatedEvent(
+        Long orderId,
+        Long userId,
+        Long restaurantId,
+        String restaurantName,
+        String city,
+        BigDecimal totalAmount,
+        LocalDateTime createdAt,
+        List<Item> items
+) {
+
+    public record Item(Long menuItemId, String menuItemName, int quantity) {
+    }
+
+    public static OrderCreatedEvent of(Order order) {
+        List<Item> items = new ArrayList<>(order.getItems().size());
+        for (OrderItem orderItem : order.getItems()) {
+            items.add(new Item(
+                    orderItem.getMenuItem().getId(),
+                    orderItem.getMenuItemName(),
+                    orderItem.getQuantity()
+            ));
+        }
+
+        return new OrderCreatedEvent(
+                order.getId(),
+                order.getUser().getId(),
+                order.getRestaurant().getId(),
+                order.getRestaurant().getName(),
+                order.getRestaurant().getCity(),
+                order.getTotalAmount(),
+                order.getCreatedAt(),
+                items
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.utown.event;
+
+import com.utown.model.entity.Order;
+import com.utown.model.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderStatusChangedEvent(
+        Long orderId,
+        Long restaurantId,
+        OrderStatus previousStatus,
+        OrderStatus newStatus,
+        BigDecimal totalAmount,
+        LocalDateTime createdAt,
+        LocalDateTime changedAt,
+        LocalDateTime estimatedDeliveryTime
+) {
+
+    public static OrderStatusChangedEvent of(Order order, OrderStatus previousStatus) {
+        return new OrderStatusChangedEvent(
+                order.getId(),
+                order.getRestaurant().getId(),
+                previousStatus,
+                order.getStatus(),
+                order.getTotalAmount(),
+                order.getCreatedAt(),
+                LocalDateTime.now(),
+                order.getEstimatedDeliveryTime()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.utown.event;
+
+/**
+ * Published when {@code isActive} actually flips, including the soft delete.
+ */
+public record RestaurantActiveChangedEvent(Long restaurantId, boolean active) {
+}
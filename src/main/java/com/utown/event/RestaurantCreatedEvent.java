@@ -0,0 +1,14 @@
+package com.utown.event;
+
+import com.utown.model.entity.Restaurant;
+
+public record RestaurantCreatedEvent(Long restaurantId, Long ownerId, boolean active) {
+
+    public static RestaurantCreatedEvent of(Restaurant restaurant) {
+        return new RestaurantCreatedEvent(
+                restaurant.getId(),
+                restaurant.getOwner().getId(),
+                Boolean.TRUE.equals(restaurant.getIsActive())
+        );
+    }
+}
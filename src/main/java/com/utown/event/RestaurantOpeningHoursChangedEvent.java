@@ -0,0 +1,8 @@
+package com.utown.event;
+
+/**
+ * Published when a restaurant is created with, or updated to, new opening hours.
+ * {@code openingHours} is the raw JSON, already validated.
+ */
+public record RestaurantOpeningHoursChangedEvent(Long restaurantId, String openingHours) {
+}
@@ -0,0 +1,6 @@
+package com.utown.event;
+
+import com.utown.model.enums.UserRole;
+
+public record UserRegisteredEvent(Long userId, UserRole role) {
+}
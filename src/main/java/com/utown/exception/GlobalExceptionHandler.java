@@ -2,6 +2,7 @@ package com.utown.exception;
 
 import com.utown.model.dto.ApiResponseDTO;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -103,6 +104,32 @@ public class GlobalExceptionHandler {
                 .body(ApiResponseDTO.error(ex.getMessage(), "FORBIDDEN"));
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiResponseDTO<Void>> handleConflictException(
+            ConflictException ex
+    ) {
+        log.warn("Conflict: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponseDTO.error(
+                        ex.getMessage(),
+                        ex.getErrorCode() != null ? ex.getErrorCode() : "CONFLICT"
+                ));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponseDTO<Void>> handleTooManyRequestsException(
+            TooManyRequestsException ex
+    ) {
+        log.warn("Too many requests: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponseDTO.error(ex.getMessage(), ex.getErrorCode()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponseDTO<Void>> handleGenericException(
             Exception ex
@@ -0,0 +1,24 @@
+package com.utown.exception;
+
+/**
+ * Rejects a request that may succeed later; mapped to 429 with a {@code Retry-After} header.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final String errorCode;
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, String errorCode, long retryAfterSeconds) {
+        super(message);
+        this.errorCode = errorCode;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
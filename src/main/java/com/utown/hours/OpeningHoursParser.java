@@ -0,0 +1,155 @@
+package com.utown.hours;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses {@code Restaurant.openingHours} into a {@link WeeklySchedule}. Expected shape:
+ * <pre>
+ * {
+ *   "timezone": "Asia/Seoul",
+ *   "mon": ["09:00-22:00"],
+ *   "fri": ["09:00-14:00", {"open": "17:00", "close": "02:00"}],
+ *   "sun": []
+ * }
+ * </pre>
+ * Days may be written in full ({@code "monday"}) or abbreviated, in any case; a missing day is closed.
+ * A range whose close is not after its open runs past midnight into the next day, and {@code "24:00"}
+ * closes at the end of the day. {@code timezone} is optional.
+ */
+public final class OpeningHoursParser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String TIMEZONE_FIELD = "timezone";
+
+    private OpeningHoursParser() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @throws IllegalArgumentException if the JSON does not describe valid opening hours
+     */
+    public static WeeklySchedule parse(String json, ZoneId defaultZone) {
+        JsonNode root;
+        try {
+            root = OBJECT_MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("openingHours is not valid JSON");
+        }
+        if (root == null || !root.isObject()) {
+            throw new IllegalArgumentException("openingHours must be a JSON object");
+        }
+
+        ZoneId zone = defaultZone;
+        BitSet openMinutes = new BitSet(WeeklySchedule.MINUTES_PER_WEEK);
+
+        Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+
+            if (TIMEZONE_FIELD.equalsIgnoreCase(field.getKey())) {
+                zone = parseZone(field.getValue());
+                continue;
+            }
+
+            DayOfWeek day = parseDay(field.getKey());
+            JsonNode ranges = field.getValue();
+            if (ranges.isNull()) {
+                continue;
+            }
+            if (!ranges.isArray()) {
+                throw new IllegalArgumentException("Opening hours for " + field.getKey() + " must be an array");
+            }
+            for (JsonNode range : ranges) {
+                addRange(openMinutes, day, range);
+            }
+        }
+
+        return new WeeklySchedule(zone, openMinutes);
+    }
+
+    private static void addRange(BitSet openMinutes, DayOfWeek day, JsonNode range) {
+        String open;
+        String close;
+        if (range.isTextual()) {
+            String[] parts = range.asText().split("-");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid opening hours range: " + range.asText());
+            }
+            open = parts[0];
+            close = parts[1];
+        } else if (range.isObject() && range.hasNonNull("open") && range.hasNonNull("close")) {
+            open = range.get("open").asText();
+            close = range.get("close").asText();
+        } else {
+            throw new IllegalArgumentException("Opening hours range must be \"HH:mm-HH:mm\" or {\"open\", \"close\"}");
+        }
+
+        int openMinute = parseTime(open);
+        int closeMinute = parseTime(close);
+        if (openMinute == WeeklySchedule.MINUTES_PER_DAY) {
+            throw new IllegalArgumentException("Opening time cannot be 24:00");
+        }
+        if (closeMinute <= openMinute) {
+            // Past midnight: close on the following day
+            closeMinute += WeeklySchedule.MINUTES_PER_DAY;
+        }
+
+        int from = WeeklySchedule.minuteOfWeek(day, openMinute);
+        int to = from + (closeMinute - openMinute);
+        if (to <= WeeklySchedule.MINUTES_PER_WEEK) {
+            openMinutes.set(from, to);
+        } else {
+            // Sunday night into Monday morning wraps to the start of the week
+            openMinutes.set(from, WeeklySchedule.MINUTES_PER_WEEK);
+            openMinutes.set(0, to - WeeklySchedule.MINUTES_PER_WEEK);
+        }
+    }
+
+    private static int parseTime(String value) {
+        String[] parts = value.trim().split(":");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid time: " + value);
+        }
+        try {
+            int hour = Integer.parseInt(parts[0]);
+            int minute = Integer.parseInt(parts[1]);
+            if (hour == 24 && minute == 0) {
+                return WeeklySchedule.MINUTES_PER_DAY;
+            }
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+                throw new IllegalArgumentException("Invalid time: " + value);
+            }
+            return hour * 60 + minute;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid time: " + value);
+        }
+    }
+
+    private static DayOfWeek parseDay(String key) {
+        String normalized = key.trim().toUpperCase(Locale.ROOT);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().equals(normalized) || day.name().substring(0, 3).equals(normalized)) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException("Unknown day in opening hours: " + key);
+    }
+
+    private static ZoneId parseZone(JsonNode value) {
+        try {
+            return ZoneId.of(value.asText());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Unknown timezone: " + value.asText());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.utown.hours;
+
+import com.utown.event.RestaurantOpeningHoursChangedEvent;
+import com.utown.exception.BadRequestException;
+import com.utown.model.dto.restaurant.OpeningHoursSource;
+import com.utown.model.entity.Restaurant;
+import com.utown.repository.RestaurantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opening hours of every restaurant that has them, parsed once into {@link WeeklySchedule}s.
+ * <p>
+ * Once a minute the schedules are evaluated and the restaurants that crossed a boundary are flipped
+ * with a single UPDATE. Only boundaries are written, so staff can still close a restaurant early by hand
+ * and it stays closed until its next scheduled opening. The hours also cap manual toggles: a restaurant
+ * is never reported open, nor accepts orders, outside them.
+ */
+@Service
+@Slf4j
+public class OpeningHoursService {
+
+    private final RestaurantRepository restaurantRepository;
+    private final ZoneId defaultZone;
+    private final Map<Long, ScheduleEntry> schedules = new ConcurrentHashMap<>();
+
+    public OpeningHoursService(
+            RestaurantRepository restaurantRepository,
+            @Value("${opening-hours.default-timezone:}") String defaultTimezone
+    ) {
+        this.restaurantRepository = restaurantRepository;
+        this.defaultZone = defaultTimezone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(defaultTimezone);
+    }
+
+    /**
+     * Validates opening hours JSON before it is stored.
+     */
+    public void validate(String openingHours) {
+        if (openingHours == null || openingHours.isBlank()) {
+            return;
+        }
+        try {
+            OpeningHoursParser.parse(openingHours, defaultZone);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid openingHours: " + e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (OpeningHoursSource source : restaurantRepository.findOpeningHoursSources()) {
+            ScheduleEntry entry = parseEntry(source.restaurantId(), source.openingHours());
+            if (entry != null) {
+                entry.applied = source.isOpen();
+                schedules.put(source.restaurantId(), entry);
+            }
+        }
+        log.info("Loaded opening hours for {} restaurants", schedules.size());
+    }
+
+    @TransactionalEventListener
+    public void onOpeningHoursChanged(RestaurantOpeningHoursChangedEvent event) {
+        ScheduleEntry entry = parseEntry(event.restaurantId(), event.openingHours());
+        if (entry == null) {
+            schedules.remove(event.restaurantId());
+        } else {
+            schedules.put(event.restaurantId(), entry);
+        }
+    }
+
+    @Scheduled(cron = "${opening-hours.cron:0 * * * * *}")
+    @Transactional
+    public void applySchedules() {
+        applySchedules(Instant.now());
+    }
+
+    void applySchedules(Instant now) {
+        List<Long> changed = new ArrayList<>();
+        List<Long> opening = new ArrayList<>();
+        List<ScheduleEntry> changedEntries = new ArrayList<>();
+
+        schedules.forEach((restaurantId, entry) -> {
+            boolean open = entry.schedule.isOpenAt(now);
+            if (entry.applied == null || entry.applied != open) {
+                changed.add(restaurantId);
+                changedEntries.add(entry);
+                if (open) {
+                    opening.add(restaurantId);
+                }
+            }
+        });
+
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        int updated = opening.isEmpty()
+                ? restaurantRepository.closeByIds(changed)
+                : restaurantRepository.applyOpenState(changed, opening);
+        for (ScheduleEntry entry : changedEntries) {
+            entry.applied = entry.schedule.isOpenAt(now);
+        }
+
+        log.info("Opening hours applied: {} opened, {} closed ({} rows updated)",
+                opening.size(), changed.size() - opening.size(), updated);
+    }
+
+    /**
+     * O(1) check for loaded schedules: the restaurant's {@code isOpen} flag, capped by its schedule if it has one.
+     */
+    public boolean isOpenAt(Restaurant restaurant, Instant instant) {
+        if (!Boolean.TRUE.equals(restaurant.getIsOpen())) {
+            return false;
+        }
+        if (restaurant.getOpeningHours() == null) {
+            return true;
+        }
+
+        ScheduleEntry entry = schedules.get(restaurant.getId());
+        if (entry == null || !entry.source.equals(restaurant.getOpeningHours())) {
+            // Not loaded yet or changed outside the application. The cache is only written by load and
+            // the change event, so a read never replaces the state applySchedules tracks
+            entry = parseEntry(restaurant.getId(), restaurant.getOpeningHours());
+            if (entry == null) {
+                return true;
+            }
+        }
+        return entry.schedule.isOpenAt(instant);
+    }
+
+    public boolean isOpenNow(Restaurant restaurant) {
+        return isOpenAt(restaurant, Instant.now());
+    }
+
+    /**
+     * Active restaurants open at {@code instant}. The {@code is_open} column only follows the hours once a
+     * minute, so the rows it selects are checked against their schedules again.
+     */
+    @Transactional(readOnly = true)
+    public List<Restaurant> findOpenRestaurants(Instant instant) {
+        return restaurantRepository.findByIsOpenTrueAndIsActiveTrue().stream()
+                .filter(restaurant -> isOpenAt(restaurant, instant))
+                .toList();
+    }
+
+    private ScheduleEntry parseEntry(Long restaurantId, String openingHours) {
+        if (openingHours == null || openingHours.isBlank()) {
+            return null;
+        }
+        try {
+            return new ScheduleEntry(openingHours, OpeningHoursParser.parse(openingHours, defaultZone));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring invalid opening hours of restaurant {}: {}", restaurantId, e.getMessage());
+            return null;
+        }
+    }
+
+    private static final class ScheduleEntry {
+        private final String source;
+        private final WeeklySchedule schedule;
+        private volatile Boolean applied;
+
+        private ScheduleEntry(String source, WeeklySchedule schedule) {
+            this.source = source;
+            this.schedule = schedule;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.utown.hours;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.BitSet;
+
+/**
+ * A restaurant's weekly opening hours as one bit per minute of the week (10,080 bits, about 1.3 KB),
+ * so "is it open at this instant" is a time zone conversion and a single bit lookup.
+ * Immutable once built by {@link OpeningHoursParser}.
+ */
+public final class WeeklySchedule {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+    static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private final ZoneId zone;
+    private final BitSet openMinutes;
+
+    WeeklySchedule(ZoneId zone, BitSet openMinutes) {
+        this.zone = zone;
+        this.openMinutes = (BitSet) openMinutes.clone();
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public boolean isOpenAt(Instant instant) {
+        ZonedDateTime local = instant.atZone(zone);
+        return openMinutes.get(minuteOfWeek(local.getDayOfWeek(), local.getHour() * 60 + local.getMinute()));
+    }
+
+    public boolean isAlwaysClosed() {
+        return openMinutes.isEmpty();
+    }
+
+    static int minuteOfWeek(DayOfWeek day, int minuteOfDay) {
+        return (day.getValue() - 1) * MINUTES_PER_DAY + minuteOfDay;
+    }
+}
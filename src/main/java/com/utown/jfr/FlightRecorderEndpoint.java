@@ -0,0 +1,71 @@
+package com.utown.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * {@code /actuator/flightrecorder}: GET for status, POST {@code /start}, {@code /stop} and
+ * {@code /dump} with an optional {@code minutes} body field.
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+@RequiredArgsConstructor
+public class FlightRecorderEndpoint {
+
+    private static final int DEFAULT_DUMP_MINUTES = 5;
+
+    private final FlightRecorderService flightRecorderService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return flightRecorderService.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> perform(@Selector String action, @Nullable Integer minutes) {
+        return switch (action) {
+            case "start" -> Map.of("started", flightRecorderService.start());
+            case "stop" -> Map.of("stopped", flightRecorderService.stop());
+            case "dump" -> dump(minutes != null ? minutes : DEFAULT_DUMP_MINUTES);
+            default -> throw new InvalidEndpointRequestException(
+                    "Unknown action: " + action, "Action must be one of start, stop, dump");
+        };
+    }
+
+    private Map<String, Object> dump(int minutes) {
+        if (minutes <= 0) {
+            throw new InvalidEndpointRequestException(
+                    "minutes must be positive", "minutes must be positive");
+        }
+        try {
+            Path file = flightRecorderService.dump(minutes);
+            return Map.of(
+                    "file", file.toString(),
+                    "minutes", minutes,
+                    "bytes", size(file)
+            );
+        } catch (IllegalStateException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
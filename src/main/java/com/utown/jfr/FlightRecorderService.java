@@ -0,0 +1,162 @@
+package com.utown.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Owns one continuous flight recording with a bounded age and size. Nothing is recorded until
+ * {@link #start()}; a dump copies the in-memory and on-disk chunks and keeps only the last N minutes.
+ */
+@Service
+@Slf4j
+public class FlightRecorderService {
+
+    private static final String RECORDING_NAME = "utown-continuous";
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Path dumpDir;
+    private final String settings;
+    private final boolean startOnStartup;
+
+    private Recording recording;
+
+    public FlightRecorderService(
+            @Value("${jfr.max-age-minutes:30}") long maxAgeMinutes,
+            @Value("${jfr.max-size-mb:250}") long maxSizeMb,
+            @Value("${jfr.dump-dir:${java.io.tmpdir}/utown-jfr}") String dumpDir,
+            @Value("${jfr.settings:default}") String settings,
+            @Value("${jfr.start-on-startup:false}") boolean startOnStartup) {
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.dumpDir = Path.of(dumpDir);
+        this.settings = settings;
+        this.startOnStartup = startOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (startOnStartup) {
+            start();
+        }
+    }
+
+    /**
+     * @return false when a recording is already running
+     */
+    public synchronized boolean start() {
+        if (isRunning()) {
+            return false;
+        }
+        try {
+            Recording started = new Recording(Configuration.getConfiguration(settings));
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(maxAge);
+            started.setMaxSize(maxSizeBytes);
+            started.start();
+            recording = started;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings '" + settings + "'", e);
+        }
+        log.info("Flight recording started (settings={}, maxAge={}, maxSize={}MB)",
+                settings, maxAge, maxSizeBytes / (1024 * 1024));
+        return true;
+    }
+
+    /**
+     * @return false when nothing was recording
+     */
+    public synchronized boolean stop() {
+        if (!isRunning()) {
+            return false;
+        }
+        recording.close();
+        recording = null;
+        log.info("Flight recording stopped");
+        return true;
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", isRunning());
+        status.put("settings", settings);
+        status.put("maxAgeMinutes", maxAge.toMinutes());
+        status.put("maxSizeMb", maxSizeBytes / (1024 * 1024));
+        status.put("dumpDir", dumpDir.toString());
+        if (isRunning()) {
+            status.put("startedAt", recording.getStartTime());
+            status.put("recordedBytes", recording.getSize());
+        }
+        return status;
+    }
+
+    /**
+     * Writes the events that ended in the last {@code minutes} minutes to a new file in the dump directory.
+     *
+     * @throws IllegalStateException when no recording is running
+     */
+    public Path dump(int minutes) {
+        Instant now = Instant.now();
+        Instant cutoff = now.minus(Duration.ofMinutes(minutes));
+        Path target = dumpDir.resolve("utown-" + FILE_TIMESTAMP.format(now) + ".jfr");
+
+        try {
+            Files.createDirectories(dumpDir);
+            Path chunks = Files.createTempFile(dumpDir, "utown-chunks-", ".jfr");
+            try {
+                synchronized (this) {
+                    if (!isRunning()) {
+                        throw new IllegalStateException("No flight recording is running");
+                    }
+                    recording.dump(chunks);
+                }
+                // chunk boundaries are coarse, so the window is cut per event
+                try (RecordingFile file = new RecordingFile(chunks)) {
+                    file.write(target, event -> !event.getEndTime().isBefore(cutoff));
+                }
+            } finally {
+                Files.deleteIfExists(chunks);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot dump flight recording to " + target, e);
+        }
+
+        log.info("Dumped last {} minutes of the flight recording to {}", minutes, target);
+        return target;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+}
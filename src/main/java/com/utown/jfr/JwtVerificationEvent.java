@@ -0,0 +1,42 @@
+package com.utown.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.utown.JwtVerification")
+@Label("JWT Verification")
+@Category({"uTown", "Security"})
+@Description("Signature check, claim parsing and revocation lookup of an access token")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    public static final String AUTHENTICATED = "authenticated";
+    public static final String INVALID = "invalid";
+    public static final String REFRESH_TOKEN = "refresh-token";
+    public static final String REVOKED = "revoked";
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static JwtVerificationEvent start() {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(Long userId, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.userId = userId != null ? userId : 0;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
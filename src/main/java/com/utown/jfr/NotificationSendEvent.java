@@ -0,0 +1,45 @@
+package com.utown.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.utown.NotificationSend")
+@Label("Notification Send")
+@Category({"uTown", "STOMP"})
+@Description("Conversion and fan-out of one notification to a STOMP destination")
+@StackTrace(false)
+public class NotificationSendEvent extends Event {
+
+    @Label("Destination")
+    String destination;
+
+    @Label("Notification Type")
+    String type;
+
+    @Label("Order Id")
+    long orderId;
+
+    @Label("Sent")
+    boolean sent;
+
+    public static NotificationSendEvent start(String destination) {
+        NotificationSendEvent event = new NotificationSendEvent();
+        event.destination = destination;
+        event.begin();
+        return event;
+    }
+
+    public void finish(Object type, Long orderId, boolean sent) {
+        end();
+        if (shouldCommit()) {
+            this.type = type != null ? type.toString() : null;
+            this.orderId = orderId != null ? orderId : 0;
+            this.sent = sent;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.utown.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One phase of {@code OrderService.createOrder}. While no recording is running {@link #shouldCommit()}
+ * is false and the event costs a timestamp read at most.
+ */
+@Name("com.utown.OrderPhase")
+@Label("Order Phase")
+@Category({"uTown", "Orders"})
+@Description("Duration of one phase of order creation")
+@StackTrace(false)
+public class OrderPhaseEvent extends Event {
+
+    public static final String CART_LOAD = "cart-load";
+    public static final String PRICING = "pricing";
+    public static final String PERSIST = "persist";
+    public static final String NOTIFY = "notify";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Order Id")
+    long orderId;
+
+    @Label("Order Number")
+    String orderNumber;
+
+    public static OrderPhaseEvent start(String phase, Long userId) {
+        OrderPhaseEvent event = new OrderPhaseEvent();
+        event.phase = phase;
+        event.userId = userId;
+        event.begin();
+        return event;
+    }
+
+    public void finish() {
+        finish(null, null);
+    }
+
+    public void finish(Long orderId, String orderNumber) {
+        end();
+        if (shouldCommit()) {
+            this.orderId = orderId != null ? orderId : 0;
+            this.orderNumber = orderNumber;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.utown.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.utown.StompAuthorization")
+@Label("STOMP Authorization")
+@Category({"uTown", "STOMP"})
+@Description("Access check of a STOMP SUBSCRIBE")
+@StackTrace(false)
+public class StompAuthorizationEvent extends Event {
+
+    @Label("Principal")
+    String principal;
+
+    @Label("Destination")
+    String destination;
+
+    @Label("Allowed")
+    boolean allowed;
+
+    public static StompAuthorizationEvent start() {
+        StompAuthorizationEvent event = new StompAuthorizationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String principal, String destination, boolean allowed) {
+        end();
+        if (shouldCommit()) {
+            this.principal = principal;
+            this.destination = destination;
+            this.allowed = allowed;
+            commit();
+        }
+    }
+}
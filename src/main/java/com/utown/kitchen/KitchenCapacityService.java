@@ -0,0 +1,150 @@
+package com.utown.kitchen;
+
+import com.utown.event.OrderStatusChangedEvent;
+import com.utown.exception.TooManyRequestsException;
+import com.utown.model.entity.Restaurant;
+import com.utown.model.enums.OrderStatus;
+import com.utown.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-restaurant admission control. Every PENDING, CONFIRMED or PREPARING order holds one kitchen slot;
+ * a checkout takes a slot with a compare-and-set before the order is saved, so concurrent checkouts
+ * can never push a kitchen past its capacity. The slot is handed back when the order leaves those
+ * states, or when the checkout transaction rolls back.
+ */
+@Service
+@Slf4j
+public class KitchenCapacityService implements SmartInitializingSingleton {
+
+    static final Set<OrderStatus> ACTIVE_STATUSES =
+            EnumSet.of(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PREPARING);
+
+    private static final long MIN_RETRY_AFTER_SECONDS = 30;
+
+    private final OrderRepository orderRepository;
+    private final int defaultCapacity;
+    private final int averagePrepMinutes;
+    private final Map<Long, AtomicInteger> activeOrders = new ConcurrentHashMap<>();
+
+    public KitchenCapacityService(
+            OrderRepository orderRepository,
+            @Value("${kitchen.default-capacity:20}") int defaultCapacity,
+            @Value("${kitchen.average-prep-minutes:20}") int averagePrepMinutes
+    ) {
+        this.orderRepository = orderRepository;
+        this.defaultCapacity = defaultCapacity;
+        this.averagePrepMinutes = averagePrepMinutes;
+    }
+
+    /**
+     * Seeds the counters from the database while the context is still starting, before the web server
+     * accepts checkouts, so overwriting them cannot lose a slot taken meanwhile.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Object[] row : orderRepository.countKitchenLoadByRestaurant()) {
+            counter((Long) row[0]).set(((Long) row[1]).intValue());
+        }
+        log.info("Kitchen load seeded for {} restaurants", activeOrders.size());
+    }
+
+    /**
+     * Takes a kitchen slot for a new order or rejects the checkout with a retry hint.
+     * Inside a transaction the slot is released again if the transaction does not commit.
+     */
+    public void admit(Restaurant restaurant) {
+        Long restaurantId = restaurant.getId();
+        int capacity = capacityOf(restaurant);
+
+        if (!tryAcquire(counter(restaurantId), capacity)) {
+            long retryAfter = retryAfterSeconds(capacity);
+            throw new TooManyRequestsException(
+                    String.format("%s is at full kitchen capacity, please try again in %d minutes",
+                            restaurant.getName(), Math.max(1, retryAfter / 60)),
+                    "KITCHEN_AT_CAPACITY",
+                    retryAfter
+            );
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(restaurantId);
+                    }
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (ACTIVE_STATUSES.contains(event.previousStatus()) && !ACTIVE_STATUSES.contains(event.newStatus())) {
+            release(event.restaurantId());
+        }
+    }
+
+    /**
+     * Minutes before the kitchen can start on an order placed now: zero while there is a free slot,
+     * otherwise one slot turnover ({@code prep time / capacity}) per order ahead in the queue.
+     */
+    public int expectedWaitMinutes(Restaurant restaurant) {
+        int capacity = capacityOf(restaurant);
+        int ahead = activeOrders(restaurant.getId()) - capacity + 1;
+        if (ahead <= 0) {
+            return 0;
+        }
+        return (int) Math.ceil((double) ahead * averagePrepMinutes / capacity);
+    }
+
+    public int activeOrders(Long restaurantId) {
+        AtomicInteger counter = activeOrders.get(restaurantId);
+        return counter != null ? counter.get() : 0;
+    }
+
+    int capacityOf(Restaurant restaurant) {
+        Integer capacity = restaurant.getKitchenCapacity();
+        return capacity != null && capacity > 0 ? capacity : defaultCapacity;
+    }
+
+    void release(Long restaurantId) {
+        AtomicInteger counter = activeOrders.get(restaurantId);
+        if (counter != null) {
+            counter.getAndUpdate(value -> value > 0 ? value - 1 : 0);
+        }
+    }
+
+    private AtomicInteger counter(Long restaurantId) {
+        return activeOrders.computeIfAbsent(restaurantId, key -> new AtomicInteger());
+    }
+
+    private long retryAfterSeconds(int capacity) {
+        return Math.max(MIN_RETRY_AFTER_SECONDS, (long) Math.ceil(averagePrepMinutes * 60.0 / capacity));
+    }
+
+    private static boolean tryAcquire(AtomicInteger counter, int capacity) {
+        while (true) {
+            int current = counter.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
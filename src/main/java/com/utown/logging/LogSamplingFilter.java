@@ -0,0 +1,65 @@
+package com.utown.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides per request whether it is logged in full ({@code log-sampling.rate} of requests) and flushes
+ * the deferred DEBUG events of requests that fail with a 5xx or an exception. Takes effect together with
+ * {@link RequestSamplingTurboFilter}, which the {@code prod} logging configuration installs.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "log-sampling.enabled", havingValue = "true")
+public class LogSamplingFilter extends OncePerRequestFilter {
+
+    static final String MDC_KEY = "sampled";
+
+    private final double rate;
+    private final int bufferSize;
+
+    public LogSamplingFilter(
+            @Value("${log-sampling.rate:0.01}") double rate,
+            @Value("${log-sampling.buffer-size:256}") int bufferSize
+    ) {
+        this.rate = rate;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < rate;
+        RequestLog log = RequestLog.begin(sampled, bufferSize);
+        if (sampled) {
+            MDC.put(MDC_KEY, "true");
+        }
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            if (failed) {
+                log.flush();
+            }
+            RequestLog.end();
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
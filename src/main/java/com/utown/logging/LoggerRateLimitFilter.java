@@ -0,0 +1,74 @@
+package com.utown.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps each logger at {@code eventsPerSecond} events per second, so one hot loop or a failing dependency
+ * cannot flood the output. ERROR is never limited. The first event a logger writes in a new second
+ * reports how many were suppressed in the last one.
+ */
+public class LoggerRateLimitFilter extends TurboFilter {
+
+    private static final String REPORT_LOGGER = LoggerRateLimitFilter.class.getName();
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private int eventsPerSecond = 200;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level.isGreaterOrEqual(Level.ERROR) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        if (REPORT_LOGGER.equals(name)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.computeIfAbsent(name, key -> new Window());
+        long second = System.currentTimeMillis() / 1000;
+        long suppressed = window.roll(second);
+        if (suppressed > 0) {
+            LoggerFactory.getLogger(REPORT_LOGGER).warn("Suppressed {} events from {} in the last second", suppressed, name);
+        }
+        return window.tryAcquire(eventsPerSecond) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setEventsPerSecond(int eventsPerSecond) {
+        this.eventsPerSecond = eventsPerSecond;
+    }
+
+    private static final class Window {
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        /**
+         * Starts a new window when the second changed; returns the events suppressed in the previous one
+         * to exactly one caller.
+         */
+        long roll(long now) {
+            long current = second.get();
+            if (now == current || !second.compareAndSet(current, now)) {
+                return 0;
+            }
+            count.set(0);
+            return suppressed.getAndSet(0);
+        }
+
+        boolean tryAcquire(int limit) {
+            if (count.incrementAndGet() <= limit) {
+                return true;
+            }
+            suppressed.incrementAndGet();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.utown.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+import java.util.ArrayDeque;
+
+/**
+ * Logging state of the request on the current thread. A sampled request logs its DEBUG detail as it
+ * happens; any other request keeps its most recent DEBUG events in a small buffer that is written out
+ * only if the request ends in an error, and discarded otherwise.
+ */
+public final class RequestLog {
+
+    private static final ThreadLocal<RequestLog> CURRENT = new ThreadLocal<>();
+
+    private final boolean sampled;
+    private final int capacity;
+    private final ArrayDeque<Deferred> deferred;
+
+    private RequestLog(boolean sampled, int capacity) {
+        this.sampled = sampled;
+        this.capacity = capacity;
+        this.deferred = sampled ? null : new ArrayDeque<>();
+    }
+
+    public static RequestLog begin(boolean sampled, int capacity) {
+        RequestLog log = new RequestLog(sampled, capacity);
+        CURRENT.set(log);
+        return log;
+    }
+
+    public static RequestLog current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    void defer(Logger logger, Level level, String format, Object[] params, Throwable throwable) {
+        if (deferred.size() == capacity) {
+            deferred.pollFirst();
+        }
+        deferred.addLast(new Deferred(logger, level, format, params, throwable, System.currentTimeMillis()));
+    }
+
+    /**
+     * Writes the deferred events straight to the appenders of their loggers, with their original timestamps.
+     */
+    public void flush() {
+        if (deferred == null) {
+            return;
+        }
+        Deferred next;
+        while ((next = deferred.pollFirst()) != null) {
+            LoggingEvent event = new LoggingEvent(Logger.FQCN, next.logger, next.level, next.format,
+                    next.throwable, next.params);
+            event.setTimeStamp(next.timestamp);
+            next.logger.callAppenders(event);
+        }
+    }
+
+    private record Deferred(Logger logger, Level level, String format, Object[] params, Throwable throwable,
+                            long timestamp) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.utown.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * Lowers the level of the configured loggers to DEBUG for sampled requests, and defers their DEBUG
+ * events on all other requests until it is known whether the request failed (see {@link RequestLog}).
+ * An ERROR on the request thread flushes the deferred events ahead of it. Level checks without a
+ * message ({@code isDebugEnabled()}) stay false on unsampled requests, so guarded expensive detail
+ * such as Hibernate's SQL is only produced for sampled ones.
+ */
+public class RequestSamplingTurboFilter extends TurboFilter {
+
+    private String[] loggers = {"com.utown"};
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        RequestLog request = RequestLog.current();
+        if (request == null) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            if (format != null && level == Level.ERROR) {
+                request.flush();
+            }
+            return FilterReply.NEUTRAL;
+        }
+
+        if (!level.isGreaterOrEqual(Level.DEBUG) || !covers(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (request.isSampled()) {
+            return FilterReply.ACCEPT;
+        }
+        if (format == null) {
+            return FilterReply.NEUTRAL;
+        }
+        request.defer(logger, level, format, params, t);
+        return FilterReply.DENY;
+    }
+
+    private boolean covers(String name) {
+        for (String prefix : loggers) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Comma-separated logger name prefixes, e.g. {@code com.utown,org.hibernate.SQL}.
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = loggers.split("\\s*,\\s*");
+    }
+}
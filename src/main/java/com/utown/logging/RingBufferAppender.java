@@ -0,0 +1,172 @@
+package com.utown.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous appender over a {@link LogRingBuffer}. Logging threads only format the message and enqueue
+ * the event; encoding and I/O happen on one worker thread. Unlike logback's {@code AsyncAppender}, which
+ * puts a lock on every enqueue, producers never contend on a lock and never block: when the buffer is full
+ * events below WARN are dropped at once, WARN and ERROR get a short spin before being dropped, and the
+ * number dropped is logged by the worker once it catches up.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int IMPORTANT_EVENT_SPINS = 1_000;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private int capacity = 8192;
+    private boolean includeCallerData = false;
+    private int maxFlushTimeMs = 1_000;
+
+    private LogRingBuffer<ILoggingEvent> buffer;
+    private Thread worker;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to " + getName());
+            return;
+        }
+        buffer = new LogRingBuffer<>(Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1);
+        running = true;
+        worker = new Thread(this::drain, "log-ring-" + getName());
+        worker.setDaemon(true);
+        worker.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTimeMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("Worker of " + getName() + " did not flush within " + maxFlushTimeMs + " ms");
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (buffer.offer(event)) {
+            return;
+        }
+        if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+            for (int i = 0; i < IMPORTANT_EVENT_SPINS; i++) {
+                Thread.onSpinWait();
+                if (buffer.offer(event)) {
+                    return;
+                }
+            }
+        }
+        dropped.increment();
+    }
+
+    private void drain() {
+        while (running || !buffer.isEmpty()) {
+            ILoggingEvent event = buffer.poll();
+            if (event == null) {
+                reportDropped();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            appenders.appendLoopOnAppenders(event);
+        }
+        reportDropped();
+    }
+
+    private void reportDropped() {
+        long count = dropped.sumThenReset();
+        if (count == 0) {
+            return;
+        }
+        Logger logger = ((LoggerContext) getContext()).getLogger(RingBufferAppender.class);
+        LoggingEvent event = new LoggingEvent(RingBufferAppender.class.getName(), logger, Level.WARN,
+                "Dropped {} log events: ring buffer of {} full", null, new Object[]{count, buffer.capacity()});
+        appenders.appendLoopOnAppenders(event);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    public void setMaxFlushTimeMs(int maxFlushTimeMs) {
+        this.maxFlushTimeMs = maxFlushTimeMs;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
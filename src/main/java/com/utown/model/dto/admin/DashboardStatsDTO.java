@@ -0,0 +1,26 @@
+package com.utown.model.dto.admin;
+
+import com.utown.model.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStatsDTO {
+
+    private Long totalUsers;
+    private Long totalRestaurants;
+    private Long activeRestaurants;
+    private Long totalOrders;
+    private Map<OrderStatus, Long> ordersByStatus;
+    private BigDecimal gmvToday;
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,11 @@
+package com.utown.model.dto.analytics;
+
+/**
+ * JPQL projection of one order item of a completed order, read when rebuilding the co-occurrence graphs.
+ */
+public record BasketItemSource(
+        Long restaurantId,
+        Long orderId,
+        Long menuItemId
+) {
+}
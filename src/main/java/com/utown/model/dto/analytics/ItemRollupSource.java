@@ -0,0 +1,16 @@
+package com.utown.model.dto.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPQL projection of one order item of a completed order, read by the rollup pipeline.
+ */
+public record ItemRollupSource(
+        LocalDateTime closedAt,
+        Long menuItemId,
+        String menuItemName,
+        Integer quantity,
+        BigDecimal subtotal
+) {
+}
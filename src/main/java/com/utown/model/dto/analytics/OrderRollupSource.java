@@ -0,0 +1,17 @@
+package com.utown.model.dto.analytics;
+
+import com.utown.model.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPQL projection of a closed order, read by the rollup backfill.
+ */
+public record OrderRollupSource(
+        OrderStatus status,
+        BigDecimal totalAmount,
+        LocalDateTime closedAt,
+        Long itemsSold
+) {
+}
@@ -0,0 +1,39 @@
+package com.utown.model.dto.analytics;
+
+import com.utown.model.enums.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesAnalyticsDTO {
+
+    private Long restaurantId;
+    private RollupGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private BucketDTO totals;
+    private List<BucketDTO> buckets;
+    private List<TopItemDTO> topItems;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BucketDTO {
+        private LocalDateTime bucketStart;
+        private Long completedOrders;
+        private Long cancelledOrders;
+        private BigDecimal revenue;
+        private BigDecimal averageBasket;
+        private Long itemsSold;
+    }
+}
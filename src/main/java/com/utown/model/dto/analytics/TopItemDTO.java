@@ -0,0 +1,20 @@
+package com.utown.model.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopItemDTO {
+
+    private Long menuItemId;
+    private String menuItemName;
+    private Long quantity;
+    private BigDecimal revenue;
+}
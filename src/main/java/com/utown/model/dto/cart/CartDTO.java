@@ -32,6 +32,7 @@ public class CartDTO {
         private String name;
         private BigDecimal minOrderAmount;
         private BigDecimal deliveryFee;
+        private Integer expectedWaitMinutes;
     }
 
     @Data
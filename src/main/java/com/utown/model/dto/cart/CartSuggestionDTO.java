@@ -0,0 +1,20 @@
+package com.utown.model.dto.cart;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartSuggestionDTO {
+
+    private Long menuItemId;
+    private String name;
+    private BigDecimal price;
+    private String imageUrl;
+}
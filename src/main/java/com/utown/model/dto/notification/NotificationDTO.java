@@ -27,4 +27,10 @@ public class NotificationDTO {
     private LocalDateTime estimatedDeliveryTime;
     private Long restaurantId;
 
+    /**
+     * Trace of the request that produced the push; the client reports it with its receive time to
+     * measure end-to-end delivery latency.
+     */
+    private String traceId;
+
 }
@@ -24,6 +24,7 @@ public class OrderDTO {
     private UserSummaryDTO user;
     private RestaurantSummaryDTO restaurant;
     private AddressSummaryDTO address;
+    private Long riderId;
     private List<com.utown.model.dto.order.OrderItemDTO> items;
     private BigDecimal subtotal;
     private BigDecimal deliveryFee;
@@ -0,0 +1,16 @@
+package com.utown.model.dto.order;
+
+import com.utown.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPQL projection of an open order, read when re-arming the order deadlines at startup.
+ */
+public record OrderDeadlineSource(
+        Long orderId,
+        OrderStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime estimatedDeliveryTime
+) {
+}
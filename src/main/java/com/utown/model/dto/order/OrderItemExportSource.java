@@ -0,0 +1,17 @@
+package com.utown.model.dto.order;
+
+import java.math.BigDecimal;
+
+/**
+ * JPQL projection of one order item, loaded per chunk of exported orders.
+ */
+public record OrderItemExportSource(
+        Long orderId,
+        Long id,
+        String menuItemName,
+        Integer quantity,
+        BigDecimal unitPrice,
+        String selectedOptions,
+        BigDecimal subtotal
+) {
+}
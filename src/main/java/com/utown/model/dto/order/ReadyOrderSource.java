@@ -0,0 +1,13 @@
+package com.utown.model.dto.order;
+
+import java.math.BigDecimal;
+
+/**
+ * JPQL projection of a READY order still waiting for a rider, with its pickup point.
+ */
+public record ReadyOrderSource(
+        Long orderId,
+        BigDecimal latitude,
+        BigDecimal longitude
+) {
+}
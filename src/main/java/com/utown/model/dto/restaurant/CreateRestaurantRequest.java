@@ -52,6 +52,9 @@ public class CreateRestaurantRequest {
     @Min(value = 0, message = "Estimated delivery time must be >= 0")
     private Integer estimatedDeliveryTime;
 
+    @Min(value = 1, message = "Kitchen capacity must be >= 1")
+    private Integer kitchenCapacity;
+
     private String openingHours;
 
     private Long ownerId;
@@ -0,0 +1,11 @@
+package com.utown.model.dto.restaurant;
+
+/**
+ * JPQL projection of a restaurant that has opening hours, read when loading the schedules at startup.
+ */
+public record OpeningHoursSource(
+        Long restaurantId,
+        String openingHours,
+        Boolean isOpen
+) {
+}
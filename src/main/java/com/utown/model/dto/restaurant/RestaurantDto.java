@@ -35,6 +35,7 @@ public class RestaurantDto {
     private BigDecimal minOrderAmount;
     private BigDecimal deliveryFee;
     private Integer estimatedDeliveryTime;
+    private Integer kitchenCapacity;
     private String openingHours;
     private Boolean isOpen;
     private Boolean isFeatured;
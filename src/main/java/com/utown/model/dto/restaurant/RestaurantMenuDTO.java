@@ -17,5 +17,6 @@ public class RestaurantMenuDTO {
     private Long restaurantId;
     private String restaurantName;
     private Boolean isOpen;
+    private Integer expectedWaitMinutes;
     private Map<String, List<MenuItemDTO>> menuByCategory;
 }
@@ -0,0 +1,45 @@
+package com.utown.model.dto.restaurant;
+
+import com.utown.model.enums.TrendingWindow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingDTO {
+
+    private String city;
+    private TrendingWindow window;
+    private List<TrendingItemDTO> items;
+    private List<TrendingRestaurantDTO> restaurants;
+    private LocalDateTime generatedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrendingItemDTO {
+        private Long menuItemId;
+        private String name;
+        private Long restaurantId;
+        private String restaurantName;
+        private Long quantity;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrendingRestaurantDTO {
+        private Long restaurantId;
+        private String name;
+        private Long orders;
+    }
+}
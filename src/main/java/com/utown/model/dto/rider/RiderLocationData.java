@@ -0,0 +1,23 @@
+package com.utown.model.dto.rider;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload of a {@code RIDER_LOCATION} notification on an order topic.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiderLocationData {
+
+    private Long riderId;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime recordedAt;
+}
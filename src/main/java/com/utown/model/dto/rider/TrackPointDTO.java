@@ -0,0 +1,21 @@
+package com.utown.model.dto.rider;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrackPointDTO {
+
+    private Long riderId;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private LocalDateTime recordedAt;
+}
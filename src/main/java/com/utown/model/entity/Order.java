@@ -29,11 +29,11 @@ public class Order {
     @Column(name = "order_number", unique = true, nullable = false, length = 50)
     private String orderNumber;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "restaurant_id", nullable = false)
     private Restaurant restaurant;
 
@@ -41,6 +41,16 @@ public class Order {
     @JoinColumn(name = "address_id", nullable = false)
     private Address address;
 
+    /**
+     * Rider picking the order up, set by dispatch once the order is READY.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "rider_id")
+    private User rider;
+
+    @Column(name = "rider_assigned_at")
+    private LocalDateTime riderAssignedAt;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     @Builder.Default
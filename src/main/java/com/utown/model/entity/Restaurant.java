@@ -87,6 +87,12 @@ public class Restaurant {
     @Column(name = "estimated_delivery_time")
     private Integer estimatedDeliveryTime;
 
+    /**
+     * Orders the kitchen works on at once (PENDING, CONFIRMED and PREPARING); {@code null} uses the default.
+     */
+    @Column(name = "kitchen_capacity")
+    private Integer kitchenCapacity;
+
     @Column(name = "opening_hours", columnDefinition = "JSON")
     private String openingHours;
 
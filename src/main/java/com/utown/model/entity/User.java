@@ -67,4 +67,11 @@ public class User {
 
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
+
+    /**
+     * Epoch second before which every access token of this user is rejected; set on logout, password
+     * change and deactivation.
+     */
+    @Column(name = "tokens_not_before")
+    private Long tokensNotBefore;
 }
@@ -0,0 +1,92 @@
+package com.utown.model.entity.mapper;
+
+import com.utown.model.dto.cart.CartDTO;
+import com.utown.model.entity.Cart;
+import com.utown.model.entity.CartItem;
+import com.utown.model.entity.MenuItem;
+import com.utown.model.entity.Restaurant;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class CartMapper {
+
+    public static CartDTO toDTO(Cart cart) {
+        if (cart == null) {
+            return emptyCart();
+        }
+
+        Restaurant restaurant = cart.getRestaurant();
+        List<CartItem> items = cart.getItems();
+
+        List<CartDTO.CartItemDTO> itemDTOs = new ArrayList<>(items.size());
+        BigDecimal subtotal = BigDecimal.ZERO;
+        int itemCount = 0;
+
+        for (CartItem item : items) {
+            BigDecimal itemSubtotal = item.getSubtotal();
+            subtotal = subtotal.add(itemSubtotal);
+            itemCount += item.getQuantity();
+            itemDTOs.add(toItemDTO(item, itemSubtotal));
+        }
+
+        BigDecimal deliveryFee = restaurant.getDeliveryFee();
+
+        CartDTO dto = new CartDTO();
+        dto.setId(cart.getId());
+        dto.setUserId(cart.getUser().getId());
+        dto.setRestaurant(new CartDTO.RestaurantSummaryDTO(
+                restaurant.getId(),
+                restaurant.getName(),
+                restaurant.getMinOrderAmount(),
+                deliveryFee,
+                null
+        ));
+        dto.setItems(itemDTOs);
+        dto.setSummary(new CartDTO.CartSummaryDTO(
+                subtotal,
+                deliveryFee,
+                subtotal.add(deliveryFee),
+                itemCount,
+                subtotal.compareTo(restaurant.getMinOrderAmount()) >= 0
+        ));
+        dto.setCreatedAt(cart.getCreatedAt());
+        dto.setUpdatedAt(cart.getUpdatedAt());
+        return dto;
+    }
+
+    public static CartDTO emptyCart() {
+        CartDTO dto = new CartDTO();
+        dto.setItems(Collections.emptyList());
+        dto.setSummary(new CartDTO.CartSummaryDTO(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0, false));
+        return dto;
+    }
+
+    public static BigDecimal subtotal(List<CartItem> items) {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (CartItem item : items) {
+            subtotal = subtotal.add(item.getSubtotal());
+        }
+        return subtotal;
+    }
+
+    private static CartDTO.CartItemDTO toItemDTO(CartItem item, BigDecimal subtotal) {
+        MenuItem menuItem = item.getMenuItem();
+
+        return new CartDTO.CartItemDTO(
+                item.getId(),
+                new CartDTO.CartItemDTO.MenuItemSummaryDTO(
+                        menuItem.getId(),
+                        menuItem.getName(),
+                        menuItem.getPrice(),
+                        menuItem.getImageUrl(),
+                        menuItem.getIsAvailable()
+                ),
+                item.getQuantity(),
+                item.getSelectedOptions(),
+                subtotal
+        );
+    }
+}
@@ -5,8 +5,8 @@ import com.utown.model.dto.restaurant.MenuItemOptionDTO;
 import com.utown.model.entity.MenuItem;
 import com.utown.model.entity.MenuItemOption;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class MenuItemMapper {
 
@@ -15,18 +15,18 @@ public class MenuItemMapper {
             return null;
         }
 
-        return MenuItemDTO.builder()
-                .id(entity.getId())
-                .name(entity.getName())
-                .description(entity.getDescription())
-                .price(entity.getPrice())
-                .imageUrl(entity.getImageUrl())
-                .isAvailable(entity.getIsAvailable())
-                .isSpicy(entity.getIsSpicy())
-                .spicyLevel(entity.getSpicyLevel())
-                .categoryName(entity.getCategoryName())
-                .options(toOptionDTOList(entity.getOptions()))
-                .build();
+        MenuItemDTO dto = new MenuItemDTO();
+        dto.setId(entity.getId());
+        dto.setName(entity.getName());
+        dto.setDescription(entity.getDescription());
+        dto.setPrice(entity.getPrice());
+        dto.setImageUrl(entity.getImageUrl());
+        dto.setIsAvailable(entity.getIsAvailable());
+        dto.setIsSpicy(entity.getIsSpicy());
+        dto.setSpicyLevel(entity.getSpicyLevel());
+        dto.setCategoryName(entity.getCategoryName());
+        dto.setOptions(toOptionDTOList(entity.getOptions()));
+        return dto;
     }
 
     public static List<MenuItemDTO> toDTOList(List<MenuItem> entities) {
@@ -34,9 +34,11 @@ public class MenuItemMapper {
             return null;
         }
 
-        return entities.stream()
-                .map(MenuItemMapper::toDTO)
-                .collect(Collectors.toList());
+        List<MenuItemDTO> dtos = new ArrayList<>(entities.size());
+        for (MenuItem entity : entities) {
+            dtos.add(toDTO(entity));
+        }
+        return dtos;
     }
 
     public static MenuItemOptionDTO toOptionDTO(MenuItemOption entity) {
@@ -44,14 +46,14 @@ public class MenuItemMapper {
             return null;
         }
 
-        return MenuItemOptionDTO.builder()
-                .id(entity.getId())
-                .name(entity.getName())
-                .price(entity.getPrice())
-                .type(entity.getType())
-                .optionGroup(entity.getOptionGroup())
-                .isDefault(entity.getIsDefault())
-                .build();
+        MenuItemOptionDTO dto = new MenuItemOptionDTO();
+        dto.setId(entity.getId());
+        dto.setName(entity.getName());
+        dto.setPrice(entity.getPrice());
+        dto.setType(entity.getType());
+        dto.setOptionGroup(entity.getOptionGroup());
+        dto.setIsDefault(entity.getIsDefault());
+        return dto;
     }
 
     public static List<MenuItemOptionDTO> toOptionDTOList(List<MenuItemOption> entities) {
@@ -59,8 +61,10 @@ public class MenuItemMapper {
             return List.of();
         }
 
-        return entities.stream()
-                .map(MenuItemMapper::toOptionDTO)
-                .collect(Collectors.toList());
+        List<MenuItemOptionDTO> dtos = new ArrayList<>(entities.size());
+        for (MenuItemOption entity : entities) {
+            dtos.add(toOptionDTO(entity));
+        }
+        return dtos;
     }
 }
@@ -0,0 +1,104 @@
+package com.utown.model.entity.mapper;
+
+import com.utown.model.dto.order.OrderDTO;
+import com.utown.model.dto.order.OrderItemDTO;
+import com.utown.model.dto.order.OrderItemExportSource;
+import com.utown.model.entity.Address;
+import com.utown.model.entity.Order;
+import com.utown.model.entity.OrderItem;
+import com.utown.model.entity.Restaurant;
+import com.utown.model.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OrderMapper {
+
+    public static OrderDTO toDTO(Order order) {
+        if (order == null) {
+            return null;
+        }
+        return toDTO(order, toItemDTOList(order.getItems()));
+    }
+
+    /**
+     * Maps an order whose items were loaded separately, leaving {@code order.getItems()} untouched.
+     */
+    public static OrderDTO toDTO(Order order, List<OrderItemDTO> items) {
+
+        OrderDTO dto = new OrderDTO();
+        dto.setId(order.getId());
+        dto.setOrderNumber(order.getOrderNumber());
+        dto.setStatus(order.getStatus());
+        dto.setUser(toUserSummary(order.getUser()));
+        dto.setRestaurant(toRestaurantSummary(order.getRestaurant()));
+        dto.setAddress(toAddressSummary(order.getAddress()));
+        dto.setRiderId(order.getRider() != null ? order.getRider().getId() : null);
+        dto.setItems(items);
+        dto.setSubtotal(order.getSubtotal());
+        dto.setDeliveryFee(order.getDeliveryFee());
+        dto.setDiscountAmount(order.getDiscountAmount());
+        dto.setTaxes(order.getTaxes());
+        dto.setTotalAmount(order.getTotalAmount());
+        dto.setPaymentMethod(order.getPaymentMethod());
+        dto.setPaymentStatus(order.getPaymentStatus());
+        dto.setSpecialRequest(order.getSpecialRequest());
+        dto.setCancellationReason(order.getCancellationReason());
+        dto.setEstimatedDeliveryTime(order.getEstimatedDeliveryTime());
+        dto.setCreatedAt(order.getCreatedAt());
+        dto.setUpdatedAt(order.getUpdatedAt());
+        dto.setDeliveredAt(order.getDeliveredAt());
+        return dto;
+    }
+
+    public static List<OrderItemDTO> toItemDTOList(List<OrderItem> items) {
+        if (items == null || items.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+
+        List<OrderItemDTO> dtos = new ArrayList<>(items.size());
+        for (OrderItem item : items) {
+            dtos.add(toItemDTO(item));
+        }
+        return dtos;
+    }
+
+    public static OrderItemDTO toItemDTO(OrderItem item) {
+        return new OrderItemDTO(
+                item.getId(),
+                item.getMenuItemName(),
+                item.getQuantity(),
+                item.getUnitPrice(),
+                item.getSelectedOptions(),
+                item.getSubtotal()
+        );
+    }
+
+    public static OrderItemDTO toItemDTO(OrderItemExportSource item) {
+        return new OrderItemDTO(
+                item.id(),
+                item.menuItemName(),
+                item.quantity(),
+                item.unitPrice(),
+                item.selectedOptions(),
+                item.subtotal()
+        );
+    }
+
+    private static OrderDTO.UserSummaryDTO toUserSummary(User user) {
+        return new OrderDTO.UserSummaryDTO(user.getId(), user.getName(), user.getPhoneNumber());
+    }
+
+    private static OrderDTO.RestaurantSummaryDTO toRestaurantSummary(Restaurant restaurant) {
+        return new OrderDTO.RestaurantSummaryDTO(restaurant.getId(), restaurant.getName(), restaurant.getPhone());
+    }
+
+    private static OrderDTO.AddressSummaryDTO toAddressSummary(Address address) {
+        return new OrderDTO.AddressSummaryDTO(
+                address.getId(),
+                address.getAddress(),
+                address.getDetailAddress(),
+                address.getNote()
+        );
+    }
+}
@@ -1,42 +1,61 @@
 package com.utown.model.entity.mapper;
 
+import com.utown.hours.OpeningHoursService;
 import com.utown.model.dto.restaurant.RestaurantDto;
 import com.utown.model.entity.Restaurant;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class RestaurantMapper {
 
+    private final OpeningHoursService openingHoursService;
+
     public RestaurantDto toDto(Restaurant restaurant) {
         if (restaurant == null) {
             return null;
         }
 
-        return RestaurantDto.builder()
-                .id(restaurant.getId())
-                .ownerId(restaurant.getOwner().getId())
-                .ownerName(restaurant.getOwner().getName())
-                .categoryId(restaurant.getCategory().getId())
-                .categoryName(restaurant.getCategory().getName())
-                .name(restaurant.getName())
-                .description(restaurant.getDescription())
-                .address(restaurant.getAddress())
-                .city(restaurant.getCity())
-                .latitude(restaurant.getLatitude())
-                .longitude(restaurant.getLongitude())
-                .phone(restaurant.getPhone())
-                .imageUrl(restaurant.getImageUrl())
-                .bannerImageUrl(restaurant.getBannerImageUrl())
-                .rating(restaurant.getRating())
-                .reviewCount(restaurant.getReviewCount())
-                .minOrderAmount(restaurant.getMinOrderAmount())
-                .deliveryFee(restaurant.getDeliveryFee())
-                .estimatedDeliveryTime(restaurant.getEstimatedDeliveryTime())
-                .openingHours(restaurant.getOpeningHours())
-                .isOpen(restaurant.getIsOpen())
-                .isFeatured(restaurant.getIsFeatured())
-                .isActive(restaurant.getIsActive())
-                .createdAt(restaurant.getCreatedAt())
-                .build();
+        RestaurantDto dto = toPublicDto(restaurant);
+        dto.setOwnerId(restaurant.getOwner().getId());
+        dto.setOwnerName(restaurant.getOwner().getName());
+        return dto;
+    }
+
+    /**
+     * Maps everything except the owner, so the lazy owner association is never initialized.
+     */
+    public RestaurantDto toPublicDto(Restaurant restaurant) {
+        if (restaurant == null) {
+            return null;
+        }
+
+        RestaurantDto dto = new RestaurantDto();
+        dto.setId(restaurant.getId());
+        dto.setCategoryId(restaurant.getCategory().getId());
+        dto.setCategoryName(restaurant.getCategory().getName());
+        dto.setName(restaurant.getName());
+        dto.setDescription(restaurant.getDescription());
+        dto.setAddress(restaurant.getAddress());
+        dto.setCity(restaurant.getCity());
+        dto.setLatitude(restaurant.getLatitude());
+        dto.setLongitude(restaurant.getLongitude());
+        dto.setPhone(restaurant.getPhone());
+        dto.setImageUrl(restaurant.getImageUrl());
+        dto.setBannerImageUrl(restaurant.getBannerImageUrl());
+        dto.setRating(restaurant.getRating());
+        dto.setReviewCount(restaurant.getReviewCount());
+        dto.setMinOrderAmount(restaurant.getMinOrderAmount());
+        dto.setDeliveryFee(restaurant.getDeliveryFee());
+        dto.setEstimatedDeliveryTime(restaurant.getEstimatedDeliveryTime());
+        dto.setKitchenCapacity(restaurant.getKitchenCapacity());
+        dto.setOpeningHours(restaurant.getOpeningHours());
+        dto.setIsOpen(openingHoursService.isOpenNow(restaurant));
+        dto.setIsFeatured(restaurant.getIsFeatured());
+        dto.setIsActive(restaurant.getIsActive());
+        dto.setCreatedAt(restaurant.getCreatedAt());
+        dto.setUpdatedAt(restaurant.getUpdatedAt());
+        return dto;
     }
 }
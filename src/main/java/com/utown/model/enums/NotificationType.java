@@ -8,5 +8,8 @@ public enum NotificationType {
     ORDER_READY,
     ORDER_DELIVERING,
     ORDER_COMPLETED,
-    ORDER_CANCELLED
+    ORDER_CANCELLED,
+    ORDER_OVERDUE,
+    ORDER_RIDER_ASSIGNED,
+    RIDER_LOCATION
 }
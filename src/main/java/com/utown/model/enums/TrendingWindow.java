@@ -0,0 +1,17 @@
+package com.utown.model.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+    LAST_15_MINUTES(Duration.ofMinutes(1), 15),
+    LAST_HOUR(Duration.ofMinutes(5), 12),
+    LAST_DAY(Duration.ofHours(1), 24);
+
+    private final Duration slot;
+    private final int slots;
+}
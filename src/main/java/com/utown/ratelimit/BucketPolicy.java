@@ -0,0 +1,20 @@
+package com.utown.ratelimit;
+
+/**
+ * A bucket of {@code capacity} tokens refilled with one token every {@code refillIntervalMillis}.
+ */
+public record BucketPolicy(int capacity, long refillIntervalMillis) {
+
+    public BucketPolicy {
+        if (capacity < 1 || refillIntervalMillis < 1) {
+            throw new IllegalArgumentException("Invalid bucket policy: " + capacity + "/" + refillIntervalMillis + "ms");
+        }
+    }
+
+    /**
+     * How far a bucket's theoretical arrival time may run ahead of now: a full burst.
+     */
+    long burstMillis() {
+        return capacity * refillIntervalMillis;
+    }
+}
@@ -0,0 +1,110 @@
+package com.utown.ratelimit;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Node-local {@link RateLimitStore}. Each bucket is one {@code long}, its theoretical arrival time (GCRA,
+ * equivalent to a token bucket): a request is admitted if that time, pushed one refill interval further,
+ * stays within a burst of now.
+ * <p>
+ * Keys are spread over lock stripes, each an access-ordered map capped at {@code maxKeys / stripes} entries,
+ * so memory stays bounded whatever keys an attacker sends; the least recently used bucket is evicted first.
+ */
+public final class LocalRateLimitStore implements RateLimitStore {
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public LocalRateLimitStore(int maxKeys, int stripeCount) {
+        if (maxKeys < 1 || stripeCount < 1) {
+            throw new IllegalArgumentException("Invalid rate limit store size");
+        }
+        int count = 1;
+        while (count < stripeCount) {
+            count <<= 1;
+        }
+        this.stripes = new Stripe[count];
+        this.mask = count - 1;
+        int perStripe = Math.max(1, maxKeys / count);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    @Override
+    public long tryConsume(String key, BucketPolicy policy, long nowMillis) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            long tat = bucket != null ? Math.max(bucket.theoreticalArrival, nowMillis) : nowMillis;
+            long next = tat + policy.refillIntervalMillis();
+            long overflow = next - nowMillis - policy.burstMillis();
+            if (overflow > 0) {
+                return overflow;
+            }
+
+            if (bucket == null) {
+                stripe.makeRoom(nowMillis);
+                stripe.buckets.put(key, new Bucket(next));
+            } else {
+                bucket.theoreticalArrival = next;
+            }
+            return 0;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+        private final int maxKeys;
+
+        private Stripe(int maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+
+        private void makeRoom(long nowMillis) {
+            if (buckets.size() < maxKeys) {
+                return;
+            }
+            // Drop the least recently used bucket, and any refilled ones right behind it:
+            // a refilled bucket is indistinguishable from an absent one
+            Iterator<Map.Entry<String, Bucket>> eldest = buckets.entrySet().iterator();
+            eldest.next();
+            eldest.remove();
+            while (eldest.hasNext() && eldest.next().getValue().theoreticalArrival <= nowMillis) {
+                eldest.remove();
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private long theoreticalArrival;
+
+        private Bucket(long theoreticalArrival) {
+            this.theoreticalArrival = theoreticalArrival;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.utown.ratelimit;
+
+import com.utown.config.RateLimitProperties;
+import com.utown.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+
+/**
+ * Brute-force protection for the credential endpoints. Each attempt takes a token from the bucket of the
+ * client IP and from the bucket of the phone number it targets, before any database or BCrypt work:
+ * the IP bucket stops credential stuffing across many accounts, the phone bucket stops a distributed
+ * attack on one account.
+ */
+@Service
+@Slf4j
+public class RateLimitService {
+
+    static final String ERROR_CODE = "RATE_LIMITED";
+
+    private final RateLimitStore store;
+    private final RateLimitProperties properties;
+    private final BucketPolicy loginPerIp;
+    private final BucketPolicy loginPerPhone;
+    private final BucketPolicy passwordResetPerIp;
+    private final BucketPolicy passwordResetPerPhone;
+
+    public RateLimitService(RateLimitStore store, RateLimitProperties properties) {
+        this.store = store;
+        this.properties = properties;
+        this.loginPerIp = properties.getLoginPerIp().toPolicy();
+        this.loginPerPhone = properties.getLoginPerPhone().toPolicy();
+        this.passwordResetPerIp = properties.getPasswordResetPerIp().toPolicy();
+        this.passwordResetPerPhone = properties.getPasswordResetPerPhone().toPolicy();
+    }
+
+    public void checkLogin(String phoneNumber, String clientIp) {
+        check("login:ip:", clientIp, loginPerIp);
+        check("login:phone:", normalize(phoneNumber), loginPerPhone);
+    }
+
+    /**
+     * @param phoneNumber the account the reset targets, {@code null} when the step only carries a reset token
+     */
+    public void checkPasswordReset(String phoneNumber, String clientIp) {
+        check("reset:ip:", clientIp, passwordResetPerIp);
+        if (phoneNumber != null) {
+            check("reset:phone:", normalize(phoneNumber), passwordResetPerPhone);
+        }
+    }
+
+    private void check(String prefix, String key, BucketPolicy policy) {
+        if (!properties.isEnabled() || key == null || key.isEmpty()) {
+            return;
+        }
+        long waitMillis = store.tryConsume(prefix + key, policy, System.currentTimeMillis());
+        if (waitMillis > 0) {
+            long retryAfterSeconds = Math.max(1, (waitMillis + 999) / 1000);
+            log.warn("Rate limit hit for {}{} (retry after {}s)", prefix, key, retryAfterSeconds);
+            throw new TooManyRequestsException(
+                    "Too many attempts, please try again in " + retryAfterSeconds + " seconds",
+                    ERROR_CODE,
+                    retryAfterSeconds
+            );
+        }
+    }
+
+    private static String normalize(String phoneNumber) {
+        return phoneNumber == null ? null : phoneNumber.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,16 @@
+package com.utown.ratelimit;
+
+/**
+ * Token buckets keyed by string. {@link #tryConsume} must be atomic per key. The default
+ * {@link LocalRateLimitStore} limits per node; a store shared by all nodes (for example the same
+ * GCRA step run as a Redis script) makes the limits cluster-wide without changing any caller.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes one token from the bucket of {@code key}.
+     *
+     * @return {@code 0} if a token was taken, otherwise the milliseconds until one will be available
+     */
+    long tryConsume(String key, BucketPolicy policy, long nowMillis);
+}
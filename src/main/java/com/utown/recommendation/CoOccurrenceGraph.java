@@ -0,0 +1,220 @@
+package com.utown.recommendation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Item-to-item co-occurrence counts for one restaurant's menu.
+ * Every item keeps its full sparse row of pair counts plus a capped, sorted top-N of that row;
+ * counts only ever grow, so the top-N can be maintained exactly on each update and suggestions
+ * only have to merge a few short arrays.
+ */
+public final class CoOccurrenceGraph {
+
+    /**
+     * Larger orders are truncated so a single catering order cannot cost thousands of pair updates.
+     */
+    static final int MAX_BASKET_SIZE = 50;
+
+    private final int maxNeighbours;
+    private final LongLongHashMap nodeIndex = new LongLongHashMap();
+    private final List<Node> nodes = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public CoOccurrenceGraph(int maxNeighbours) {
+        this.maxNeighbours = maxNeighbours;
+    }
+
+    /**
+     * Counts every pair of distinct items in one order. Duplicate ids (same dish with different options) count once.
+     */
+    public void addBasket(long[] menuItemIds) {
+        long[] basket = distinct(menuItemIds);
+        if (basket.length < 2) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Node[] basketNodes = new Node[basket.length];
+            for (int i = 0; i < basket.length; i++) {
+                basketNodes[i] = node(basket[i]);
+            }
+            for (int i = 0; i < basket.length; i++) {
+                for (int j = 0; j < basket.length; j++) {
+                    if (i != j) {
+                        basketNodes[i].increment(basket[j], maxNeighbours);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the neighbours of the given items by summed co-occurrence, excluding the items themselves.
+     * Ties go to the lower id so results are stable.
+     */
+    public long[] suggest(long[] menuItemIds, int limit) {
+        if (menuItemIds.length == 0 || limit <= 0) {
+            return new long[0];
+        }
+
+        LongLongHashMap scores = new LongLongHashMap(menuItemIds.length * maxNeighbours);
+        lock.readLock().lock();
+        try {
+            for (long menuItemId : menuItemIds) {
+                Node node = existingNode(menuItemId);
+                if (node == null) {
+                    continue;
+                }
+                for (int i = 0; i < node.topSize; i++) {
+                    scores.addTo(node.topIds[i], node.topCounts[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        for (long menuItemId : menuItemIds) {
+            if (scores.containsKey(menuItemId)) {
+                scores.put(menuItemId, 0L);
+            }
+        }
+
+        return topByScore(scores, limit);
+    }
+
+    /**
+     * @return the co-occurrence count of the pair, {@code 0} if never ordered together
+     */
+    public long count(long menuItemId, long otherMenuItemId) {
+        lock.readLock().lock();
+        try {
+            Node node = existingNode(menuItemId);
+            return node != null ? node.counts.get(otherMenuItemId) : 0L;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int itemCount() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node node(long menuItemId) {
+        long index = nodeIndex.get(menuItemId);
+        if (index > 0) {
+            return nodes.get((int) index - 1);
+        }
+        Node node = new Node(maxNeighbours);
+        nodes.add(node);
+        nodeIndex.put(menuItemId, nodes.size());
+        return node;
+    }
+
+    private Node existingNode(long menuItemId) {
+        long index = nodeIndex.get(menuItemId);
+        return index > 0 ? nodes.get((int) index - 1) : null;
+    }
+
+    private static long[] topByScore(LongLongHashMap scores, int limit) {
+        long[] ids = new long[Math.min(limit, scores.size())];
+        long[] best = new long[ids.length];
+        int[] filled = {0};
+
+        scores.forEach((id, score) -> {
+            if (score <= 0) {
+                return;
+            }
+            int position = filled[0];
+            while (position > 0 && ranksBefore(id, score, ids[position - 1], best[position - 1])) {
+                position--;
+            }
+            if (position >= ids.length) {
+                return;
+            }
+            int last = Math.min(filled[0], ids.length - 1);
+            System.arraycopy(ids, position, ids, position + 1, last - position);
+            System.arraycopy(best, position, best, position + 1, last - position);
+            ids[position] = id;
+            best[position] = score;
+            if (filled[0] < ids.length) {
+                filled[0]++;
+            }
+        });
+
+        return filled[0] == ids.length ? ids : Arrays.copyOf(ids, filled[0]);
+    }
+
+    private static boolean ranksBefore(long id, long score, long otherId, long otherScore) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private static long[] distinct(long[] menuItemIds) {
+        long[] sorted = menuItemIds.clone();
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < sorted.length && unique < MAX_BASKET_SIZE; i++) {
+            if (sorted[i] > 0 && (unique == 0 || sorted[unique - 1] != sorted[i])) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    private static final class Node {
+        private final LongLongHashMap counts = new LongLongHashMap();
+        private final long[] topIds;
+        private final long[] topCounts;
+        private int topSize;
+
+        private Node(int maxNeighbours) {
+            this.topIds = new long[maxNeighbours];
+            this.topCounts = new long[maxNeighbours];
+        }
+
+        /**
+         * Bumps the pair count and moves the neighbour up the top-N. Counts only grow,
+         * so a neighbour can only move towards the head and the tail is the only eviction candidate.
+         */
+        private void increment(long neighbourId, int maxNeighbours) {
+            long count = counts.addTo(neighbourId, 1);
+
+            int position = -1;
+            for (int i = 0; i < topSize; i++) {
+                if (topIds[i] == neighbourId) {
+                    position = i;
+                    break;
+                }
+            }
+
+            if (position < 0) {
+                if (topSize < maxNeighbours) {
+                    position = topSize++;
+                } else if (ranksBefore(neighbourId, count, topIds[topSize - 1], topCounts[topSize - 1])) {
+                    position = topSize - 1;
+                } else {
+                    return;
+                }
+            }
+
+            while (position > 0 && ranksBefore(neighbourId, count, topIds[position - 1], topCounts[position - 1])) {
+                topIds[position] = topIds[position - 1];
+                topCounts[position] = topCounts[position - 1];
+                position--;
+            }
+            topIds[position] = neighbourId;
+            topCounts[position] = count;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.utown.recommendation;
+
+import com.utown.event.OrderStatusChangedEvent;
+import com.utown.exception.ConflictException;
+import com.utown.model.dto.analytics.BasketItemSource;
+import com.utown.model.dto.cart.CartSuggestionDTO;
+import com.utown.model.entity.MenuItem;
+import com.utown.model.enums.OrderStatus;
+import com.utown.repository.CartItemRepository;
+import com.utown.repository.CartRepository;
+import com.utown.repository.MenuItemRepository;
+import com.utown.repository.OrderRepository;
+import com.utown.streaming.CursorFetch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * "Frequently ordered together" suggestions. One {@link CoOccurrenceGraph} per restaurant is kept in memory,
+ * advanced by every COMPLETED order and rebuilt from order history at startup or on demand.
+ */
+@Service
+@Slf4j
+public class RecommendationService {
+
+    private final OrderRepository orderRepository;
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final CursorFetch cursorFetch;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Start of the running rebuild, or null. The rebuild covers orders closed before it.
+     */
+    private final AtomicReference<LocalDateTime> rebuildingSince = new AtomicReference<>();
+    private final ConcurrentLinkedQueue<PendingBasket> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile Map<Long, CoOccurrenceGraph> graphs = new ConcurrentHashMap<>();
+
+    @Value("${recommendations.max-neighbours:20}")
+    private int maxNeighbours;
+
+    @Value("${recommendations.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    public RecommendationService(
+            OrderRepository orderRepository,
+            CartRepository cartRepository,
+            CartItemRepository cartItemRepository,
+            MenuItemRepository menuItemRepository,
+            CursorFetch cursorFetch,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.orderRepository = orderRepository;
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.cursorFetch = cursorFetch;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        Thread.ofVirtual().name("recommendation-rebuild").start(this::rebuild);
+    }
+
+    /**
+     * Streams the items of every order completed before the rebuild started, ordered by order id, into
+     * fresh graphs and swaps them in. Orders completing meanwhile are queued and replayed onto the new
+     * graphs after the swap, unless they closed before the start and so were streamed already.
+     */
+    public int rebuild() {
+        LocalDateTime before = LocalDateTime.now();
+        if (!rebuildingSince.compareAndSet(null, before)) {
+            throw new ConflictException("Recommendation rebuild is already running", "REBUILD_RUNNING");
+        }
+        try {
+            Map<Long, CoOccurrenceGraph> rebuilt = new ConcurrentHashMap<>();
+            long[] orders = {0};
+
+            transactionTemplate.executeWithoutResult(status -> cursorFetch.run(() -> {
+                try (Stream<BasketItemSource> rows = orderRepository.streamCompletedBasketItems(before)) {
+                    BasketCollector basket = new BasketCollector();
+                    rows.forEach(row -> {
+                        if (!row.orderId().equals(basket.orderId)) {
+                            if (basket.flushInto(rebuilt, maxNeighbours)) {
+                                orders[0]++;
+                            }
+                            basket.start(row.orderId(), row.restaurantId());
+                        }
+                        basket.add(row.menuItemId());
+                    });
+                    if (basket.flushInto(rebuilt, maxNeighbours)) {
+                        orders[0]++;
+                    }
+                }
+            }));
+
+            graphs = rebuilt;
+            replayPending();
+
+            log.info("Recommendation graphs rebuilt from {} orders across {} restaurants", orders[0], rebuilt.size());
+            return rebuilt.size();
+        } finally {
+            rebuildingSince.set(null);
+            replayPending();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.newStatus() != OrderStatus.COMPLETED) {
+            return;
+        }
+
+        long[] menuItemIds = toArray(orderRepository.findMenuItemIdsByOrderId(event.orderId()));
+        LocalDateTime since = rebuildingSince.get();
+        if (since != null) {
+            LocalDateTime closedAt = orderRepository.findClosedAtById(event.orderId()).orElse(event.changedAt());
+            if (closedAt.isBefore(since)) {
+                // Already streamed by the running rebuild
+                return;
+            }
+            pendingDuringRebuild.add(new PendingBasket(event.restaurantId(), menuItemIds));
+            if (rebuildingSince.get() == null) {
+                // The rebuild finished between the check and the enqueue
+                replayPending();
+            }
+            return;
+        }
+        graph(graphs, event.restaurantId(), maxNeighbours).addBasket(menuItemIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CartSuggestionDTO> getCartSuggestions(Long userId, int limit) {
+        Optional<Long> restaurantId = cartRepository.findRestaurantIdByUserId(userId);
+        if (restaurantId.isEmpty()) {
+            return List.of();
+        }
+
+        CoOccurrenceGraph graph = graphs.get(restaurantId.get());
+        if (graph == null) {
+            return List.of();
+        }
+
+        long[] cartItemIds = toArray(cartItemRepository.findMenuItemIdsByUserId(userId));
+        // Ask for a few extra so unavailable dishes filtered below don't leave the list short
+        long[] candidateIds = graph.suggest(cartItemIds, limit * 2);
+        if (candidateIds.length == 0) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(candidateIds.length);
+        for (long id : candidateIds) {
+            ids.add(id);
+        }
+        Map<Long, MenuItem> menuItems = new HashMap<>();
+        for (MenuItem menuItem : menuItemRepository.findAllById(ids)) {
+            menuItems.put(menuItem.getId(), menuItem);
+        }
+
+        List<CartSuggestionDTO> suggestions = new ArrayList<>(limit);
+        for (Long id : ids) {
+            MenuItem menuItem = menuItems.get(id);
+            if (menuItem == null || !Boolean.TRUE.equals(menuItem.getIsAvailable())) {
+                continue;
+            }
+            suggestions.add(new CartSuggestionDTO(
+                    menuItem.getId(),
+                    menuItem.getName(),
+                    menuItem.getPrice(),
+                    menuItem.getImageUrl()
+            ));
+            if (suggestions.size() == limit) {
+                break;
+            }
+        }
+        return suggestions;
+    }
+
+    private void replayPending() {
+        PendingBasket pending;
+        while ((pending = pendingDuringRebuild.poll()) != null) {
+            graph(graphs, pending.restaurantId(), maxNeighbours).addBasket(pending.menuItemIds());
+        }
+    }
+
+    private static CoOccurrenceGraph graph(Map<Long, CoOccurrenceGraph> graphs, Long restaurantId, int maxNeighbours) {
+        return graphs.computeIfAbsent(restaurantId, key -> new CoOccurrenceGraph(maxNeighbours));
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        long[] result = new long[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.get(i);
+        }
+        return result;
+    }
+
+    private record PendingBasket(Long restaurantId, long[] menuItemIds) {
+    }
+
+    /**
+     * Accumulates the consecutive rows of one order while streaming history.
+     */
+    private static final class BasketCollector {
+        private Long orderId;
+        private Long restaurantId;
+        private long[] menuItemIds = new long[16];
+        private int size;
+
+        private void start(Long orderId, Long restaurantId) {
+            this.orderId = orderId;
+            this.restaurantId = restaurantId;
+            this.size = 0;
+        }
+
+        private void add(Long menuItemId) {
+            if (size == menuItemIds.length) {
+                menuItemIds = Arrays.copyOf(menuItemIds, size * 2);
+            }
+            menuItemIds[size++] = menuItemId;
+        }
+
+        private boolean flushInto(Map<Long, CoOccurrenceGraph> graphs, int maxNeighbours) {
+            if (orderId == null) {
+                return false;
+            }
+            graph(graphs, restaurantId, maxNeighbours).addBasket(Arrays.copyOf(menuItemIds, size));
+            return true;
+        }
+    }
+}
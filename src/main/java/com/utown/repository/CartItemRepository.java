@@ -2,12 +2,18 @@ package com.utown.repository;
 
 import com.utown.model.entity.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
 
     Optional<CartItem> findByCartIdAndMenuItemId(Long cartId, Long menuItemId);
+
+    @Query("SELECT ci.menuItem.id FROM CartItem ci WHERE ci.cart.user.id = :userId")
+    List<Long> findMenuItemIdsByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
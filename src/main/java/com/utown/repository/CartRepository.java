@@ -2,6 +2,8 @@ package com.utown.repository;
 
 import com.utown.model.entity.Cart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +16,7 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     void deleteByUserId(Long userId);
 
     boolean existsByUserId(Long userId);
+
+    @Query("SELECT c.restaurant.id FROM Cart c WHERE c.user.id = :userId")
+    Optional<Long> findRestaurantIdByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
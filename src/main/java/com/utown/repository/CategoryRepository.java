@@ -1,11 +1,17 @@
 package com.utown.repository;
 
+import com.utown.model.dto.restaurant.CategoryDTO;
 import com.utown.model.entity.Category;
+import com.utown.streaming.JsonStreamWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
@@ -14,4 +20,9 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     @Query("SELECT c FROM Category c WHERE c.isActive = true ORDER BY c.priority ASC")
     List<Category> findAllActiveOrderedByPriority();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonStreamWriter.FETCH_SIZE))
+    @Query("SELECT new com.utown.model.dto.restaurant.CategoryDTO(c.id, c.name, c.iconUrl, c.priority, c.isActive) " +
+            "FROM Category c WHERE c.isActive = true ORDER BY c.priority ASC")
+    Stream<CategoryDTO> streamActiveCategoryDTOs();
 }
@@ -0,0 +1,57 @@
+package com.utown.repository;
+
+import com.utown.model.dto.analytics.TopItemDTO;
+import com.utown.model.entity.ItemSalesRollup;
+import com.utown.model.enums.RollupGranularity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ItemSalesRollupRepository extends JpaRepository<ItemSalesRollup, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO item_sales_rollups " +
+            "(restaurant_id, granularity, bucket_start, menu_item_id, menu_item_name, quantity, revenue) " +
+            "VALUES (:restaurantId, :granularity, :bucketStart, :menuItemId, :menuItemName, :quantity, :revenue) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "menu_item_name = :menuItemName, " +
+            "quantity = quantity + :quantity, " +
+            "revenue = revenue + :revenue",
+            nativeQuery = true)
+    int upsert(
+            @Param("restaurantId") Long restaurantId,
+            @Param("granularity") String granularity,
+            @Param("bucketStart") LocalDateTime bucketStart,
+            @Param("menuItemId") Long menuItemId,
+            @Param("menuItemName") String menuItemName,
+            @Param("quantity") long quantity,
+            @Param("revenue") BigDecimal revenue
+    );
+
+    @Query("SELECT new com.utown.model.dto.analytics.TopItemDTO(" +
+            "i.menuItemId, MAX(i.menuItemName), SUM(i.quantity), SUM(i.revenue)) " +
+            "FROM ItemSalesRollup i " +
+            "WHERE i.restaurantId = :restaurantId AND i.granularity = :granularity " +
+            "AND i.bucketStart >= :from AND i.bucketStart < :to " +
+            "GROUP BY i.menuItemId " +
+            "ORDER BY SUM(i.quantity) DESC")
+    List<TopItemDTO> findTopItems(
+            @Param("restaurantId") Long restaurantId,
+            @Param("granularity") RollupGranularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("DELETE FROM ItemSalesRollup i WHERE i.restaurantId = :restaurantId")
+    int deleteByRestaurantId(@Param("restaurantId") Long restaurantId);
+}
@@ -1,12 +1,17 @@
 package com.utown.repository;
 
 import com.utown.model.entity.MenuItem;
+import com.utown.streaming.JsonStreamWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
@@ -25,4 +30,10 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
             @Param("categoryName") String categoryName,
             @Param("isAvailable") Boolean isAvailable
     );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonStreamWriter.FETCH_SIZE))
+    @Query("SELECT m FROM MenuItem m LEFT JOIN FETCH m.options " +
+            "WHERE m.restaurant.id = :restaurantId " +
+            "ORDER BY m.sortOrder ASC, m.createdAt DESC, m.id ASC")
+    Stream<MenuItem> streamByRestaurantId(@Param("restaurantId") Long restaurantId);
 }
@@ -1,24 +1,44 @@
 package com.utown.repository;
 
+import com.utown.model.dto.analytics.BasketItemSource;
+import com.utown.model.dto.analytics.ItemRollupSource;
+import com.utown.model.dto.analytics.OrderRollupSource;
+import com.utown.model.dto.order.OrderDeadlineSource;
+import com.utown.model.dto.order.OrderItemExportSource;
+import com.utown.model.dto.order.ReadyOrderSource;
 import com.utown.model.entity.Order;
+import com.utown.model.entity.User;
 import com.utown.model.enums.OrderStatus;
+import com.utown.streaming.JsonStreamWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Optional<Order> findByOrderNumber(String orderNumber);
 
+    // Order lists map user, restaurant and address of every row; items load in one batch per page
+    @EntityGraph(attributePaths = {"user", "restaurant", "address"})
     Page<Order> findByUserId(Long userId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"user", "restaurant", "address"})
     Page<Order> findByRestaurantId(Long restaurantId, Pageable pageable);
 
     List<Order> findByUserIdAndStatus(Long userId, OrderStatus status);
@@ -37,4 +57,106 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     @Query("SELECT o.restaurant.id FROM Order o WHERE o.id = :orderId")
     Optional<Long> findRestaurantIdByOrderId(@Param("orderId") Long orderId);
-}
\ No newline at end of file
+
+    @Query("SELECT o.status, COUNT(o) FROM Order o GROUP BY o.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("SELECT o.restaurant.id, COUNT(o) FROM Order o " +
+            "WHERE o.status IN (com.utown.model.enums.OrderStatus.PENDING, " +
+            "com.utown.model.enums.OrderStatus.CONFIRMED, com.utown.model.enums.OrderStatus.PREPARING) " +
+            "GROUP BY o.restaurant.id")
+    List<Object[]> countKitchenLoadByRestaurant();
+
+    @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM Order o " +
+            "WHERE o.createdAt >= :since AND o.status <> com.utown.model.enums.OrderStatus.CANCELLED")
+    BigDecimal sumTotalAmountSince(@Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonStreamWriter.FETCH_SIZE))
+    @Query("SELECT o FROM Order o " +
+            "JOIN FETCH o.user JOIN FETCH o.restaurant JOIN FETCH o.address " +
+            "ORDER BY o.id")
+    Stream<Order> streamAllForExport();
+
+    @Query("SELECT new com.utown.model.dto.order.OrderItemExportSource(" +
+            "i.order.id, i.id, i.menuItemName, i.quantity, i.unitPrice, i.selectedOptions, i.subtotal) " +
+            "FROM OrderItem i WHERE i.order.id IN :orderIds ORDER BY i.id")
+    List<OrderItemExportSource> findExportItemsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonStreamWriter.FETCH_SIZE))
+    @Query("SELECT new com.utown.model.dto.analytics.OrderRollupSource(" +
+            "o.status, o.totalAmount, COALESCE(o.deliveredAt, o.updatedAt), " +
+            "(SELECT COALESCE(SUM(i.quantity), 0) FROM OrderItem i WHERE i.order = o)) " +
+            "FROM Order o " +
+            "WHERE o.restaurant.id = :restaurantId " +
+            "AND o.status IN (com.utown.model.enums.OrderStatus.COMPLETED, com.utown.model.enums.OrderStatus.CANCELLED) " +
+            "AND COALESCE(o.deliveredAt, o.updatedAt) < :before")
+    Stream<OrderRollupSource> streamClosedOrdersForRollup(
+            @Param("restaurantId") Long restaurantId,
+            @Param("before") LocalDateTime before
+    );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonStreamWriter.FETCH_SIZE))
+    @Query("SELECT new com.utown.model.dto.analytics.ItemRollupSource(" +
+            "COALESCE(o.deliveredAt, o.updatedAt), i.menuItem.id, i.menuItemName, i.quantity, i.subtotal) " +
+            "FROM OrderItem i JOIN i.order o " +
+            "WHERE o.restaurant.id = :restaurantId AND o.status = com.utown.model.enums.OrderStatus.COMPLETED " +
+            "AND COALESCE(o.deliveredAt, o.updatedAt) < :before")
+    Stream<ItemRollupSource> streamCompletedItemsForRollup(
+            @Param("restaurantId") Long restaurantId,
+            @Param("before") LocalDateTime before
+    );
+
+    @Query("SELECT new com.utown.model.dto.analytics.ItemRollupSource(" +
+            "COALESCE(o.deliveredAt, o.updatedAt), i.menuItem.id, i.menuItemName, i.quantity, i.subtotal) " +
+            "FROM OrderItem i JOIN i.order o WHERE o.id = :orderId")
+    List<ItemRollupSource> findItemsForRollup(@Param("orderId") Long orderId);
+
+    @Query("SELECT COALESCE(o.deliveredAt, o.updatedAt) FROM Order o WHERE o.id = :orderId")
+    Optional<LocalDateTime> findClosedAtById(@Param("orderId") Long orderId);
+
+    @Query("SELECT i.menuItem.id FROM OrderItem i WHERE i.order.id = :orderId")
+    List<Long> findMenuItemIdsByOrderId(@Param("orderId") Long orderId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonStreamWriter.FETCH_SIZE))
+    @Query("SELECT new com.utown.model.dto.analytics.BasketItemSource(o.restaurant.id, o.id, i.menuItem.id) " +
+            "FROM OrderItem i JOIN i.order o " +
+            "WHERE o.status = com.utown.model.enums.OrderStatus.COMPLETED " +
+            "AND COALESCE(o.deliveredAt, o.updatedAt) < :before " +
+            "ORDER BY o.id")
+    Stream<BasketItemSource> streamCompletedBasketItems(@Param("before") LocalDateTime before);
+
+    @Query("SELECT new com.utown.model.dto.order.OrderDeadlineSource(" +
+            "o.id, o.status, o.createdAt, o.estimatedDeliveryTime) " +
+            "FROM Order o " +
+            "WHERE o.status IN (com.utown.model.enums.OrderStatus.PENDING, " +
+            "com.utown.model.enums.OrderStatus.CONFIRMED, com.utown.model.enums.OrderStatus.PREPARING)")
+    List<OrderDeadlineSource> findOpenOrderDeadlines();
+
+    /**
+     * Cancels the order only if it is still PENDING, so a confirmation racing the timeout wins cleanly.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = com.utown.model.enums.OrderStatus.CANCELLED, " +
+            "o.cancellationReason = :reason, o.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE o.id = :orderId AND o.status = com.utown.model.enums.OrderStatus.PENDING")
+    int cancelIfPending(@Param("orderId") Long orderId, @Param("reason") String reason);
+
+    @Query("SELECT new com.utown.model.dto.order.ReadyOrderSource(o.id, r.latitude, r.longitude) " +
+            "FROM Order o JOIN o.restaurant r " +
+            "WHERE o.status = com.utown.model.enums.OrderStatus.READY AND o.rider IS NULL " +
+            "ORDER BY o.updatedAt")
+    List<ReadyOrderSource> findReadyOrdersWithoutRider(Pageable pageable);
+
+    @Query("SELECT o.id, o.rider.id FROM Order o " +
+            "WHERE o.rider IS NOT NULL AND o.status IN (com.utown.model.enums.OrderStatus.READY, " +
+            "com.utown.model.enums.OrderStatus.DELIVERING)")
+    List<Object[]> findActiveRiderAssignments();
+
+    /**
+     * Assigns the rider only if the order is still READY and unassigned.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.rider = :rider, o.riderAssignedAt = CURRENT_TIMESTAMP, o.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE o.id = :orderId AND o.rider IS NULL AND o.status = com.utown.model.enums.OrderStatus.READY")
+    int assignRiderIfReady(@Param("orderId") Long orderId, @Param("rider") User rider);
+}
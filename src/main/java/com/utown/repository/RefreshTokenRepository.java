@@ -1,13 +1,51 @@
 package com.utown.repository;
 
 import com.utown.model.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
-    void deleteByUserId(Long userId);
+
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Marks the token used only if it is still valid, so of two concurrent refreshes with the same token
+     * exactly one wins and the other is treated as reuse.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.isValid = false, t.revokedAt = :now " +
+            "WHERE t.id = :id AND t.isValid = true")
+    int invalidateIfValid(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.isValid = false, t.revokedAt = :now " +
+            "WHERE t.familyId = :familyId AND t.isValid = true")
+    int invalidateFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    // Expired and revoked tokens are selected separately: an OR across two columns cannot use a single index
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt < :now ORDER BY t.expiresAt")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.revokedAt < :revokedBefore ORDER BY t.revokedAt")
+    List<Long> findRevokedIds(@Param("revokedBefore") LocalDateTime revokedBefore, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
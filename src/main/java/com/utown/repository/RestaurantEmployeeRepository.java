@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -34,5 +35,9 @@ public interface RestaurantEmployeeRepository extends JpaRepository<RestaurantEm
             @Param("restaurantId") Long restaurantId,
             @Param("userId") Long userId
     );
-}
 
+    @Query("SELECT re.restaurant.id FROM RestaurantEmployee re " +
+           "WHERE re.user.id = :userId " +
+           "AND re.isActive = true")
+    List<Long> findActiveRestaurantIdsByUserId(@Param("userId") Long userId);
+}
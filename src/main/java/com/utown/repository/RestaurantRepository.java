@@ -1,16 +1,24 @@
 package com.utown.repository;
 
+import com.utown.model.dto.restaurant.OpeningHoursSource;
 import com.utown.model.entity.Restaurant;
+import com.utown.streaming.JsonStreamWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
@@ -30,6 +38,10 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     @Query("SELECT r FROM Restaurant r JOIN FETCH r.category WHERE r.category.id = :categoryId AND r.isActive = true")
     Page<Restaurant> findByCategoryWithCategory(@Param("categoryId") Long categoryId, Pageable pageable);
 
+    /**
+     * Candidates only: {@code is_open} can lag the opening hours, list open restaurants with
+     * {@link com.utown.hours.OpeningHoursService#findOpenRestaurants}.
+     */
     List<Restaurant> findByIsOpenTrueAndIsActiveTrue();
 
     List<Restaurant> findByIsFeaturedTrueAndIsActiveTrue(Pageable pageable);
@@ -40,9 +52,39 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     @Query("SELECT r FROM Restaurant r JOIN FETCH r.category WHERE r.owner.id = :ownerId")
     Page<Restaurant> findByOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
 
-    @Query("SELECT r FROM Restaurant r JOIN FETCH r.category WHERE r.owner.id = :ownerId")
-    List<Restaurant> findByOwnerId(@Param("ownerId") Long ownerId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonStreamWriter.FETCH_SIZE))
+    @Query("SELECT r FROM Restaurant r JOIN FETCH r.category WHERE r.owner.id = :ownerId ORDER BY r.id")
+    Stream<Restaurant> streamByOwnerId(@Param("ownerId") Long ownerId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JsonStreamWriter.FETCH_SIZE))
+    @Query("SELECT r FROM Restaurant r JOIN FETCH r.category JOIN FETCH r.owner ORDER BY r.id")
+    Stream<Restaurant> streamAllWithCategoryAndOwner();
 
     boolean existsByIdAndOwnerId(Long restaurantId, Long ownerId);
 
+    @Query("SELECT r.id FROM Restaurant r WHERE r.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
+
+    long countByIsActiveTrue();
+
+    @Query("SELECT r.id FROM Restaurant r ORDER BY r.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT new com.utown.model.dto.restaurant.OpeningHoursSource(r.id, r.openingHours, r.isOpen) " +
+            "FROM Restaurant r WHERE r.openingHours IS NOT NULL")
+    List<OpeningHoursSource> findOpeningHoursSources();
+
+    /**
+     * Opens the restaurants in {@code openIds} and closes the rest of {@code ids} in one statement.
+     */
+    @Modifying
+    @Query("UPDATE Restaurant r " +
+            "SET r.isOpen = CASE WHEN r.id IN :openIds THEN true ELSE false END, r.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.id IN :ids")
+    int applyOpenState(@Param("ids") Collection<Long> ids, @Param("openIds") Collection<Long> openIds);
+
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.isOpen = false, r.updatedAt = CURRENT_TIMESTAMP WHERE r.id IN :ids")
+    int closeByIds(@Param("ids") Collection<Long> ids);
+
 }
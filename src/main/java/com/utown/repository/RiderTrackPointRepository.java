@@ -0,0 +1,18 @@
+package com.utown.repository;
+
+import com.utown.model.dto.rider.TrackPointDTO;
+import com.utown.model.entity.RiderTrackPoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RiderTrackPointRepository extends JpaRepository<RiderTrackPoint, Long> {
+
+    @Query("SELECT new com.utown.model.dto.rider.TrackPointDTO(p.riderId, p.latitude, p.longitude, p.recordedAt) " +
+            "FROM RiderTrackPoint p WHERE p.orderId = :orderId ORDER BY p.recordedAt")
+    List<TrackPointDTO> findTrackByOrderId(@Param("orderId") Long orderId);
+}
@@ -0,0 +1,52 @@
+package com.utown.repository;
+
+import com.utown.model.entity.SalesRollup;
+import com.utown.model.enums.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups " +
+            "(restaurant_id, granularity, bucket_start, completed_orders, cancelled_orders, revenue, items_sold) " +
+            "VALUES (:restaurantId, :granularity, :bucketStart, :completed, :cancelled, :revenue, :itemsSold) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "completed_orders = completed_orders + :completed, " +
+            "cancelled_orders = cancelled_orders + :cancelled, " +
+            "revenue = revenue + :revenue, " +
+            "items_sold = items_sold + :itemsSold",
+            nativeQuery = true)
+    int upsert(
+            @Param("restaurantId") Long restaurantId,
+            @Param("granularity") String granularity,
+            @Param("bucketStart") LocalDateTime bucketStart,
+            @Param("completed") long completed,
+            @Param("cancelled") long cancelled,
+            @Param("revenue") BigDecimal revenue,
+            @Param("itemsSold") long itemsSold
+    );
+
+    @Query("SELECT r FROM SalesRollup r " +
+            "WHERE r.restaurantId = :restaurantId AND r.granularity = :granularity " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "ORDER BY r.bucketStart ASC")
+    List<SalesRollup> findBuckets(
+            @Param("restaurantId") Long restaurantId,
+            @Param("granularity") RollupGranularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Modifying
+    @Query("DELETE FROM SalesRollup r WHERE r.restaurantId = :restaurantId")
+    int deleteByRestaurantId(@Param("restaurantId") Long restaurantId);
+}
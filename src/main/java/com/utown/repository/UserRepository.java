@@ -2,8 +2,12 @@ package com.utown.repository;
 
 import com.utown.model.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPhoneNumber(String phoneNumber);
     boolean existsByPhoneNumber(String phoneNumber);
 
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.tokensNotBefore = :notBefore " +
+            "WHERE u.id = :userId AND (u.tokensNotBefore IS NULL OR u.tokensNotBefore < :notBefore)")
+    int updateTokensNotBefore(@Param("userId") Long userId, @Param("notBefore") Long notBefore);
+
+    @Query("SELECT u.id, u.tokensNotBefore FROM User u WHERE u.tokensNotBefore >= :since")
+    List<Object[]> findTokensNotBeforeSince(@Param("since") Long since);
 }
@@ -0,0 +1,106 @@
+package com.utown.security;
+
+import com.utown.exception.UnauthorizedException;
+import com.utown.model.enums.UserRole;
+import com.utown.security.jwt.JwtAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+
+/**
+ * The caller of the current request, built from the access token alone. The role comes from the token;
+ * the restaurants the user owns or works at are looked up in the {@link OwnershipIndex} on first use and
+ * kept for the rest of the request, so authorization checks do not load the {@code User} or
+ * {@code Restaurant} entities.
+ */
+public final class AuthenticatedUser {
+
+    private final long userId;
+    private final UserRole role;
+    private final String tokenId;
+    private final Date issuedAt;
+    private final Date expiresAt;
+    private final OwnershipIndex ownershipIndex;
+
+    private RestaurantAccess restaurants;
+
+    public AuthenticatedUser(long userId, UserRole role, String tokenId, Date issuedAt, Date expiresAt,
+                             OwnershipIndex ownershipIndex) {
+        this.userId = userId;
+        this.role = role;
+        this.tokenId = tokenId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+        this.ownershipIndex = ownershipIndex;
+    }
+
+    public static AuthenticatedUser from(Authentication authentication) {
+        if (authentication instanceof JwtAuthenticationToken token) {
+            return token.getUser();
+        }
+        throw new UnauthorizedException("Authentication required");
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Date getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt != null && expiresAt.getTime() <= nowMillis;
+    }
+
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+
+    public boolean ownsRestaurant(long restaurantId) {
+        return restaurants().owns(restaurantId);
+    }
+
+    /**
+     * Owner or active employee of the restaurant.
+     */
+    public boolean worksAt(long restaurantId) {
+        return restaurants().worksAt(restaurantId);
+    }
+
+    /**
+     * Admin or owner: the check used for editing a restaurant and its menu.
+     */
+    public boolean canManageRestaurant(long restaurantId) {
+        return isAdmin() || ownsRestaurant(restaurantId);
+    }
+
+    /**
+     * Resolves the restaurant access now. A STOMP session keeps its principal for the lifetime of the
+     * token, so it is loaded once on CONNECT and later frames are authorized from memory.
+     */
+    public void loadRestaurants() {
+        restaurants();
+    }
+
+    private RestaurantAccess restaurants() {
+        if (restaurants == null) {
+            restaurants = role == UserRole.ADMIN || role == UserRole.RIDER
+                    ? RestaurantAccess.NONE
+                    : ownershipIndex.get(userId);
+        }
+        return restaurants;
+    }
+}
@@ -0,0 +1,83 @@
+package com.utown.security;
+
+import com.utown.event.RestaurantCreatedEvent;
+import com.utown.repository.RestaurantEmployeeRepository;
+import com.utown.repository.RestaurantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached {@code userId -> RestaurantAccess}. A user's restaurants are loaded with two id-only queries on
+ * first use and then answered from memory, so ownership and staff checks on later requests issue none.
+ * <p>
+ * Entries are dropped when the user's ownership changes ({@link #invalidate}, called on restaurant
+ * creation) and otherwise expire after {@code auth.ownership-cache.ttl-ms}, which bounds how long an
+ * employee row edited directly in the database goes unnoticed.
+ */
+@Component
+@Slf4j
+public class OwnershipIndex {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantEmployeeRepository restaurantEmployeeRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public OwnershipIndex(
+            RestaurantRepository restaurantRepository,
+            RestaurantEmployeeRepository restaurantEmployeeRepository,
+            @Value("${auth.ownership-cache.ttl-ms:300000}") long ttlMillis,
+            @Value("${auth.ownership-cache.max-entries:100000}") int maxEntries
+    ) {
+        this.restaurantRepository = restaurantRepository;
+        this.restaurantEmployeeRepository = restaurantEmployeeRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public RestaurantAccess get(long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAtMillis > now) {
+            return entry.access;
+        }
+
+        RestaurantAccess access = RestaurantAccess.of(
+                restaurantRepository.findIdsByOwnerId(userId),
+                restaurantEmployeeRepository.findActiveRestaurantIdsByUserId(userId)
+        );
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+        }
+        entries.put(userId, new Entry(access, now + ttlMillis));
+        return access;
+    }
+
+    public void invalidate(long userId) {
+        entries.remove(userId);
+    }
+
+    @TransactionalEventListener
+    public void onRestaurantCreated(RestaurantCreatedEvent event) {
+        invalidate(event.ownerId());
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+        if (entries.size() >= maxEntries) {
+            // every entry is fresh: start over rather than track recency on the read path
+            log.warn("Ownership cache full ({} users), clearing", entries.size());
+            entries.clear();
+        }
+    }
+
+    private record Entry(RestaurantAccess access, long expiresAtMillis) {
+    }
+}
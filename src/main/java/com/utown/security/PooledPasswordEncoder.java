@@ -0,0 +1,195 @@
+package com.utown.security;
+
+import com.utown.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The application's {@link PasswordEncoder}: BCrypt run on a small dedicated pool instead of the request
+ * threads, so a login spike can use at most {@code threads} cores and every other endpoint keeps the rest.
+ * Once {@code queue-capacity} hashes are waiting, further ones are shed with a 429 rather than queued
+ * behind work that would time out anyway.
+ * <p>
+ * The cost factor is calibrated at startup to the highest one that hashes within {@code target-ms}
+ * on this machine (never below {@code min-cost}); {@link #upgradeEncoding} reports hashes made with
+ * a lower cost so they can be re-hashed on the next successful login.
+ */
+@Component
+@Slf4j
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    static final String ERROR_CODE = "AUTH_BUSY";
+
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("^\\$2[abyx]?\\$(\\d{2})\\$");
+    private static final int CALIBRATION_ROUNDS = 3;
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final int cost;
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PooledPasswordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${password.hashing.cost:0}") int fixedCost,
+            @Value("${password.hashing.target-ms:250}") long targetMillis,
+            @Value("${password.hashing.min-cost:10}") int minCost,
+            @Value("${password.hashing.max-cost:14}") int maxCost,
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity
+    ) {
+        this.cost = fixedCost > 0 ? fixedCost : calibrate(targetMillis, minCost, maxCost);
+        this.encoder = new BCryptPasswordEncoder(cost);
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                hashingThreads(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        log.info("Password hashing: BCrypt cost {} on {} threads, queue capacity {}", cost, poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * {@code true} for hashes made with a lower cost than the current one. Higher costs are left alone,
+     * so nodes calibrated differently do not re-hash each other's passwords back and forth.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int encodedCost = costOf(encodedPassword);
+        return encodedCost > 0 && encodedCost < cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Timer timer, Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(hashing));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing queue full ({} waiting), shedding request", executor.getQueue().size());
+            throw new TooManyRequestsException(
+                    "Server is busy, please try again shortly", ERROR_CODE, RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Times {@code minCost} and doubles from there: every extra BCrypt round doubles the work.
+     */
+    private static int calibrate(long targetMillis, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minCost);
+        probe.encode("calibration");
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int cost = costFor(best, minCost, TimeUnit.MILLISECONDS.toNanos(targetMillis), maxCost);
+        log.info("BCrypt calibration: cost {} took {} ms, using cost {} for a {} ms target",
+                minCost, TimeUnit.NANOSECONDS.toMillis(best), cost, targetMillis);
+        return cost;
+    }
+
+    static int costFor(long baselineNanos, int baselineCost, long targetNanos, int maxCost) {
+        int cost = baselineCost;
+        long estimate = Math.max(1, baselineNanos);
+        while (cost < maxCost && estimate * 2 <= targetNanos) {
+            estimate *= 2;
+            cost++;
+        }
+        return cost;
+    }
+
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    private static ThreadFactory hashingThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.utown.security;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Restaurants a user owns and restaurants they work at as active staff, as sorted id arrays.
+ */
+public record RestaurantAccess(long[] ownedRestaurantIds, long[] employedRestaurantIds) {
+
+    public static final RestaurantAccess NONE = new RestaurantAccess(new long[0], new long[0]);
+
+    public static RestaurantAccess of(Collection<Long> owned, Collection<Long> employed) {
+        if (owned.isEmpty() && employed.isEmpty()) {
+            return NONE;
+        }
+        return new RestaurantAccess(sorted(owned), sorted(employed));
+    }
+
+    public boolean owns(long restaurantId) {
+        return Arrays.binarySearch(ownedRestaurantIds, restaurantId) >= 0;
+    }
+
+    /**
+     * Owner or active employee of the restaurant.
+     */
+    public boolean worksAt(long restaurantId) {
+        return owns(restaurantId) || Arrays.binarySearch(employedRestaurantIds, restaurantId) >= 0;
+    }
+
+    private static long[] sorted(Collection<Long> ids) {
+        long[] array = ids.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(array);
+        return array;
+    }
+}
@@ -1,16 +1,12 @@
 package com.utown.security;
 
-import com.utown.service.RestaurantService;
-import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 @Component("restaurantSecurity")
-@RequiredArgsConstructor
 public class RestaurantSecurity {
 
-    private final RestaurantService restaurantService;
-
-    public boolean isOwner(Long restaurantId, Long userId) {
-        return restaurantService.isOwner(restaurantId, userId);
+    public boolean isOwner(Long restaurantId, Authentication authentication) {
+        return restaurantId != null && AuthenticatedUser.from(authentication).ownsRestaurant(restaurantId);
     }
 }
@@ -0,0 +1,81 @@
+package com.utown.security;
+
+import com.utown.security.jwt.JwtAuthenticationToken;
+import com.utown.security.revocation.TokenRevocationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Connected STOMP sessions and the principal each authenticated with. Sessions that send nothing are
+ * never checked by {@code StompAuthenticationInterceptor}, so they are swept every
+ * {@code auth.websocket.session-check-ms} and closed with an ERROR frame once their access token has
+ * expired or been revoked; the client reconnects with a fresh token.
+ */
+@Component
+@Slf4j
+public class StompSessionRegistry {
+
+    private final Map<String, AuthenticatedUser> sessions = new ConcurrentHashMap<>();
+    private final MessageChannel clientOutboundChannel;
+    private final TokenRevocationService tokenRevocationService;
+
+    public StompSessionRegistry(
+            @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+            TokenRevocationService tokenRevocationService
+    ) {
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        if (event.getUser() instanceof JwtAuthenticationToken authentication) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+            if (sessionId != null) {
+                sessions.put(sessionId, authentication.getUser());
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    @Scheduled(fixedDelayString = "${auth.websocket.session-check-ms:5000}")
+    public void closeInvalidSessions() {
+        long now = System.currentTimeMillis();
+        sessions.forEach((sessionId, user) -> {
+            if (user.isExpired(now)) {
+                close(sessionId, user, "Access token expired");
+            } else if (tokenRevocationService.isRevoked(user)) {
+                close(sessionId, user, "Access token revoked");
+            }
+        });
+    }
+
+    private void close(String sessionId, AuthenticatedUser user, String reason) {
+        sessions.remove(sessionId);
+
+        // the STOMP handler closes the WebSocket after sending an ERROR frame
+        StompHeaderAccessor error = StompHeaderAccessor.create(StompCommand.ERROR);
+        error.setMessage(reason);
+        error.setSessionId(sessionId);
+        clientOutboundChannel.send(MessageBuilder.createMessage(new byte[0], error.getMessageHeaders()));
+
+        log.info("Closed STOMP session {} of user {}: {}", sessionId, user.getUserId(), reason);
+    }
+}
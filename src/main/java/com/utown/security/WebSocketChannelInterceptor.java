@@ -1,10 +1,9 @@
 package com.utown.security;
 
-import com.utown.model.entity.User;
+import com.utown.dispatch.RiderAssignments;
+import com.utown.jfr.StompAuthorizationEvent;
 import com.utown.model.enums.UserRole;
 import com.utown.repository.OrderRepository;
-import com.utown.repository.RestaurantEmployeeRepository;
-import com.utown.repository.RestaurantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -19,14 +18,18 @@ import org.springframework.stereotype.Component;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Authorizes SUBSCRIBE frames against the session's {@link AuthenticatedUser}. Restaurant access was
+ * loaded on CONNECT and rider assignments are in memory, so only client order topics and staff order
+ * topics look the order up, with one id-only query.
+ */
 @RequiredArgsConstructor
 @Slf4j
 @Component
 public class WebSocketChannelInterceptor implements ChannelInterceptor {
 
-    private final RestaurantRepository restaurantRepository;
-    private final RestaurantEmployeeRepository restaurantEmployeeRepository;
     private final OrderRepository orderRepository;
+    private final RiderAssignments riderAssignments;
 
     private static final Pattern RESTAURANT_PATTERN = Pattern.compile("/topic/restaurants/(\\d+)/.*");
     private static final Pattern ORDER_PATTERN = Pattern.compile("/topic/orders/(\\d+)$");
@@ -40,29 +43,33 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
             Authentication authentication = (Authentication) accessor.getUser();
 
             if (authentication != null && destination != null) {
-                validateSubscription(destination, authentication);
+                StompAuthorizationEvent event = StompAuthorizationEvent.start();
+                boolean allowed = false;
+                try {
+                    validateSubscription(destination, AuthenticatedUser.from(authentication));
+                    allowed = true;
+                } finally {
+                    event.finish(authentication.getName(), destination, allowed);
+                }
             }
         }
 
         return message;
     }
 
-    private void validateSubscription(String destination, Authentication authentication) {
-        User user = (User) authentication.getPrincipal();
-
-        log.debug("User {} ({}) subscribing to {}",
-                user.getPhoneNumber(), user.getRole(), destination);
+    private void validateSubscription(String destination, AuthenticatedUser user) {
+        log.debug("User {} ({}) subscribing to {}", user.getUserId(), user.getRole(), destination);
 
         Matcher restaurantMatcher = RESTAURANT_PATTERN.matcher(destination);
         if (restaurantMatcher.matches()) {
-            Long restaurantId = Long.parseLong(restaurantMatcher.group(1));
+            long restaurantId = Long.parseLong(restaurantMatcher.group(1));
             validateRestaurantAccess(user, restaurantId);
             return;
         }
 
         Matcher orderMatcher = ORDER_PATTERN.matcher(destination);
         if (orderMatcher.matches()) {
-            Long orderId = Long.parseLong(orderMatcher.group(1));
+            long orderId = Long.parseLong(orderMatcher.group(1));
             validateOrderAccess(user, orderId);
             return;
         }
@@ -74,14 +81,13 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
         log.warn("Unknown destination pattern: {}", destination);
     }
 
-    private void validateRestaurantAccess(User user, Long restaurantId) {
-        if (user.getRole() == UserRole.ADMIN) {
+    private void validateRestaurantAccess(AuthenticatedUser user, long restaurantId) {
+        if (user.isAdmin()) {
             return;
         }
 
         if (user.getRole() == UserRole.RESTAURANT_OWNER) {
-            boolean isOwner = restaurantRepository.existsByIdAndOwnerId(restaurantId, user.getId());
-            if (!isOwner) {
+            if (!user.ownsRestaurant(restaurantId)) {
                 throw new SecurityException(
                         "Access denied: You are not the owner of restaurant " + restaurantId
                 );
@@ -89,10 +95,7 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
             return;
         }
 
-        boolean isEmployee = restaurantEmployeeRepository.existsByRestaurantIdAndUserId(
-                restaurantId, user.getId()
-        );
-        if (isEmployee) {
+        if (user.worksAt(restaurantId)) {
             return;
         }
 
@@ -101,13 +104,13 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
         );
     }
 
-    private void validateOrderAccess(User user, Long orderId) {
-        if (user.getRole() == UserRole.ADMIN) {
+    private void validateOrderAccess(AuthenticatedUser user, long orderId) {
+        if (user.isAdmin()) {
             return;
         }
 
         if (user.getRole() == UserRole.CLIENT) {
-            boolean isOwnOrder = orderRepository.existsByIdAndUserId(orderId, user.getId());
+            boolean isOwnOrder = orderRepository.existsByIdAndUserId(orderId, user.getUserId());
             if (!isOwnOrder) {
                 throw new SecurityException(
                         "Access denied: This is not your order"
@@ -116,27 +119,27 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
             return;
         }
 
-        if (user.getRole() == UserRole.RESTAURANT_OWNER) {
-            boolean isRestaurantOrder = orderRepository.existsByIdAndRestaurantOwnerId(
-                    orderId, user.getId()
-            );
-            if (!isRestaurantOrder) {
+        if (user.getRole() == UserRole.RIDER) {
+            if (!riderAssignments.isAssignedRider(orderId, user.getUserId())) {
                 throw new SecurityException(
-                        "Access denied: This order is not for your restaurant"
+                        "Access denied: This order is not assigned to you"
                 );
             }
             return;
         }
 
-        if (user.getRole() == UserRole.RIDER) {
+        Long restaurantId = orderRepository.findRestaurantIdByOrderId(orderId).orElse(null);
+
+        if (user.getRole() == UserRole.RESTAURANT_OWNER) {
+            if (restaurantId == null || !user.ownsRestaurant(restaurantId)) {
+                throw new SecurityException(
+                        "Access denied: This order is not for your restaurant"
+                );
+            }
             return;
         }
 
-        boolean isRestaurantEmployee = orderRepository.findRestaurantIdByOrderId(orderId)
-                .map(restaurantId -> restaurantEmployeeRepository.existsByRestaurantIdAndUserId(
-                        restaurantId, user.getId()))
-                .orElse(false);
-        if (isRestaurantEmployee) {
+        if (restaurantId != null && user.worksAt(restaurantId)) {
             return;
         }
 
@@ -1,22 +1,28 @@
 package com.utown.security.jwt;
 
+import com.utown.jfr.JwtVerificationEvent;
 import com.utown.model.enums.TokenType;
+import com.utown.model.enums.UserRole;
+import com.utown.security.AuthenticatedUser;
+import com.utown.security.OwnershipIndex;
+import com.utown.security.revocation.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @Component
 @RequiredArgsConstructor
@@ -24,7 +30,14 @@ import java.util.Collections;
 public class JwtAuthenticationFilter  extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final OwnershipIndex ownershipIndex;
 
+    /**
+     * Keeps the authentication on the request, so the ASYNC dispatch of a streamed response (which this
+     * filter skips) is authorized with it again.
+     */
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -32,16 +45,21 @@ public class JwtAuthenticationFilter  extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
+        JwtVerificationEvent verification = null;
         try {
             String jwt = getJwtFromRequest(request);
+            if (StringUtils.hasText(jwt)) {
+                verification = JwtVerificationEvent.start();
+            }
 
             if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
 
-                TokenType tokenType = jwtTokenProvider.getTokenType(jwt);
+                Claims claims = jwtTokenProvider.getClaims(jwt);
 
-                if (tokenType == TokenType.REFRESH) {
+                if (TokenType.REFRESH.name().equals(claims.get("tokenType", String.class))) {
                     log.warn("Attempt to use REFRESH token for API access. Token: {}",
                             jwt.substring(0, Math.min(jwt.length(), 20)) + "...");
+                    verification.finish(null, JwtVerificationEvent.REFRESH_TOKEN);
 
                     response.setStatus(HttpServletResponse.SC_FORBIDDEN);
                     response.setContentType("application/json");
@@ -51,32 +69,53 @@ public class JwtAuthenticationFilter  extends OncePerRequestFilter {
                     return;
                 }
 
-                Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                String role = jwtTokenProvider.getRoleFromToken(jwt);
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userId,
-                                null,
-                                Collections.singleton(new SimpleGrantedAuthority("ROLE_" + role)
-                                )
-                        );
+                Long userId = Long.parseLong(claims.getSubject());
 
-                authentication.setDetails(
-                        new WebAuthenticationDetails(request)
-                );
+                if (tokenRevocationService.isRevoked(userId, claims.getId(), claims.getIssuedAt())) {
+                    // Left unauthenticated; the single doFilter below runs the rest of the chain
+                    log.debug("Rejected revoked access token for user ID: {}", userId);
+                    verification.finish(userId, JwtVerificationEvent.REVOKED);
+                    verification = null;
+                } else {
+                    authenticate(request, response, userId, claims);
+                    verification.finish(userId, JwtVerificationEvent.AUTHENTICATED);
+                    verification = null;
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                log.debug("Set authentication for user ID: {}", userId);
+                    log.debug("Set authentication for user ID: {}", userId);
+                }
             }
     } catch (Exception e) {
         log.error("Could not set user authentication in security context", e);
         }
+        if (verification != null) {
+            verification.finish(null, JwtVerificationEvent.INVALID);
+        }
 
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(HttpServletRequest request, HttpServletResponse response, Long userId, Claims claims) {
+        AuthenticatedUser user = new AuthenticatedUser(
+                userId,
+                UserRole.valueOf(claims.get("role", String.class)),
+                claims.getId(),
+                claims.getIssuedAt(),
+                claims.getExpiration(),
+                ownershipIndex
+        );
+
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(user);
+
+        authentication.setDetails(
+                new WebAuthenticationDetails(request)
+        );
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
 
@@ -0,0 +1,37 @@
+package com.utown.security.jwt;
+
+import com.utown.security.AuthenticatedUser;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Authentication set by {@link JwtAuthenticationFilter}. The principal stays the user id, which the
+ * controllers, {@code @PreAuthorize} expressions and STOMP user destinations rely on; the full
+ * {@link AuthenticatedUser} is available through {@link #getUser()}.
+ */
+public class JwtAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final AuthenticatedUser user;
+
+    public JwtAuthenticationToken(AuthenticatedUser user) {
+        super(List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+        this.user = user;
+        setAuthenticated(true);
+    }
+
+    public AuthenticatedUser getUser() {
+        return user;
+    }
+
+    @Override
+    public Long getPrincipal() {
+        return user.getUserId();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+}
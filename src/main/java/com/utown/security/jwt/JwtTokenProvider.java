@@ -38,6 +38,7 @@ public class JwtTokenProvider {
                 .setSubject(String.valueOf(userId))
                 .claim("role", role)
                 .claim("tokenType", TokenType.ACCESS.toString())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(secretKey)
@@ -74,7 +75,7 @@ public class JwtTokenProvider {
         return claims.get("role", String.class);
     }
 
-    private Claims getClaims(String token) {
+    public Claims getClaims(String token) {
         return Jwts.parser()
                 .verifyWith(secretKey)
                 .build()
@@ -0,0 +1,118 @@
+package com.utown.security.jwt;
+
+import com.utown.exception.UnauthorizedException;
+import com.utown.jfr.JwtVerificationEvent;
+import com.utown.model.enums.TokenType;
+import com.utown.model.enums.UserRole;
+import com.utown.security.AuthenticatedUser;
+import com.utown.security.OwnershipIndex;
+import com.utown.security.revocation.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Authenticates STOMP sessions from the access token in the CONNECT frame's {@code Authorization}
+ * header (SockJS handshakes carry no headers). The token is verified once; the resulting
+ * {@link JwtAuthenticationToken}, with the user's restaurants already loaded, is cached on the session
+ * by the STOMP handler and attached to every later frame. Later frames are only checked against the
+ * token's expiry and the in-memory revocation state; a failed check answers with an ERROR frame, which
+ * closes the session.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final OwnershipIndex ownershipIndex;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            accessor.setUser(authenticate(accessor));
+        } else if (!StompCommand.DISCONNECT.equals(accessor.getCommand())
+                && accessor.getUser() instanceof JwtAuthenticationToken authentication) {
+            AuthenticatedUser user = authentication.getUser();
+            if (user.isExpired(System.currentTimeMillis())) {
+                throw new UnauthorizedException("Access token expired");
+            }
+            if (tokenRevocationService.isRevoked(user)) {
+                throw new UnauthorizedException("Access token revoked");
+            }
+        }
+        return message;
+    }
+
+    private JwtAuthenticationToken authenticate(StompHeaderAccessor accessor) {
+        String jwt = tokenOf(accessor);
+        if (jwt == null) {
+            // a native WebSocket client may have sent the token with the handshake instead
+            if (accessor.getUser() instanceof JwtAuthenticationToken handshake) {
+                handshake.getUser().loadRestaurants();
+                return handshake;
+            }
+            throw new UnauthorizedException("Access token required");
+        }
+
+        JwtVerificationEvent verification = JwtVerificationEvent.start();
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.getClaims(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            verification.finish(null, JwtVerificationEvent.INVALID);
+            log.debug("Rejected STOMP CONNECT with invalid token: {}", e.getMessage());
+            throw new UnauthorizedException("Invalid access token");
+        }
+
+        if (TokenType.REFRESH.name().equals(claims.get("tokenType", String.class))) {
+            verification.finish(null, JwtVerificationEvent.REFRESH_TOKEN);
+            throw new UnauthorizedException("Refresh token cannot be used for WebSocket access");
+        }
+
+        Long userId = Long.parseLong(claims.getSubject());
+        if (tokenRevocationService.isRevoked(userId, claims.getId(), claims.getIssuedAt())) {
+            verification.finish(userId, JwtVerificationEvent.REVOKED);
+            throw new UnauthorizedException("Access token revoked");
+        }
+
+        AuthenticatedUser user = new AuthenticatedUser(
+                userId,
+                UserRole.valueOf(claims.get("role", String.class)),
+                claims.getId(),
+                claims.getIssuedAt(),
+                claims.getExpiration(),
+                ownershipIndex
+        );
+        user.loadRestaurants();
+        verification.finish(userId, JwtVerificationEvent.AUTHENTICATED);
+
+        log.debug("STOMP session {} authenticated for user ID: {}", accessor.getSessionId(), userId);
+        return new JwtAuthenticationToken(user);
+    }
+
+    private static String tokenOf(StompHeaderAccessor accessor) {
+        String header = accessor.getFirstNativeHeader("Authorization");
+        if (StringUtils.hasText(header) && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+}
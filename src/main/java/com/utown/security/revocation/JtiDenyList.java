@@ -0,0 +1,70 @@
+package com.utown.security.revocation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revoked access-token ids until their expiry. Every authenticated request asks {@link #contains}; almost
+ * all of them are answered by the Bloom filter alone. A filter hit is confirmed against the exact
+ * {@code jti -> expiry} map, so a false positive costs one map lookup and never rejects a valid token.
+ * <p>
+ * The filter cannot forget entries, so the list is rebuilt from the live entries periodically,
+ * which drops expired ids and re-sizes the filter.
+ */
+final class JtiDenyList {
+
+    private final BloomFilter filter;
+    private final Map<String, Long> expiries;
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    JtiDenyList(int expectedInsertions, double falsePositiveRate) {
+        this(new BloomFilter(expectedInsertions, falsePositiveRate));
+    }
+
+    JtiDenyList(BloomFilter filter) {
+        this.filter = filter;
+        this.expiries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param expiresAtMillis when the token expires on its own; the entry is useless afterwards
+     */
+    void add(String jti, long expiresAtMillis) {
+        // exact map first: a filter hit must always find its entry
+        expiries.merge(jti, expiresAtMillis, Math::max);
+        filter.put(jti);
+    }
+
+    boolean contains(String jti) {
+        if (!filter.mightContain(jti)) {
+            return false;
+        }
+        if (expiries.containsKey(jti)) {
+            return true;
+        }
+        falsePositives.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * A new list holding this list's entries that are still live at {@code nowMillis}.
+     */
+    JtiDenyList rebuild(long nowMillis, int minExpectedInsertions, double falsePositiveRate) {
+        JtiDenyList rebuilt = new JtiDenyList(Math.max(minExpectedInsertions, expiries.size() * 2), falsePositiveRate);
+        expiries.forEach((jti, expiresAt) -> {
+            if (expiresAt > nowMillis) {
+                rebuilt.add(jti, expiresAt);
+            }
+        });
+        return rebuilt;
+    }
+
+    int size() {
+        return expiries.size();
+    }
+
+    long falsePositives() {
+        return falsePositives.get();
+    }
+}
@@ -0,0 +1,83 @@
+package com.utown.security.revocation;
+
+import java.util.Arrays;
+
+/**
+ * Immutable {@code userId -> not-before} map over two sorted primitive arrays. Lookups are a lock-free
+ * binary search on a snapshot; changes copy the arrays, which is fine because revocations are rare and
+ * only users revoked within the last access-token lifetime are kept.
+ */
+final class NotBeforeMap {
+
+    static final NotBeforeMap EMPTY = new NotBeforeMap(new long[0], new long[0]);
+
+    private final long[] userIds;
+    private final long[] notBefore;
+
+    private NotBeforeMap(long[] userIds, long[] notBefore) {
+        this.userIds = userIds;
+        this.notBefore = notBefore;
+    }
+
+    /**
+     * @return the not-before epoch second for {@code userId}, or {@code 0} when the user was not revoked
+     */
+    long get(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        return index >= 0 ? notBefore[index] : 0L;
+    }
+
+    /**
+     * A copy with {@code userId} revoked up to {@code epochSecond}; an existing later timestamp wins.
+     */
+    NotBeforeMap with(long userId, long epochSecond) {
+        int index = Arrays.binarySearch(userIds, userId);
+        if (index >= 0) {
+            if (notBefore[index] >= epochSecond) {
+                return this;
+            }
+            long[] updated = notBefore.clone();
+            updated[index] = epochSecond;
+            return new NotBeforeMap(userIds, updated);
+        }
+
+        int insertAt = -index - 1;
+        long[] ids = new long[userIds.length + 1];
+        long[] values = new long[userIds.length + 1];
+        System.arraycopy(userIds, 0, ids, 0, insertAt);
+        System.arraycopy(notBefore, 0, values, 0, insertAt);
+        ids[insertAt] = userId;
+        values[insertAt] = epochSecond;
+        System.arraycopy(userIds, insertAt, ids, insertAt + 1, userIds.length - insertAt);
+        System.arraycopy(notBefore, insertAt, values, insertAt + 1, userIds.length - insertAt);
+        return new NotBeforeMap(ids, values);
+    }
+
+    /**
+     * A copy without entries older than {@code minEpochSecond}: every token issued before then has expired.
+     */
+    NotBeforeMap retainFrom(long minEpochSecond) {
+        int kept = 0;
+        for (long value : notBefore) {
+            if (value >= minEpochSecond) {
+                kept++;
+            }
+        }
+        if (kept == userIds.length) {
+            return this;
+        }
+        long[] ids = new long[kept];
+        long[] values = new long[kept];
+        for (int i = 0, j = 0; i < userIds.length; i++) {
+            if (notBefore[i] >= minEpochSecond) {
+                ids[j] = userIds[i];
+                values[j++] = notBefore[i];
+            }
+        }
+        return new NotBeforeMap(ids, values);
+    }
+
+    int size() {
+        return userIds.length;
+    }
+}
@@ -0,0 +1,190 @@
+package com.utown.security.revocation;
+
+import com.utown.config.Jwtproperties;
+import com.utown.model.entity.RevokedAccessToken;
+import com.utown.repository.RevokedAccessTokenRepository;
+import com.utown.repository.UserRepository;
+import com.utown.security.AuthenticatedUser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Revokes access tokens before they expire, checked by {@code JwtAuthenticationFilter} on every request
+ * without any I/O:
+ * <ul>
+ *     <li>per user, a not-before epoch second: tokens issued earlier are rejected (logout, password change,
+ *     deactivation);</li>
+ *     <li>per token, a {@link JtiDenyList} of revoked {@code jti}s until they expire. JWT {@code iat} has
+ *     one-second resolution, so logout also denies the presented token itself.</li>
+ * </ul>
+ * Revocations are written to the database and applied locally once the transaction commits. The in-memory
+ * state is loaded in the background when the application is ready, or by the first check that gets there
+ * earlier, so no query runs while the context is refreshing. It is re-synced periodically, which also
+ * picks up revocations made on other nodes and drops entries older than the access-token lifetime.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final UserRepository userRepository;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final long accessTokenLifetimeSeconds;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile NotBeforeMap notBefore = NotBeforeMap.EMPTY;
+    private volatile JtiDenyList deniedTokens;
+    private volatile boolean loaded;
+    private final Object loadLock = new Object();
+
+    public TokenRevocationService(
+            UserRepository userRepository,
+            RevokedAccessTokenRepository revokedAccessTokenRepository,
+            Jwtproperties jwtproperties,
+            @Value("${auth.revocation.expected-revocations:10000}") int expectedRevocations,
+            @Value("${auth.revocation.false-positive-rate:0.001}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.accessTokenLifetimeSeconds = Math.max(1, jwtproperties.getAccessTokenExpiration() / 1000);
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.deniedTokens = new JtiDenyList(expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * @param issuedAt the token's {@code iat}; tokens without one are only checked against the deny list
+     */
+    public boolean isRevoked(long userId, String jti, Date issuedAt) {
+        if (!loaded) {
+            ensureLoaded();
+        }
+        if (issuedAt != null && issuedAt.getTime() / 1000 < notBefore.get(userId)) {
+            return true;
+        }
+        return jti != null && deniedTokens.contains(jti);
+    }
+
+    public boolean isRevoked(AuthenticatedUser user) {
+        return isRevoked(user.getUserId(), user.getTokenId(), user.getIssuedAt());
+    }
+
+    /**
+     * Rejects every access token of the user issued before the current second.
+     */
+    @Transactional
+    public void revokeUser(Long userId) {
+        long epochSecond = Instant.now().getEpochSecond();
+        userRepository.updateTokensNotBefore(userId, epochSecond);
+        afterCommit(() -> applyNotBefore(userId, epochSecond));
+        log.info("Access tokens revoked for userId={}", userId);
+    }
+
+    @Transactional
+    public void revokeToken(String jti, Long userId, Date expiresAt) {
+        if (jti == null || expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                .jti(jti)
+                .userId(userId)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZONE))
+                .build());
+        afterCommit(() -> applyDenied(jti, expiresAt.getTime()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread.ofVirtual().name("token-revocation-load").start(() -> {
+            try {
+                ensureLoaded();
+            } catch (Exception e) {
+                log.error("Token revocation state load failed, retrying on the next check", e);
+            }
+        });
+    }
+
+    private void ensureLoaded() {
+        synchronized (loadLock) {
+            if (loaded) {
+                return;
+            }
+            sync();
+            log.info("Token revocation state loaded: {} users with not-before, {} denied tokens",
+                    notBefore.size(), deniedTokens.size());
+        }
+    }
+
+    /**
+     * Merges the database state into memory, drops entries that can no longer match a live token and
+     * rebuilds the Bloom filter at a size that keeps its false-positive rate.
+     */
+    @Scheduled(
+            fixedDelayString = "${auth.revocation.sync-interval-ms:30000}",
+            initialDelayString = "${auth.revocation.sync-interval-ms:30000}"
+    )
+    public void sync() {
+        long nowMillis = System.currentTimeMillis();
+        long oldestRelevant = nowMillis / 1000 - accessTokenLifetimeSeconds;
+
+        List<Object[]> users = userRepository.findTokensNotBeforeSince(oldestRelevant);
+        List<Object[]> tokens = revokedAccessTokenRepository.findLive(LocalDateTime.now());
+
+        synchronized (this) {
+            NotBeforeMap merged = notBefore.retainFrom(oldestRelevant);
+            for (Object[] row : users) {
+                merged = merged.with((Long) row[0], (Long) row[1]);
+            }
+            notBefore = merged;
+
+            JtiDenyList rebuilt = deniedTokens.rebuild(nowMillis, expectedRevocations, falsePositiveRate);
+            for (Object[] row : tokens) {
+                rebuilt.add((String) row[0], ((LocalDateTime) row[1]).atZone(ZONE).toInstant().toEpochMilli());
+            }
+            deniedTokens = rebuilt;
+        }
+
+        loaded = true;
+
+        revokedAccessTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    // a rolled-back revocation has no row for sync to find, so it must never reach memory
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // local changes hold the same lock as sync, so a rebuild in progress cannot drop them
+
+    private synchronized void applyNotBefore(long userId, long epochSecond) {
+        notBefore = notBefore.with(userId, epochSecond);
+    }
+
+    private synchronized void applyDenied(String jti, long expiresAtMillis) {
+        deniedTokens.add(jti, expiresAtMillis);
+    }
+}
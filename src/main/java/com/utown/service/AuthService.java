@@ -1,33 +1,63 @@
 package com.utown.service;
 
+import com.utown.event.UserRegisteredEvent;
 import com.utown.exception.BadRequestException;
 import com.utown.exception.UnauthorizedException;
 import com.utown.model.dto.auth.AuthResponse;
 import com.utown.model.dto.auth.LoginRequest;
 import com.utown.model.dto.auth.RegisterRequest;
-import com.utown.model.entity.RefreshToken;
 import com.utown.model.entity.User;
 import com.utown.model.enums.UserRole;
-import com.utown.repository.RefreshTokenRepository;
 import com.utown.repository.UserRepository;
+import com.utown.security.AuthenticatedUser;
 import com.utown.security.jwt.JwtTokenProvider;
-import lombok.RequiredArgsConstructor;
+import com.utown.security.revocation.TokenRevocationService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AuthService {
 
+    private static final String SELECT_CREDENTIALS =
+            "SELECT id, password_hash, is_active FROM users WHERE phone_number = ?";
+
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public AuthService(
+            UserRepository userRepository,
+            RefreshTokenService refreshTokenService,
+            TokenRevocationService tokenRevocationService,
+            PasswordEncoder passwordEncoder,
+            JwtTokenProvider jwtTokenProvider,
+            ApplicationEventPublisher eventPublisher,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userRepository = userRepository;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -48,15 +78,14 @@ public class AuthService {
 
         user = userRepository.save(user);
         log.info("User registered successfully: userId={}", user.getId());
+        eventPublisher.publishEvent(new UserRegisteredEvent(user.getId(), user.getRole()));
 
         String accessToken = jwtTokenProvider.generateAccessToken(
                 user.getId(),
                 user.getRole().name()
         );
 
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
-
-        saveRefreshToken(user, refreshToken);
+        String refreshToken = refreshTokenService.issue(user);
 
         return AuthResponse.builder()
                 .userId(user.getId())
@@ -68,65 +97,77 @@ public class AuthService {
                 .build();
     }
 
-    @Transactional
+    /**
+     * The password check waits in the hashing queue, so it runs without a database connection: the
+     * credentials are read through JDBC, which returns the connection at once (a JPA read would keep it
+     * on the request's open EntityManager), and the writes get a short transaction afterwards.
+     */
     public AuthResponse login(LoginRequest request) {
         log.info("User login attempt: {}", request.getPhoneNumber());
 
-        User user = userRepository.findByPhoneNumber(request.getPhoneNumber())
+        Credentials credentials = jdbcTemplate.query(SELECT_CREDENTIALS,
+                        (rs, rowNum) -> new Credentials(rs.getLong(1), rs.getString(2), rs.getBoolean(3)),
+                        request.getPhoneNumber())
+                .stream()
+                .findFirst()
                 .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordEncoder.matches(request.getPassword(), credentials.passwordHash())) {
             throw new UnauthorizedException("Invalid credentials");
         }
 
-        if (!user.getIsActive()) {
+        if (!credentials.active()) {
             throw new UnauthorizedException("Account is disabled");
         }
 
-        log.info("User logged in successfully: userId={}", user.getId());
+        // the raw password is only available here, so hashes from a lower cost are upgraded on login
+        String upgradedHash = passwordEncoder.upgradeEncoding(credentials.passwordHash())
+                ? passwordEncoder.encode(request.getPassword())
+                : null;
 
-        String accessToken = jwtTokenProvider.generateAccessToken(
-                user.getId(),
-                user.getRole().name()
-        );
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(credentials.userId())
+                    .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
 
-        refreshTokenRepository.deleteByUserId(user.getId());
+            if (upgradedHash != null) {
+                user.setPasswordHash(upgradedHash);
+                log.info("Password hash upgraded for userId={}", user.getId());
+            }
 
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
+            log.info("User logged in successfully: userId={}", user.getId());
 
-        saveRefreshToken(user, refreshToken);
+            String accessToken = jwtTokenProvider.generateAccessToken(
+                    user.getId(),
+                    user.getRole().name()
+            );
 
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+            refreshTokenService.revokeAll(user.getId());
 
-        return AuthResponse.builder()
-                .userId(user.getId())
-                .phoneNumber(user.getPhoneNumber())
-                .name(user.getName())
-                .role(user.getRole().name())
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
+            String refreshToken = refreshTokenService.issue(user);
+
+            user.setLastLoginAt(LocalDateTime.now());
+            userRepository.save(user);
+
+            return AuthResponse.builder()
+                    .userId(user.getId())
+                    .phoneNumber(user.getPhoneNumber())
+                    .name(user.getName())
+                    .role(user.getRole().name())
+                    .accessToken(accessToken)
+                    .refreshToken(refreshToken)
+                    .build();
+        });
     }
 
-    @Transactional
+    @Transactional(noRollbackFor = UnauthorizedException.class)
     public AuthResponse refresh(String refreshTokenString) {
         log.info("Refreshing access token");
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenString)
-                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
-
-        if (!refreshToken.getIsValid()) {
-            throw new UnauthorizedException("Refresh token has been invalidated");
-        }
-
-        if (refreshToken.isExpired()) {
-            throw new UnauthorizedException("Refresh token has expired");
-        }
-
-        User user = refreshToken.getUser();
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshTokenString);
+        User user = rotation.user();
 
         if (!user.getIsActive()) {
+            refreshTokenService.revokeAll(user.getId());
             throw new UnauthorizedException("Account is disabled");
         }
 
@@ -137,12 +178,7 @@ public class AuthService {
                 user.getRole().name()
         );
 
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
-
-        refreshToken.setIsValid(false);
-        refreshTokenRepository.save(refreshToken);
-
-        saveRefreshToken(user, newRefreshToken);
+        String newRefreshToken = rotation.refreshToken();
 
         return AuthResponse.builder()
                 .userId(user.getId())
@@ -155,28 +191,18 @@ public class AuthService {
     }
 
     @Transactional
-    public void logout(Long userId) {
+    public void logout(AuthenticatedUser currentUser) {
+        Long userId = currentUser.getUserId();
         log.info("User logout: userId={}", userId);
 
-        refreshTokenRepository.deleteByUserId(userId);
-
-        log.info("All refresh tokens invalidated for userId={}", userId);
-    }
-
-    private void saveRefreshToken(User user, String tokenString) {
-        long ttlMillis = jwtTokenProvider.getRefreshTokenExpiration();
-
-        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(ttlMillis * 1_000_000);
+        refreshTokenService.revokeAll(userId);
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(tokenString)
-                .expiresAt(expiresAt)
-                .isValid(true)
-                .build();
+        tokenRevocationService.revokeToken(currentUser.getTokenId(), userId, currentUser.getExpiresAt());
+        tokenRevocationService.revokeUser(userId);
 
-        refreshTokenRepository.save(refreshToken);
+        log.info("All refresh and access tokens invalidated for userId={}", userId);
+    }
 
-        log.debug("Refresh token saved: userId={}, expiresAt={}", user.getId(), expiresAt);
+    private record Credentials(long userId, String passwordHash, boolean active) {
     }
-}
\ No newline at end of file
+}
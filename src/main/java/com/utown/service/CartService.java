@@ -3,14 +3,15 @@ package com.utown.service;
 import com.utown.exception.BadRequestException;
 import com.utown.exception.ConflictException;
 import com.utown.exception.NotFoundException;
+import com.utown.kitchen.KitchenCapacityService;
 import com.utown.model.dto.cart.AddToCartRequest;
 import com.utown.model.dto.cart.CartDTO;
 import com.utown.model.dto.cart.UpdateCartItemRequest;
 import com.utown.model.entity.Cart;
 import com.utown.model.entity.CartItem;
 import com.utown.model.entity.MenuItem;
-import com.utown.model.entity.Restaurant;
 import com.utown.model.entity.User;
+import com.utown.model.entity.mapper.CartMapper;
 import com.utown.repository.CartItemRepository;
 import com.utown.repository.CartRepository;
 import com.utown.repository.MenuItemRepository;
@@ -20,10 +21,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.util.stream.Collectors;
-
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -33,16 +30,17 @@ public class CartService {
     private final CartItemRepository cartItemRepository;
     private final MenuItemRepository menuItemRepository;
     private final UserRepository userRepository;
+    private final KitchenCapacityService kitchenCapacityService;
 
     @Transactional(readOnly = true)
     public CartDTO getCart(Long userId) {
         Cart cart = cartRepository.findByUserId(userId).orElse(null);
 
         if (cart == null) {
-            return createEmptyCartDTO();
+            return CartMapper.emptyCart();
         }
 
-        return mapToDTO(cart);
+        return toDTO(cart);
     }
 
     @Transactional
@@ -96,7 +94,7 @@ public class CartService {
 
         log.info("Added item {} to cart for user {}", menuItem.getId(), userId);
 
-        return mapToDTO(cart);
+        return toDTO(cart);
     }
 
     @Transactional
@@ -120,7 +118,7 @@ public class CartService {
 
         log.info("Updated cart item {} quantity to {} for user {}", cartItemId, request.getQuantity(), userId);
 
-        return mapToDTO(cartItem.getCart());
+        return toDTO(cartItem.getCart());
     }
 
     @Transactional
@@ -139,12 +137,12 @@ public class CartService {
         if (cart.getItems().isEmpty()) {
             cartRepository.delete(cart);
             log.info("Deleted empty cart for user {}", userId);
-            return createEmptyCartDTO();
+            return CartMapper.emptyCart();
         }
 
         log.info("Removed cart item {} for user {}", cartItemId, userId);
 
-        return mapToDTO(cart);
+        return toDTO(cart);
     }
 
     @Transactional
@@ -157,78 +155,9 @@ public class CartService {
         }
     }
 
-    private CartDTO mapToDTO(Cart cart) {
-        if (cart == null) {
-            return createEmptyCartDTO();
-        }
-
-        Restaurant restaurant = cart.getRestaurant();
-
-        BigDecimal subtotal = cart.getItems().stream()
-                .map(CartItem::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal deliveryFee = restaurant.getDeliveryFee();
-        BigDecimal total = subtotal.add(deliveryFee);
-
-        int itemCount = cart.getItems().stream()
-                .mapToInt(CartItem::getQuantity)
-                .sum();
-
-        boolean meetsMinimum = subtotal.compareTo(restaurant.getMinOrderAmount()) >= 0;
-
-        return CartDTO.builder()
-                .id(cart.getId())
-                .userId(cart.getUser().getId())
-                .restaurant(CartDTO.RestaurantSummaryDTO.builder()
-                        .id(restaurant.getId())
-                        .name(restaurant.getName())
-                        .minOrderAmount(restaurant.getMinOrderAmount())
-                        .deliveryFee(restaurant.getDeliveryFee())
-                        .build())
-                .items(cart.getItems().stream()
-                        .map(this::mapCartItemToDTO)
-                        .collect(Collectors.toList()))
-                .summary(CartDTO.CartSummaryDTO.builder()
-                        .subtotal(subtotal)
-                        .deliveryFee(deliveryFee)
-                        .total(total)
-                        .itemCount(itemCount)
-                        .meetsMinimum(meetsMinimum)
-                        .build())
-                .createdAt(cart.getCreatedAt())
-                .updatedAt(cart.getUpdatedAt())
-                .build();
-    }
-
-    private CartDTO.CartItemDTO mapCartItemToDTO(CartItem item) {
-        MenuItem menuItem = item.getMenuItem();
-
-        return CartDTO.CartItemDTO.builder()
-                .id(item.getId())
-                .menuItem(CartDTO.CartItemDTO.MenuItemSummaryDTO.builder()
-                        .id(menuItem.getId())
-                        .name(menuItem.getName())
-                        .price(menuItem.getPrice())
-                        .imageUrl(menuItem.getImageUrl())
-                        .isAvailable(menuItem.getIsAvailable())
-                        .build())
-                .quantity(item.getQuantity())
-                .selectedOptions(item.getSelectedOptions())
-                .subtotal(item.getSubtotal())
-                .build();
-    }
-
-    private CartDTO createEmptyCartDTO() {
-        return CartDTO.builder()
-                .items(java.util.Collections.emptyList())
-                .summary(CartDTO.CartSummaryDTO.builder()
-                        .subtotal(BigDecimal.ZERO)
-                        .deliveryFee(BigDecimal.ZERO)
-                        .total(BigDecimal.ZERO)
-                        .itemCount(0)
-                        .meetsMinimum(false)
-                        .build())
-                .build();
+    private CartDTO toDTO(Cart cart) {
+        CartDTO dto = CartMapper.toDTO(cart);
+        dto.getRestaurant().setExpectedWaitMinutes(kitchenCapacityService.expectedWaitMinutes(cart.getRestaurant()));
+        return dto;
     }
 }
@@ -4,13 +4,13 @@ import com.utown.model.dto.restaurant.CategoryDTO;
 import com.utown.model.dto.restaurant.CreateCategoryRequest;
 import com.utown.model.entity.Category;
 import com.utown.repository.CategoryRepository;
+import com.utown.streaming.JsonStreamWriter;
+import com.utown.streaming.StreamFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +18,7 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final JsonStreamWriter jsonStreamWriter;
 
     @Transactional
     public CategoryDTO createCategory(CreateCategoryRequest request) {
@@ -33,12 +34,8 @@ public class CategoryService {
         return toDTO(saved);
     }
 
-    @Transactional(readOnly = true)
-    public List<CategoryDTO> getAllActiveCategories() {
-        List<Category> categories = categoryRepository.findByIsActiveTrueOrderByPriorityAsc();
-        return categories.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    public StreamingResponseBody streamActiveCategories(StreamFormat format) {
+        return jsonStreamWriter.values(format, categoryRepository::streamActiveCategoryDTOs);
     }
 
     private CategoryDTO toDTO(Category entity) {
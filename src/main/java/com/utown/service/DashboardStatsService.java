@@ -0,0 +1,216 @@
+package com.utown.service;
+
+import com.utown.event.OrderCreatedEvent;
+import com.utown.event.OrderStatusChangedEvent;
+import com.utown.event.RestaurantActiveChangedEvent;
+import com.utown.event.RestaurantCreatedEvent;
+import com.utown.event.UserRegisteredEvent;
+import com.utown.model.dto.admin.DashboardStatsDTO;
+import com.utown.model.enums.OrderStatus;
+import com.utown.repository.OrderRepository;
+import com.utown.repository.RestaurantRepository;
+import com.utown.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admin dashboard counters. Seeded from the database once the application is ready, kept current
+ * by domain events after commit, and reconciled periodically to correct any drift
+ * (deleted users, direct SQL changes, events lost on restart).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStatsService {
+
+    private final UserRepository userRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final OrderRepository orderRepository;
+
+    private final LongAdder totalUsers = new LongAdder();
+    private final LongAdder totalRestaurants = new LongAdder();
+    private final LongAdder activeRestaurants = new LongAdder();
+    private final Map<OrderStatus, LongAdder> ordersByStatus = newStatusCounters();
+    private final LongAdder gmvTodayCents = new LongAdder();
+
+    private volatile LocalDate gmvDay = LocalDate.now();
+    private volatile LocalDateTime reconciledAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+        log.info("Dashboard counters seeded: users={}, restaurants={}, orders={}",
+                totalUsers.sum(), totalRestaurants.sum(), totalOrders());
+    }
+
+    @Scheduled(
+            initialDelayString = "${stats.reconcile-interval-ms:300000}",
+            fixedDelayString = "${stats.reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        rollOver(today);
+
+        long usersBefore = totalUsers.sum();
+        long users = userRepository.count();
+        long restaurantsBefore = totalRestaurants.sum();
+        long restaurants = restaurantRepository.count();
+        long activeBefore = activeRestaurants.sum();
+        long active = restaurantRepository.countByIsActiveTrue();
+
+        Map<OrderStatus, Long> statusBefore = new EnumMap<>(OrderStatus.class);
+        for (Map.Entry<OrderStatus, LongAdder> entry : ordersByStatus.entrySet()) {
+            statusBefore.put(entry.getKey(), entry.getValue().sum());
+        }
+        Map<OrderStatus, Long> statusCounts = new EnumMap<>(OrderStatus.class);
+        for (Object[] row : orderRepository.countGroupedByStatus()) {
+            statusCounts.put((OrderStatus) row[0], (Long) row[1]);
+        }
+
+        long gmvBefore = gmvTodayCents.sum();
+        long gmvCents = toCents(orderRepository.sumTotalAmountSince(today.atStartOfDay()));
+
+        long drift = correct(totalUsers, usersBefore, users)
+                + correct(totalRestaurants, restaurantsBefore, restaurants)
+                + correct(activeRestaurants, activeBefore, active);
+        for (Map.Entry<OrderStatus, LongAdder> entry : ordersByStatus.entrySet()) {
+            drift += correct(entry.getValue(), statusBefore.get(entry.getKey()),
+                    statusCounts.getOrDefault(entry.getKey(), 0L));
+        }
+        drift += correct(gmvTodayCents, gmvBefore, gmvCents);
+
+        reconciledAt = LocalDateTime.now();
+
+        if (drift != 0) {
+            log.info("Dashboard counters reconciled, corrected drift of {}", drift);
+        } else {
+            log.debug("Dashboard counters reconciled, no drift");
+        }
+    }
+
+    public DashboardStatsDTO snapshot() {
+        rollOver(LocalDate.now());
+
+        Map<OrderStatus, Long> byStatus = new EnumMap<>(OrderStatus.class);
+        long orders = 0;
+        for (Map.Entry<OrderStatus, LongAdder> entry : ordersByStatus.entrySet()) {
+            long count = entry.getValue().sum();
+            byStatus.put(entry.getKey(), count);
+            orders += count;
+        }
+
+        return new DashboardStatsDTO(
+                totalUsers.sum(),
+                totalRestaurants.sum(),
+                activeRestaurants.sum(),
+                orders,
+                byStatus,
+                BigDecimal.valueOf(gmvTodayCents.sum(), 2),
+                reconciledAt
+        );
+    }
+
+    @TransactionalEventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        totalUsers.increment();
+    }
+
+    @TransactionalEventListener
+    public void onRestaurantCreated(RestaurantCreatedEvent event) {
+        totalRestaurants.increment();
+        if (event.active()) {
+            activeRestaurants.increment();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onRestaurantActiveChanged(RestaurantActiveChangedEvent event) {
+        if (event.active()) {
+            activeRestaurants.increment();
+        } else {
+            activeRestaurants.decrement();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        ordersByStatus.get(OrderStatus.PENDING).increment();
+        addToGmv(event.createdAt(), toCents(event.totalAmount()));
+    }
+
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        ordersByStatus.get(event.previousStatus()).decrement();
+        ordersByStatus.get(event.newStatus()).increment();
+
+        if (event.newStatus() == OrderStatus.CANCELLED) {
+            addToGmv(event.createdAt(), -toCents(event.totalAmount()));
+        }
+    }
+
+    private long totalOrders() {
+        long orders = 0;
+        for (LongAdder counter : ordersByStatus.values()) {
+            orders += counter.sum();
+        }
+        return orders;
+    }
+
+    private void addToGmv(LocalDateTime orderCreatedAt, long cents) {
+        LocalDate today = LocalDate.now();
+        if (orderCreatedAt == null || !orderCreatedAt.toLocalDate().equals(today)) {
+            return;
+        }
+        rollOver(today);
+        gmvTodayCents.add(cents);
+    }
+
+    private void rollOver(LocalDate today) {
+        if (today.equals(gmvDay)) {
+            return;
+        }
+        synchronized (gmvTodayCents) {
+            if (!today.equals(gmvDay)) {
+                gmvTodayCents.reset();
+                gmvDay = today;
+            }
+        }
+    }
+
+    /**
+     * Adds the difference between {@code expected} and the counter as it was read just before the query.
+     * Increments that land after that read stay on top of the correction instead of being cancelled by it;
+     * one whose transaction committed just before the query is counted twice until the next reconcile.
+     */
+    private static long correct(LongAdder counter, long before, long expected) {
+        long delta = expected - before;
+        if (delta != 0) {
+            counter.add(delta);
+        }
+        return Math.abs(delta);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).longValue();
+    }
+
+    private static Map<OrderStatus, LongAdder> newStatusCounters() {
+        Map<OrderStatus, LongAdder> counters = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+        return counters;
+    }
+}
@@ -2,6 +2,8 @@ package com.utown.service;
 
 import com.utown.exception.ForbiddenException;
 import com.utown.exception.NotFoundException;
+import com.utown.hours.OpeningHoursService;
+import com.utown.kitchen.KitchenCapacityService;
 import com.utown.model.dto.restaurant.CreateMenuItemRequest;
 import com.utown.model.dto.restaurant.CreateMenuItemOptionRequest;
 import com.utown.model.dto.restaurant.MenuItemDTO;
@@ -10,22 +12,23 @@ import com.utown.model.dto.restaurant.UpdateMenuItemRequest;
 import com.utown.model.entity.MenuItem;
 import com.utown.model.entity.MenuItemOption;
 import com.utown.model.entity.Restaurant;
-import com.utown.model.entity.User;
 import com.utown.model.entity.mapper.MenuItemMapper;
 import com.utown.model.enums.OptionType;
 import com.utown.repository.MenuItemRepository;
 import com.utown.repository.RestaurantRepository;
-import com.utown.repository.UserRepository;
+import com.utown.security.AuthenticatedUser;
+import com.utown.streaming.JsonStreamWriter;
+import com.utown.streaming.StreamFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,7 +37,9 @@ public class MenuItemService {
 
     private final MenuItemRepository menuItemRepository;
     private final RestaurantRepository restaurantRepository;
-    private final UserRepository userRepository;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final OpeningHoursService openingHoursService;
+    private final KitchenCapacityService kitchenCapacityService;
 
     @Transactional
     public RestaurantMenuDTO getRestaurantMenu(Long restaurantId, String categoryName, boolean isAvailable) {
@@ -50,34 +55,34 @@ public class MenuItemService {
                 isAvailable
         );
 
-        Map<String, List<MenuItemDTO>> menuByCategory = menuItems.stream()
-                .map(MenuItemMapper::toDTO)
-                .collect(Collectors.groupingBy(
-                       item -> item.getCategoryName() != null ? item.getCategoryName() : "Order",
-                        LinkedHashMap::new,
-                        Collectors.toList()
-                ));
+        Map<String, List<MenuItemDTO>> menuByCategory = new LinkedHashMap<>();
+        for (MenuItem menuItem : menuItems) {
+            String category = menuItem.getCategoryName() != null ? menuItem.getCategoryName() : "Order";
+            menuByCategory.computeIfAbsent(category, key -> new ArrayList<>())
+                    .add(MenuItemMapper.toDTO(menuItem));
+        }
 
         return RestaurantMenuDTO.builder()
                 .restaurantId(restaurant.getId())
                 .restaurantName(restaurant.getName())
-                .isOpen(restaurant.getIsOpen())
+                .isOpen(openingHoursService.isOpenNow(restaurant))
+                .expectedWaitMinutes(kitchenCapacityService.expectedWaitMinutes(restaurant))
                 .menuByCategory(menuByCategory)
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public List<MenuItemDTO> getRestaurantMenuItems(Long restaurantId) {
-        log.debug("Getting all menu items for restaurant: {}", restaurantId);
+    public StreamingResponseBody streamRestaurantMenuItems(Long restaurantId, StreamFormat format) {
+        log.debug("Streaming all menu items for restaurant: {}", restaurantId);
 
         if (!restaurantRepository.existsById(restaurantId)) {
             throw new NotFoundException("Restaurant not found with id: " + restaurantId);
         }
 
-        List<MenuItem> menuItems = menuItemRepository
-                .findByRestaurantIdOrderBySortOrderAscCreatedAtDesc(restaurantId);
-
-        return MenuItemMapper.toDTOList(menuItems);
+        return jsonStreamWriter.entities(
+                format,
+                () -> menuItemRepository.streamByRestaurantId(restaurantId),
+                MenuItemMapper::toDTO
+        );
     }
 
     @Transactional(readOnly = true)
@@ -91,21 +96,15 @@ public class MenuItemService {
     }
 
     @Transactional
-    public MenuItemDTO createMenuItem(CreateMenuItemRequest request, Long currentUserId) {
+    public MenuItemDTO createMenuItem(CreateMenuItemRequest request, AuthenticatedUser currentUser) {
         log.info("Creating menu item: restaurantId={}, name={}, userId={}",
-                request.getRestaurantId(), request.getName(), currentUserId);
+                request.getRestaurantId(), request.getName(), currentUser.getUserId());
 
         Restaurant restaurant = restaurantRepository.findById(request.getRestaurantId())
                 .orElseThrow(() -> new NotFoundException("Restaurant not found"));
 
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new NotFoundException("User not found"));
-
-        boolean isOwner = restaurant.getOwner().getId().equals(currentUserId);
-        boolean isAdmin = currentUser.getRole().name().equals("ADMIN");
-
-        if (!isOwner && !isAdmin) {
-            log.warn("User {} is not owner or admin of restaurant {}", currentUserId, restaurant.getId());
+        if (!currentUser.canManageRestaurant(request.getRestaurantId())) {
+            log.warn("User {} is not owner or admin of restaurant {}", currentUser.getUserId(), request.getRestaurantId());
             throw new ForbiddenException("You don't have permission to add menu items to this restaurant");
         }
 
@@ -142,22 +141,16 @@ public class MenuItemService {
     }
 
     @Transactional
-    public MenuItemDTO updateMenuItem(Long id, UpdateMenuItemRequest request, Long currentUserId) {
-        log.info("Updating menu item: id={}, userId={}", id, currentUserId);
+    public MenuItemDTO updateMenuItem(Long id, UpdateMenuItemRequest request, AuthenticatedUser currentUser) {
+        log.info("Updating menu item: id={}, userId={}", id, currentUser.getUserId());
 
         MenuItem menuItem = menuItemRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Menu item not found"));
 
-        Restaurant restaurant = menuItem.getRestaurant();
-
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new NotFoundException("User not found"));
-
-        boolean isOwner = restaurant.getOwner().getId().equals(currentUserId);
-        boolean isAdmin = currentUser.getRole().name().equals("ADMIN");
+        Long restaurantId = menuItem.getRestaurant().getId();
 
-        if (!isOwner && !isAdmin) {
-            log.warn("User {} is not owner or admin of restaurant {}", currentUserId, restaurant.getId());
+        if (!currentUser.canManageRestaurant(restaurantId)) {
+            log.warn("User {} is not owner or admin of restaurant {}", currentUser.getUserId(), restaurantId);
             throw new ForbiddenException("You don't have permission to update this menu item");
         }
 
@@ -209,22 +202,16 @@ public class MenuItemService {
     }
 
     @Transactional
-    public void deleteMenuItem(Long id, Long currentUserId) {
-        log.info("Deleting menu item: id={}, userId={}", id, currentUserId);
+    public void deleteMenuItem(Long id, AuthenticatedUser currentUser) {
+        log.info("Deleting menu item: id={}, userId={}", id, currentUser.getUserId());
 
         MenuItem menuItem = menuItemRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Menu item not found"));
 
-        Restaurant restaurant = menuItem.getRestaurant();
-
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new NotFoundException("User not found"));
-
-        boolean isOwner = restaurant.getOwner().getId().equals(currentUserId);
-        boolean isAdmin = currentUser.getRole().name().equals("ADMIN");
+        Long restaurantId = menuItem.getRestaurant().getId();
 
-        if (!isOwner && !isAdmin) {
-            log.warn("User {} is not owner or admin of restaurant {}", currentUserId, restaurant.getId());
+        if (!currentUser.canManageRestaurant(restaurantId)) {
+            log.warn("User {} is not owner or admin of restaurant {}", currentUser.getUserId(), restaurantId);
             throw new ForbiddenException("You don't have permission to delete this menu item");
         }
 
@@ -1,17 +1,25 @@
 package com.utown.service;
 
 import com.utown.constant.NotificationTopics;
+import com.utown.jfr.NotificationSendEvent;
 import com.utown.model.dto.notification.NotificationDTO;
 import com.utown.model.dto.notification.OrderNotificationData;
+import com.utown.model.dto.rider.RiderLocationData;
 import com.utown.model.entity.Order;
 import com.utown.model.enums.NotificationType;
 import com.utown.model.enums.OrderStatus;
+import com.utown.tracing.Span;
+import com.utown.tracing.SpanKind;
+import com.utown.tracing.TraceContext;
+import com.utown.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -19,9 +27,10 @@ import java.time.LocalDateTime;
 public class NotificationService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final Tracer tracer;
 
     public void sendOrderCreatedNotification(Order order) {
-        log.info("Sending order created notification for order: {}", order.getOrderNumber());
+        log.debug("Sending order created notification for order: {}", order.getOrderNumber());
 
         OrderNotificationData data = OrderNotificationData.builder()
                 .orderId(order.getId())
@@ -56,11 +65,11 @@ public class NotificationService {
                 .timestamp(LocalDateTime.now())
                 .build());
 
-        log.info("Order created notifications sent successfully");
+        log.debug("Order created notifications sent successfully");
     }
 
     public void sendOrderStatusChangedNotification(Order order, OrderStatus previousStatus) {
-        log.info("Sending order status changed notification: {} -> {}", previousStatus, order.getStatus());
+        log.debug("Sending order status changed notification: {} -> {}", previousStatus, order.getStatus());
 
         OrderNotificationData data = OrderNotificationData.builder()
                 .orderId(order.getId())
@@ -92,13 +101,95 @@ public class NotificationService {
         // Персональное уведомление клиенту
         sendToUser(order.getUser().getId(), notification);
 
-        log.info("Order status changed notifications sent successfully");
+        log.debug("Order status changed notifications sent successfully");
+    }
+
+    public void sendOrderOverdueNotification(Order order) {
+        log.warn("Order {} is past its estimated delivery time in status {}", order.getOrderNumber(), order.getStatus());
+
+        OrderNotificationData data = OrderNotificationData.builder()
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .restaurantName(order.getRestaurant().getName())
+                .restaurantId(order.getRestaurant().getId())
+                .build();
+
+        NotificationDTO notification = NotificationDTO.builder()
+                .type(NotificationType.ORDER_OVERDUE)
+                .title("Order Overdue")
+                .message(String.format("Order #%s is past its estimated delivery time", order.getOrderNumber()))
+                .data(data)
+                .timestamp(LocalDateTime.now())
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .newStatus(order.getStatus())
+                .estimatedDeliveryTime(order.getEstimatedDeliveryTime())
+                .restaurantId(order.getRestaurant().getId())
+                .build();
+
+        // Эскалация идёт только ресторану: клиенту статус заказа не меняется
+        sendToRestaurantTopic(order.getRestaurant().getId(), notification);
+    }
+
+    public void sendRiderAssignedNotification(Order order) {
+        log.info("Rider {} assigned to order {}", order.getRider().getId(), order.getOrderNumber());
+
+        OrderNotificationData data = OrderNotificationData.builder()
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .restaurantName(order.getRestaurant().getName())
+                .restaurantId(order.getRestaurant().getId())
+                .build();
+
+        NotificationDTO notification = NotificationDTO.builder()
+                .type(NotificationType.ORDER_RIDER_ASSIGNED)
+                .title("Rider Assigned")
+                .message(String.format("A rider is on the way to pick up order #%s", order.getOrderNumber()))
+                .data(data)
+                .timestamp(LocalDateTime.now())
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .newStatus(order.getStatus())
+                .restaurantId(order.getRestaurant().getId())
+                .build();
+
+        sendToRestaurantTopic(order.getRestaurant().getId(), notification);
+        sendToOrderTopic(order.getId(), notification);
+
+        // Задание курьеру приходит в его персональную очередь
+        sendToUser(order.getRider().getId(), NotificationDTO.builder()
+                .type(NotificationType.ORDER_RIDER_ASSIGNED)
+                .title("New Pickup")
+                .message(String.format("Pick up order #%s at %s, %s",
+                        order.getOrderNumber(), order.getRestaurant().getName(), order.getRestaurant().getAddress()))
+                .data(data)
+                .timestamp(LocalDateTime.now())
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .newStatus(order.getStatus())
+                .restaurantId(order.getRestaurant().getId())
+                .build());
+    }
+
+    public void sendRiderLocationUpdate(Long orderId, RiderLocationData location) {
+        // Только в топик заказа: клиент и ресторан следят за курьером на карте
+        sendToOrderTopic(orderId, NotificationDTO.builder()
+                .type(NotificationType.RIDER_LOCATION)
+                .data(location)
+                .timestamp(LocalDateTime.now())
+                .orderId(orderId)
+                .build());
     }
 
     public void sendToRestaurantTopic(Long restaurantId, NotificationDTO notification) {
+        String destination = NotificationTopics.restaurantOrders(restaurantId);
         try {
-            String destination = NotificationTopics.restaurantOrders(restaurantId);
-            messagingTemplate.convertAndSend(destination, notification);
+            deliver(destination, notification, notification.getOrderId(),
+                    headers -> messagingTemplate.convertAndSend(destination, notification, headers));
             log.debug("Notification sent to restaurant {} topic: {}", restaurantId, notification.getType());
         } catch (Exception e) {
             log.error("Failed to send notification to restaurant {} topic: {}", restaurantId, e.getMessage());
@@ -106,9 +197,10 @@ public class NotificationService {
     }
 
     public void sendToOrderTopic(Long orderId, NotificationDTO notification) {
+        String destination = NotificationTopics.orderUpdates(orderId);
         try {
-            String destination = NotificationTopics.orderUpdates(orderId);
-            messagingTemplate.convertAndSend(destination, notification);
+            deliver(destination, notification, orderId,
+                    headers -> messagingTemplate.convertAndSend(destination, notification, headers));
             log.debug("Notification sent to order {} topic: {}", orderId, notification.getType());
         } catch (Exception e) {
             log.error("Failed to send notification to order {} topic: {}", orderId, e.getMessage());
@@ -117,11 +209,13 @@ public class NotificationService {
 
     private void sendToUser(Long userId, NotificationDTO notification) {
         try {
-            messagingTemplate.convertAndSendToUser(
-                    userId.toString(),
-                    NotificationTopics.USER_NOTIFICATIONS_QUEUE,
-                    notification
-            );
+            deliver(NotificationTopics.USER_NOTIFICATIONS_QUEUE, notification, notification.getOrderId(),
+                    headers -> messagingTemplate.convertAndSendToUser(
+                            userId.toString(),
+                            NotificationTopics.USER_NOTIFICATIONS_QUEUE,
+                            notification,
+                            headers
+                    ));
             log.debug("Notification sent to user {}: {}", userId, notification.getType());
         } catch (Exception e) {
             log.error("Failed to send notification to user {}: {}", userId, e.getMessage());
@@ -130,13 +224,39 @@ public class NotificationService {
 
     public void broadcastNotification(NotificationDTO notification) {
         try {
-            messagingTemplate.convertAndSend("/topic/notifications", notification);
+            deliver("/topic/notifications", notification, notification.getOrderId(),
+                    headers -> messagingTemplate.convertAndSend("/topic/notifications", notification, headers));
             log.debug("Notification broadcasted: {}", notification.getType());
         } catch (Exception e) {
             log.error("Failed to broadcast notification: {}", e.getMessage());
         }
     }
 
+    // Трассировка: traceId в теле и traceparent в заголовках STOMP-кадра, чтобы клиент мог замерить задержку доставки
+    private void deliver(String destination, NotificationDTO notification, Long orderId,
+                         Consumer<Map<String, Object>> send) {
+        NotificationSendEvent event = NotificationSendEvent.start(destination);
+        Span span = tracer.startSpan("stomp.send", SpanKind.PRODUCER)
+                .attribute("messaging.destination", destination)
+                .attribute("notification.type", notification.getType());
+        boolean sent = false;
+        try {
+            Map<String, Object> headers = Map.of();
+            if (span.isRecording()) {
+                notification.setTraceId(span.traceId());
+                headers = Map.of(TraceContext.HEADER, span.traceparent());
+            }
+            send.accept(headers);
+            sent = true;
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            event.finish(notification.getType(), orderId, sent);
+            span.close();
+        }
+    }
+
     private NotificationType mapOrderStatusToNotificationType(OrderStatus status) {
         return switch (status) {
             case PENDING -> NotificationType.ORDER_CREATED;
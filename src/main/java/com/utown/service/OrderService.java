@@ -1,12 +1,18 @@
 package com.utown.service;
 
+import com.utown.event.OrderCreatedEvent;
+import com.utown.event.OrderStatusChangedEvent;
 import com.utown.exception.BadRequestException;
 import com.utown.exception.ForbiddenException;
 import com.utown.exception.NotFoundException;
+import com.utown.hours.OpeningHoursService;
+import com.utown.jfr.OrderPhaseEvent;
+import com.utown.kitchen.KitchenCapacityService;
 import com.utown.model.dto.order.CancelOrderRequest;
 import com.utown.model.dto.order.CreateOrderRequest;
 import com.utown.model.dto.order.OrderDTO;
 import com.utown.model.dto.order.OrderItemDTO;
+import com.utown.model.dto.order.OrderItemExportSource;
 import com.utown.model.dto.order.UpdateOrderStatusRequest;
 import com.utown.model.entity.Address;
 import com.utown.model.entity.Cart;
@@ -15,6 +21,8 @@ import com.utown.model.entity.Order;
 import com.utown.model.entity.OrderItem;
 import com.utown.model.entity.Restaurant;
 import com.utown.model.entity.User;
+import com.utown.model.entity.mapper.CartMapper;
+import com.utown.model.entity.mapper.OrderMapper;
 import com.utown.model.enums.OrderStatus;
 import com.utown.model.enums.PaymentStatus;
 import com.utown.model.enums.UserRole;
@@ -23,15 +31,22 @@ import com.utown.repository.CartRepository;
 import com.utown.repository.OrderRepository;
 import com.utown.repository.RestaurantRepository;
 import com.utown.repository.UserRepository;
+import com.utown.streaming.JsonStreamWriter;
+import com.utown.streaming.StreamFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -40,15 +55,25 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OrderService {
 
+    /**
+     * Exported orders whose items are loaded with one query.
+     */
+    private static final int EXPORT_CHUNK_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final CartRepository cartRepository;
     private final AddressRepository addressRepository;
     private final UserRepository userRepository;
     private final RestaurantRepository restaurantRepository;
     private final NotificationService notificationService;
+    private final OpeningHoursService openingHoursService;
+    private final KitchenCapacityService kitchenCapacityService;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public OrderDTO createOrder(Long userId, CreateOrderRequest request) {
+        OrderPhaseEvent phase = OrderPhaseEvent.start(OrderPhaseEvent.CART_LOAD, userId);
         Cart cart = cartRepository.findByUserId(userId)
                 .orElseThrow(() -> new BadRequestException("Cart is empty"));
 
@@ -57,13 +82,13 @@ public class OrderService {
         }
 
         Restaurant restaurant = cart.getRestaurant();
-        if (!restaurant.getIsOpen()) {
+        if (!openingHoursService.isOpenNow(restaurant)) {
             throw new BadRequestException("Restaurant is currently closed");
         }
+        phase.finish();
 
-        BigDecimal subtotal = cart.getItems().stream()
-                .map(CartItem::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        phase = OrderPhaseEvent.start(OrderPhaseEvent.PRICING, userId);
+        BigDecimal subtotal = CartMapper.subtotal(cart.getItems());
 
         if (subtotal.compareTo(restaurant.getMinOrderAmount()) < 0) {
             throw new BadRequestException(
@@ -71,6 +96,12 @@ public class OrderService {
             );
         }
 
+        BigDecimal deliveryFee = restaurant.getDeliveryFee();
+        BigDecimal taxes = BigDecimal.ZERO;
+        BigDecimal totalAmount = subtotal.add(deliveryFee).add(taxes);
+        phase.finish();
+
+        phase = OrderPhaseEvent.start(OrderPhaseEvent.PERSIST, userId);
         Address address = addressRepository.findById(request.getAddressId())
                 .orElseThrow(() -> new NotFoundException("Address not found"));
 
@@ -81,9 +112,7 @@ public class OrderService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User not found"));
 
-        BigDecimal deliveryFee = restaurant.getDeliveryFee();
-        BigDecimal taxes = BigDecimal.ZERO;
-        BigDecimal totalAmount = subtotal.add(deliveryFee).add(taxes);
+        kitchenCapacityService.admit(restaurant);
 
         String orderNumber = generateOrderNumber();
 
@@ -125,18 +154,22 @@ public class OrderService {
         order = orderRepository.save(order);
 
         cartRepository.delete(cart);
+        phase.finish(order.getId(), orderNumber);
 
         log.info("Order {} created for user {}", orderNumber, userId);
 
+        phase = OrderPhaseEvent.start(OrderPhaseEvent.NOTIFY, userId);
         notificationService.sendOrderCreatedNotification(order);
+        eventPublisher.publishEvent(OrderCreatedEvent.of(order));
+        phase.finish(order.getId(), orderNumber);
 
-        return mapToDTO(order);
+        return OrderMapper.toDTO(order);
     }
 
     @Transactional(readOnly = true)
     public Page<OrderDTO> getUserOrders(Long userId, Pageable pageable) {
         Page<Order> orders = orderRepository.findByUserId(userId, pageable);
-        return orders.map(this::mapToDTO);
+        return orders.map(OrderMapper::toDTO);
     }
 
 
@@ -154,7 +187,7 @@ public class OrderService {
         }
 
         Page<Order> orders = orderRepository.findByRestaurantId(restaurantId, pageable);
-        return orders.map(this::mapToDTO);
+        return orders.map(OrderMapper::toDTO);
     }
 
     @Transactional(readOnly = true)
@@ -177,7 +210,33 @@ public class OrderService {
             throw new ForbiddenException("You don't have access to this order");
         }
 
-        return mapToDTO(order);
+        return OrderMapper.toDTO(order);
+    }
+
+    public StreamingResponseBody exportOrders(StreamFormat format) {
+        log.info("Exporting all orders as {}", format);
+
+        return jsonStreamWriter.chunks(
+                format,
+                orderRepository::streamAllForExport,
+                EXPORT_CHUNK_SIZE,
+                orders -> {
+                    Map<Long, List<OrderItemDTO>> items = orderRepository
+                            .findExportItemsByOrderIds(orders.stream().map(Order::getId).toList())
+                            .stream()
+                            .collect(Collectors.groupingBy(
+                                    OrderItemExportSource::orderId,
+                                    Collectors.mapping(OrderMapper::toItemDTO, Collectors.toList())
+                            ));
+
+                    List<OrderDTO> dtos = new ArrayList<>(orders.size());
+                    for (Order order : orders) {
+                        dtos.add(OrderMapper.toDTO(order, items.getOrDefault(order.getId(), List.of())));
+                        jsonStreamWriter.detach(order.getUser(), order.getRestaurant(), order.getAddress());
+                    }
+                    return dtos;
+                }
+        );
     }
 
     @Transactional
@@ -212,8 +271,9 @@ public class OrderService {
                 order.getOrderNumber(), oldStatus, request.getStatus(), currentUserId);
 
         notificationService.sendOrderStatusChangedNotification(order, oldStatus);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, oldStatus));
 
-        return mapToDTO(order);
+        return OrderMapper.toDTO(order);
     }
 
     @Transactional
@@ -239,8 +299,61 @@ public class OrderService {
                 order.getOrderNumber(), currentUserId, request.getReason());
 
         notificationService.sendOrderStatusChangedNotification(order, previousStatus);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, previousStatus));
+
+        return OrderMapper.toDTO(order);
+    }
+
+    /**
+     * Cancels an order the restaurant never confirmed. A no-op if the order has left PENDING meanwhile.
+     */
+    @Transactional
+    public boolean autoCancelStaleOrder(Long orderId, String reason) {
+        if (orderRepository.cancelIfPending(orderId, reason) == 0) {
+            return false;
+        }
+
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new NotFoundException("Order not found"));
+
+        log.info("Order {} auto-cancelled. Reason: {}", order.getOrderNumber(), reason);
+
+        notificationService.sendOrderStatusChangedNotification(order, OrderStatus.PENDING);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, OrderStatus.PENDING));
 
-        return mapToDTO(order);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean escalateOverdueOrder(Long orderId) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null
+                || (order.getStatus() != OrderStatus.CONFIRMED && order.getStatus() != OrderStatus.PREPARING)
+                || order.getEstimatedDeliveryTime() == null
+                || order.getEstimatedDeliveryTime().isAfter(LocalDateTime.now())) {
+            return false;
+        }
+
+        notificationService.sendOrderOverdueNotification(order);
+        return true;
+    }
+
+    /**
+     * Hands a READY order to a rider chosen by dispatch. A no-op if the order was taken or moved on meanwhile.
+     */
+    @Transactional
+    public boolean assignRider(Long orderId, Long riderId) {
+        if (orderRepository.assignRiderIfReady(orderId, userRepository.getReferenceById(riderId)) == 0) {
+            return false;
+        }
+
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new NotFoundException("Order not found"));
+
+        log.info("Order {} assigned to rider {}", order.getOrderNumber(), riderId);
+
+        notificationService.sendRiderAssignedNotification(order);
+        return true;
     }
 
     private boolean isValidStatusTransition(OrderStatus from, OrderStatus to) {
@@ -261,55 +374,4 @@ public class OrderService {
         String uniqueId = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
         return "ORD-" + timestamp + "-" + uniqueId;
     }
-
-    private OrderDTO mapToDTO(Order order) {
-        return OrderDTO.builder()
-                .id(order.getId())
-                .orderNumber(order.getOrderNumber())
-                .status(order.getStatus())
-                .user(OrderDTO.UserSummaryDTO.builder()
-                        .id(order.getUser().getId())
-                        .name(order.getUser().getName())
-                        .phoneNumber(order.getUser().getPhoneNumber())
-                        .build())
-                .restaurant(OrderDTO.RestaurantSummaryDTO.builder()
-                        .id(order.getRestaurant().getId())
-                        .name(order.getRestaurant().getName())
-                        .phone(order.getRestaurant().getPhone())
-                        .build())
-                .address(OrderDTO.AddressSummaryDTO.builder()
-                        .id(order.getAddress().getId())
-                        .address(order.getAddress().getAddress())
-                        .detailAddress(order.getAddress().getDetailAddress())
-                        .note(order.getAddress().getNote())
-                        .build())
-                .items(order.getItems().stream()
-                        .map(this::mapOrderItemToDTO)
-                        .collect(Collectors.toList()))
-                .subtotal(order.getSubtotal())
-                .deliveryFee(order.getDeliveryFee())
-                .discountAmount(order.getDiscountAmount())
-                .taxes(order.getTaxes())
-                .totalAmount(order.getTotalAmount())
-                .paymentMethod(order.getPaymentMethod())
-                .paymentStatus(order.getPaymentStatus())
-                .specialRequest(order.getSpecialRequest())
-                .cancellationReason(order.getCancellationReason())
-                .estimatedDeliveryTime(order.getEstimatedDeliveryTime())
-                .createdAt(order.getCreatedAt())
-                .updatedAt(order.getUpdatedAt())
-                .deliveredAt(order.getDeliveredAt())
-                .build();
-    }
-
-    private OrderItemDTO mapOrderItemToDTO(OrderItem item) {
-        return OrderItemDTO.builder()
-                .id(item.getId())
-                .menuItemName(item.getMenuItemName())
-                .quantity(item.getQuantity())
-                .unitPrice(item.getUnitPrice())
-                .selectedOptions(item.getSelectedOptions())
-                .subtotal(item.getSubtotal())
-                .build();
-    }
 }
@@ -10,6 +10,7 @@ import com.utown.model.entity.User;
 import com.utown.model.enums.ResetPasswordStatus;
 import com.utown.repository.PasswordResetRequestRepository;
 import com.utown.repository.UserRepository;
+import com.utown.security.revocation.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +34,8 @@ public class PasswordResetService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final PasswordResetRequestRepository passwordResetRequestRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     private static final String HARDCODED_CODE = "1234";
     private static final int CODE_EXPIRATION_MINUTES = 15;
@@ -146,6 +149,9 @@ public class PasswordResetService {
         resetRequest.setCompletedAt(LocalDateTime.now());
         passwordResetRequestRepository.save(resetRequest);
 
+        refreshTokenService.revokeAll(user.getId());
+        tokenRevocationService.revokeUser(user.getId());
+
         log.info("Password reset completed for userId: {}", user.getId());
 
         Map<String, Object> response = new HashMap<>();
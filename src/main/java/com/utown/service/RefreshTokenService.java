@@ -5,73 +5,154 @@ import com.utown.model.entity.RefreshToken;
 import com.utown.model.entity.User;
 import com.utown.repository.RefreshTokenRepository;
 import com.utown.security.jwt.JwtTokenProvider;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
-
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Issues, rotates and revokes refresh tokens. Only the SHA-256 digest of a token is stored, so a leaked
+ * {@code refresh_tokens} table cannot be replayed, and lookups compare 32 bytes instead of a 500-character
+ * string. A rotated token stays in the table as invalid until it would have expired anyway (bounded by
+ * {@code auth.refresh-tokens.reuse-detection-ms}); presenting it again revokes every token of its family.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final Duration reuseDetectionWindow;
+    private final int purgeBatchSize;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${auth.refresh-tokens.reuse-detection-ms:86400000}") long reuseDetectionMillis,
+            @Value("${auth.refresh-tokens.purge-batch-size:1000}") int purgeBatchSize
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.reuseDetectionWindow = Duration.ofMillis(reuseDetectionMillis);
+        this.purgeBatchSize = purgeBatchSize;
+    }
 
+    /**
+     * Starts a new token family, e.g. on login or registration.
+     */
     @Transactional
-    public RefreshToken createRefreshToken(User user, String tokenString) {
-        refreshTokenRepository.deleteByUserId(user.getId());
-
-        long ttlMillis = jwtTokenProvider.getRefreshTokenExpiration();
+    public String issue(User user) {
+        return save(user, UUID.randomUUID().toString());
+    }
 
-        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(ttlMillis / 1000);
+    /**
+     * Exchanges a valid refresh token for a new one in the same family. A token that was already rotated,
+     * or loses a race with a concurrent refresh, revokes the family; the revocation is committed even though
+     * the call fails, hence {@code noRollbackFor}.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Rotation rotate(String tokenString) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(digest(tokenString))
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(tokenString)
-                .expiresAt(expiresAt)
-                .isValid(true)
-                .build();
+        if (!refreshToken.getIsValid()) {
+            revokeFamily(refreshToken);
+            throw new UnauthorizedException("Refresh token has been invalidated");
+        }
 
-        refreshToken = refreshTokenRepository.save(refreshToken);
+        if (refreshToken.isExpired()) {
+            throw new UnauthorizedException("Refresh token has expired");
+        }
 
-        log.info("Created refresh token for user ID: {}, expires at: {}",
-                user.getId(), expiresAt);
+        if (refreshTokenRepository.invalidateIfValid(refreshToken.getId(), LocalDateTime.now()) == 0) {
+            revokeFamily(refreshToken);
+            throw new UnauthorizedException("Refresh token has been invalidated");
+        }
 
-        return refreshToken;
+        User user = refreshToken.getUser();
+        return new Rotation(user, save(user, refreshToken.getFamilyId()));
     }
 
-    public RefreshToken validateRefreshToken(String tokenString) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(tokenString)
-                .orElseThrow(() -> new UnauthorizedException("Refresh token not found"));
+    @Transactional
+    public void revokeAll(Long userId) {
+        int deleted = refreshTokenRepository.deleteAllByUserId(userId);
+        log.debug("Deleted {} refresh tokens for userId={}", deleted, userId);
+    }
 
-        if (refreshToken.isExpired()) {
-            log.warn("Refresh token expired for user ID: {}", refreshToken.getUser().getId());
-            throw new UnauthorizedException("Refresh token has expired");
+    /**
+     * Deletes expired tokens and tokens revoked longer than the reuse-detection window ago, one batch per
+     * transaction so each DELETE holds its row locks only briefly.
+     */
+    @Scheduled(
+            fixedDelayString = "${auth.refresh-tokens.purge-interval-ms:3600000}",
+            initialDelayString = "${auth.refresh-tokens.purge-interval-ms:3600000}"
+    )
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime revokedBefore = now.minus(reuseDetectionWindow);
+        PageRequest batch = PageRequest.of(0, purgeBatchSize);
+
+        int purged = purgeBatches(() -> refreshTokenRepository.findExpiredIds(now, batch))
+                + purgeBatches(() -> refreshTokenRepository.findRevokedIds(revokedBefore, batch));
+
+        if (purged > 0) {
+            log.info("Purged {} expired or revoked refresh tokens", purged);
         }
+    }
 
-        if (!refreshToken.getIsValid()) {
-            log.warn("Refresh token is invalid for user ID: {}", refreshToken.getUser().getId());
-            throw new UnauthorizedException("Refresh token is invalid");
-        }
+    private int purgeBatches(Supplier<List<Long>> nextBatch) {
+        int purged = 0;
+        List<Long> ids;
+        do {
+            ids = nextBatch.get();
+            if (!ids.isEmpty()) {
+                purged += refreshTokenRepository.deleteByIds(ids);
+            }
+        } while (ids.size() == purgeBatchSize);
+        return purged;
+    }
 
-        return refreshToken;
+    private void revokeFamily(RefreshToken reused) {
+        int revoked = refreshTokenRepository.invalidateFamily(reused.getFamilyId(), LocalDateTime.now());
+        log.warn("Refresh token reuse detected for userId={}, revoked {} tokens of family {}",
+                reused.getUser().getId(), revoked, reused.getFamilyId());
     }
 
-    @Transactional
-    public void invalidateRefreshToken(String tokenString) {
-        refreshTokenRepository.findByToken(tokenString).ifPresent(token -> {
-            token.setIsValid(false);
-            refreshTokenRepository.save(token);
-            log.info("Invalidated refresh token for user ID: {}", token.getUser().getId());
-        });
+    private String save(User user, String familyId) {
+        String tokenString = jwtTokenProvider.generateRefreshToken(user.getId());
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(jwtTokenProvider.getRefreshTokenExpiration() * 1_000_000);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(digest(tokenString))
+                .familyId(familyId)
+                .expiresAt(expiresAt)
+                .isValid(true)
+                .build());
+
+        log.debug("Refresh token saved: userId={}, expiresAt={}", user.getId(), expiresAt);
+        return tokenString;
     }
 
-    @Transactional
-    public void deleteAllUserTokens(Long userId) {
-        refreshTokenRepository.deleteByUserId(userId);
-        log.info("Deleted all refresh tokens for user ID: {}", userId);
+    static byte[] digest(String tokenString) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(tokenString.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record Rotation(User user, String refreshToken) {
     }
 }
@@ -1,23 +1,34 @@
 package com.utown.service;
 
+import com.utown.event.RestaurantActiveChangedEvent;
+import com.utown.event.RestaurantCreatedEvent;
+import com.utown.event.RestaurantOpeningHoursChangedEvent;
 import com.utown.exception.NotFoundException;
+import com.utown.hours.OpeningHoursService;
 import com.utown.model.dto.restaurant.CreateRestaurantRequest;
 import com.utown.model.dto.restaurant.RestaurantDto;
 import com.utown.model.dto.restaurant.UpdateRestaurantRequest;
 import com.utown.model.entity.Category;
 import com.utown.model.entity.Restaurant;
 import com.utown.model.entity.User;
+import com.utown.model.entity.mapper.RestaurantMapper;
 import com.utown.repository.CategoryRepository;
 import com.utown.repository.RestaurantRepository;
 import com.utown.repository.UserRepository;
+import com.utown.security.AuthenticatedUser;
+import com.utown.streaming.JsonStreamWriter;
+import com.utown.streaming.StreamFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +38,10 @@ public class RestaurantService {
     private final RestaurantRepository restaurantRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final RestaurantMapper restaurantMapper;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final OpeningHoursService openingHoursService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public RestaurantDto createRestaurant(CreateRestaurantRequest request, Long ownerId) {
@@ -38,6 +53,8 @@ public class RestaurantService {
         User owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new NotFoundException("Owner not found"));
 
+        openingHoursService.validate(request.getOpeningHours());
+
         Restaurant restaurant = Restaurant.builder()
                 .owner(owner)
                 .category(category)
@@ -55,6 +72,8 @@ public class RestaurantService {
                 .minOrderAmount(request.getMinOrderAmount() != null ? request.getMinOrderAmount() : BigDecimal.ZERO)
                 .deliveryFee(request.getDeliveryFee() != null ? request.getDeliveryFee() : BigDecimal.ZERO)
                 .estimatedDeliveryTime(request.getEstimatedDeliveryTime())
+                .kitchenCapacity(request.getKitchenCapacity())
+                .openingHours(request.getOpeningHours())
                 .isOpen(false)
                 .isFeatured(false)
                 .isActive(true)
@@ -63,27 +82,33 @@ public class RestaurantService {
         restaurant = restaurantRepository.save(restaurant);
 
         log.info("Restaurant created successfully: id={}", restaurant.getId());
+        eventPublisher.publishEvent(RestaurantCreatedEvent.of(restaurant));
+        if (restaurant.getOpeningHours() != null) {
+            eventPublisher.publishEvent(
+                    new RestaurantOpeningHoursChangedEvent(restaurant.getId(), restaurant.getOpeningHours())
+            );
+        }
 
-        return mapToResponse(restaurant);
+        return restaurantMapper.toPublicDto(restaurant);
     }
 
     @Transactional(readOnly = true)
     public Page<RestaurantDto> getAllRestaurants(Pageable pageable) {
-        log.info("Getting all restaurants, page={}", pageable.getPageNumber());
+        log.debug("Getting all restaurants, page={}", pageable.getPageNumber());
 
         Page<Restaurant> restaurants = restaurantRepository.findAllWithCategory(pageable);
 
-        return restaurants.map(this::mapToResponse);
+        return restaurants.map(restaurantMapper::toPublicDto);
     }
 
     @Transactional(readOnly = true)
     public RestaurantDto getRestaurantById(Long id) {
-        log.info("Getting restaurant by id={}", id);
+        log.debug("Getting restaurant by id={}", id);
 
         Restaurant restaurant = restaurantRepository.findByIdWithCategory(id)
                 .orElseThrow(() -> new NotFoundException("Restaurant not found"));
 
-        return mapToResponse(restaurant);
+        return restaurantMapper.toPublicDto(restaurant);
     }
 
     @Transactional
@@ -92,6 +117,8 @@ public class RestaurantService {
 
         Restaurant restaurant = restaurantRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Restaurant not found"));
+        boolean wasActive = Boolean.TRUE.equals(restaurant.getIsActive());
+        String previousOpeningHours = restaurant.getOpeningHours();
 
         if (request.getName() != null) {
             restaurant.setName(request.getName());
@@ -128,6 +155,9 @@ public class RestaurantService {
         if (request.getEstimatedDeliveryTime() != null) {
             restaurant.setEstimatedDeliveryTime(request.getEstimatedDeliveryTime());
         }
+        if (request.getKitchenCapacity() != null) {
+            restaurant.setKitchenCapacity(request.getKitchenCapacity());
+        }
         if (request.getImageUrl() != null) {
             restaurant.setImageUrl(request.getImageUrl());
         }
@@ -135,7 +165,8 @@ public class RestaurantService {
             restaurant.setBannerImageUrl(request.getBannerImageUrl());
         }
         if (request.getOpeningHours() != null) {
-            restaurant.setOpeningHours(request.getOpeningHours());
+            openingHoursService.validate(request.getOpeningHours());
+            restaurant.setOpeningHours(request.getOpeningHours().isBlank() ? null : request.getOpeningHours());
         }
         if (request.getIsActive() != null) {
             restaurant.setIsActive(request.getIsActive());
@@ -143,9 +174,18 @@ public class RestaurantService {
 
         restaurant = restaurantRepository.save(restaurant);
 
+        if (wasActive != Boolean.TRUE.equals(restaurant.getIsActive())) {
+            eventPublisher.publishEvent(new RestaurantActiveChangedEvent(restaurant.getId(), !wasActive));
+        }
+        if (!Objects.equals(previousOpeningHours, restaurant.getOpeningHours())) {
+            eventPublisher.publishEvent(
+                    new RestaurantOpeningHoursChangedEvent(restaurant.getId(), restaurant.getOpeningHours())
+            );
+        }
+
         log.info("Restaurant updated successfully: id={}", restaurant.getId());
 
-        return mapToResponse(restaurant);
+        return restaurantMapper.toPublicDto(restaurant);
     }
 
     @Transactional
@@ -155,37 +195,27 @@ public class RestaurantService {
         Restaurant restaurant = restaurantRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Restaurant not found"));
 
-
+        boolean wasActive = Boolean.TRUE.equals(restaurant.getIsActive());
         restaurant.setIsActive(false);
         restaurantRepository.save(restaurant);
 
-        log.info("Restaurant deleted successfully: id={}", id);
-    }
-
-    @Transactional(readOnly = true)
-    public boolean isOwner(Long restaurantId, Long userId) {
-        Restaurant restaurant = restaurantRepository.findByIdWithCategory(restaurantId)
-                .orElseThrow(() -> new NotFoundException("Restaurant not found"));
+        if (wasActive) {
+            eventPublisher.publishEvent(new RestaurantActiveChangedEvent(id, false));
+        }
 
-        return restaurant.getOwner().getId().equals(userId);
+        log.info("Restaurant deleted successfully: id={}", id);
     }
 
     @Transactional
-    public void updateRestaurantStatus(Long restaurantId, Long currentUserId, Boolean isOpen) {
+    public void updateRestaurantStatus(Long restaurantId, AuthenticatedUser currentUser, Boolean isOpen) {
         log.info("Updating restaurant status: restaurantId={}, userId={}, isOpen={}",
-                restaurantId, currentUserId, isOpen);
+                restaurantId, currentUser.getUserId(), isOpen);
 
         Restaurant restaurant = restaurantRepository.findById(restaurantId)
                 .orElseThrow(() -> new NotFoundException("Restaurant not found"));
 
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new NotFoundException("User not found"));
-
-        boolean isOwner = restaurant.getOwner().getId().equals(currentUserId);
-        boolean isAdmin = currentUser.getRole().name().equals("ADMIN");
-
-        if (!isOwner && !isAdmin) {
-            log.warn("User {} is not owner or admin of restaurant {}", currentUserId, restaurantId);
+        if (!currentUser.canManageRestaurant(restaurantId)) {
+            log.warn("User {} is not owner or admin of restaurant {}", currentUser.getUserId(), restaurantId);
             throw new com.utown.exception.ForbiddenException(
                     "You don't have permission to change this restaurant's status"
             );
@@ -199,49 +229,35 @@ public class RestaurantService {
 
     @Transactional(readOnly = true)
     public Page<RestaurantDto> getRestaurantsByOwnerId(Long ownerId, Pageable pageable) {
-        log.info("Getting restaurants by ownerId={}", ownerId);
+        log.debug("Getting restaurants by ownerId={}", ownerId);
 
         Page<Restaurant> restaurants = restaurantRepository.findByOwnerId(ownerId, pageable);
 
-        return restaurants.map(this::mapToResponse);
+        return restaurants.map(restaurantMapper::toPublicDto);
     }
 
-    @Transactional(readOnly = true)
-    public java.util.List<RestaurantDto> getRestaurantsByOwnerId(Long ownerId) {
-        log.info("Getting all restaurants by ownerId={}", ownerId);
-
-        java.util.List<Restaurant> restaurants = restaurantRepository.findByOwnerId(ownerId);
+    public StreamingResponseBody streamRestaurantsByOwnerId(Long ownerId, StreamFormat format) {
+        log.info("Streaming all restaurants by ownerId={}", ownerId);
 
-        return restaurants.stream()
-                .map(this::mapToResponse)
-                .collect(java.util.stream.Collectors.toList());
+        return jsonStreamWriter.entities(
+                format,
+                "data",
+                () -> restaurantRepository.streamByOwnerId(ownerId),
+                restaurantMapper::toPublicDto
+        );
     }
-    
-    private RestaurantDto mapToResponse(Restaurant restaurant) {
-        return RestaurantDto.builder()
-                .id(restaurant.getId())
-                .name(restaurant.getName())
-                .description(restaurant.getDescription())
-                .categoryId(restaurant.getCategory().getId())
-                .categoryName(restaurant.getCategory().getName())
-                .address(restaurant.getAddress())
-                .city(restaurant.getCity())
-                .latitude(restaurant.getLatitude())
-                .longitude(restaurant.getLongitude())
-                .phone(restaurant.getPhone())
-                .imageUrl(restaurant.getImageUrl())
-                .bannerImageUrl(restaurant.getBannerImageUrl())
-                .rating(restaurant.getRating())
-                .reviewCount(restaurant.getReviewCount())
-                .minOrderAmount(restaurant.getMinOrderAmount())
-                .deliveryFee(restaurant.getDeliveryFee())
-                .estimatedDeliveryTime(restaurant.getEstimatedDeliveryTime())
-                .openingHours(restaurant.getOpeningHours())
-                .isOpen(restaurant.getIsOpen())
-                .isFeatured(restaurant.getIsFeatured())
-                .isActive(restaurant.getIsActive())
-                .createdAt(restaurant.getCreatedAt())
-                .updatedAt(restaurant.getUpdatedAt())
-                .build();
+
+    public StreamingResponseBody exportRestaurants(StreamFormat format) {
+        log.info("Exporting all restaurants as {}", format);
+
+        return jsonStreamWriter.entities(
+                format,
+                restaurantRepository::streamAllWithCategoryAndOwner,
+                restaurant -> {
+                    RestaurantDto dto = restaurantMapper.toDto(restaurant);
+                    jsonStreamWriter.detach(restaurant.getOwner());
+                    return dto;
+                }
+        );
     }
 }
@@ -0,0 +1,242 @@
+package com.utown.service;
+
+import com.utown.event.OrderStatusChangedEvent;
+import com.utown.exception.BadRequestException;
+import com.utown.exception.ForbiddenException;
+import com.utown.exception.NotFoundException;
+import com.utown.model.dto.analytics.ItemRollupSource;
+import com.utown.model.dto.analytics.SalesAnalyticsDTO;
+import com.utown.model.dto.analytics.TopItemDTO;
+import com.utown.model.entity.SalesRollup;
+import com.utown.model.enums.OrderStatus;
+import com.utown.model.enums.RollupGranularity;
+import com.utown.model.enums.UserRole;
+import com.utown.repository.ItemSalesRollupRepository;
+import com.utown.repository.OrderRepository;
+import com.utown.repository.RestaurantRepository;
+import com.utown.repository.SalesRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-restaurant sales analytics. Reads only the hour/day/month rollup tables; the rollups are
+ * advanced here from COMPLETED and CANCELLED transitions and rebuilt by {@link SalesRollupBackfillService}.
+ * Live updates are bucketed on the order's delivery (or last update) time, the same as the backfill.
+ */
+@Service
+@Slf4j
+public class SalesAnalyticsService {
+
+    static final RollupGranularity[] ORDER_GRANULARITIES = RollupGranularity.values();
+    static final RollupGranularity[] ITEM_GRANULARITIES = {RollupGranularity.DAY, RollupGranularity.MONTH};
+
+    private static final long MAX_BUCKETS = 1000;
+    private static final int TOP_ITEMS_LIMIT = 10;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final ItemSalesRollupRepository itemSalesRollupRepository;
+    private final OrderRepository orderRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final SalesRollupBackfillService backfillService;
+    private final TransactionTemplate transactionTemplate;
+
+    public SalesAnalyticsService(
+            SalesRollupRepository salesRollupRepository,
+            ItemSalesRollupRepository itemSalesRollupRepository,
+            OrderRepository orderRepository,
+            RestaurantRepository restaurantRepository,
+            SalesRollupBackfillService backfillService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.itemSalesRollupRepository = itemSalesRollupRepository;
+        this.orderRepository = orderRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.backfillService = backfillService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(readOnly = true)
+    public SalesAnalyticsDTO getAnalytics(
+            Long restaurantId,
+            Long currentUserId,
+            UserRole userRole,
+            LocalDateTime from,
+            LocalDateTime to,
+            RollupGranularity granularity
+    ) {
+        if (!restaurantRepository.existsById(restaurantId)) {
+            throw new NotFoundException("Restaurant not found");
+        }
+        if (userRole != UserRole.ADMIN && !restaurantRepository.existsByIdAndOwnerId(restaurantId, currentUserId)) {
+            throw new ForbiddenException("You can only view analytics of your own restaurants");
+        }
+
+        RollupGranularity effectiveGranularity = granularity != null ? granularity : RollupGranularity.DAY;
+        LocalDateTime effectiveTo = to != null ? to : LocalDateTime.now();
+        LocalDateTime effectiveFrom = effectiveGranularity.bucketStart(
+                from != null ? from : effectiveTo.minusDays(30)
+        );
+
+        if (!effectiveFrom.isBefore(effectiveTo)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+        if (bucketCount(effectiveGranularity, effectiveFrom, effectiveTo) > MAX_BUCKETS) {
+            throw new BadRequestException("Requested range is too large for " + effectiveGranularity + " granularity");
+        }
+
+        List<SalesRollup> rollups = salesRollupRepository.findBuckets(
+                restaurantId, effectiveGranularity, effectiveFrom, effectiveTo
+        );
+
+        List<SalesAnalyticsDTO.BucketDTO> buckets = new ArrayList<>(rollups.size());
+        long completed = 0;
+        long cancelled = 0;
+        long itemsSold = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+
+        for (SalesRollup rollup : rollups) {
+            buckets.add(toBucketDTO(
+                    rollup.getBucketStart(),
+                    rollup.getCompletedOrders(),
+                    rollup.getCancelledOrders(),
+                    rollup.getRevenue(),
+                    rollup.getItemsSold()
+            ));
+            completed += rollup.getCompletedOrders();
+            cancelled += rollup.getCancelledOrders();
+            itemsSold += rollup.getItemsSold();
+            revenue = revenue.add(rollup.getRevenue());
+        }
+
+        RollupGranularity itemGranularity = effectiveGranularity == RollupGranularity.MONTH
+                ? RollupGranularity.MONTH
+                : RollupGranularity.DAY;
+        List<TopItemDTO> topItems = itemSalesRollupRepository.findTopItems(
+                restaurantId,
+                itemGranularity,
+                itemGranularity.bucketStart(effectiveFrom),
+                effectiveTo,
+                PageRequest.of(0, TOP_ITEMS_LIMIT)
+        );
+
+        return SalesAnalyticsDTO.builder()
+                .restaurantId(restaurantId)
+                .granularity(effectiveGranularity)
+                .from(effectiveFrom)
+                .to(effectiveTo)
+                .totals(toBucketDTO(null, completed, cancelled, revenue, itemsSold))
+                .buckets(buckets)
+                .topItems(topItems)
+                .build();
+    }
+
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.newStatus() != OrderStatus.COMPLETED && event.newStatus() != OrderStatus.CANCELLED) {
+            return;
+        }
+        LocalDateTime closedAt = transactionTemplate.execute(status ->
+                orderRepository.findClosedAtById(event.orderId()).orElse(event.changedAt()));
+
+        backfillService.applyLive(closedAt, () -> transactionTemplate.executeWithoutResult(status -> {
+            if (event.newStatus() == OrderStatus.COMPLETED) {
+                recordCompleted(event, closedAt);
+            } else {
+                recordOrders(event.restaurantId(), closedAt, 0, 1, BigDecimal.ZERO, 0);
+            }
+        }));
+    }
+
+    private void recordCompleted(OrderStatusChangedEvent event, LocalDateTime closedAt) {
+        List<ItemRollupSource> items = orderRepository.findItemsForRollup(event.orderId());
+        long itemsSold = 0;
+        for (ItemRollupSource item : items) {
+            itemsSold += item.quantity();
+        }
+
+        recordOrders(event.restaurantId(), closedAt, 1, 0, event.totalAmount(), itemsSold);
+        for (ItemRollupSource item : items) {
+            recordItem(event.restaurantId(), closedAt, item.menuItemId(), item.menuItemName(),
+                    item.quantity(), item.subtotal());
+        }
+    }
+
+    void recordOrders(
+            Long restaurantId,
+            LocalDateTime closedAt,
+            long completed,
+            long cancelled,
+            BigDecimal revenue,
+            long itemsSold
+    ) {
+        for (RollupGranularity granularity : ORDER_GRANULARITIES) {
+            salesRollupRepository.upsert(
+                    restaurantId,
+                    granularity.name(),
+                    granularity.bucketStart(closedAt),
+                    completed,
+                    cancelled,
+                    revenue,
+                    itemsSold
+            );
+        }
+    }
+
+    void recordItem(
+            Long restaurantId,
+            LocalDateTime closedAt,
+            Long menuItemId,
+            String menuItemName,
+            long quantity,
+            BigDecimal revenue
+    ) {
+        for (RollupGranularity granularity : ITEM_GRANULARITIES) {
+            itemSalesRollupRepository.upsert(
+                    restaurantId,
+                    granularity.name(),
+                    granularity.bucketStart(closedAt),
+                    menuItemId,
+                    menuItemName,
+                    quantity,
+                    revenue
+            );
+        }
+    }
+
+    private SalesAnalyticsDTO.BucketDTO toBucketDTO(
+            LocalDateTime bucketStart,
+            long completed,
+            long cancelled,
+            BigDecimal revenue,
+            long itemsSold
+    ) {
+        BigDecimal averageBasket = completed > 0
+                ? revenue.divide(BigDecimal.valueOf(completed), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        return new SalesAnalyticsDTO.BucketDTO(bucketStart, completed, cancelled, revenue, averageBasket, itemsSold);
+    }
+
+    private static long bucketCount(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return switch (granularity) {
+            case HOUR -> ChronoUnit.HOURS.between(from, to);
+            case DAY -> ChronoUnit.DAYS.between(from, to);
+            case MONTH -> ChronoUnit.MONTHS.between(from, to);
+        };
+    }
+}
@@ -0,0 +1,246 @@
+package com.utown.service;
+
+import com.utown.exception.ConflictException;
+import com.utown.model.dto.analytics.ItemRollupSource;
+import com.utown.model.dto.analytics.OrderRollupSource;
+import com.utown.model.enums.OrderStatus;
+import com.utown.model.enums.RollupGranularity;
+import com.utown.repository.ItemSalesRollupRepository;
+import com.utown.repository.OrderRepository;
+import com.utown.repository.RestaurantRepository;
+import com.utown.repository.SalesRollupRepository;
+import com.utown.streaming.CursorFetch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds the sales rollups from order history, one restaurant per transaction.
+ * Each restaurant's closed orders are streamed and aggregated in memory per bucket,
+ * so memory is bounded by the number of buckets, not by the number of orders.
+ * <p>
+ * A backfill rebuilds from orders closed before a snapshot taken when it starts. Live updates
+ * go through {@link #applyLive}: while a backfill runs, updates for orders closed before the
+ * snapshot are dropped because the backfill counts them, and later ones are held back and
+ * applied once it finishes, so a rebuild neither double-counts nor deletes them.
+ */
+@Service
+@Slf4j
+public class SalesRollupBackfillService {
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final ItemSalesRollupRepository itemSalesRollupRepository;
+    private final OrderRepository orderRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final CursorFetch cursorFetch;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ReentrantReadWriteLock gate = new ReentrantReadWriteLock();
+    private final Queue<Runnable> deferred = new ConcurrentLinkedQueue<>();
+    private LocalDateTime snapshot;
+
+    @Value("${analytics.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    public SalesRollupBackfillService(
+            SalesRollupRepository salesRollupRepository,
+            ItemSalesRollupRepository itemSalesRollupRepository,
+            OrderRepository orderRepository,
+            RestaurantRepository restaurantRepository,
+            CursorFetch cursorFetch,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.itemSalesRollupRepository = itemSalesRollupRepository;
+        this.orderRepository = orderRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.cursorFetch = cursorFetch;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!backfillOnStartup || salesRollupRepository.count() > 0 || orderRepository.count() == 0) {
+            return;
+        }
+        Thread.ofVirtual().name("sales-rollup-backfill").start(this::backfillAll);
+    }
+
+    public int backfillAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("Sales rollup backfill is already running", "BACKFILL_RUNNING");
+        }
+        try {
+            LocalDateTime before = openSnapshot();
+            try {
+                List<Long> restaurantIds = restaurantRepository.findAllIds();
+                log.info("Backfilling sales rollups for {} restaurants from orders closed before {}", restaurantIds.size(), before);
+
+                for (Long restaurantId : restaurantIds) {
+                    transactionTemplate.executeWithoutResult(status -> backfillRestaurant(restaurantId, before));
+                }
+
+                log.info("Sales rollup backfill finished");
+                return restaurantIds.size();
+            } finally {
+                closeSnapshot();
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Runs a live rollup update for an order closed at {@code closedAt}. The update must commit
+     * before returning: it holds the read side of the gate, so a backfill cannot take its
+     * snapshot while the update is in flight.
+     */
+    public void applyLive(LocalDateTime closedAt, Runnable update) {
+        gate.readLock().lock();
+        try {
+            if (snapshot == null) {
+                update.run();
+            } else if (!closedAt.isBefore(snapshot)) {
+                deferred.add(update);
+            }
+        } finally {
+            gate.readLock().unlock();
+        }
+    }
+
+    private LocalDateTime openSnapshot() {
+        gate.writeLock().lock();
+        try {
+            snapshot = LocalDateTime.now();
+            return snapshot;
+        } finally {
+            gate.writeLock().unlock();
+        }
+    }
+
+    private void closeSnapshot() {
+        gate.writeLock().lock();
+        try {
+            log.info("Applying {} rollup updates deferred during the backfill", deferred.size());
+            for (Runnable update = deferred.poll(); update != null; update = deferred.poll()) {
+                try {
+                    update.run();
+                } catch (RuntimeException e) {
+                    log.error("Failed to apply a deferred rollup update", e);
+                }
+            }
+        } finally {
+            snapshot = null;
+            gate.writeLock().unlock();
+        }
+    }
+
+    private void backfillRestaurant(Long restaurantId, LocalDateTime before) {
+        salesRollupRepository.deleteByRestaurantId(restaurantId);
+        itemSalesRollupRepository.deleteByRestaurantId(restaurantId);
+
+        Map<BucketKey, OrderTotals> orderTotals = new HashMap<>();
+        Map<BucketKey, ItemTotals> itemTotals = new HashMap<>();
+        cursorFetch.run(() -> {
+            try (Stream<OrderRollupSource> orders = orderRepository.streamClosedOrdersForRollup(restaurantId, before)) {
+                orders.forEach(order -> {
+                    if (order.closedAt() == null) {
+                        return;
+                    }
+                    for (RollupGranularity granularity : SalesAnalyticsService.ORDER_GRANULARITIES) {
+                        orderTotals.computeIfAbsent(
+                                new BucketKey(granularity, granularity.bucketStart(order.closedAt()), null),
+                                key -> new OrderTotals()
+                        ).add(order);
+                    }
+                });
+            }
+
+            try (Stream<ItemRollupSource> items = orderRepository.streamCompletedItemsForRollup(restaurantId, before)) {
+                items.forEach(item -> {
+                    if (item.closedAt() == null) {
+                        return;
+                    }
+                    for (RollupGranularity granularity : SalesAnalyticsService.ITEM_GRANULARITIES) {
+                        itemTotals.computeIfAbsent(
+                                new BucketKey(granularity, granularity.bucketStart(item.closedAt()), item.menuItemId()),
+                                key -> new ItemTotals(item.menuItemName())
+                        ).add(item);
+                    }
+                });
+            }
+        });
+
+        orderTotals.forEach((key, totals) -> salesRollupRepository.upsert(
+                restaurantId,
+                key.granularity().name(),
+                key.bucketStart(),
+                totals.completed,
+                totals.cancelled,
+                totals.revenue,
+                totals.itemsSold
+        ));
+        itemTotals.forEach((key, totals) -> itemSalesRollupRepository.upsert(
+                restaurantId,
+                key.granularity().name(),
+                key.bucketStart(),
+                key.menuItemId(),
+                totals.menuItemName,
+                totals.quantity,
+                totals.revenue
+        ));
+
+        log.debug("Backfilled restaurant {}: {} order buckets, {} item buckets",
+                restaurantId, orderTotals.size(), itemTotals.size());
+    }
+
+    private record BucketKey(RollupGranularity granularity, LocalDateTime bucketStart, Long menuItemId) {
+    }
+
+    private static final class OrderTotals {
+        private long completed;
+        private long cancelled;
+        private long itemsSold;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private void add(OrderRollupSource order) {
+            if (order.status() == OrderStatus.COMPLETED) {
+                completed++;
+                itemsSold += order.itemsSold();
+                revenue = revenue.add(order.totalAmount());
+            } else {
+                cancelled++;
+            }
+        }
+    }
+
+    private static final class ItemTotals {
+        private final String menuItemName;
+        private long quantity;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private ItemTotals(String menuItemName) {
+            this.menuItemName = menuItemName;
+        }
+
+        private void add(ItemRollupSource item) {
+            quantity += item.quantity();
+            revenue = revenue.add(item.subtotal());
+        }
+    }
+}
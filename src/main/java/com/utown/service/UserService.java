@@ -9,6 +9,7 @@ import com.utown.model.dto.user.UserDTO;
 import com.utown.model.entity.User;
 import com.utown.model.entity.mapper.UserMapper;
 import com.utown.repository.UserRepository;
+import com.utown.security.revocation.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -25,6 +26,8 @@ public class UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     public UserDTO getCurrentUser(Long userId) {
         User user = userRepository.findById(userId)
@@ -76,9 +79,29 @@ public class UserService {
         user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
 
+        refreshTokenService.revokeAll(userId);
+        tokenRevocationService.revokeUser(userId);
+
         log.info("Password changed for userId={}", userId);
     }
 
+    @Transactional
+    public UserDTO setActive(Long userId, boolean active) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User not found"));
+
+        user.setIsActive(active);
+        user = userRepository.save(user);
+
+        if (!active) {
+            refreshTokenService.revokeAll(userId);
+            tokenRevocationService.revokeUser(userId);
+        }
+
+        log.info("User {}: userId={}", active ? "activated" : "deactivated", userId);
+        return userMapper.toDto(user);
+    }
+
     public Page<UserDTO> getAllUsers(Pageable pageable) {
         Page<User> users = userRepository.findAll(pageable);
         return users.map(userMapper::toDto);
@@ -0,0 +1,58 @@
+package com.utown.sqlstats;
+
+import com.utown.config.SqlStatsProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Fail mode for HTTP: checks the statement budget just before the body is written, while the status can
+ * still change, so a regression reaches the client (and the test) as a 500 instead of a logged error
+ * after a 200. Each request is checked once, so the error response itself is not checked again.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "sql-stats.mode", havingValue = "fail")
+@RequiredArgsConstructor
+public class StatementBudgetAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String CHECKED_ATTRIBUTE = StatementBudgetAdvice.class.getName() + ".checked";
+
+    private final SqlStatsProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StatementStats stats = StatementScope.current();
+        if (stats == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        String endpoint = StatementStatsFilter.endpointOf(httpRequest);
+        if (endpoint == null || httpRequest.getAttribute(CHECKED_ATTRIBUTE) != null) {
+            return body;
+        }
+        httpRequest.setAttribute(CHECKED_ATTRIBUTE, Boolean.TRUE);
+
+        String violation = StatementStatsReporter.violation(endpoint, stats,
+                StatementStatsFilter.budgetOf(httpRequest, properties.getDefaultBudget()),
+                properties.getRepeatedThreshold());
+        if (violation != null) {
+            throw new StatementBudgetExceededException(violation);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,12 @@
+package com.utown.sqlstats;
+
+/**
+ * Thrown in {@code sql-stats.mode=fail} when a request or STOMP message runs over its statement budget
+ * or repeats a statement shape often enough to look like N+1.
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
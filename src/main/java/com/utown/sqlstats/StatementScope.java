@@ -0,0 +1,32 @@
+package com.utown.sqlstats;
+
+/**
+ * Binds the {@link StatementStats} of the request or message being handled to its thread. Scopes do
+ * not nest: opening one while another is active returns {@code null} and the outer scope keeps counting.
+ */
+public final class StatementScope {
+
+    private static final ThreadLocal<StatementStats> CURRENT = new ThreadLocal<>();
+
+    private StatementScope() {
+    }
+
+    public static StatementStats open() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        StatementStats stats = new StatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static StatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void close(StatementStats stats) {
+        if (stats != null && CURRENT.get() == stats) {
+            CURRENT.remove();
+        }
+    }
+}
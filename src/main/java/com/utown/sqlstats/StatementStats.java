@@ -0,0 +1,78 @@
+package com.utown.sqlstats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Statements, rows and database time of one request or STOMP message, plus how often each statement
+ * shape ran. Only touched by the thread that owns the scope.
+ */
+public class StatementStats {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private long rows;
+    private long elapsedMs;
+
+    public void recordStatement(String sql) {
+        statements++;
+        shapes.merge(shapeOf(sql), 1, Integer::sum);
+    }
+
+    public void recordElapsed(long millis) {
+        elapsedMs += millis;
+    }
+
+    public void recordRows(long count) {
+        rows += count;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /**
+     * Statement shapes that ran at least {@code threshold} times, most frequent first.
+     */
+    public List<RepeatedStatement> repeated(int threshold) {
+        List<RepeatedStatement> repeated = new ArrayList<>();
+        shapes.forEach((shape, count) -> {
+            if (count >= threshold) {
+                repeated.add(new RepeatedStatement(shape, count));
+            }
+        });
+        repeated.sort(Comparator.comparingInt(RepeatedStatement::count).reversed());
+        return repeated;
+    }
+
+    /**
+     * Reduces a statement to its shape: literals become {@code ?} and IN lists of any length collapse to
+     * {@code in (?)}, so a lazy load repeated for each row of a page counts as one shape.
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public record RepeatedStatement(String shape, int count) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.utown.sqlstats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Counts statements per inbound STOMP message: once around the channel interceptors (subscription checks
+ * run on the sending thread) and once around each handler on the executor thread. Must be registered
+ * before the other inbound interceptors.
+ */
+@Component
+@ConditionalOnProperty(name = "sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class StatementStatsChannelInterceptor implements ExecutorChannelInterceptor {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final ThreadLocal<StatementStats> sendScope = new ThreadLocal<>();
+    private final ThreadLocal<StatementStats> handleScope = new ThreadLocal<>();
+    private final StatementStatsReporter reporter;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        sendScope.set(StatementScope.open());
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        finish(sendScope, message);
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        handleScope.set(StatementScope.open());
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        finish(handleScope, message);
+    }
+
+    private void finish(ThreadLocal<StatementStats> scope, Message<?> message) {
+        StatementStats stats = scope.get();
+        scope.remove();
+        if (stats == null) {
+            return;
+        }
+        StatementScope.close(stats);
+
+        // Most frames (heartbeats, broker relays) touch no table; only messages that did are reported
+        if (stats.getStatements() > 0) {
+            reporter.report(endpointOf(message), stats, reporter.defaultBudget());
+        }
+    }
+
+    private static String endpointOf(Message<?> message) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return "STOMP";
+        }
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return "STOMP " + accessor.getCommand();
+        }
+        return "STOMP " + accessor.getCommand() + " " + ID_SEGMENT.matcher(destination).replaceAll("/{id}");
+    }
+}
@@ -0,0 +1,68 @@
+package com.utown.sqlstats;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the statements of each HTTP request. Work done on async threads after the handler returns
+ * (streamed responses) happens outside the scope and is not counted. In fail mode a violation can only
+ * change the status while the response is uncommitted; {@link StatementBudgetAdvice} checks before the
+ * body is written.
+ */
+@Component
+@ConditionalOnProperty(name = "sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class StatementStatsFilter extends OncePerRequestFilter {
+
+    private final StatementStatsReporter reporter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        StatementStats stats = StatementScope.open();
+        if (stats == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StatementScope.close(stats);
+        }
+
+        // Requests that never reached a handler (static resources, rejected by security) are not reported
+        String endpoint = endpointOf(request);
+        if (endpoint != null) {
+            reporter.report(endpoint, stats, budgetOf(request, reporter.defaultBudget()), !response.isCommitted());
+        }
+    }
+
+    static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? null : request.getMethod() + " " + pattern;
+    }
+
+    static int budgetOf(HttpServletRequest request, int defaultBudget) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            StatementBudget budget = handler.getMethodAnnotation(StatementBudget.class);
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return defaultBudget;
+    }
+}
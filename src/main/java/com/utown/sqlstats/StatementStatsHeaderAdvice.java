@@ -0,0 +1,44 @@
+package com.utown.sqlstats;
+
+import com.utown.config.SqlStatsProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Dev-mode response headers with the statement counts of the request so far. Set just before the body
+ * is written, which is after the handler and its transaction have finished.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "sql-stats.headers", havingValue = "true")
+@RequiredArgsConstructor
+public class StatementStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlStatsProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StatementStats stats = StatementScope.current();
+        if (stats != null) {
+            response.getHeaders().set("X-Sql-Statements", String.valueOf(stats.getStatements()));
+            response.getHeaders().set("X-Sql-Rows", String.valueOf(stats.getRows()));
+            response.getHeaders().set("X-Sql-Time-Ms", String.valueOf(stats.getElapsedMs()));
+            response.getHeaders().set("X-Sql-Repeated",
+                    String.valueOf(stats.repeated(properties.getRepeatedThreshold()).size()));
+        }
+        return body;
+    }
+}
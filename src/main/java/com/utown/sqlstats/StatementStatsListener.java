@@ -0,0 +1,58 @@
+package com.utown.sqlstats;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Feeds executed statements, update counts and fetched rows into the {@link StatementScope} of the
+ * calling thread. Statements outside a scope (scheduled jobs, startup) are not counted.
+ */
+public class StatementStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StatementStats stats = StatementScope.current();
+        if (stats == null) {
+            return;
+        }
+        for (QueryInfo query : queryInfoList) {
+            stats.recordStatement(query.getQuery());
+        }
+        stats.recordElapsed(execInfo.getElapsedTime());
+
+        Object result = execInfo.getResult();
+        if (result instanceof Integer updated) {
+            stats.recordRows(Math.max(updated, 0));
+        } else if (result instanceof int[] batch) {
+            for (int updated : batch) {
+                stats.recordRows(Math.max(updated, 0));
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            StatementStats stats = StatementScope.current();
+            if (stats != null) {
+                stats.recordRows(1);
+            }
+        }
+    }
+}
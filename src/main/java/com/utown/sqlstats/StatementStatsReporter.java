@@ -0,0 +1,86 @@
+package com.utown.sqlstats;
+
+import com.utown.config.SqlStatsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Records the statement counts of a finished scope and checks them against its budget. Endpoint tags
+ * are route patterns and normalized STOMP destinations, so the number of series stays bounded.
+ */
+@Component
+@ConditionalOnProperty(name = "sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class StatementStatsReporter {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatsProperties properties;
+
+    public void report(String endpoint, StatementStats stats, int budget) {
+        report(endpoint, stats, budget, true);
+    }
+
+    /**
+     * @param mayThrow false once the HTTP response is committed: the client already has its status, so
+     *                 fail mode only logs (the budget is normally enforced earlier by {@link StatementBudgetAdvice})
+     */
+    public void report(String endpoint, StatementStats stats, int budget, boolean mayThrow) {
+        meterRegistry.summary("sql.statements", "endpoint", endpoint).record(stats.getStatements());
+        meterRegistry.summary("sql.rows", "endpoint", endpoint).record(stats.getRows());
+
+        List<StatementStats.RepeatedStatement> repeated = stats.repeated(properties.getRepeatedThreshold());
+        boolean overBudget = stats.getStatements() > budget;
+        if (repeated.isEmpty() && !overBudget) {
+            return;
+        }
+
+        if (overBudget) {
+            meterRegistry.counter("sql.budget.exceeded", "endpoint", endpoint).increment();
+        }
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("sql.repeated.statements", "endpoint", endpoint).increment();
+        }
+
+        String message = describe(endpoint, stats, budget, repeated);
+        if (properties.isFailMode() && mayThrow) {
+            throw new StatementBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * The budget or N+1 violation of the scope so far, or {@code null}; records no metrics.
+     */
+    static String violation(String endpoint, StatementStats stats, int budget, int repeatedThreshold) {
+        List<StatementStats.RepeatedStatement> repeated = stats.repeated(repeatedThreshold);
+        if (repeated.isEmpty() && stats.getStatements() <= budget) {
+            return null;
+        }
+        return describe(endpoint, stats, budget, repeated);
+    }
+
+    public int defaultBudget() {
+        return properties.getDefaultBudget();
+    }
+
+    private static String describe(String endpoint, StatementStats stats, int budget,
+                                   List<StatementStats.RepeatedStatement> repeated) {
+        StringBuilder message = new StringBuilder()
+                .append(endpoint).append(" ran ").append(stats.getStatements())
+                .append(" statements (budget ").append(budget).append(", ")
+                .append(stats.getRows()).append(" rows, ").append(stats.getElapsedMs()).append(" ms)");
+        if (!repeated.isEmpty()) {
+            message.append("; possible N+1: ").append(repeated.stream()
+                    .map(r -> r.count() + "x [" + r.shape() + "]")
+                    .collect(Collectors.joining(", ")));
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.utown.streaming;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.jdbc.JdbcConnection;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Turns on MySQL server-side cursors for one streaming query, so that its {@link JsonStreamWriter#FETCH_SIZE}
+ * is honoured instead of the driver reading the whole result into memory. The rest of the application keeps
+ * client-side prepared statements: the settings are restored on the connection before it goes back to the pool.
+ * On any other database the work simply runs as is.
+ */
+@Component
+@RequiredArgsConstructor
+public class CursorFetch {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Runs {@code work} with cursor fetch enabled on the connection of the current transaction.
+     * Must be called inside that transaction, and the streams must be opened and closed within {@code work}.
+     */
+    public void run(Runnable work) {
+        Connection connection = entityManager.unwrap(Session.class).doReturningWork(c -> c);
+        PropertySet properties = mysqlProperties(connection);
+        if (properties == null) {
+            work.run();
+            return;
+        }
+
+        RuntimeProperty<Boolean> cursorFetch = properties.getBooleanProperty(PropertyKey.useCursorFetch);
+        RuntimeProperty<Boolean> serverPrepared = properties.getBooleanProperty(PropertyKey.useServerPrepStmts);
+        boolean cursorFetchBefore = cursorFetch.getValue();
+        boolean serverPreparedBefore = serverPrepared.getValue();
+        cursorFetch.setValue(true);
+        serverPrepared.setValue(true);
+        try {
+            work.run();
+        } finally {
+            cursorFetch.setValue(cursorFetchBefore);
+            serverPrepared.setValue(serverPreparedBefore);
+        }
+    }
+
+    private static PropertySet mysqlProperties(Connection connection) {
+        try {
+            return connection.isWrapperFor(JdbcConnection.class)
+                    ? connection.unwrap(JdbcConnection.class).getPropertySet()
+                    : null;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot inspect the JDBC connection", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.utown.streaming;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Gives streamed responses under {@code pathPrefix} a longer async timeout. Every other async request
+ * keeps the container default. Runs right before concurrent handling starts, while the timeout can still change.
+ */
+@RequiredArgsConstructor
+public class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private final String pathPrefix;
+    private final long timeoutMs;
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        if (request instanceof AsyncWebRequest asyncRequest && servletRequest != null
+                && servletRequest.getRequestURI().startsWith(servletRequest.getContextPath() + pathPrefix)) {
+            asyncRequest.setTimeout(timeoutMs);
+        }
+    }
+}
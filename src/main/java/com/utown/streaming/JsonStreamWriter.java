@@ -0,0 +1,207 @@
+package com.utown.streaming;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Writes query results to the response one element at a time instead of building a list first.
+ * The query is opened inside a read-only transaction on the async thread that writes the body,
+ * so the JDBC cursor lives exactly as long as the response.
+ */
+@Component
+@Slf4j
+public class JsonStreamWriter {
+
+    /**
+     * JDBC fetch size for streaming queries. MySQL only honours it inside {@link CursorFetch#run}.
+     */
+    public static final String FETCH_SIZE = "500";
+
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final CursorFetch cursorFetch;
+    private final TransactionTemplate transactionTemplate;
+
+    public JsonStreamWriter(
+            ObjectMapper objectMapper,
+            EntityManager entityManager,
+            CursorFetch cursorFetch,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.cursorFetch = cursorFetch;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Streams rows that are already DTOs (constructor projections).
+     */
+    public <T> StreamingResponseBody values(StreamFormat format, Supplier<Stream<T>> query) {
+        return body(format, null, query, Function.identity(), false);
+    }
+
+    /**
+     * Streams entities, mapping each one and detaching it right after it is written.
+     * Shared to-one associations are not detached here; the mapper can release them with {@link #detach}.
+     */
+    public <T> StreamingResponseBody entities(StreamFormat format, Supplier<Stream<T>> query, Function<T, ?> mapper) {
+        return body(format, null, query, mapper, true);
+    }
+
+    /**
+     * Same as {@link #entities} but for JSON wraps the array as {@code {"success": true, "<dataField>": [...]}}.
+     * NDJSON output is never wrapped.
+     */
+    public <T> StreamingResponseBody entities(
+            StreamFormat format,
+            String dataField,
+            Supplier<Stream<T>> query,
+            Function<T, ?> mapper
+    ) {
+        return body(format, dataField, query, mapper, true);
+    }
+
+    /**
+     * Streams entities in chunks of {@code chunkSize}, so the mapper can load their collections with one query
+     * per chunk instead of fetch-joining them into the streamed rows. Each chunk is detached once it is written.
+     */
+    public <T> StreamingResponseBody chunks(
+            StreamFormat format,
+            Supplier<Stream<T>> query,
+            int chunkSize,
+            Function<List<T>, List<?>> mapper
+    ) {
+        return body(format, null, () -> chunked(query.get(), chunkSize, mapper), Function.identity(), false);
+    }
+
+    public void detach(Object... entities) {
+        for (Object entity : entities) {
+            if (entity != null) {
+                entityManager.detach(entity);
+            }
+        }
+    }
+
+    private <T> StreamingResponseBody body(
+            StreamFormat format,
+            String dataField,
+            Supplier<Stream<T>> query,
+            Function<T, ?> mapper,
+            boolean detachRows
+    ) {
+        return outputStream -> transactionTemplate.executeWithoutResult(status -> cursorFetch.run(() -> {
+            try (Stream<T> rows = query.get()) {
+                long written = write(outputStream, format, dataField, rows.iterator(), mapper, detachRows);
+                log.debug("Streamed {} elements as {}", written, format);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    private <T> Stream<Object> chunked(Stream<T> rows, int chunkSize, Function<List<T>, List<?>> mapper) {
+        Iterator<T> source = rows.iterator();
+        Iterator<Object> mapped = new Iterator<>() {
+            private List<T> chunk = List.of();
+            private Iterator<?> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && source.hasNext()) {
+                    chunk.forEach(entityManager::detach);
+                    chunk = new ArrayList<>(chunkSize);
+                    while (chunk.size() < chunkSize && source.hasNext()) {
+                        chunk.add(source.next());
+                    }
+                    current = mapper.apply(chunk).iterator();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public Object next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(mapped, Spliterator.ORDERED), false)
+                .onClose(rows::close);
+    }
+
+    private <T> long write(
+            OutputStream outputStream,
+            StreamFormat format,
+            String dataField,
+            Iterator<T> rows,
+            Function<T, ?> mapper,
+            boolean detachRows
+    ) throws IOException {
+        long written = 0;
+
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            boolean array = format == StreamFormat.JSON;
+            if (array && dataField != null) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeFieldName(dataField);
+            }
+            if (array) {
+                generator.writeStartArray();
+            }
+
+            while (rows.hasNext()) {
+                T row = rows.next();
+                generator.writeObject(mapper.apply(row));
+                if (!array) {
+                    generator.writeRaw('\n');
+                }
+                if (detachRows) {
+                    entityManager.detach(row);
+                }
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+
+            if (array) {
+                generator.writeEndArray();
+            }
+            if (array && dataField != null) {
+                generator.writeEndObject();
+            }
+        }
+
+        return written;
+    }
+}
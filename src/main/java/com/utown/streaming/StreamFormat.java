@@ -0,0 +1,31 @@
+package com.utown.streaming;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum StreamFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    /**
+     * Picks NDJSON or JSON from the Accept header; anything else falls back to {@code defaultFormat}.
+     */
+    public static StreamFormat fromAccept(String accept, StreamFormat defaultFormat) {
+        if (accept == null || accept.isBlank()) {
+            return defaultFormat;
+        }
+        if (accept.contains(MediaType.APPLICATION_NDJSON_VALUE)) {
+            return NDJSON;
+        }
+        if (accept.contains(MediaType.APPLICATION_JSON_VALUE)) {
+            return JSON;
+        }
+        return defaultFormat;
+    }
+}
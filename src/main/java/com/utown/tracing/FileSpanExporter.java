@@ -0,0 +1,71 @@
+package com.utown.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends one OTLP/JSON request per line, the format of the collector's file exporter, so the file can
+ * be replayed into a collector or read with {@code jq}. Once the file reaches {@code maxBytes} it is
+ * moved to {@code <path>.1}, replacing the previous one, so at most twice that is kept on disk.
+ */
+public class FileSpanExporter implements SpanExporter {
+
+    private final Path path;
+    private final Path rolledPath;
+    private final long maxBytes;
+    private final String serviceName;
+    private final ObjectMapper objectMapper;
+    private BufferedWriter writer;
+    private long size;
+
+    public FileSpanExporter(Path path, long maxBytes, String serviceName, ObjectMapper objectMapper)
+            throws IOException {
+        this.path = path;
+        this.rolledPath = path.resolveSibling(path.getFileName() + ".1");
+        this.maxBytes = maxBytes;
+        this.serviceName = serviceName;
+        this.objectMapper = objectMapper;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        open();
+    }
+
+    @Override
+    public void export(List<Span> spans) throws IOException {
+        byte[] line = objectMapper.writeValueAsBytes(OtlpJson.encode(serviceName, spans));
+        if (size > 0 && size + line.length + 1 > maxBytes) {
+            roll();
+        }
+        writer.write(new String(line, StandardCharsets.UTF_8));
+        writer.newLine();
+        writer.flush();
+        size += line.length + 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void open() throws IOException {
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(path);
+    }
+
+    private void roll() throws IOException {
+        writer.close();
+        Files.move(path, rolledPath, StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+}
@@ -0,0 +1,64 @@
+package com.utown.tracing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OTLP/JSON {@code ExportTraceServiceRequest} encoding: what an OpenTelemetry collector accepts on
+ * {@code /v1/traces} and what its file exporter writes per line.
+ */
+final class OtlpJson {
+
+    private static final int STATUS_CODE_ERROR = 2;
+
+    private OtlpJson() {
+    }
+
+    static Map<String, Object> encode(String serviceName, List<Span> spans) {
+        List<Map<String, Object>> encoded = new ArrayList<>(spans.size());
+        for (Span span : spans) {
+            encoded.add(encode(span));
+        }
+        return Map.of("resourceSpans", List.of(Map.of(
+                "resource", Map.of("attributes", List.of(attribute("service.name", serviceName))),
+                "scopeSpans", List.of(Map.of(
+                        "scope", Map.of("name", "com.utown.tracing"),
+                        "spans", encoded
+                ))
+        )));
+    }
+
+    private static Map<String, Object> encode(Span span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.trace().traceId());
+        json.put("spanId", span.spanId());
+        if (span.parentSpanId() != null) {
+            json.put("parentSpanId", span.parentSpanId());
+        }
+        json.put("name", span.name());
+        json.put("kind", span.kind().otlpCode());
+        // 64-bit integers are strings in OTLP/JSON
+        json.put("startTimeUnixNano", Long.toString(span.startEpochNanos()));
+        json.put("endTimeUnixNano", Long.toString(span.startEpochNanos() + span.durationNanos()));
+        if (!span.attributes().isEmpty()) {
+            List<Map<String, Object>> attributes = new ArrayList<>(span.attributes().size());
+            span.attributes().forEach((key, value) -> attributes.add(attribute(key, value)));
+            json.put("attributes", attributes);
+        }
+        if (span.isError()) {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("code", STATUS_CODE_ERROR);
+            if (span.errorMessage() != null) {
+                status.put("message", span.errorMessage());
+            }
+            json.put("status", status);
+        }
+        return json;
+    }
+
+    private static Map<String, Object> attribute(String key, String value) {
+        return Map.of("key", key, "value", Map.of("stringValue", value));
+    }
+}
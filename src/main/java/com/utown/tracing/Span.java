@@ -0,0 +1,160 @@
+package com.utown.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A timed operation within a trace. Closing a span makes its parent current again; closing a local root
+ * hands the trace to the tail sampler. Outside a trace {@link Tracer#startSpan} returns {@link #NOOP},
+ * so instrumented code does not need to check.
+ */
+public final class Span implements AutoCloseable {
+
+    static final Span NOOP = new Span();
+
+    private final Tracer tracer;
+    private final Trace trace;
+    private final Span previous;
+    private final String spanId;
+    private final String parentSpanId;
+    private final SpanKind kind;
+    private final boolean localRoot;
+    private final long startEpochNanos;
+    private final long startNanos;
+    private String name;
+    private Map<String, String> attributes;
+    private long durationNanos = -1;
+    private boolean error;
+    private String errorMessage;
+
+    Span(Tracer tracer, Trace trace, Span previous, String parentSpanId,
+         String name, SpanKind kind, boolean localRoot) {
+        this.tracer = tracer;
+        this.trace = trace;
+        this.previous = previous;
+        this.spanId = TraceContext.newSpanId();
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.localRoot = localRoot;
+        this.startEpochNanos = System.currentTimeMillis() * 1_000_000L;
+        this.startNanos = System.nanoTime();
+    }
+
+    private Span() {
+        this.tracer = null;
+        this.trace = null;
+        this.previous = null;
+        this.spanId = null;
+        this.parentSpanId = null;
+        this.kind = SpanKind.INTERNAL;
+        this.localRoot = false;
+        this.startEpochNanos = 0;
+        this.startNanos = 0;
+    }
+
+    public boolean isRecording() {
+        return this != NOOP;
+    }
+
+    public Span rename(String name) {
+        if (isRecording()) {
+            this.name = name;
+        }
+        return this;
+    }
+
+    public Span attribute(String key, Object value) {
+        if (isRecording() && value != null) {
+            if (attributes == null) {
+                attributes = new LinkedHashMap<>();
+            }
+            attributes.put(key, value.toString());
+        }
+        return this;
+    }
+
+    public Span markError(String message) {
+        if (isRecording()) {
+            error = true;
+            errorMessage = message;
+        }
+        return this;
+    }
+
+    public Span recordError(Throwable throwable) {
+        return markError(throwable.getClass().getSimpleName() + ": " + throwable.getMessage());
+    }
+
+    /**
+     * @return the trace id, or null outside a trace
+     */
+    public String traceId() {
+        return isRecording() ? trace.traceId() : null;
+    }
+
+    /**
+     * @return the {@code traceparent} value that makes this span the parent, or null outside a trace
+     */
+    public String traceparent() {
+        return isRecording() ? new TraceContext(trace.traceId(), spanId, trace.upstreamSampled()).toTraceparent() : null;
+    }
+
+    @Override
+    public void close() {
+        if (!isRecording() || durationNanos >= 0) {
+            return;
+        }
+        durationNanos = System.nanoTime() - startNanos;
+        tracer.end(this);
+    }
+
+    Trace trace() {
+        return trace;
+    }
+
+    Span previous() {
+        return previous;
+    }
+
+    boolean isLocalRoot() {
+        return localRoot;
+    }
+
+    String spanId() {
+        return spanId;
+    }
+
+    String parentSpanId() {
+        return parentSpanId;
+    }
+
+    String name() {
+        return name;
+    }
+
+    SpanKind kind() {
+        return kind;
+    }
+
+    long startEpochNanos() {
+        return startEpochNanos;
+    }
+
+    long durationNanos() {
+        return durationNanos;
+    }
+
+    Map<String, String> attributes() {
+        return attributes != null ? attributes : Collections.emptyMap();
+    }
+
+    boolean isError() {
+        return error;
+    }
+
+    String errorMessage() {
+        return errorMessage;
+    }
+}
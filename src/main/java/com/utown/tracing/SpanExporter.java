@@ -0,0 +1,18 @@
+package com.utown.tracing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives the spans of kept traces on the export thread, one batch of traces at a time.
+ */
+@FunctionalInterface
+public interface SpanExporter extends Closeable {
+
+    void export(List<Span> spans) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,22 @@
+package com.utown.tracing;
+
+/**
+ * Span kinds with their OTLP enum values.
+ */
+public enum SpanKind {
+    INTERNAL(1),
+    SERVER(2),
+    CLIENT(3),
+    PRODUCER(4),
+    CONSUMER(5);
+
+    private final int otlpCode;
+
+    SpanKind(int otlpCode) {
+        this.otlpCode = otlpCode;
+    }
+
+    public int otlpCode() {
+        return otlpCode;
+    }
+}
@@ -0,0 +1,44 @@
+package com.utown.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides once the local root has ended, when the outcome of the whole trace is known. Errors and slow
+ * traces are always kept, as are traces an upstream caller already sampled; the rest are kept at the
+ * baseline rate.
+ */
+public class TailSampler {
+
+    public enum Decision {
+        ERROR, SLOW, UPSTREAM, BASELINE, DROP;
+
+        public boolean keep() {
+            return this != DROP;
+        }
+    }
+
+    private final long slowThresholdNanos;
+    private final double baselineRate;
+
+    public TailSampler(long slowThresholdMs, double baselineRate) {
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000L;
+        this.baselineRate = baselineRate;
+    }
+
+    public Decision decide(boolean error, long durationNanos, boolean upstreamSampled) {
+        return decide(error, durationNanos, upstreamSampled, ThreadLocalRandom.current().nextDouble());
+    }
+
+    Decision decide(boolean error, long durationNanos, boolean upstreamSampled, double roll) {
+        if (error) {
+            return Decision.ERROR;
+        }
+        if (durationNanos >= slowThresholdNanos) {
+            return Decision.SLOW;
+        }
+        if (upstreamSampled) {
+            return Decision.UPSTREAM;
+        }
+        return roll < baselineRate ? Decision.BASELINE : Decision.DROP;
+    }
+}
@@ -0,0 +1,56 @@
+package com.utown.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The finished spans of one local root, held until the root ends and the tail sampler decides whether
+ * the whole trace is exported. Only touched by the thread that owns the root span.
+ */
+final class Trace {
+
+    private final String traceId;
+    private final boolean upstreamSampled;
+    private final int maxSpans;
+    private final List<Span> spans = new ArrayList<>();
+    private int droppedSpans;
+    private boolean error;
+
+    Trace(String traceId, boolean upstreamSampled, int maxSpans) {
+        this.traceId = traceId;
+        this.upstreamSampled = upstreamSampled;
+        this.maxSpans = maxSpans;
+    }
+
+    void add(Span span) {
+        if (span.isError()) {
+            error = true;
+        }
+        // the root ends last and is always kept, so a capped trace still has its entry point
+        if (spans.size() < maxSpans || span.isLocalRoot()) {
+            spans.add(span);
+        } else {
+            droppedSpans++;
+        }
+    }
+
+    String traceId() {
+        return traceId;
+    }
+
+    boolean upstreamSampled() {
+        return upstreamSampled;
+    }
+
+    boolean hasError() {
+        return error;
+    }
+
+    int droppedSpans() {
+        return droppedSpans;
+    }
+
+    List<Span> spans() {
+        return spans;
+    }
+}
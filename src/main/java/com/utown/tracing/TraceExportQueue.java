@@ -0,0 +1,112 @@
+package com.utown.tracing;
+
+import com.utown.config.TracingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands kept traces from request threads to a single export thread. Request threads never wait: when
+ * the exporter falls behind and the queue is full, the trace is dropped and counted.
+ */
+@Component
+@Slf4j
+public class TraceExportQueue {
+
+    private final BlockingQueue<List<Span>> queue;
+    private final SpanExporter exporter;
+    private final int batchSize;
+    private final Counter dropped;
+    private final Counter failures;
+    private volatile boolean running;
+    private boolean failing;
+    private Thread worker;
+
+    public TraceExportQueue(SpanExporter exporter, TracingProperties properties, MeterRegistry meterRegistry) {
+        this.exporter = exporter;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.dropped = meterRegistry.counter("tracing.export.dropped");
+        this.failures = meterRegistry.counter("tracing.export.failures");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "trace-exporter");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void offer(List<Span> spans) {
+        if (!queue.offer(spans)) {
+            dropped.increment();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+
+        List<List<Span>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            export(remaining);
+        }
+        try {
+            exporter.close();
+        } catch (IOException e) {
+            log.warn("Failed to close span exporter: {}", e.getMessage());
+        }
+    }
+
+    private void run() {
+        List<List<Span>> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                List<Span> first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                export(batch);
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void export(List<List<Span>> traces) {
+        List<Span> spans = new ArrayList<>();
+        traces.forEach(spans::addAll);
+        try {
+            exporter.export(spans);
+            if (failing) {
+                log.info("Trace export recovered");
+                failing = false;
+            }
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            // logged once per outage rather than once per batch
+            if (!failing) {
+                log.warn("Trace export failed, dropping traces until it recovers: {}", e.getMessage());
+                failing = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.utown.tracing;
+
+import com.utown.config.TracingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Keeps the current span per thread. A trace starts at an entry point (HTTP request, inbound STOMP
+ * message) and only spans started on that thread while it is open join it; work handed to other threads
+ * (streamed responses, event listeners, scheduled jobs) is not traced.
+ */
+@Component
+public class Tracer {
+
+    public static final String MDC_TRACE_ID = "traceId";
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private final TailSampler sampler;
+    private final TraceExportQueue exportQueue;
+    private final int maxSpansPerTrace;
+    private final Map<TailSampler.Decision, Counter> decisions = new EnumMap<>(TailSampler.Decision.class);
+
+    public Tracer(TailSampler sampler, TraceExportQueue exportQueue,
+                  TracingProperties properties, MeterRegistry meterRegistry) {
+        this.sampler = sampler;
+        this.exportQueue = exportQueue;
+        this.maxSpansPerTrace = properties.getMaxSpansPerTrace();
+        for (TailSampler.Decision decision : TailSampler.Decision.values()) {
+            decisions.put(decision, meterRegistry.counter("tracing.traces", "decision", decision.name().toLowerCase()));
+        }
+    }
+
+    /**
+     * Starts a local root, continuing {@code parent} when the caller sent a trace context.
+     */
+    public Span startTrace(String name, SpanKind kind, TraceContext parent) {
+        Trace trace = parent != null
+                ? new Trace(parent.traceId(), parent.sampled(), maxSpansPerTrace)
+                : new Trace(TraceContext.newTraceId(), false, maxSpansPerTrace);
+        Span span = new Span(this, trace, CURRENT.get(), parent != null ? parent.spanId() : null, name, kind, true);
+        CURRENT.set(span);
+        MDC.put(MDC_TRACE_ID, trace.traceId());
+        return span;
+    }
+
+    /**
+     * @return a child of the current span, or {@link Span#NOOP} when the thread is not inside a trace
+     */
+    public Span startSpan(String name, SpanKind kind) {
+        Span parent = CURRENT.get();
+        if (parent == null) {
+            return Span.NOOP;
+        }
+        Span span = new Span(this, parent.trace(), parent, parent.spanId(), name, kind, false);
+        CURRENT.set(span);
+        return span;
+    }
+
+    public Span current() {
+        Span span = CURRENT.get();
+        return span != null ? span : Span.NOOP;
+    }
+
+    void end(Span span) {
+        Span previous = span.previous();
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+
+        Trace trace = span.trace();
+        if (!span.isLocalRoot()) {
+            trace.add(span);
+            return;
+        }
+
+        if (previous != null) {
+            MDC.put(MDC_TRACE_ID, previous.trace().traceId());
+        } else {
+            MDC.remove(MDC_TRACE_ID);
+        }
+        if (trace.droppedSpans() > 0) {
+            span.attribute("tracing.dropped_spans", trace.droppedSpans());
+        }
+        trace.add(span);
+
+        TailSampler.Decision decision = sampler.decide(trace.hasError(), span.durationNanos(), trace.upstreamSampled());
+        decisions.get(decision).increment();
+        if (decision.keep()) {
+            span.attribute("sampling.decision", decision.name().toLowerCase());
+            exportQueue.offer(trace.spans());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.utown.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Child spans for controller, service and repository calls. Outside a trace the advice only checks the
+ * current span and proceeds.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+    private final Tracer tracer;
+
+    @Around("within(com.utown.controller..*) || within(com.utown.service..*)")
+    public Object traceComponent(ProceedingJoinPoint joinPoint) throws Throwable {
+        String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return proceed(joinPoint, type, SpanKind.INTERNAL);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        // inherited methods (save, findById) are declared on CrudRepository; name them after the repository
+        Object repository = joinPoint.getThis();
+        String type = repositoryNames.computeIfAbsent(repository.getClass(), proxyClass ->
+                Arrays.stream(AopProxyUtils.proxiedUserInterfaces(repository))
+                        .filter(Repository.class::isAssignableFrom)
+                        .findFirst()
+                        .orElse(joinPoint.getSignature().getDeclaringType())
+                        .getSimpleName());
+        return proceed(joinPoint, type, SpanKind.CLIENT);
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint, String type, SpanKind kind) throws Throwable {
+        if (!tracer.current().isRecording()) {
+            return joinPoint.proceed();
+        }
+        Span span = tracer.startSpan(type + "." + joinPoint.getSignature().getName(), kind);
+        if (kind == SpanKind.CLIENT) {
+            span.attribute("db.system", "mysql");
+        }
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.close();
+        }
+    }
+}
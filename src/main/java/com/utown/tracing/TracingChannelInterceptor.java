@@ -0,0 +1,88 @@
+package com.utown.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Traces inbound STOMP frames: a root span on the sending thread around the channel interceptors
+ * (subscription checks) continuing the frame's {@code traceparent} header, and one around the
+ * {@code @MessageMapping} handler on the executor thread, parented to the first. Must be registered
+ * before the other inbound interceptors.
+ */
+@Component
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TracingChannelInterceptor implements ExecutorChannelInterceptor {
+
+    private static final String HANDLER_PARENT_HEADER = "utown.traceparent";
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final ThreadLocal<Span> sendSpan = new ThreadLocal<>();
+    private final ThreadLocal<Span> handleSpan = new ThreadLocal<>();
+    private final Tracer tracer;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        TraceContext parent = TraceContext.parse(accessor.getFirstNativeHeader(TraceContext.HEADER));
+        Span span = tracer.startTrace(nameOf(accessor), SpanKind.SERVER, parent);
+        sendSpan.set(span);
+        if (accessor.isMutable()) {
+            accessor.setHeader(HANDLER_PARENT_HEADER, span.traceparent());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        finish(sendSpan, ex);
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (message.getHeaders().get(HANDLER_PARENT_HEADER) instanceof String traceparent) {
+            StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+            String name = accessor != null && accessor.getCommand() != null ? nameOf(accessor) : "STOMP";
+            handleSpan.set(tracer.startTrace(name, SpanKind.CONSUMER, TraceContext.parse(traceparent)));
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        finish(handleSpan, ex);
+    }
+
+    private static void finish(ThreadLocal<Span> holder, Exception ex) {
+        Span span = holder.get();
+        holder.remove();
+        if (span == null) {
+            return;
+        }
+        if (ex != null) {
+            span.recordError(ex);
+        }
+        span.close();
+    }
+
+    private static String nameOf(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return "STOMP " + accessor.getCommand();
+        }
+        return "STOMP " + accessor.getCommand() + " " + ID_SEGMENT.matcher(destination).replaceAll("/{id}");
+    }
+}
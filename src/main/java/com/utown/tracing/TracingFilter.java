@@ -0,0 +1,60 @@
+package com.utown.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens the server span of each HTTP request, continuing an incoming {@code traceparent}, and returns
+ * the request's own context in the {@code traceparent} response header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TracingFilter extends OncePerRequestFilter {
+
+    private final Tracer tracer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        TraceContext parent = TraceContext.parse(request.getHeader(TraceContext.HEADER));
+        Span span = tracer.startTrace(request.getMethod(), SpanKind.SERVER, parent);
+        response.setHeader(TraceContext.HEADER, span.traceparent());
+
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            // Requests that never reached a handler keep the bare method as their name
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                span.rename(request.getMethod() + " " + pattern)
+                        .attribute("http.route", pattern);
+            }
+            int status = response.getStatus();
+            span.attribute("http.request.method", request.getMethod())
+                    .attribute("http.response.status_code", status);
+            if (status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+                span.markError("HTTP " + status);
+            }
+            span.close();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.utown.tracking;
+
+import com.utown.dispatch.RiderAssignments;
+import com.utown.dispatch.RiderGrid;
+import com.utown.model.dto.rider.RiderLocationData;
+import com.utown.model.dto.rider.RiderLocationMessage;
+import com.utown.model.dto.rider.TrackPointDTO;
+import com.utown.repository.RiderTrackPointRepository;
+import com.utown.service.NotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Live rider positions for the customer map. Every ping only replaces the rider's latest position in memory;
+ * the order topic of the order the rider carries gets that position at most once per push interval, and
+ * only if it changed. While carrying an order, pings are also downsampled (a point every
+ * {@code min-distance-m} of movement, or every {@code max-interval-ms} when standing still) into a
+ * delta-encoded {@link TrackBuffer} that is written to {@code rider_track_points} in JDBC batches
+ * off the inbound thread, for delivery audits.
+ */
+@Service
+@Slf4j
+public class RiderTrackingService {
+
+    private static final String INSERT_TRACK_POINT =
+            "INSERT INTO rider_track_points (order_id, rider_id, latitude, longitude, recorded_at) VALUES (?, ?, ?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final RiderAssignments assignments;
+    private final NotificationService notificationService;
+    private final RiderTrackPointRepository riderTrackPointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final double minDistanceKm;
+    private final long maxIntervalMillis;
+    private final int maxBufferedPoints;
+    private final long staleMillis;
+    private final Map<Long, RiderState> riders = new ConcurrentHashMap<>();
+    private final Queue<PendingTrack> closedTracks = new ConcurrentLinkedQueue<>();
+
+    public RiderTrackingService(
+            RiderAssignments assignments,
+            NotificationService notificationService,
+            RiderTrackPointRepository riderTrackPointRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${tracking.min-distance-m:15}") double minDistanceMeters,
+            @Value("${tracking.max-interval-ms:30000}") long maxIntervalMillis,
+            @Value("${tracking.max-buffered-points:5000}") int maxBufferedPoints,
+            @Value("${dispatch.rider-stale-ms:60000}") long staleMillis
+    ) {
+        this.assignments = assignments;
+        this.notificationService = notificationService;
+        this.riderTrackPointRepository = riderTrackPointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.minDistanceKm = minDistanceMeters / 1000.0;
+        this.maxIntervalMillis = maxIntervalMillis;
+        this.maxBufferedPoints = maxBufferedPoints;
+        this.staleMillis = staleMillis;
+    }
+
+    public void record(Long riderId, RiderLocationMessage message) {
+        if (Boolean.FALSE.equals(message.getOnShift())) {
+            return;
+        }
+        TrackBuffer.TrackPoint point = new TrackBuffer.TrackPoint(
+                message.getLatitude(), message.getLongitude(), System.currentTimeMillis());
+        Long orderId = assignments.findOrder(riderId);
+
+        while (true) {
+            RiderState state = riders.computeIfAbsent(riderId, key -> new RiderState());
+            synchronized (state) {
+                if (state.evicted) {
+                    // Lost a race with the stale sweep in flush(); take the fresh state
+                    continue;
+                }
+                state.latest = point;
+                state.dirty = true;
+                recordTrackPoint(riderId, state, orderId, point);
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tracking.push-interval-ms:3000}")
+    public void pushLocations() {
+        riders.forEach((riderId, state) -> {
+            TrackBuffer.TrackPoint latest;
+            synchronized (state) {
+                if (!state.dirty) {
+                    return;
+                }
+                state.dirty = false;
+                latest = state.latest;
+            }
+
+            Long orderId = assignments.findOrder(riderId);
+            if (orderId != null) {
+                notificationService.sendRiderLocationUpdate(orderId, RiderLocationData.builder()
+                        .riderId(riderId)
+                        .latitude(latest.latitude())
+                        .longitude(latest.longitude())
+                        .recordedAt(toLocalDateTime(latest.recordedAtMillis()))
+                        .build());
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${tracking.flush-interval-ms:10000}")
+    public void flush() {
+        List<PendingTrack> tracks = new ArrayList<>();
+        PendingTrack closed;
+        while ((closed = closedTracks.poll()) != null) {
+            tracks.add(closed);
+        }
+
+        long staleBefore = System.currentTimeMillis() - staleMillis;
+        riders.forEach((riderId, state) -> {
+            synchronized (state) {
+                if (!state.track.isEmpty()) {
+                    tracks.add(new PendingTrack(state.orderId, riderId, state.track));
+                    state.track = new TrackBuffer();
+                }
+                if (state.dropped > 0) {
+                    log.warn("Dropped {} track points of rider {}: buffer full", state.dropped, riderId);
+                    state.dropped = 0;
+                }
+                if (state.latest != null && state.latest.recordedAtMillis() < staleBefore) {
+                    state.evicted = true;
+                    riders.remove(riderId, state);
+                }
+            }
+        });
+
+        if (!tracks.isEmpty()) {
+            write(tracks);
+        }
+    }
+
+    public List<TrackPointDTO> getTrack(Long orderId) {
+        return riderTrackPointRepository.findTrackByOrderId(orderId);
+    }
+
+    private void recordTrackPoint(Long riderId, RiderState state, Long orderId, TrackBuffer.TrackPoint point) {
+        if (orderId == null || !orderId.equals(state.orderId)) {
+            closeTrack(riderId, state);
+            state.orderId = orderId;
+        }
+        if (orderId == null) {
+            return;
+        }
+
+        TrackBuffer.TrackPoint last = state.lastRecorded;
+        if (last != null
+                && point.recordedAtMillis() - last.recordedAtMillis() < maxIntervalMillis
+                && RiderGrid.distanceKm(last.latitude(), last.longitude(), point.latitude(), point.longitude()) < minDistanceKm) {
+            return;
+        }
+        if (state.track.size() >= maxBufferedPoints) {
+            state.dropped++;
+            return;
+        }
+        state.track.append(point.latitude(), point.longitude(), point.recordedAtMillis());
+        state.lastRecorded = point;
+    }
+
+    private void closeTrack(Long riderId, RiderState state) {
+        if (!state.track.isEmpty()) {
+            closedTracks.add(new PendingTrack(state.orderId, riderId, state.track));
+            state.track = new TrackBuffer();
+        }
+        state.lastRecorded = null;
+    }
+
+    private void write(List<PendingTrack> tracks) {
+        List<Object[]> rows = new ArrayList<>();
+        for (PendingTrack track : tracks) {
+            for (TrackBuffer.TrackPoint point : track.points().decode()) {
+                rows.add(new Object[]{
+                        track.orderId(),
+                        track.riderId(),
+                        BigDecimal.valueOf(point.latitude()),
+                        BigDecimal.valueOf(point.longitude()),
+                        Timestamp.valueOf(toLocalDateTime(point.recordedAtMillis()))
+                });
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_TRACK_POINT, rows, INSERT_BATCH_SIZE, (statement, row) -> {
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i]);
+                }
+            });
+            log.debug("Flushed {} track points of {} deliveries", rows.size(), tracks.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to write {} track points: {}", rows.size(), e.getMessage());
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static final class RiderState {
+        private TrackBuffer.TrackPoint latest;
+        private TrackBuffer.TrackPoint lastRecorded;
+        private boolean dirty;
+        private boolean evicted;
+        private Long orderId;
+        private TrackBuffer track = new TrackBuffer();
+        private int dropped;
+    }
+
+    private record PendingTrack(Long orderId, Long riderId, TrackBuffer points) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.utown.tracking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only GPS track held between flushes. Coordinates are stored in micro-degrees and every point
+ * as zig-zag varint deltas from the previous one, so a rider moving a few metres every few seconds
+ * costs four to six bytes per point instead of a boxed object.
+ */
+public final class TrackBuffer {
+
+    private static final double MICRO_DEGREES = 1_000_000.0;
+
+    private byte[] data;
+    private int length;
+    private int size;
+    private int lastLatitude;
+    private int lastLongitude;
+    private long lastMillis;
+
+    public TrackBuffer() {
+        this(64);
+    }
+
+    public TrackBuffer(int initialBytes) {
+        this.data = new byte[Math.max(initialBytes, 16)];
+    }
+
+    public void append(double latitude, double longitude, long recordedAtMillis) {
+        int latitudeE6 = (int) Math.round(latitude * MICRO_DEGREES);
+        int longitudeE6 = (int) Math.round(longitude * MICRO_DEGREES);
+
+        ensureCapacity(3 * 10);
+        writeVarLong(zigZag(latitudeE6 - (long) lastLatitude));
+        writeVarLong(zigZag(longitudeE6 - (long) lastLongitude));
+        writeVarLong(zigZag(recordedAtMillis - lastMillis));
+
+        lastLatitude = latitudeE6;
+        lastLongitude = longitudeE6;
+        lastMillis = recordedAtMillis;
+        size++;
+    }
+
+    public List<TrackPoint> decode() {
+        List<TrackPoint> points = new ArrayList<>(size);
+        int[] position = {0};
+        long latitude = 0;
+        long longitude = 0;
+        long millis = 0;
+        for (int i = 0; i < size; i++) {
+            latitude += unZigZag(readVarLong(position));
+            longitude += unZigZag(readVarLong(position));
+            millis += unZigZag(readVarLong(position));
+            points.add(new TrackPoint(latitude / MICRO_DEGREES, longitude / MICRO_DEGREES, millis));
+        }
+        return points;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int sizeInBytes() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private long readVarLong(int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public record TrackPoint(double latitude, double longitude, long recordedAtMillis) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.utown.trending;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Ring buffer of per-slot counts. A slot is reused once its time has passed, so the sum covers
+ * the last {@code slots} slots including the current, partially filled one.
+ */
+public final class SlidingWindowCounter {
+
+    private final long slotMillis;
+    private final long[] counts;
+    private final long[] slotIds;
+
+    public SlidingWindowCounter(Duration slot, int slots) {
+        this.slotMillis = slot.toMillis();
+        this.counts = new long[slots];
+        this.slotIds = new long[slots];
+        Arrays.fill(slotIds, -1);
+    }
+
+    public synchronized void add(long nowMillis, long delta) {
+        long slotId = nowMillis / slotMillis;
+        int index = (int) (slotId % counts.length);
+        if (slotIds[index] != slotId) {
+            slotIds[index] = slotId;
+            counts[index] = 0;
+        }
+        counts[index] += delta;
+    }
+
+    public synchronized long sum(long nowMillis) {
+        long current = nowMillis / slotMillis;
+        long oldest = current - counts.length + 1;
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (slotIds[i] >= oldest && slotIds[i] <= current) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,220 @@
+package com.utown.trending;
+
+import com.utown.event.OrderCreatedEvent;
+import com.utown.model.dto.restaurant.TrendingDTO;
+import com.utown.model.enums.TrendingWindow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-memory trending dishes and restaurants per city. Orders feed ring-buffered window counters;
+ * a scheduled refresh ranks them into immutable top-k snapshots, which is all the read path touches.
+ */
+@Service
+@Slf4j
+public class TrendingService {
+
+    static final String ALL_CITIES = "*";
+
+    private static final TrendingWindow[] WINDOWS = TrendingWindow.values();
+    private static final TrendingWindow WIDEST_WINDOW = TrendingWindow.LAST_DAY;
+
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+    private volatile Map<String, Map<TrendingWindow, TrendingDTO>> snapshots = Map.of();
+
+    @Value("${trending.top-k:20}")
+    private int topK;
+
+    @TransactionalEventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        long now = System.currentTimeMillis();
+
+        record(ALL_CITIES, event, now);
+
+        String city = cityKey(event.city());
+        if (city != null) {
+            record(city, event, now);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${trending.refresh-interval-ms:5000}",
+            fixedDelayString = "${trending.refresh-interval-ms:5000}"
+    )
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        LocalDateTime generatedAt = LocalDateTime.now();
+        Map<String, Map<TrendingWindow, TrendingDTO>> next = new HashMap<>();
+
+        segments.forEach((city, segment) -> {
+            synchronized (segment) {
+                evictIdle(segment.items, now);
+                evictIdle(segment.restaurants, now);
+                if (segment.items.isEmpty() && segment.restaurants.isEmpty()) {
+                    segment.retired = true;
+                    segments.remove(city, segment);
+                    return;
+                }
+            }
+
+            Map<TrendingWindow, TrendingDTO> byWindow = new EnumMap<>(TrendingWindow.class);
+            for (TrendingWindow window : WINDOWS) {
+                byWindow.put(window, new TrendingDTO(
+                        ALL_CITIES.equals(city) ? null : city,
+                        window,
+                        top(segment.items, window, now, TrendingService::toItemDTO),
+                        top(segment.restaurants, window, now, TrendingService::toRestaurantDTO),
+                        generatedAt
+                ));
+            }
+            next.put(city, byWindow);
+        });
+
+        snapshots = next;
+        log.debug("Trending snapshots refreshed for {} segments", next.size());
+    }
+
+    public TrendingDTO getTrending(String city, TrendingWindow window, int limit) {
+        String key = city != null && !city.isBlank() ? cityKey(city) : ALL_CITIES;
+        Map<TrendingWindow, TrendingDTO> byWindow = snapshots.get(key);
+        TrendingDTO snapshot = byWindow != null ? byWindow.get(window) : null;
+
+        if (snapshot == null) {
+            return new TrendingDTO(ALL_CITIES.equals(key) ? null : key, window, List.of(), List.of(), null);
+        }
+        if (limit >= snapshot.getItems().size() && limit >= snapshot.getRestaurants().size()) {
+            return snapshot;
+        }
+        return new TrendingDTO(
+                snapshot.getCity(),
+                window,
+                snapshot.getItems().subList(0, Math.min(limit, snapshot.getItems().size())),
+                snapshot.getRestaurants().subList(0, Math.min(limit, snapshot.getRestaurants().size())),
+                snapshot.getGeneratedAt()
+        );
+    }
+
+    /**
+     * Records under the segment's lock, which the idle sweep in {@link #refresh()} also holds, so an
+     * increment never lands in an entry or segment that has just been evicted.
+     */
+    private void record(String key, OrderCreatedEvent event, long now) {
+        while (true) {
+            Segment segment = segments.computeIfAbsent(key, k -> new Segment());
+            synchronized (segment) {
+                if (segment.retired) {
+                    // Lost a race with the idle sweep in refresh(); take the fresh segment
+                    continue;
+                }
+                record(segment, event, now);
+                return;
+            }
+        }
+    }
+
+    private void record(Segment segment, OrderCreatedEvent event, long now) {
+        Entry restaurant = segment.restaurants.computeIfAbsent(event.restaurantId(), Entry::new);
+        restaurant.name = event.restaurantName();
+        restaurant.add(now, 1);
+
+        for (OrderCreatedEvent.Item item : event.items()) {
+            Entry entry = segment.items.computeIfAbsent(item.menuItemId(), Entry::new);
+            entry.name = item.menuItemName();
+            entry.restaurantId = event.restaurantId();
+            entry.restaurantName = event.restaurantName();
+            entry.add(now, item.quantity());
+        }
+    }
+
+    /**
+     * Min-heap of size k over the window sums, so ranking costs O(n log k) per segment and window.
+     */
+    private <T> List<T> top(Map<Long, Entry> entries, TrendingWindow window, long now, Function<Scored, T> mapper) {
+        PriorityQueue<Scored> heap = new PriorityQueue<>(topK + 1, Comparator.comparingLong(Scored::score));
+
+        for (Entry entry : entries.values()) {
+            long score = entry.counters[window.ordinal()].sum(now);
+            if (score == 0) {
+                continue;
+            }
+            if (heap.size() < topK) {
+                heap.add(new Scored(entry, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Scored(entry, score));
+            }
+        }
+
+        List<T> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(mapper.apply(heap.poll()));
+        }
+        return ranked.reversed();
+    }
+
+    private static void evictIdle(Map<Long, Entry> entries, long now) {
+        entries.values().removeIf(entry -> entry.counters[WIDEST_WINDOW.ordinal()].sum(now) == 0);
+    }
+
+    private static TrendingDTO.TrendingItemDTO toItemDTO(Scored scored) {
+        Entry entry = scored.entry();
+        return new TrendingDTO.TrendingItemDTO(entry.id, entry.name, entry.restaurantId, entry.restaurantName, scored.score());
+    }
+
+    private static TrendingDTO.TrendingRestaurantDTO toRestaurantDTO(Scored scored) {
+        Entry entry = scored.entry();
+        return new TrendingDTO.TrendingRestaurantDTO(entry.id, entry.name, scored.score());
+    }
+
+    private static String cityKey(String city) {
+        if (city == null || city.isBlank()) {
+            return null;
+        }
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Scored(Entry entry, long score) {
+    }
+
+    private static final class Segment {
+        private final Map<Long, Entry> items = new ConcurrentHashMap<>();
+        private final Map<Long, Entry> restaurants = new ConcurrentHashMap<>();
+        private boolean retired;
+    }
+
+    private static final class Entry {
+        private final Long id;
+        private final SlidingWindowCounter[] counters = new SlidingWindowCounter[WINDOWS.length];
+        private volatile String name;
+        private volatile Long restaurantId;
+        private volatile String restaurantName;
+
+        private Entry(Long id) {
+            this.id = id;
+            for (TrendingWindow window : WINDOWS) {
+                counters[window.ordinal()] = new SlidingWindowCounter(window.getSlot(), window.getSlots());
+            }
+        }
+
+        private void add(long now, long delta) {
+            for (SlidingWindowCounter counter : counters) {
+                counter.add(now, delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+-- Baseline: the schema Hibernate generated from the entity mappings of the last version without migrations.
+-- Databases created by that version are baselined at this version and skip it; later changes start at V2.
+
+CREATE TABLE users (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    phone_number      VARCHAR(20)  NOT NULL,
+    password_hash     VARCHAR(255) NOT NULL,
+    name              VARCHAR(100),
+    role              VARCHAR(20)  NOT NULL,
+    profile_image_url VARCHAR(500),
+    is_active         BOOLEAN,
+    email             VARCHAR(100),
+    email_verified    BOOLEAN,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    last_login_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_phone_number UNIQUE (phone_number),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE categories (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(100) NOT NULL,
+    icon_url   VARCHAR(500),
+    priority   INT,
+    is_active  BOOLEAN,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+);
+
+CREATE TABLE restaurants (
+    id                      BIGINT         NOT NULL AUTO_INCREMENT,
+    owner_id                BIGINT         NOT NULL,
+    category_id             BIGINT         NOT NULL,
+    name                    VARCHAR(200)   NOT NULL,
+    description             TEXT,
+    address                 VARCHAR(255)   NOT NULL,
+    city                    VARCHAR(100)   NOT NULL,
+    latitude                DECIMAL(10, 8) NOT NULL,
+    longitude               DECIMAL(11, 8) NOT NULL,
+    phone                   VARCHAR(20)    NOT NULL,
+    image_url               VARCHAR(500),
+    banner_image_url        VARCHAR(500),
+    rating                  DECIMAL(2, 1),
+    review_count            INT,
+    min_order_amount        DECIMAL(10, 2),
+    delivery_fee            DECIMAL(10, 2),
+    estimated_delivery_time INT,
+    opening_hours           JSON,
+    is_open                 BOOLEAN,
+    is_featured             BOOLEAN,
+    is_active               BOOLEAN,
+    created_at              DATETIME(6),
+    updated_at              DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_restaurants_owner FOREIGN KEY (owner_id) REFERENCES users (id),
+    CONSTRAINT fk_restaurants_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE addresses (
+    id             BIGINT         NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT         NOT NULL,
+    address        VARCHAR(255)   NOT NULL,
+    detail_address VARCHAR(255),
+    city           VARCHAR(100),
+    latitude       DECIMAL(10, 8) NOT NULL,
+    longitude      DECIMAL(11, 8) NOT NULL,
+    note           TEXT,
+    label          VARCHAR(50),
+    is_default     BOOLEAN,
+    created_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_addresses_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE menu_items (
+    id            BIGINT         NOT NULL AUTO_INCREMENT,
+    restaurant_id BIGINT         NOT NULL,
+    category_name VARCHAR(50),
+    name          VARCHAR(200)   NOT NULL,
+    description   TEXT,
+    price         DECIMAL(10, 2) NOT NULL,
+    image_url     VARCHAR(500),
+    is_available  BOOLEAN,
+    is_spicy      BOOLEAN,
+    spicy_level   INT,
+    sort_order    INT,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_menu_items_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+);
+
+CREATE TABLE menu_item_options (
+    id           BIGINT         NOT NULL AUTO_INCREMENT,
+    menu_item_id BIGINT         NOT NULL,
+    name         VARCHAR(100)   NOT NULL,
+    price        DECIMAL(10, 2) NOT NULL,
+    type         VARCHAR(50)    NOT NULL,
+    option_group VARCHAR(50),
+    is_default   BOOLEAN,
+    sort_order   INT,
+    created_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_menu_item_options_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+);
+
+CREATE TABLE cart (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT NOT NULL,
+    restaurant_id BIGINT NOT NULL,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_cart_user UNIQUE (user_id),
+    CONSTRAINT fk_cart_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_cart_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id)
+);
+
+CREATE TABLE cart_items (
+    id               BIGINT NOT NULL AUTO_INCREMENT,
+    cart_id          BIGINT NOT NULL,
+    menu_item_id     BIGINT NOT NULL,
+    quantity         INT    NOT NULL,
+    selected_options JSON,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_cart_items_cart FOREIGN KEY (cart_id) REFERENCES cart (id),
+    CONSTRAINT fk_cart_items_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+);
+
+CREATE TABLE orders (
+    id                      BIGINT         NOT NULL AUTO_INCREMENT,
+    order_number            VARCHAR(50)    NOT NULL,
+    user_id                 BIGINT         NOT NULL,
+    restaurant_id           BIGINT         NOT NULL,
+    address_id              BIGINT         NOT NULL,
+    status                  VARCHAR(20)    NOT NULL,
+    subtotal                DECIMAL(10, 2) NOT NULL,
+    delivery_fee            DECIMAL(10, 2) NOT NULL,
+    discount_amount         DECIMAL(10, 2),
+    taxes                   DECIMAL(10, 2),
+    total_amount            DECIMAL(10, 2) NOT NULL,
+    payment_method          VARCHAR(20)    NOT NULL,
+    payment_status          VARCHAR(20),
+    special_request         TEXT,
+    cancellation_reason     TEXT,
+    estimated_delivery_time DATETIME(6),
+    created_at              DATETIME(6),
+    updated_at              DATETIME(6),
+    delivered_at            DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_orders_order_number UNIQUE (order_number),
+    CONSTRAINT fk_orders_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_orders_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id),
+    CONSTRAINT fk_orders_address FOREIGN KEY (address_id) REFERENCES addresses (id)
+);
+
+CREATE TABLE order_items (
+    id               BIGINT         NOT NULL AUTO_INCREMENT,
+    order_id         BIGINT         NOT NULL,
+    menu_item_id     BIGINT         NOT NULL,
+    menu_item_name   VARCHAR(200)   NOT NULL,
+    quantity         INT            NOT NULL,
+    unit_price       DECIMAL(10, 2) NOT NULL,
+    selected_options JSON,
+    subtotal         DECIMAL(10, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_order_items_menu_item FOREIGN KEY (menu_item_id) REFERENCES menu_items (id)
+);
+
+CREATE TABLE restaurant_employees (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    restaurant_id BIGINT NOT NULL,
+    user_id       BIGINT NOT NULL,
+    is_active     BOOLEAN,
+    created_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_restaurant_employees_restaurant_user UNIQUE (restaurant_id, user_id),
+    CONSTRAINT fk_restaurant_employees_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (id),
+    CONSTRAINT fk_restaurant_employees_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE password_reset_request (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT      NOT NULL,
+    code         VARCHAR(10) NOT NULL,
+    reset_token  VARCHAR(100),
+    expires_at   DATETIME(6) NOT NULL,
+    attempts     INT         NOT NULL,
+    status       VARCHAR(20) NOT NULL,
+    created_at   DATETIME(6),
+    verified_at  DATETIME(6),
+    completed_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_password_reset_request_token UNIQUE (reset_token),
+    CONSTRAINT fk_password_reset_request_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE refresh_tokens (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    token      VARCHAR(500) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    is_valid   BOOLEAN,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token UNIQUE (token),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
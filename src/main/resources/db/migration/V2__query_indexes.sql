@@ -0,0 +1,38 @@
+-- Composite and covering indexes for the repository queries, named after the access path they serve.
+-- QueryPlanTest EXPLAINs every query against this schema and fails when one falls back to a table scan.
+
+-- orders: history pages sort by created_at; kitchen, analytics, dispatch and deadline lookups start from status
+CREATE INDEX idx_orders_user_created ON orders (user_id, created_at);
+CREATE INDEX idx_orders_user_status ON orders (user_id, status);
+CREATE INDEX idx_orders_restaurant_created ON orders (restaurant_id, created_at);
+CREATE INDEX idx_orders_restaurant_status ON orders (restaurant_id, status);
+CREATE INDEX idx_orders_status_restaurant ON orders (status, restaurant_id);
+CREATE INDEX idx_orders_created_status_total ON orders (created_at, status, total_amount);
+
+-- order_items: covers the menu item ids of an order without touching the rows
+CREATE INDEX idx_order_items_order_menu_item ON order_items (order_id, menu_item_id);
+
+-- menu_items: menu listing order, and the availability filter
+CREATE INDEX idx_menu_items_restaurant_sort ON menu_items (restaurant_id, sort_order, created_at);
+CREATE INDEX idx_menu_items_restaurant_available ON menu_items (restaurant_id, is_available);
+
+-- cart: user_id is already unique; this covers the restaurant id lookup
+CREATE INDEX idx_cart_user_restaurant ON cart (user_id, restaurant_id);
+CREATE INDEX idx_cart_items_cart_menu_item ON cart_items (cart_id, menu_item_id);
+
+CREATE INDEX idx_addresses_user_default ON addresses (user_id, is_default);
+
+-- restaurants: listing filters; rating is ordered inside the active range
+CREATE INDEX idx_restaurants_city_active ON restaurants (city, is_active);
+CREATE INDEX idx_restaurants_category_active ON restaurants (category_id, is_active);
+CREATE INDEX idx_restaurants_active_rating ON restaurants (is_active, rating);
+CREATE INDEX idx_restaurants_active_open ON restaurants (is_active, is_open);
+CREATE INDEX idx_restaurants_active_featured ON restaurants (is_active, is_featured);
+
+-- restaurant_employees: both directions of the membership check are answered from the index alone
+CREATE INDEX idx_restaurant_employees_restaurant_user_active ON restaurant_employees (restaurant_id, user_id, is_active);
+CREATE INDEX idx_restaurant_employees_user_active ON restaurant_employees (user_id, is_active, restaurant_id);
+
+CREATE INDEX idx_categories_active_priority ON categories (is_active, priority);
+
+CREATE INDEX idx_password_reset_request_user_status ON password_reset_request (user_id, status);
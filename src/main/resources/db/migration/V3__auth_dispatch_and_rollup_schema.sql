@@ -0,0 +1,83 @@
+-- Schema added since the baseline: token revocation, hashed refresh-token families, rider dispatch and
+-- tracking, kitchen capacity and sales rollups. Runs on baselined databases as well as new ones.
+
+-- users: per-user not-before stamp; revocation sync reads the stamps changed since the last poll
+ALTER TABLE users ADD COLUMN tokens_not_before BIGINT;
+CREATE INDEX idx_users_tokens_not_before ON users (tokens_not_before);
+
+ALTER TABLE restaurants ADD COLUMN kitchen_capacity INT;
+
+-- orders: the rider assigned by dispatch; the stale-assignment sweep starts from status
+ALTER TABLE orders ADD COLUMN rider_id BIGINT;
+ALTER TABLE orders ADD COLUMN rider_assigned_at DATETIME(6);
+ALTER TABLE orders ADD CONSTRAINT fk_orders_rider FOREIGN KEY (rider_id) REFERENCES users (id);
+CREATE INDEX idx_orders_status_rider_updated ON orders (status, rider_id, updated_at);
+
+-- refresh_tokens: the raw token column is replaced by its SHA-256 digest and a rotation family. Stored
+-- tokens cannot be converted, so the table is rebuilt and existing sessions log in again.
+DROP TABLE refresh_tokens;
+
+CREATE TABLE refresh_tokens (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    token_hash BINARY(32)  NOT NULL,
+    family_id  VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    is_valid   BOOLEAN,
+    revoked_at DATETIME(6),
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens (expires_at);
+CREATE INDEX idx_refresh_tokens_revoked ON refresh_tokens (revoked_at);
+
+CREATE TABLE revoked_access_tokens (
+    jti        VARCHAR(36) NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (jti)
+);
+
+CREATE INDEX idx_revoked_access_tokens_expires ON revoked_access_tokens (expires_at);
+
+CREATE TABLE rider_track_points (
+    id          BIGINT         NOT NULL AUTO_INCREMENT,
+    order_id    BIGINT         NOT NULL,
+    rider_id    BIGINT         NOT NULL,
+    latitude    DECIMAL(10, 8) NOT NULL,
+    longitude   DECIMAL(11, 8) NOT NULL,
+    recorded_at DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_rider_track_points_order ON rider_track_points (order_id, recorded_at);
+
+CREATE TABLE sales_rollups (
+    id               BIGINT         NOT NULL AUTO_INCREMENT,
+    restaurant_id    BIGINT         NOT NULL,
+    granularity      VARCHAR(10)    NOT NULL,
+    bucket_start     DATETIME(6)    NOT NULL,
+    completed_orders BIGINT         NOT NULL,
+    cancelled_orders BIGINT         NOT NULL,
+    revenue          DECIMAL(14, 2) NOT NULL,
+    items_sold       BIGINT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_sales_rollups_bucket UNIQUE (restaurant_id, granularity, bucket_start)
+);
+
+CREATE TABLE item_sales_rollups (
+    id             BIGINT         NOT NULL AUTO_INCREMENT,
+    restaurant_id  BIGINT         NOT NULL,
+    granularity    VARCHAR(10)    NOT NULL,
+    bucket_start   DATETIME(6)    NOT NULL,
+    menu_item_id   BIGINT         NOT NULL,
+    menu_item_name VARCHAR(200)   NOT NULL,
+    quantity       BIGINT         NOT NULL,
+    revenue        DECIMAL(14, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_item_sales_rollups_bucket UNIQUE (restaurant_id, granularity, bucket_start, menu_item_id)
+);
@@ -0,0 +1,65 @@
+package com.utown;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Time from {@code SpringApplication.run} to a ready application (runners and ready listeners done) with
+ * the {@code fast-startup} profile on the load-test H2 database. The target is
+ * {@code -Dstartup.target-ms} (default 15 s, well above a warm laptop boot); on failure the slowest
+ * startup steps are listed. Tagged {@code startup}: a wall-clock assertion runs only with
+ * {@code -Pfast-startup}.
+ */
+@Tag("startup")
+class StartupTimeTest {
+
+    private static final int SLOWEST_STEPS = 15;
+
+    @Test
+    void timeToReady_shouldStayWithinTarget() {
+        long targetMs = Long.getLong("startup.target-ms", 15_000);
+
+        SpringApplication application = new SpringApplication(UtownBackendApplication.class);
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(4096);
+        application.setApplicationStartup(startup);
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext ignored = application.run(
+                "--spring.profiles.active=loadtest,fast-startup",
+                "--spring.datasource.url=jdbc:h2:mem:utown_startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "--server.port=0",
+                "--tracing.exporter=none")) {
+            long readyMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertTrue(readyMs <= targetMs, () -> "Ready after " + readyMs + " ms, target " + targetMs
+                    + " ms. Slowest steps:\n" + slowestSteps(startup.getBufferedTimeline()));
+        }
+    }
+
+    private static String slowestSteps(StartupTimeline timeline) {
+        return timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_STEPS)
+                .map(event -> "  " + event.getDuration().toMillis() + " ms " + describe(event.getStartupStep()))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describe(StartupStep step) {
+        String tags = StreamSupport.stream(step.getTags().spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", "));
+        return tags.isEmpty() ? step.getName() : step.getName() + " [" + tags + "]";
+    }
+}
@@ -0,0 +1,196 @@
+package com.utown.benchmark;
+
+import com.utown.hours.OpeningHoursService;
+import com.utown.model.entity.Address;
+import com.utown.model.entity.Cart;
+import com.utown.model.entity.CartItem;
+import com.utown.model.entity.Category;
+import com.utown.model.entity.MenuItem;
+import com.utown.model.entity.MenuItemOption;
+import com.utown.model.entity.Order;
+import com.utown.model.entity.OrderItem;
+import com.utown.model.entity.Restaurant;
+import com.utown.model.entity.User;
+import com.utown.model.entity.mapper.RestaurantMapper;
+import com.utown.model.enums.OptionType;
+import com.utown.model.enums.OrderStatus;
+import com.utown.model.enums.PaymentMethod;
+import com.utown.model.enums.PaymentStatus;
+import com.utown.model.enums.UserRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entity graphs shaped like the ones the services map on every request.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .phoneNumber("+82100000" + id)
+                .passwordHash("$2a$10$benchmark")
+                .name("Benchmark User " + id)
+                .role(UserRole.CLIENT)
+                .isActive(true)
+                .emailVerified(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Mapper backed by an opening hours service with no repository; fixtures carry no opening hours.
+     */
+    static RestaurantMapper restaurantMapper() {
+        return new RestaurantMapper(new OpeningHoursService(null, "Asia/Seoul"));
+    }
+
+    static Restaurant restaurant(long id) {
+        return Restaurant.builder()
+                .id(id)
+                .owner(user(1000 + id))
+                .category(Category.builder().id(1L).name("Korean").priority(0).isActive(true).build())
+                .name("Benchmark Restaurant " + id)
+                .description("Stews, rice bowls and grilled dishes")
+                .address("123 Gangnam-daero")
+                .city("Seoul")
+                .latitude(new BigDecimal("37.49794200"))
+                .longitude(new BigDecimal("127.02762100"))
+                .phone("02-555-0100")
+                .rating(new BigDecimal("4.5"))
+                .reviewCount(321)
+                .minOrderAmount(new BigDecimal("12000.00"))
+                .deliveryFee(new BigDecimal("3000.00"))
+                .estimatedDeliveryTime(35)
+                .isOpen(true)
+                .isFeatured(false)
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .menuItems(new ArrayList<>())
+                .build();
+    }
+
+    static MenuItem menuItem(long id, Restaurant restaurant, int options) {
+        MenuItem menuItem = MenuItem.builder()
+                .id(id)
+                .restaurant(restaurant)
+                .categoryName("Section " + (id % 4))
+                .name("Dish " + id)
+                .description("House special number " + id)
+                .price(BigDecimal.valueOf(8000 + id * 100, 0))
+                .imageUrl("https://cdn.utown.com/menu/" + id + ".jpg")
+                .isAvailable(true)
+                .isSpicy(id % 3 == 0)
+                .spicyLevel((int) (id % 3))
+                .sortOrder((int) id)
+                .options(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        for (int i = 0; i < options; i++) {
+            menuItem.getOptions().add(MenuItemOption.builder()
+                    .id(id * 10 + i)
+                    .menuItem(menuItem)
+                    .name("Option " + i)
+                    .price(BigDecimal.valueOf(500L * i))
+                    .type(i == 0 ? OptionType.SIZE : OptionType.EXTRA)
+                    .optionGroup(i == 0 ? "size" : "extras")
+                    .isDefault(i == 0)
+                    .sortOrder(i)
+                    .build());
+        }
+        return menuItem;
+    }
+
+    static List<MenuItem> menu(Restaurant restaurant, int items, int optionsPerItem) {
+        List<MenuItem> menu = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            menu.add(menuItem(i + 1, restaurant, optionsPerItem));
+        }
+        return menu;
+    }
+
+    static Cart cart(int items) {
+        Restaurant restaurant = restaurant(1);
+        Cart cart = Cart.builder()
+                .id(1L)
+                .user(user(1))
+                .restaurant(restaurant)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        for (int i = 0; i < items; i++) {
+            cart.addItem(CartItem.builder()
+                    .id((long) i + 1)
+                    .menuItem(menuItem(i + 1, restaurant, 0))
+                    .quantity(1 + i % 3)
+                    .selectedOptions("{\"size\":\"large\"}")
+                    .build());
+        }
+        return cart;
+    }
+
+    static Order order(long id, int items) {
+        Restaurant restaurant = restaurant(1);
+        Order order = Order.builder()
+                .id(id)
+                .orderNumber("ORD-20260101-" + id)
+                .user(user(1))
+                .restaurant(restaurant)
+                .address(Address.builder()
+                        .id(1L)
+                        .address("45 Teheran-ro")
+                        .detailAddress("Apt 1203")
+                        .city("Seoul")
+                        .latitude(new BigDecimal("37.50000000"))
+                        .longitude(new BigDecimal("127.03000000"))
+                        .note("Leave at the door")
+                        .isDefault(true)
+                        .build())
+                .status(OrderStatus.PREPARING)
+                .subtotal(new BigDecimal("42000.00"))
+                .deliveryFee(new BigDecimal("3000.00"))
+                .discountAmount(BigDecimal.ZERO)
+                .taxes(BigDecimal.ZERO)
+                .totalAmount(new BigDecimal("45000.00"))
+                .paymentMethod(PaymentMethod.KAKAO_PAY)
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .specialRequest("No onions")
+                .estimatedDeliveryTime(LocalDateTime.now().plusMinutes(35))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        for (int i = 0; i < items; i++) {
+            MenuItem menuItem = menuItem(i + 1, restaurant, 0);
+            order.addItem(OrderItem.builder()
+                    .id(id * 100 + i)
+                    .menuItem(menuItem)
+                    .menuItemName(menuItem.getName())
+                    .quantity(1 + i % 2)
+                    .unitPrice(menuItem.getPrice())
+                    .selectedOptions("{\"size\":\"regular\"}")
+                    .subtotal(menuItem.getPrice().multiply(BigDecimal.valueOf(1 + i % 2)))
+                    .build());
+        }
+        return order;
+    }
+
+    static List<Order> restaurantBoard(int orders, int itemsPerOrder) {
+        List<Order> board = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            board.add(order(i + 1, itemsPerOrder));
+        }
+        return board;
+    }
+}
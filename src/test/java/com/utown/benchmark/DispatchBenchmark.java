@@ -0,0 +1,90 @@
+package com.utown.benchmark;
+
+import com.utown.dispatch.BatchAssigner;
+import com.utown.dispatch.RiderGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One dispatch round against a simulated city: synthetic riders spread around the centre of Seoul,
+ * denser downtown, and READY orders at restaurants drawn from the same distribution.
+ * {@code riderLocationUpdate} is the cost of one position report moving a rider through the grid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchBenchmark {
+
+    private static final double CENTRE_LAT = 37.5665;
+    private static final double CENTRE_LON = 126.9780;
+    private static final double SPREAD_DEGREES = 0.05;
+
+    @Param({"1000", "5000"})
+    public int riders;
+
+    @Param({"100", "1000"})
+    public int waitingOrders;
+
+    private RiderGrid grid;
+    private BatchAssigner assigner;
+    private List<BatchAssigner.Pickup> pickups;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(42);
+        grid = new RiderGrid(0.01);
+        assigner = new BatchAssigner(8, 5.0);
+
+        for (long riderId = 1; riderId <= riders; riderId++) {
+            grid.update(riderId, gaussian(CENTRE_LAT), gaussian(CENTRE_LON), 0);
+        }
+
+        pickups = new ArrayList<>(waitingOrders);
+        for (long orderId = 1; orderId <= waitingOrders; orderId++) {
+            pickups.add(new BatchAssigner.Pickup(orderId, gaussian(CENTRE_LAT), gaussian(CENTRE_LON)));
+        }
+    }
+
+    @Benchmark
+    public List<BatchAssigner.Assignment> assignmentRound() {
+        // A third of the fleet is carrying an order and not eligible
+        return assigner.assign(pickups, grid, riderId -> riderId % 3 != 0);
+    }
+
+    @Benchmark
+    public void riderLocationUpdate() {
+        long riderId = 1 + random.nextLong(riders);
+        RiderGrid.Position position = grid.get(riderId);
+        grid.update(riderId,
+                position.latitude() + (random.nextDouble() - 0.5) * 0.002,
+                position.longitude() + (random.nextDouble() - 0.5) * 0.002,
+                0);
+    }
+
+    private double gaussian(double centre) {
+        // Sum of uniforms: cheap, bounded and close enough to a normal distribution for a city
+        double sum = 0;
+        for (int i = 0; i < 4; i++) {
+            sum += random.nextDouble() - 0.5;
+        }
+        return centre + sum * SPREAD_DEGREES;
+    }
+}
@@ -0,0 +1,133 @@
+package com.utown.benchmark;
+
+import com.utown.model.dto.cart.CartDTO;
+import com.utown.model.dto.order.OrderDTO;
+import com.utown.model.dto.order.OrderItemDTO;
+import com.utown.model.entity.Cart;
+import com.utown.model.entity.CartItem;
+import com.utown.model.entity.MenuItem;
+import com.utown.model.entity.Order;
+import com.utown.model.entity.OrderItem;
+import com.utown.model.entity.Restaurant;
+
+import java.math.BigDecimal;
+import java.util.stream.Collectors;
+
+/**
+ * The builder and stream based mapping the services used before the mappers in
+ * {@code com.utown.model.entity.mapper}. Kept only as a baseline for {@link MappingBenchmark}.
+ */
+final class LegacyBuilderMappers {
+
+    private LegacyBuilderMappers() {
+    }
+
+    static OrderDTO order(Order order) {
+        return OrderDTO.builder()
+                .id(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .status(order.getStatus())
+                .user(OrderDTO.UserSummaryDTO.builder()
+                        .id(order.getUser().getId())
+                        .name(order.getUser().getName())
+                        .phoneNumber(order.getUser().getPhoneNumber())
+                        .build())
+                .restaurant(OrderDTO.RestaurantSummaryDTO.builder()
+                        .id(order.getRestaurant().getId())
+                        .name(order.getRestaurant().getName())
+                        .phone(order.getRestaurant().getPhone())
+                        .build())
+                .address(OrderDTO.AddressSummaryDTO.builder()
+                        .id(order.getAddress().getId())
+                        .address(order.getAddress().getAddress())
+                        .detailAddress(order.getAddress().getDetailAddress())
+                        .note(order.getAddress().getNote())
+                        .build())
+                .items(order.getItems().stream()
+                        .map(LegacyBuilderMappers::orderItem)
+                        .collect(Collectors.toList()))
+                .subtotal(order.getSubtotal())
+                .deliveryFee(order.getDeliveryFee())
+                .discountAmount(order.getDiscountAmount())
+                .taxes(order.getTaxes())
+                .totalAmount(order.getTotalAmount())
+                .paymentMethod(order.getPaymentMethod())
+                .paymentStatus(order.getPaymentStatus())
+                .specialRequest(order.getSpecialRequest())
+                .cancellationReason(order.getCancellationReason())
+                .estimatedDeliveryTime(order.getEstimatedDeliveryTime())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .deliveredAt(order.getDeliveredAt())
+                .build();
+    }
+
+    private static OrderItemDTO orderItem(OrderItem item) {
+        return OrderItemDTO.builder()
+                .id(item.getId())
+                .menuItemName(item.getMenuItemName())
+                .quantity(item.getQuantity())
+                .unitPrice(item.getUnitPrice())
+                .selectedOptions(item.getSelectedOptions())
+                .subtotal(item.getSubtotal())
+                .build();
+    }
+
+    static CartDTO cart(Cart cart) {
+        Restaurant restaurant = cart.getRestaurant();
+
+        BigDecimal subtotal = cartSubtotal(cart);
+        BigDecimal deliveryFee = restaurant.getDeliveryFee();
+
+        int itemCount = cart.getItems().stream()
+                .mapToInt(CartItem::getQuantity)
+                .sum();
+
+        return CartDTO.builder()
+                .id(cart.getId())
+                .userId(cart.getUser().getId())
+                .restaurant(CartDTO.RestaurantSummaryDTO.builder()
+                        .id(restaurant.getId())
+                        .name(restaurant.getName())
+                        .minOrderAmount(restaurant.getMinOrderAmount())
+                        .deliveryFee(restaurant.getDeliveryFee())
+                        .build())
+                .items(cart.getItems().stream()
+                        .map(LegacyBuilderMappers::cartItem)
+                        .collect(Collectors.toList()))
+                .summary(CartDTO.CartSummaryDTO.builder()
+                        .subtotal(subtotal)
+                        .deliveryFee(deliveryFee)
+                        .total(subtotal.add(deliveryFee))
+                        .itemCount(itemCount)
+                        .meetsMinimum(subtotal.compareTo(restaurant.getMinOrderAmount()) >= 0)
+                        .build())
+                .createdAt(cart.getCreatedAt())
+                .updatedAt(cart.getUpdatedAt())
+                .build();
+    }
+
+    static BigDecimal cartSubtotal(Cart cart) {
+        return cart.getItems().stream()
+                .map(CartItem::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static CartDTO.CartItemDTO cartItem(CartItem item) {
+        MenuItem menuItem = item.getMenuItem();
+
+        return CartDTO.CartItemDTO.builder()
+                .id(item.getId())
+                .menuItem(CartDTO.CartItemDTO.MenuItemSummaryDTO.builder()
+                        .id(menuItem.getId())
+                        .name(menuItem.getName())
+                        .price(menuItem.getPrice())
+                        .imageUrl(menuItem.getImageUrl())
+                        .isAvailable(menuItem.getIsAvailable())
+                        .build())
+                .quantity(item.getQuantity())
+                .selectedOptions(item.getSelectedOptions())
+                .subtotal(item.getSubtotal())
+                .build();
+    }
+}
@@ -0,0 +1,178 @@
+package com.utown.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.utown.logging.LoggerRateLimitFilter;
+import com.utown.logging.RequestLog;
+import com.utown.logging.RequestSamplingTurboFilter;
+import com.utown.logging.RingBufferAppender;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The log output of one order request (two INFO lines, a handful of DEBUG lines and three SQL
+ * statements) on eight request threads, written to a discarding stream so only the logging cost counts.
+ * {@code dev} is the synchronous console pattern at DEBUG with SQL logging; {@code prod} is the
+ * production configuration: INFO, JSON through the ring-buffer appender, 1% of requests sampled at
+ * DEBUG. The rate limit is set out of reach so it does not discard the measured events. Events the
+ * worker could not keep up with are dropped and reported per iteration as the {@code droppedEvents}
+ * secondary result.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p 4242 --- [%15.15t] %-40.40logger{39} : %m%n";
+    private static final double SAMPLING_RATE = 0.01;
+    private static final String SQL = "select o1_0.id,o1_0.order_number,o1_0.status,o1_0.total_amount "
+            + "from orders o1_0 where o1_0.user_id=? order by o1_0.created_at desc limit ?";
+
+    @Param({"dev", "prod"})
+    public String profile;
+
+    private LoggerContext context;
+    private RingBufferAppender ring;
+    private Logger service;
+    private Logger sql;
+    private boolean sampling;
+    private final AtomicLong reportedDrops = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setName("SINK");
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        if ("prod".equals(profile)) {
+            StructuredLogEncoder encoder = new StructuredLogEncoder();
+            encoder.setContext(context);
+            encoder.setFormat("ecs");
+            encoder.start();
+            startSink(sink, encoder);
+
+            LoggerRateLimitFilter rateLimit = new LoggerRateLimitFilter();
+            rateLimit.setEventsPerSecond(Integer.MAX_VALUE);
+            rateLimit.start();
+            context.addTurboFilter(rateLimit);
+            RequestSamplingTurboFilter sampler = new RequestSamplingTurboFilter();
+            sampler.setLoggers("com.utown,org.hibernate.SQL");
+            sampler.start();
+            context.addTurboFilter(sampler);
+
+            ring = new RingBufferAppender();
+            ring.setContext(context);
+            ring.setName("ASYNC");
+            ring.addAppender(sink);
+            ring.start();
+            root.addAppender(ring);
+            root.setLevel(Level.INFO);
+            sampling = true;
+        } else {
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern(PATTERN);
+            encoder.start();
+            startSink(sink, encoder);
+            root.addAppender(sink);
+            root.setLevel(Level.DEBUG);
+        }
+
+        service = context.getLogger("com.utown.service.OrderService");
+        sql = context.getLogger("org.hibernate.SQL");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void orderRequest(Drops drops) {
+        if (sampling) {
+            RequestLog.begin(ThreadLocalRandom.current().nextDouble() < SAMPLING_RATE, 256);
+        }
+        try {
+            long userId = ThreadLocalRandom.current().nextLong(1, 10_000);
+            service.debug("Creating order for user {}", userId);
+            for (int item = 0; item < 3; item++) {
+                service.debug("Cart item {} priced at {}", item, BigDecimal.valueOf(12_500));
+                // Hibernate checks the level before it builds and logs the statement
+                if (sql.isDebugEnabled()) {
+                    sql.debug(SQL.replace("?", Long.toString(userId)));
+                }
+            }
+            service.info("Order {} created for user {}", "ORD-" + userId, userId);
+            service.info("Order {} status updated from {} to {} by user {}", "ORD-" + userId, "PENDING", "CONFIRMED", userId);
+        } finally {
+            if (sampling) {
+                RequestLog.end();
+            }
+        }
+    }
+
+    /**
+     * Ring buffer drops since the last claim; each thread claims what accrued before its iteration
+     * ended, so the per-thread counters sum to the iteration's drops.
+     */
+    private long claimDrops() {
+        if (ring == null) {
+            return 0;
+        }
+        long total = ring.getDroppedCount();
+        return total - reportedDrops.getAndSet(total);
+    }
+
+    private void startSink(OutputStreamAppender<ILoggingEvent> sink, Encoder<ILoggingEvent> encoder) {
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Drops {
+
+        public long droppedEvents;
+
+        @TearDown(org.openjdk.jmh.annotations.Level.Iteration)
+        public void claim(LoggingBenchmark benchmark) {
+            droppedEvents = benchmark.claimDrops();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.utown.benchmark;
+
+import com.utown.constant.NotificationTopics;
+import com.utown.model.dto.cart.CartDTO;
+import com.utown.model.dto.order.OrderDTO;
+import com.utown.model.dto.restaurant.MenuItemDTO;
+import com.utown.model.dto.restaurant.RestaurantDto;
+import com.utown.model.entity.Cart;
+import com.utown.model.entity.MenuItem;
+import com.utown.model.entity.Order;
+import com.utown.model.entity.Restaurant;
+import com.utown.model.entity.mapper.CartMapper;
+import com.utown.model.entity.mapper.MenuItemMapper;
+import com.utown.model.entity.mapper.OrderMapper;
+import com.utown.model.entity.mapper.RestaurantMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping on the hot read paths. Run with the GC profiler
+ * ({@code mvn -Pbenchmark test}) to see {@code gc.alloc.rate.norm} per operation.
+ * The {@code legacy*} benchmarks keep the old builder/stream mapping as a baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"3", "10"})
+    public int itemsPerOrder;
+
+    private RestaurantMapper restaurantMapper;
+
+    private Order order;
+    private List<Order> restaurantBoard;
+    private Cart cart;
+    private MenuItem menuItem;
+    private List<MenuItem> menu;
+    private Restaurant restaurant;
+    private long id;
+
+    @Setup
+    public void setUp() {
+        restaurantMapper = BenchmarkFixtures.restaurantMapper();
+
+        order = BenchmarkFixtures.order(1, itemsPerOrder);
+        restaurantBoard = BenchmarkFixtures.restaurantBoard(50, itemsPerOrder);
+        cart = BenchmarkFixtures.cart(itemsPerOrder);
+        restaurant = BenchmarkFixtures.restaurant(1);
+        menuItem = BenchmarkFixtures.menuItem(1, restaurant, 3);
+        menu = BenchmarkFixtures.menu(restaurant, 40, 2);
+        id = 12345L;
+    }
+
+    @Benchmark
+    public OrderDTO orderToDto() {
+        return OrderMapper.toDTO(order);
+    }
+
+    @Benchmark
+    public OrderDTO legacyOrderToDto() {
+        return LegacyBuilderMappers.order(order);
+    }
+
+    @Benchmark
+    public void restaurantBoardToDto(Blackhole blackhole) {
+        for (Order boardOrder : restaurantBoard) {
+            blackhole.consume(OrderMapper.toDTO(boardOrder));
+        }
+    }
+
+    @Benchmark
+    public void legacyRestaurantBoardToDto(Blackhole blackhole) {
+        for (Order boardOrder : restaurantBoard) {
+            blackhole.consume(LegacyBuilderMappers.order(boardOrder));
+        }
+    }
+
+    @Benchmark
+    public CartDTO cartToDto() {
+        return CartMapper.toDTO(cart);
+    }
+
+    @Benchmark
+    public CartDTO legacyCartToDto() {
+        return LegacyBuilderMappers.cart(cart);
+    }
+
+    @Benchmark
+    public MenuItemDTO menuItemToDto() {
+        return MenuItemMapper.toDTO(menuItem);
+    }
+
+    @Benchmark
+    public List<MenuItemDTO> menuToDtoList() {
+        return MenuItemMapper.toDTOList(menu);
+    }
+
+    @Benchmark
+    public RestaurantDto restaurantToDto() {
+        return restaurantMapper.toPublicDto(restaurant);
+    }
+
+    @Benchmark
+    public BigDecimal cartSubtotal() {
+        return CartMapper.subtotal(cart.getItems());
+    }
+
+    @Benchmark
+    public BigDecimal legacyCartSubtotal() {
+        return LegacyBuilderMappers.cartSubtotal(cart);
+    }
+
+    @Benchmark
+    public String restaurantOrdersTopic() {
+        return NotificationTopics.restaurantOrders(id);
+    }
+
+    @Benchmark
+    public String orderUpdatesTopic() {
+        return NotificationTopics.orderUpdates(id);
+    }
+}
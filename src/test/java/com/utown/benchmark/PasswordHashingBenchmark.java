@@ -0,0 +1,96 @@
+package com.utown.benchmark;
+
+import com.utown.exception.TooManyRequestsException;
+import com.utown.security.PooledPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A burst of {@code concurrency} simultaneous logins, as request threads would issue them.
+ * {@code inline} hashes on the caller threads (every core busy with BCrypt for the whole burst),
+ * {@code pooled} goes through {@link PooledPasswordEncoder} with its default pool size, so the burst
+ * takes longer on wide machines but leaves the remaining cores to the rest of the API; requests
+ * beyond the queue are shed and counted as {@code 0}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    private static final int COST = 10;
+    private static final String PASSWORD = "Password@123";
+
+    @Param({"1", "8", "32"})
+    public int concurrency;
+
+    private ExecutorService callers;
+    private BCryptPasswordEncoder inline;
+    private PooledPasswordEncoder pooled;
+    private String hash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        callers = Executors.newFixedThreadPool(concurrency);
+        inline = new BCryptPasswordEncoder(COST);
+        pooled = new PooledPasswordEncoder(new SimpleMeterRegistry(), COST, 250, COST, COST, 0, 64);
+        hash = inline.encode(PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        callers.shutdownNow();
+        pooled.shutdown();
+    }
+
+    @Benchmark
+    public int inline() throws Exception {
+        return burst(() -> inline.matches(PASSWORD, hash) ? 1 : 0);
+    }
+
+    @Benchmark
+    public int pooled() throws Exception {
+        return burst(() -> {
+            try {
+                return pooled.matches(PASSWORD, hash) ? 1 : 0;
+            } catch (TooManyRequestsException e) {
+                return 0;
+            }
+        });
+    }
+
+    private int burst(Callable<Integer> login) throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(callers.submit(login));
+        }
+        int succeeded = 0;
+        for (Future<Integer> future : futures) {
+            succeeded += future.get();
+        }
+        return succeeded;
+    }
+}
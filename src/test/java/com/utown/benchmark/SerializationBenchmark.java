@@ -0,0 +1,102 @@
+package com.utown.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.utown.model.dto.ApiResponseDTO;
+import com.utown.model.dto.cart.CartDTO;
+import com.utown.model.dto.order.OrderDTO;
+import com.utown.model.dto.restaurant.MenuItemDTO;
+import com.utown.model.dto.restaurant.RestaurantDto;
+import com.utown.model.dto.restaurant.RestaurantMenuDTO;
+import com.utown.model.entity.Restaurant;
+import com.utown.model.entity.mapper.CartMapper;
+import com.utown.model.entity.mapper.MenuItemMapper;
+import com.utown.model.entity.mapper.OrderMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson serialization of the response bodies with the same mapper settings
+ * Spring Boot applies to the HTTP message converters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private OrderDTO order;
+    private CartDTO cart;
+    private RestaurantMenuDTO restaurantMenu;
+    private ApiResponseDTO<RestaurantDto> restaurantResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        order = OrderMapper.toDTO(BenchmarkFixtures.order(1, 5));
+        cart = CartMapper.toDTO(BenchmarkFixtures.cart(5));
+
+        Restaurant restaurant = BenchmarkFixtures.restaurant(1);
+        Map<String, List<MenuItemDTO>> menuByCategory = BenchmarkFixtures.menu(restaurant, 40, 2).stream()
+                .map(MenuItemMapper::toDTO)
+                .collect(Collectors.groupingBy(MenuItemDTO::getCategoryName, LinkedHashMap::new, Collectors.toList()));
+        restaurantMenu = RestaurantMenuDTO.builder()
+                .restaurantId(restaurant.getId())
+                .restaurantName(restaurant.getName())
+                .isOpen(restaurant.getIsOpen())
+                .menuByCategory(menuByCategory)
+                .build();
+
+        restaurantResponse = ApiResponseDTO.success(
+                BenchmarkFixtures.restaurantMapper().toPublicDto(restaurant)
+        );
+    }
+
+    @Benchmark
+    public byte[] orderDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] cartDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cart);
+    }
+
+    @Benchmark
+    public byte[] restaurantMenuDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(restaurantMenu);
+    }
+
+    @Benchmark
+    public byte[] apiResponseDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(restaurantResponse);
+    }
+
+    @Benchmark
+    public ApiResponseDTO<RestaurantDto> apiResponseEnvelope() {
+        return ApiResponseDTO.success(restaurantResponse.getData());
+    }
+}
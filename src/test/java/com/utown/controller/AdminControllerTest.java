@@ -0,0 +1,158 @@
+package com.utown.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utown.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The streamed exports finish on an ASYNC dispatch, which goes through the security chain again with
+ * the authentication of the original request. Only the exports get the long async timeout.
+ * The order export loads items per chunk of orders, so every order must come out once with all of its items.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AdminControllerTest {
+
+    // More than one export chunk, with zero, one and two items per order
+    private static final int ORDERS = 105;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${streaming.export-timeout-ms}")
+    private long exportTimeoutMs;
+
+    @BeforeAll
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long clientId = insert("INSERT INTO users (phone_number, password_hash, name, role, is_active, created_at) " +
+                "VALUES ('+821077770002', 'x', 'Export Client', 'CLIENT', TRUE, ?)", now);
+        long ownerId = insert("INSERT INTO users (phone_number, password_hash, name, role, is_active, created_at) " +
+                "VALUES ('+821877770002', 'x', 'Export Owner', 'RESTAURANT_OWNER', TRUE, ?)", now);
+        long categoryId = insert("INSERT INTO categories (name, priority, is_active, created_at) " +
+                "VALUES ('Export Test', 0, TRUE, ?)", now);
+        long addressId = insert("INSERT INTO addresses (user_id, address, city, latitude, longitude, is_default, created_at) " +
+                "VALUES (?, 'Export street 1', 'Seoul', 37.5665, 126.978, TRUE, ?)", clientId, now);
+        long restaurantId = insert("INSERT INTO restaurants (owner_id, category_id, name, address, city, latitude, longitude, phone, " +
+                "min_order_amount, delivery_fee, is_open, is_active, created_at) " +
+                "VALUES (?, ?, 'Export Restaurant', 'Export avenue', 'Seoul', 37.5, 127.0, '02-000-0000', 0, 3000, TRUE, TRUE, ?)",
+                ownerId, categoryId, now);
+        long menuItemId = insert("INSERT INTO menu_items (restaurant_id, name, price, is_available, created_at) " +
+                "VALUES (?, 'Export Dish', 10000, TRUE, ?)", restaurantId, now);
+
+        for (int i = 0; i < ORDERS; i++) {
+            long orderId = insert("INSERT INTO orders (order_number, user_id, restaurant_id, address_id, status, " +
+                    "subtotal, delivery_fee, total_amount, payment_method, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, 'PENDING', 20000, 3000, 23000, 'CASH', ?, ?)",
+                    "ORD-EXPORT-" + i, clientId, restaurantId, addressId, now, now);
+            for (int item = 0; item < i % 3; item++) {
+                insert("INSERT INTO order_items (order_id, menu_item_id, menu_item_name, quantity, unit_price, subtotal) " +
+                        "VALUES (?, ?, 'Export Dish', 1, 10000, 10000)", orderId, menuItemId);
+            }
+        }
+    }
+
+    @Test
+    void exportOrders_shouldStreamForAdmin() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/admin/export/orders")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(1L, "ADMIN")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(exportTimeoutMs);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void streamedList_shouldKeepDefaultAsyncTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/categories"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isNotEqualTo(exportTimeoutMs);
+    }
+
+    @Test
+    void exportOrders_shouldWriteEachOrderOnceWithItsItems() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/admin/export/orders")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(1L, "ADMIN")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Map<Long, Integer> expected = new HashMap<>();
+        jdbcTemplate.query("SELECT o.id, COUNT(i.id) FROM orders o LEFT JOIN order_items i ON i.order_id = o.id GROUP BY o.id",
+                rs -> {
+                    expected.put(rs.getLong(1), rs.getInt(2));
+                });
+        Map<Long, Integer> exported = new HashMap<>();
+        for (String line : body.split("\n")) {
+            JsonNode order = objectMapper.readTree(line);
+            assertThat(exported.put(order.get("id").asLong(), order.get("items").size())).isNull();
+        }
+        assertThat(exported).isEqualTo(expected);
+    }
+
+    @Test
+    void exportOrders_shouldRejectNonAdmin() throws Exception {
+        mockMvc.perform(get("/api/admin/export/orders")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(1L, "CLIENT")))
+                .andExpect(status().isForbidden());
+    }
+
+    private String bearer(long userId, String role) {
+        return "Bearer " + jwtTokenProvider.generateAccessToken(userId, role);
+    }
+
+    private long insert(String sql, Object... args) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id"});
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+}
@@ -0,0 +1,136 @@
+package com.utown.controller;
+
+import com.utown.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The order list endpoints on the migrated schema with {@code sql-stats.mode=fail}: a change that pushes
+ * an endpoint past its {@code @StatementBudget}, or repeats a statement per order, turns the response
+ * into a 500 and fails here.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderControllerTest {
+
+    // More than a page, so batch loading of the page's associations is exercised
+    private static final int ORDERS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private long clientId;
+    private long ownerId;
+    private long restaurantId;
+
+    @BeforeAll
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        clientId = insert("INSERT INTO users (phone_number, password_hash, name, role, is_active, created_at) " +
+                "VALUES ('+821077770001', 'x', 'Order Client', 'CLIENT', TRUE, ?)", now);
+        ownerId = insert("INSERT INTO users (phone_number, password_hash, name, role, is_active, created_at) " +
+                "VALUES ('+821877770001', 'x', 'Order Owner', 'RESTAURANT_OWNER', TRUE, ?)", now);
+        long categoryId = insert("INSERT INTO categories (name, priority, is_active, created_at) " +
+                "VALUES ('Order Test', 0, TRUE, ?)", now);
+        long addressId = insert("INSERT INTO addresses (user_id, address, city, latitude, longitude, is_default, created_at) " +
+                "VALUES (?, 'Order street 1', 'Seoul', 37.5665, 126.978, TRUE, ?)", clientId, now);
+
+        long[] restaurantIds = new long[2];
+        long[] menuItemIds = new long[restaurantIds.length];
+        for (int r = 0; r < restaurantIds.length; r++) {
+            restaurantIds[r] = insert("INSERT INTO restaurants (owner_id, category_id, name, address, city, latitude, longitude, phone, " +
+                    "min_order_amount, delivery_fee, is_open, is_active, created_at) " +
+                    "VALUES (?, ?, ?, 'Order avenue', 'Seoul', 37.5, 127.0, '02-000-0000', 0, 3000, TRUE, TRUE, ?)",
+                    ownerId, categoryId, "Order Restaurant " + r, now);
+            menuItemIds[r] = insert("INSERT INTO menu_items (restaurant_id, name, price, is_available, created_at) " +
+                    "VALUES (?, ?, 10000, TRUE, ?)", restaurantIds[r], "Order Dish " + r, now);
+        }
+        restaurantId = restaurantIds[0];
+
+        for (int i = 0; i < ORDERS; i++) {
+            int r = i % restaurantIds.length;
+            long orderId = insert("INSERT INTO orders (order_number, user_id, restaurant_id, address_id, status, " +
+                    "subtotal, delivery_fee, total_amount, payment_method, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, 'PENDING', 20000, 3000, 23000, 'CASH', ?, ?)",
+                    "ORD-TEST-" + i, clientId, restaurantIds[r], addressId, now, now);
+            for (int item = 0; item < 2; item++) {
+                insert("INSERT INTO order_items (order_id, menu_item_id, menu_item_name, quantity, unit_price, subtotal) " +
+                        "VALUES (?, ?, ?, 1, 10000, 10000)", orderId, menuItemIds[r], "Order Dish " + r);
+            }
+        }
+    }
+
+    @Test
+    void getMyOrders_shouldStayWithinStatementBudget() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/orders/my")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(clientId, "CLIENT")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(20))
+                .andExpect(jsonPath("$.content[0].items.length()").value(2))
+                .andReturn();
+
+        assertStatements(result, 5);
+    }
+
+    @Test
+    void getRestaurantOrders_shouldStayWithinStatementBudget() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/orders/restaurant/{id}", restaurantId)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(ownerId, "RESTAURANT_OWNER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value((ORDERS + 1) / 2))
+                .andExpect(jsonPath("$.content[0].items.length()").value(2))
+                .andReturn();
+
+        assertStatements(result, 6);
+    }
+
+    private void assertStatements(MvcResult result, int budget) {
+        int statements = Integer.parseInt(result.getResponse().getHeader("X-Sql-Statements"));
+        assertTrue(statements <= budget, statements + " statements, budget " + budget);
+    }
+
+    private String bearer(long userId, String role) {
+        return "Bearer " + jwtTokenProvider.generateAccessToken(userId, role);
+    }
+
+    private long insert(String sql, Object... args) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id"});
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+}
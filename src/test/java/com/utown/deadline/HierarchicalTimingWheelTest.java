@@ -0,0 +1,67 @@
+package com.utown.deadline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void advance_shouldFireTimerOnlyOnceDeadlineReached() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 2, START);
+
+        wheel.schedule(1, START + 5_000, "a");
+
+        assertTrue(wheel.advance(START + 4_999).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(START + 5_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_shouldCascadeTimersFromHigherLevels() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 2, START);
+
+        wheel.schedule(1, START + 30_000, "level1");
+        wheel.schedule(2, START + 500_000, "overflow");
+
+        assertTrue(wheel.advance(START + 29_000).isEmpty());
+        assertEquals(List.of("level1"), wheel.advance(START + 30_000));
+        assertTrue(wheel.advance(START + 499_000).isEmpty());
+        assertEquals(List.of("overflow"), wheel.advance(START + 500_000));
+    }
+
+    @Test
+    void schedule_shouldReplacePendingTimerForSameKey() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 2, START);
+
+        wheel.schedule(1, START + 2_000, "cancel");
+        wheel.schedule(1, START + 20_000, "escalate");
+
+        assertTrue(wheel.advance(START + 10_000).isEmpty());
+        assertEquals(List.of("escalate"), wheel.advance(START + 20_000));
+    }
+
+    @Test
+    void cancel_shouldDropTimer() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 2, START);
+
+        wheel.schedule(1, START + 2_000, "a");
+
+        assertTrue(wheel.cancel(1));
+        assertFalse(wheel.cancel(1));
+        assertTrue(wheel.advance(START + 10_000).isEmpty());
+    }
+
+    @Test
+    void schedule_shouldFirePastDeadlineOnNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 2, START);
+
+        wheel.schedule(1, START - 60_000, "late");
+
+        assertEquals(List.of("late"), wheel.advance(START));
+    }
+}
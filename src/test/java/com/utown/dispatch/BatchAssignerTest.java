@@ -0,0 +1,143 @@
+package com.utown.dispatch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchAssignerTest {
+
+    private static final double SEOUL_LAT = 37.5665;
+    private static final double SEOUL_LON = 126.9780;
+
+    @Test
+    void nearest_shouldMatchBruteForceAcrossCells() {
+        RiderGrid grid = new RiderGrid(0.01);
+        Random random = new Random(42);
+        List<RiderGrid.Position> all = new ArrayList<>();
+        for (long riderId = 1; riderId <= 2_000; riderId++) {
+            double lat = SEOUL_LAT + (random.nextDouble() - 0.5) * 0.2;
+            double lon = SEOUL_LON + (random.nextDouble() - 0.5) * 0.2;
+            grid.update(riderId, lat, lon, 0);
+            all.add(new RiderGrid.Position(riderId, lat, lon, 0, 0));
+        }
+
+        for (int query = 0; query < 50; query++) {
+            double lat = SEOUL_LAT + (random.nextDouble() - 0.5) * 0.2;
+            double lon = SEOUL_LON + (random.nextDouble() - 0.5) * 0.2;
+
+            List<Long> expected = all.stream()
+                    .filter(p -> RiderGrid.distanceKm(lat, lon, p.latitude(), p.longitude()) <= 3.0)
+                    .sorted(Comparator.comparingDouble(p -> RiderGrid.distanceKm(lat, lon, p.latitude(), p.longitude())))
+                    .limit(5)
+                    .map(RiderGrid.Position::riderId)
+                    .toList();
+            List<Long> actual = grid.nearest(lat, lon, 5, 3.0, riderId -> true).stream()
+                    .map(RiderGrid.Neighbour::riderId)
+                    .toList();
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void update_shouldMoveRiderBetweenCells() {
+        RiderGrid grid = new RiderGrid(0.01);
+        grid.update(1, SEOUL_LAT, SEOUL_LON, 0);
+        grid.update(1, SEOUL_LAT + 0.05, SEOUL_LON, 1);
+
+        assertTrue(grid.nearest(SEOUL_LAT, SEOUL_LON, 1, 1.0, riderId -> true).isEmpty());
+        assertEquals(1, grid.nearest(SEOUL_LAT + 0.05, SEOUL_LON, 1, 1.0, riderId -> true).size());
+        assertEquals(1, grid.size());
+
+        assertEquals(1, grid.evictReportedBefore(2));
+        assertEquals(0, grid.size());
+    }
+
+    @Test
+    void assign_shouldGiveEachRiderAtMostOneOrderAndPreferCloserPairs() {
+        RiderGrid grid = new RiderGrid(0.01);
+        grid.update(1, SEOUL_LAT, SEOUL_LON, 0);
+        grid.update(2, SEOUL_LAT + 0.02, SEOUL_LON, 0);
+
+        List<BatchAssigner.Pickup> pickups = List.of(
+                new BatchAssigner.Pickup(100, SEOUL_LAT + 0.019, SEOUL_LON),
+                new BatchAssigner.Pickup(101, SEOUL_LAT + 0.001, SEOUL_LON),
+                new BatchAssigner.Pickup(102, SEOUL_LAT + 0.010, SEOUL_LON)
+        );
+
+        List<BatchAssigner.Assignment> assignments = new BatchAssigner(1, 5.0).assign(pickups, grid, riderId -> true);
+
+        assertEquals(2, assignments.size());
+        assertNotNull(assignment(assignments, 100, 2));
+        assertNotNull(assignment(assignments, 101, 1));
+    }
+
+    @Test
+    void assign_shouldRetryOrdersWhoseCandidatesWereTaken() {
+        RiderGrid grid = new RiderGrid(0.01);
+        grid.update(1, SEOUL_LAT, SEOUL_LON, 0);
+        grid.update(2, SEOUL_LAT + 0.03, SEOUL_LON, 0);
+
+        // Both orders sit next to rider 1; only the closer one gets it in the first pass
+        List<BatchAssigner.Pickup> pickups = List.of(
+                new BatchAssigner.Pickup(100, SEOUL_LAT + 0.001, SEOUL_LON),
+                new BatchAssigner.Pickup(101, SEOUL_LAT + 0.002, SEOUL_LON)
+        );
+
+        List<BatchAssigner.Assignment> assignments = new BatchAssigner(1, 5.0).assign(pickups, grid, riderId -> true);
+
+        assertEquals(2, assignments.size());
+        assertNotNull(assignment(assignments, 100, 1));
+        assertNotNull(assignment(assignments, 101, 2));
+    }
+
+    @Test
+    void assign_shouldSkipBusyAndDistantRiders() {
+        RiderGrid grid = new RiderGrid(0.01);
+        grid.update(1, SEOUL_LAT, SEOUL_LON, 0);
+        grid.update(2, SEOUL_LAT + 0.5, SEOUL_LON, 0);
+
+        List<BatchAssigner.Assignment> assignments = new BatchAssigner(4, 5.0).assign(
+                List.of(new BatchAssigner.Pickup(100, SEOUL_LAT, SEOUL_LON)), grid, riderId -> riderId != 1);
+
+        assertTrue(assignments.isEmpty());
+    }
+
+    @Test
+    void assign_shouldNeverDoubleBookUnderLoad() {
+        RiderGrid grid = new RiderGrid(0.01);
+        Random random = new Random(7);
+        for (long riderId = 1; riderId <= 300; riderId++) {
+            grid.update(riderId, SEOUL_LAT + random.nextGaussian() * 0.02, SEOUL_LON + random.nextGaussian() * 0.02, 0);
+        }
+        List<BatchAssigner.Pickup> pickups = new ArrayList<>();
+        for (long orderId = 1; orderId <= 500; orderId++) {
+            pickups.add(new BatchAssigner.Pickup(orderId,
+                    SEOUL_LAT + random.nextGaussian() * 0.02, SEOUL_LON + random.nextGaussian() * 0.02));
+        }
+
+        List<BatchAssigner.Assignment> assignments = new BatchAssigner(8, 5.0).assign(pickups, grid, riderId -> true);
+
+        Set<Long> riders = new HashSet<>();
+        Set<Long> orders = new HashSet<>();
+        for (BatchAssigner.Assignment assignment : assignments) {
+            assertTrue(riders.add(assignment.riderId()));
+            assertTrue(orders.add(assignment.orderId()));
+        }
+        assertEquals(300, assignments.size());
+    }
+
+    private static BatchAssigner.Assignment assignment(List<BatchAssigner.Assignment> assignments, long orderId, long riderId) {
+        return assignments.stream()
+                .filter(a -> a.orderId() == orderId && a.riderId() == riderId)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.utown.hours;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningHoursParserTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    // 2025-06-02 is a Monday
+    private static Instant seoul(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(SEOUL).toInstant();
+    }
+
+    @Test
+    void parse_shouldOpenWithinRangesOnly() {
+        WeeklySchedule schedule = OpeningHoursParser.parse(
+                "{\"mon\": [\"09:00-14:00\", {\"open\": \"17:00\", \"close\": \"22:00\"}]}", SEOUL
+        );
+
+        assertFalse(schedule.isOpenAt(seoul("2025-06-02T08:59")));
+        assertTrue(schedule.isOpenAt(seoul("2025-06-02T09:00")));
+        assertFalse(schedule.isOpenAt(seoul("2025-06-02T14:00")));
+        assertTrue(schedule.isOpenAt(seoul("2025-06-02T21:59")));
+        assertFalse(schedule.isOpenAt(seoul("2025-06-03T10:00")));
+    }
+
+    @Test
+    void parse_shouldCarryRangesPastMidnightIntoNextDay() {
+        WeeklySchedule schedule = OpeningHoursParser.parse("{\"Sunday\": [\"20:00-02:00\"]}", SEOUL);
+
+        assertTrue(schedule.isOpenAt(seoul("2025-06-08T23:30")));
+        assertTrue(schedule.isOpenAt(seoul("2025-06-09T01:59")));
+        assertFalse(schedule.isOpenAt(seoul("2025-06-09T02:00")));
+    }
+
+    @Test
+    void parse_shouldUseTimezoneFromJson() {
+        WeeklySchedule schedule = OpeningHoursParser.parse(
+                "{\"timezone\": \"UTC\", \"mon\": [\"00:00-24:00\"]}", SEOUL
+        );
+
+        assertEquals(ZoneId.of("UTC"), schedule.getZone());
+        // Monday 08:00 in Seoul is still Sunday 23:00 UTC
+        assertFalse(schedule.isOpenAt(seoul("2025-06-02T08:00")));
+        assertTrue(schedule.isOpenAt(seoul("2025-06-02T09:00")));
+    }
+
+    @Test
+    void parse_shouldRejectInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> OpeningHoursParser.parse("not json", SEOUL));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHoursParser.parse("{\"someday\": []}", SEOUL));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHoursParser.parse("{\"mon\": [\"25:00-26:00\"]}", SEOUL));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHoursParser.parse("{\"timezone\": \"Mars/Base\"}", SEOUL));
+    }
+}
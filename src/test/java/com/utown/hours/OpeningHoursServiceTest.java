@@ -0,0 +1,122 @@
+package com.utown.hours;
+
+import com.utown.model.dto.restaurant.OpeningHoursSource;
+import com.utown.model.entity.Restaurant;
+import com.utown.repository.RestaurantRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningHoursServiceTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final String LUNCH = "{\"mon\": [\"11:00-14:00\"]}";
+    private static final String DINNER = "{\"mon\": [\"17:00-22:00\"]}";
+
+    private final List<OpeningHoursSource> sources = new ArrayList<>();
+    private final List<String> updates = new ArrayList<>();
+    private final List<Restaurant> flaggedOpen = new ArrayList<>();
+    private final OpeningHoursService service = new OpeningHoursService(repository(), SEOUL.getId());
+
+    // 2025-06-02 is a Monday
+    private static Instant seoul(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(SEOUL).toInstant();
+    }
+
+    @Test
+    void applySchedules_shouldWriteOnlyRestaurantsCrossingABoundary() {
+        sources.add(new OpeningHoursSource(1L, LUNCH, false));
+        sources.add(new OpeningHoursSource(2L, DINNER, false));
+        service.load();
+
+        service.applySchedules(seoul("2025-06-02T12:00"));
+        assertEquals(List.of("applyOpenState [1] [1]"), updates);
+
+        service.applySchedules(seoul("2025-06-02T13:00"));
+        assertEquals(1, updates.size());
+
+        service.applySchedules(seoul("2025-06-02T18:00"));
+        assertEquals("applyOpenState [1, 2] [2]", updates.get(1));
+    }
+
+    @Test
+    void applySchedules_shouldCloseWithoutSentinelWhenNothingOpens() {
+        sources.add(new OpeningHoursSource(1L, LUNCH, true));
+        sources.add(new OpeningHoursSource(2L, DINNER, true));
+        service.load();
+
+        service.applySchedules(seoul("2025-06-02T23:00"));
+
+        assertEquals(List.of("closeByIds [1, 2]"), updates);
+    }
+
+    @Test
+    void isOpenAt_shouldCapOpenFlagWithSchedule() {
+        sources.add(new OpeningHoursSource(1L, LUNCH, true));
+        service.load();
+
+        assertTrue(service.isOpenAt(restaurant(1L, true, LUNCH), seoul("2025-06-02T12:00")));
+        assertFalse(service.isOpenAt(restaurant(1L, true, LUNCH), seoul("2025-06-02T15:00")));
+        assertFalse(service.isOpenAt(restaurant(1L, false, LUNCH), seoul("2025-06-02T12:00")));
+        assertTrue(service.isOpenAt(restaurant(3L, true, null), seoul("2025-06-02T03:00")));
+    }
+
+    @Test
+    void isOpenAt_shouldNotChangeStateTrackedByApplySchedules() {
+        sources.add(new OpeningHoursSource(1L, LUNCH, true));
+        service.load();
+
+        // hours changed outside the application are evaluated, not cached over the loaded entry
+        assertTrue(service.isOpenAt(restaurant(1L, true, DINNER), seoul("2025-06-02T18:00")));
+        assertFalse(service.isOpenAt(restaurant(4L, true, DINNER), seoul("2025-06-02T12:00")));
+
+        service.applySchedules(seoul("2025-06-02T12:00"));
+        assertTrue(updates.isEmpty());
+        service.applySchedules(seoul("2025-06-02T15:00"));
+        assertEquals(List.of("closeByIds [1]"), updates);
+    }
+
+    @Test
+    void findOpenRestaurants_shouldDropFlaggedRestaurantsOutsideTheirHours() {
+        sources.add(new OpeningHoursSource(1L, LUNCH, true));
+        sources.add(new OpeningHoursSource(2L, DINNER, true));
+        service.load();
+        flaggedOpen.addAll(List.of(restaurant(1L, true, LUNCH), restaurant(2L, true, DINNER), restaurant(3L, true, null)));
+
+        List<Long> open = service.findOpenRestaurants(seoul("2025-06-02T12:00")).stream()
+                .map(Restaurant::getId)
+                .toList();
+
+        assertEquals(List.of(1L, 3L), open);
+    }
+
+    private static Restaurant restaurant(Long id, boolean isOpen, String openingHours) {
+        return Restaurant.builder().id(id).isOpen(isOpen).openingHours(openingHours).build();
+    }
+
+    private RestaurantRepository repository() {
+        return (RestaurantRepository) Proxy.newProxyInstance(
+                RestaurantRepository.class.getClassLoader(), new Class<?>[]{RestaurantRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findOpeningHoursSources" -> sources;
+                    case "findByIsOpenTrueAndIsActiveTrue" -> flaggedOpen;
+                    case "applyOpenState", "closeByIds" -> {
+                        StringBuilder update = new StringBuilder(method.getName());
+                        for (Object ids : args) {
+                            update.append(' ').append(new ArrayList<>((Collection<?>) ids).stream().sorted().toList());
+                        }
+                        updates.add(update.toString());
+                        yield ((Collection<?>) args[0]).size();
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,71 @@
+package com.utown.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderPhaseEventTest {
+
+    @Test
+    void finish_shouldCommitPhaseWithIdsWhileRecording() throws Exception {
+        Path file = Files.createTempFile("order-phase", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(OrderPhaseEvent.class);
+            recording.start();
+
+            OrderPhaseEvent.start(OrderPhaseEvent.CART_LOAD, 7L).finish();
+            OrderPhaseEvent.start(OrderPhaseEvent.PERSIST, 7L).finish(42L, "ORD-1");
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("com.utown.OrderPhase"))
+                    .toList();
+
+            assertEquals(2, events.size());
+            RecordedEvent cartLoad = events.stream()
+                    .filter(e -> OrderPhaseEvent.CART_LOAD.equals(e.getString("phase")))
+                    .findFirst().orElseThrow();
+            assertEquals(7L, cartLoad.getLong("userId"));
+            assertEquals(0L, cartLoad.getLong("orderId"));
+            assertNull(cartLoad.getString("orderNumber"));
+
+            RecordedEvent persist = events.stream()
+                    .filter(e -> OrderPhaseEvent.PERSIST.equals(e.getString("phase")))
+                    .findFirst().orElseThrow();
+            assertEquals(42L, persist.getLong("orderId"));
+            assertEquals("ORD-1", persist.getString("orderNumber"));
+            assertFalse(persist.getDuration().isNegative());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void finish_shouldNotCommitWithoutRecording() throws Exception {
+        Path file = Files.createTempFile("order-phase", ".jfr");
+        try {
+            OrderPhaseEvent.start(OrderPhaseEvent.NOTIFY, 1L).finish(1L, "ORD-0");
+
+            try (Recording recording = new Recording()) {
+                recording.enable(OrderPhaseEvent.class);
+                recording.start();
+                recording.stop();
+                recording.dump(file);
+            }
+
+            assertTrue(RecordingFile.readAllEvents(file).stream()
+                    .noneMatch(e -> e.getEventType().getName().equals("com.utown.OrderPhase")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
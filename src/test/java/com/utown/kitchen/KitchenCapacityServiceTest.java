@@ -0,0 +1,122 @@
+package com.utown.kitchen;
+
+import com.utown.event.OrderStatusChangedEvent;
+import com.utown.exception.TooManyRequestsException;
+import com.utown.model.entity.Restaurant;
+import com.utown.model.enums.OrderStatus;
+import com.utown.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KitchenCapacityServiceTest {
+
+    private KitchenCapacityService kitchenCapacityService;
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        kitchenCapacityService = new KitchenCapacityService(null, 20, 20);
+        restaurant = Restaurant.builder().id(1L).name("Test Kitchen").kitchenCapacity(4).build();
+    }
+
+    @Test
+    void afterSingletonsInstantiated_shouldSeedLoadFromActiveOrders() {
+        OrderRepository orderRepository = (OrderRepository) Proxy.newProxyInstance(
+                OrderRepository.class.getClassLoader(), new Class<?>[]{OrderRepository.class},
+                (proxy, method, args) -> List.<Object[]>of(new Object[]{1L, 3L}, new Object[]{2L, 5L}));
+        KitchenCapacityService seeded = new KitchenCapacityService(orderRepository, 20, 20);
+
+        seeded.afterSingletonsInstantiated();
+
+        assertEquals(3, seeded.activeOrders(1L));
+        assertEquals(5, seeded.activeOrders(2L));
+        seeded.admit(restaurant);
+        assertThrows(TooManyRequestsException.class, () -> seeded.admit(restaurant));
+    }
+
+    @Test
+    void admit_shouldRejectOnceCapacityIsReached() {
+        for (int i = 0; i < 4; i++) {
+            kitchenCapacityService.admit(restaurant);
+        }
+
+        TooManyRequestsException ex = assertThrows(
+                TooManyRequestsException.class,
+                () -> kitchenCapacityService.admit(restaurant)
+        );
+        assertEquals("KITCHEN_AT_CAPACITY", ex.getErrorCode());
+        assertEquals(300, ex.getRetryAfterSeconds());
+        assertEquals(4, kitchenCapacityService.activeOrders(1L));
+    }
+
+    @Test
+    void admit_shouldNeverOverAdmitUnderConcurrentCheckouts() throws Exception {
+        int checkouts = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < checkouts; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    kitchenCapacityService.admit(restaurant);
+                    return true;
+                } catch (TooManyRequestsException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int admitted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                admitted++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(4, admitted);
+        assertEquals(4, kitchenCapacityService.activeOrders(1L));
+    }
+
+    @Test
+    void onOrderStatusChanged_shouldFreeSlotWhenOrderLeavesKitchen() {
+        for (int i = 0; i < 4; i++) {
+            kitchenCapacityService.admit(restaurant);
+        }
+
+        kitchenCapacityService.onOrderStatusChanged(statusChange(OrderStatus.CONFIRMED, OrderStatus.PREPARING));
+        assertEquals(4, kitchenCapacityService.activeOrders(1L));
+
+        kitchenCapacityService.onOrderStatusChanged(statusChange(OrderStatus.PREPARING, OrderStatus.READY));
+        assertEquals(3, kitchenCapacityService.activeOrders(1L));
+        assertDoesNotThrow(() -> kitchenCapacityService.admit(restaurant));
+    }
+
+    @Test
+    void expectedWaitMinutes_shouldGrowWithQueueBeyondCapacity() {
+        assertEquals(0, kitchenCapacityService.expectedWaitMinutes(restaurant));
+
+        for (int i = 0; i < 4; i++) {
+            kitchenCapacityService.admit(restaurant);
+        }
+
+        assertEquals(5, kitchenCapacityService.expectedWaitMinutes(restaurant));
+    }
+
+    private static OrderStatusChangedEvent statusChange(OrderStatus from, OrderStatus to) {
+        return new OrderStatusChangedEvent(10L, 1L, from, to, null, null, null, null);
+    }
+}
@@ -0,0 +1,74 @@
+package com.utown.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-endpoint latency samples. Samples are appended under a lock into a growable
+ * long array; percentiles are computed once, after the run, by sorting a copy.
+ */
+class LatencyRecorder {
+
+    private long[] samplesNanos = new long[4096];
+    private int size;
+
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong calibrationRequests = new AtomicLong();
+
+    synchronized void record(long nanos) {
+        if (size == samplesNanos.length) {
+            samplesNanos = Arrays.copyOf(samplesNanos, size * 2);
+        }
+        samplesNanos[size++] = nanos;
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    void recordStatements(long count) {
+        statements.addAndGet(count);
+        calibrationRequests.incrementAndGet();
+    }
+
+    synchronized long count() {
+        return size;
+    }
+
+    synchronized void resetSamples() {
+        size = 0;
+        errors.set(0);
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    double statementsPerRequest() {
+        long requests = calibrationRequests.get();
+        return requests == 0 ? 0.0 : (double) statements.get() / requests;
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samplesNanos, size);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted);
+    }
+
+    record Snapshot(long[] sortedNanos) {
+
+        double percentileMillis(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+            index = Math.max(0, Math.min(index, sortedNanos.length - 1));
+            return sortedNanos[index] / 1_000_000.0;
+        }
+
+        double maxMillis() {
+            return sortedNanos.length == 0 ? 0.0 : sortedNanos[sortedNanos.length - 1] / 1_000_000.0;
+        }
+    }
+}
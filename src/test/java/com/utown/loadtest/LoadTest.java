@@ -0,0 +1,371 @@
+package com.utown.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load run against the full application on an embedded MySQL-mode H2
+ * database. Excluded from the default build; run it with
+ * {@code mvn -Pload-test test}. Sizes and duration are tunable through
+ * {@code -Dloadtest.*} system properties, and {@code -Dloadtest.baseline=<report.json>}
+ * fails the run when it regresses against a previous report.
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoadTest {
+
+    private static final int CALIBRATION_ROUNDS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    private LoadTestDataSeeder.SeededData data;
+    private Statistics statistics;
+    private volatile boolean calibrating;
+    private int orderableRestaurants;
+
+    @Test
+    void mixedWorkload() throws Exception {
+        int users = Integer.getInteger("loadtest.users", 5000);
+        int restaurants = Integer.getInteger("loadtest.restaurants", 2000);
+        int menuItemsPerRestaurant = Integer.getInteger("loadtest.menuItemsPerRestaurant", 10);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+        int subscriberCount = Integer.getInteger("loadtest.subscribers", 50);
+        String reportPath = System.getProperty("loadtest.report", "target/load-test/report.json");
+        String baselinePath = System.getProperty("loadtest.baseline");
+        double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.25"));
+
+        assertTrue(users >= concurrency, "loadtest.users must be >= loadtest.concurrency");
+
+        data = new LoadTestDataSeeder(jdbcTemplate, passwordEncoder.encode(LoadTestDataSeeder.PASSWORD))
+                .seed(users, restaurants, menuItemsPerRestaurant);
+        orderableRestaurants = Math.max(1, restaurants - Math.max(1, restaurants / 20));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        StompSubscribers subscribers = connectSubscribers(subscriberCount);
+
+        calibrate();
+
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+        for (int w = 0; w < concurrency; w++) {
+            int workerIndex = w;
+            pool.submit(() -> runWorker(workerIndex, concurrency, deadline));
+        }
+        pool.shutdown();
+        pool.awaitTermination(durationSeconds + 120L, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        subscribers.close();
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", users);
+        config.put("restaurants", restaurants);
+        config.put("menuItemsPerRestaurant", menuItemsPerRestaurant);
+        config.put("concurrency", concurrency);
+        config.put("durationSeconds", durationSeconds);
+        config.put("subscribers", subscriberCount);
+
+        LoadTestReport report = new LoadTestReport(config, elapsedSeconds);
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, LatencyRecorder> entry : new TreeMap<>(recorders).entrySet()) {
+            report.addEndpoint(entry.getKey(), entry.getValue(), elapsedSeconds);
+            totalRequests += entry.getValue().count();
+            totalErrors += entry.getValue().errors();
+        }
+        report.setTotals(totalRequests, totalErrors, elapsedSeconds);
+        report.setStomp(subscriberCount, subscribers.connected(), subscribers.frames(), subscribers.errors());
+        report.write(Path.of(reportPath));
+
+        assertTrue(totalRequests > 0, "Load run produced no requests");
+
+        if (baselinePath != null) {
+            List<String> regressions = report.regressionsAgainst(Path.of(baselinePath), tolerance);
+            assertTrue(regressions.isEmpty(), "Regressions against baseline: " + regressions);
+        }
+    }
+
+    /**
+     * Runs every scenario sequentially so that Hibernate's global statement counter
+     * can be attributed to a single request. Doubles as JIT warm-up; the latency
+     * samples it produces are discarded.
+     */
+    private void calibrate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        calibrating = true;
+        for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+            for (Scenario scenario : Scenario.values()) {
+                runScenario(scenario, round, random);
+            }
+        }
+        calibrating = false;
+        recorders.values().forEach(LatencyRecorder::resetSamples);
+    }
+
+    private void runWorker(int workerIndex, int concurrency, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int clientsPerWorker = data.clientIds().size() / concurrency;
+        int iteration = 0;
+        while (System.nanoTime() < deadline) {
+            int clientIndex = workerIndex + concurrency * (iteration++ % clientsPerWorker);
+            runScenario(Scenario.pick(random), clientIndex, random);
+        }
+    }
+
+    private void runScenario(Scenario scenario, int clientIndex, ThreadLocalRandom random) {
+        switch (scenario) {
+            case REGISTER_LOGIN -> registerAndLogin();
+            case BROWSE -> browse(random);
+            case CART -> editCart(clientIndex, random);
+            case CHECKOUT -> checkout(clientIndex, random);
+            case RESTAURANT_STATUS -> toggleRestaurant(random);
+        }
+    }
+
+    private void registerAndLogin() {
+        String phone = String.format("+8219%07d", registrations.incrementAndGet());
+        String credentials = "{\"phoneNumber\":\"" + phone + "\",\"password\":\"" + LoadTestDataSeeder.PASSWORD + "\"";
+
+        send("POST /api/auth/register", post("/api/auth/register", credentials + ",\"name\":\"Load User\"}", null));
+        send("POST /api/auth/login", post("/api/auth/login", credentials + "}", null));
+    }
+
+    private void browse(ThreadLocalRandom random) {
+        int pages = Math.max(1, data.restaurantIds().size() / 20);
+        send("GET /api/restaurants", get("/api/restaurants?page=" + random.nextInt(pages) + "&size=20", null));
+
+        Long restaurantId = data.restaurantIds().get(random.nextInt(data.restaurantIds().size()));
+        send("GET /api/restaurants/{id}/menu", get("/api/restaurants/" + restaurantId + "/menu", null));
+    }
+
+    private void editCart(int clientIndex, ThreadLocalRandom random) {
+        String token = clientToken(clientIndex);
+        JsonNode cart = addToCart(clientIndex, token, random);
+        if (cart == null || cart.path("items").isEmpty()) {
+            return;
+        }
+
+        long cartItemId = cart.path("items").get(0).path("id").asLong();
+        send("PUT /api/cart/items/{id}",
+                put("/api/cart/items/" + cartItemId, "{\"quantity\":" + (1 + random.nextInt(3)) + "}", token));
+    }
+
+    private void checkout(int clientIndex, ThreadLocalRandom random) {
+        String token = clientToken(clientIndex);
+        if (addToCart(clientIndex, token, random) == null) {
+            return;
+        }
+
+        Long addressId = data.addressIds().get(clientIndex);
+        send("POST /api/orders",
+                post("/api/orders", "{\"addressId\":" + addressId + ",\"paymentMethod\":\"CASH\"}", token));
+    }
+
+    private void toggleRestaurant(ThreadLocalRandom random) {
+        int restaurantIndex = orderableRestaurants
+                + random.nextInt(Math.max(1, data.restaurantIds().size() - orderableRestaurants));
+        restaurantIndex = Math.min(restaurantIndex, data.restaurantIds().size() - 1);
+
+        int ownerIndex = restaurantIndex % data.ownerIds().size();
+        String token = token(String.format(LoadTestDataSeeder.OWNER_PHONE_FORMAT, ownerIndex));
+        Long restaurantId = data.restaurantIds().get(restaurantIndex);
+
+        send("PATCH /api/restaurant-owner/restaurants/{id}/status",
+                patch("/api/restaurant-owner/restaurants/" + restaurantId + "/status",
+                        "{\"isOpen\":" + random.nextBoolean() + "}", token));
+    }
+
+    private JsonNode addToCart(int clientIndex, String token, ThreadLocalRandom random) {
+        List<Long> menu = data.menuItemIds().get(clientIndex % orderableRestaurants);
+        if (menu.isEmpty()) {
+            return null;
+        }
+
+        Long menuItemId = menu.get(random.nextInt(menu.size()));
+        HttpResponse<String> response = send("POST /api/cart/items",
+                post("/api/cart/items", "{\"menuItemId\":" + menuItemId + ",\"quantity\":1}", token));
+        return readJson(response);
+    }
+
+    private String clientToken(int clientIndex) {
+        return token(String.format(LoadTestDataSeeder.CLIENT_PHONE_FORMAT, clientIndex));
+    }
+
+    private String token(String phone) {
+        String cached = tokens.get(phone);
+        if (cached != null) {
+            return cached;
+        }
+
+        String body = "{\"phoneNumber\":\"" + phone + "\",\"password\":\"" + LoadTestDataSeeder.PASSWORD + "\"}";
+        JsonNode auth = readJson(send("POST /api/auth/login", post("/api/auth/login", body, null)));
+        if (auth == null) {
+            return "";
+        }
+
+        String accessToken = auth.path("accessToken").asText();
+        tokens.put(phone, accessToken);
+        return accessToken;
+    }
+
+    private StompSubscribers connectSubscribers(int count) {
+        StompSubscribers subscribers = new StompSubscribers();
+        String url = "ws://localhost:" + port + "/ws/websocket";
+
+        for (int i = 0; i < count; i++) {
+            if (i % 2 == 0) {
+                int clientIndex = i % data.clientIds().size();
+                subscribers.subscribe(url, clientToken(clientIndex), "/user/queue/notifications");
+            } else {
+                int restaurantIndex = i % orderableRestaurants;
+                int ownerIndex = restaurantIndex % data.ownerIds().size();
+                String token = token(String.format(LoadTestDataSeeder.OWNER_PHONE_FORMAT, ownerIndex));
+                subscribers.subscribe(url, token,
+                        "/topic/restaurants/" + data.restaurantIds().get(restaurantIndex) + "/orders");
+            }
+        }
+        return subscribers;
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) {
+        LatencyRecorder recorder = recorders.computeIfAbsent(endpoint, key -> new LatencyRecorder());
+        long statementsBefore = calibrating ? statistics.getPrepareStatementCount() : 0;
+        long start = System.nanoTime();
+
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(System.nanoTime() - start);
+            if (calibrating) {
+                recorder.recordStatements(statistics.getPrepareStatementCount() - statementsBefore);
+            }
+            if (response.statusCode() >= 400) {
+                recorder.recordError();
+                return null;
+            }
+            return response;
+        } catch (IOException e) {
+            recorder.recordError();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recorder.recordError();
+            return null;
+        }
+    }
+
+    private JsonNode readJson(HttpResponse<String> response) {
+        if (response == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String json, String token) {
+        return request(path, token).POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest put(String path, String json, String token) {
+        return request(path, token).PUT(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest patch(String path, String json, String token) {
+        return request(path, token).method("PATCH", HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private enum Scenario {
+        REGISTER_LOGIN(10),
+        BROWSE(40),
+        CART(25),
+        CHECKOUT(15),
+        RESTAURANT_STATUS(10);
+
+        private final int weight;
+
+        Scenario(int weight) {
+            this.weight = weight;
+        }
+
+        static Scenario pick(ThreadLocalRandom random) {
+            int roll = random.nextInt(100);
+            for (Scenario scenario : values()) {
+                roll -= scenario.weight;
+                if (roll < 0) {
+                    return scenario;
+                }
+            }
+            return BROWSE;
+        }
+    }
+}
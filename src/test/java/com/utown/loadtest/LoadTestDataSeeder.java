@@ -0,0 +1,222 @@
+package com.utown.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds the embedded database with plain JDBC batches so that thousands of rows
+ * are in place in a few seconds, without going through the services under test.
+ */
+class LoadTestDataSeeder {
+
+    static final String CLIENT_PHONE_FORMAT = "+8210%07d";
+    static final String OWNER_PHONE_FORMAT = "+8218%07d";
+    static final String PASSWORD = "LoadTest@123";
+
+    private static final String[] CITIES = {"Seoul", "Busan", "Incheon", "Daegu", "Daejeon"};
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String passwordHash;
+
+    LoadTestDataSeeder(JdbcTemplate jdbcTemplate, String passwordHash) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordHash = passwordHash;
+    }
+
+    SeededData seed(int clients, int restaurants, int menuItemsPerRestaurant) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Long> categoryIds = seedCategories(now);
+        int owners = Math.max(1, restaurants / 10);
+        List<Long> ownerIds = seedUsers(OWNER_PHONE_FORMAT, owners, "RESTAURANT_OWNER", now);
+        List<Long> clientIds = seedUsers(CLIENT_PHONE_FORMAT, clients, "CLIENT", now);
+        List<Long> addressIds = seedAddresses(clientIds, now);
+        List<Long> restaurantIds = seedRestaurants(restaurants, ownerIds, categoryIds, now);
+        List<List<Long>> menuItemIds = seedMenuItems(restaurantIds, menuItemsPerRestaurant, now);
+
+        List<Long> restaurantOwnerIds = new ArrayList<>(restaurantIds.size());
+        for (int i = 0; i < restaurantIds.size(); i++) {
+            restaurantOwnerIds.add(ownerIds.get(i % ownerIds.size()));
+        }
+
+        return new SeededData(clientIds, addressIds, ownerIds, restaurantIds, restaurantOwnerIds, menuItemIds);
+    }
+
+    private List<Long> seedCategories(Timestamp now) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(new Object[]{"Category " + i, i, true, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (name, priority, is_active, created_at) VALUES (?, ?, ?, ?)",
+                rows
+        );
+        return jdbcTemplate.queryForList("SELECT id FROM categories ORDER BY id", Long.class);
+    }
+
+    private List<Long> seedUsers(String phoneFormat, int count, String role, Timestamp now) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{
+                    String.format(phoneFormat, i), passwordHash, "Load " + role + " " + i,
+                    role, true, false, now, now
+            });
+            if (rows.size() == BATCH_SIZE) {
+                insertUsers(rows);
+                rows.clear();
+            }
+        }
+        insertUsers(rows);
+
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE role = ? ORDER BY id", Long.class, role
+        );
+    }
+
+    private void insertUsers(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (phone_number, password_hash, name, role, is_active, email_verified, " +
+                        "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows
+        );
+    }
+
+    private List<Long> seedAddresses(List<Long> clientIds, Timestamp now) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (Long clientId : clientIds) {
+            rows.add(new Object[]{
+                    clientId, "Load test street " + clientId, "Seoul",
+                    new BigDecimal("37.56650000"), new BigDecimal("126.97800000"), true, now
+            });
+            if (rows.size() == BATCH_SIZE) {
+                insertAddresses(rows);
+                rows.clear();
+            }
+        }
+        insertAddresses(rows);
+
+        return jdbcTemplate.queryForList("SELECT id FROM addresses ORDER BY user_id", Long.class);
+    }
+
+    private void insertAddresses(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO addresses (user_id, address, city, latitude, longitude, is_default, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows
+        );
+    }
+
+    private List<Long> seedRestaurants(int count, List<Long> ownerIds, List<Long> categoryIds, Timestamp now) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{
+                    ownerIds.get(i % ownerIds.size()),
+                    categoryIds.get(i % categoryIds.size()),
+                    "Load Restaurant " + i,
+                    "Load test avenue " + i,
+                    CITIES[i % CITIES.length],
+                    new BigDecimal("37.50000000").add(BigDecimal.valueOf(i % 1000, 5)),
+                    new BigDecimal("127.00000000").add(BigDecimal.valueOf(i % 1000, 5)),
+                    "02-000-" + i,
+                    BigDecimal.valueOf(30 + i % 20, 1),
+                    i % 500,
+                    BigDecimal.ZERO,
+                    new BigDecimal("3000.00"),
+                    30,
+                    true,
+                    i % 25 == 0,
+                    true,
+                    now,
+                    now
+            });
+            if (rows.size() == BATCH_SIZE) {
+                insertRestaurants(rows);
+                rows.clear();
+            }
+        }
+        insertRestaurants(rows);
+
+        return jdbcTemplate.queryForList("SELECT id FROM restaurants ORDER BY id", Long.class);
+    }
+
+    private void insertRestaurants(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO restaurants (owner_id, category_id, name, address, city, latitude, longitude, phone, " +
+                        "rating, review_count, min_order_amount, delivery_fee, estimated_delivery_time, " +
+                        "is_open, is_featured, is_active, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows
+        );
+    }
+
+    private List<List<Long>> seedMenuItems(List<Long> restaurantIds, int perRestaurant, Timestamp now) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (Long restaurantId : restaurantIds) {
+            for (int i = 0; i < perRestaurant; i++) {
+                rows.add(new Object[]{
+                        restaurantId, "Section " + (i % 3), "Dish " + restaurantId + "-" + i,
+                        BigDecimal.valueOf(5000 + i * 500L), true, false, i, now, now
+                });
+                if (rows.size() == BATCH_SIZE) {
+                    insertMenuItems(rows);
+                    rows.clear();
+                }
+            }
+        }
+        insertMenuItems(rows);
+
+        List<List<Long>> byRestaurant = new ArrayList<>(restaurantIds.size());
+        for (int i = 0; i < restaurantIds.size(); i++) {
+            byRestaurant.add(new ArrayList<>(perRestaurant));
+        }
+        int[] index = {0};
+        List<Long> restaurantOrder = restaurantIds;
+        jdbcTemplate.query(
+                "SELECT id, restaurant_id FROM menu_items ORDER BY restaurant_id, id",
+                rs -> {
+                    long restaurantId = rs.getLong("restaurant_id");
+                    while (!restaurantOrder.get(index[0]).equals(restaurantId)) {
+                        index[0]++;
+                    }
+                    byRestaurant.get(index[0]).add(rs.getLong("id"));
+                }
+        );
+        return byRestaurant;
+    }
+
+    private void insertMenuItems(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO menu_items (restaurant_id, category_name, name, price, is_available, is_spicy, " +
+                        "sort_order, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows
+        );
+    }
+
+    record SeededData(
+            List<Long> clientIds,
+            List<Long> addressIds,
+            List<Long> ownerIds,
+            List<Long> restaurantIds,
+            List<Long> restaurantOwnerIds,
+            List<List<Long>> menuItemIds
+    ) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.utown.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Machine-readable result of a load run. The JSON layout is stable so that CI can
+ * keep the last report as a baseline and diff the next run against it.
+ */
+class LoadTestReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, Object> root = new LinkedHashMap<>();
+    private final Map<String, Object> endpoints = new LinkedHashMap<>();
+
+    LoadTestReport(Map<String, Object> config, double durationSeconds) {
+        root.put("generatedAt", Instant.now().toString());
+        root.put("config", config);
+        root.put("durationSeconds", round(durationSeconds));
+        root.put("endpoints", endpoints);
+    }
+
+    void addEndpoint(String name, LatencyRecorder recorder, double durationSeconds) {
+        LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+        long count = snapshot.sortedNanos().length;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", count);
+        stats.put("errors", recorder.errors());
+        stats.put("throughputPerSecond", round(count / durationSeconds));
+        stats.put("p50Ms", round(snapshot.percentileMillis(50)));
+        stats.put("p95Ms", round(snapshot.percentileMillis(95)));
+        stats.put("p99Ms", round(snapshot.percentileMillis(99)));
+        stats.put("maxMs", round(snapshot.maxMillis()));
+        stats.put("statementsPerRequest", round(recorder.statementsPerRequest()));
+        endpoints.put(name, stats);
+    }
+
+    void setTotals(long requests, long errors, double durationSeconds) {
+        root.put("totalRequests", requests);
+        root.put("totalErrors", errors);
+        root.put("throughputPerSecond", round(requests / durationSeconds));
+    }
+
+    void setStomp(int subscribers, long connected, long frames, long errors) {
+        Map<String, Object> stomp = new LinkedHashMap<>();
+        stomp.put("subscribers", subscribers);
+        stomp.put("connected", connected);
+        stomp.put("framesReceived", frames);
+        stomp.put("errors", errors);
+        root.put("stomp", stomp);
+    }
+
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        MAPPER.writeValue(file.toFile(), root);
+    }
+
+    /**
+     * Compares this run with a previous report. Latency and throughput may drift by
+     * {@code tolerance} (0.25 = 25%); statements per request must not grow at all.
+     */
+    List<String> regressionsAgainst(Path baselineFile, double tolerance) throws IOException {
+        JsonNode baseline = MAPPER.readTree(baselineFile.toFile());
+        JsonNode current = MAPPER.valueToTree(root);
+        List<String> regressions = new ArrayList<>();
+
+        double baselineThroughput = baseline.path("throughputPerSecond").asDouble();
+        double currentThroughput = current.path("throughputPerSecond").asDouble();
+        if (currentThroughput < baselineThroughput * (1 - tolerance)) {
+            regressions.add(String.format("throughput %.1f/s < baseline %.1f/s",
+                    currentThroughput, baselineThroughput));
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> it = baseline.path("endpoints").fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            JsonNode now = current.path("endpoints").path(entry.getKey());
+            if (now.isMissingNode()) {
+                continue;
+            }
+            double baseP95 = entry.getValue().path("p95Ms").asDouble();
+            double nowP95 = now.path("p95Ms").asDouble();
+            if (baseP95 > 0 && nowP95 > baseP95 * (1 + tolerance)) {
+                regressions.add(String.format("%s p95 %.2fms > baseline %.2fms", entry.getKey(), nowP95, baseP95));
+            }
+            double baseStatements = entry.getValue().path("statementsPerRequest").asDouble();
+            double nowStatements = now.path("statementsPerRequest").asDouble();
+            if (nowStatements > baseStatements + 0.01) {
+                regressions.add(String.format("%s statements/request %.2f > baseline %.2f",
+                        entry.getKey(), nowStatements, baseStatements));
+            }
+        }
+        return regressions;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,114 @@
+package com.utown.loadtest;
+
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP clients that stay subscribed for the whole run so that order notifications
+ * are fanned out to real sessions, as they would be in production.
+ */
+class StompSubscribers {
+
+    private final WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+    private final List<StompSession> sessions = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong connected = new AtomicLong();
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    void subscribe(String url, String accessToken, String destination) {
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.add("Authorization", "Bearer " + accessToken);
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + accessToken);
+
+        try {
+            StompSession session = stompClient
+                    .connectAsync(url, handshakeHeaders, connectHeaders, new SubscribingHandler(destination))
+                    .get(10, TimeUnit.SECONDS);
+            sessions.add(session);
+        } catch (Exception e) {
+            errors.incrementAndGet();
+        }
+    }
+
+    void close() {
+        for (StompSession session : sessions) {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        }
+        stompClient.stop();
+    }
+
+    long connected() {
+        return connected.get();
+    }
+
+    long frames() {
+        return frames.get();
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    private class SubscribingHandler extends StompSessionHandlerAdapter {
+
+        private final String destination;
+
+        SubscribingHandler(String destination) {
+            this.destination = destination;
+        }
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            connected.incrementAndGet();
+            session.subscribe(destination, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return byte[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    frames.incrementAndGet();
+                }
+            });
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            errors.incrementAndGet();
+        }
+
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                    byte[] payload, Throwable exception) {
+            errors.incrementAndGet();
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            errors.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.utown.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogRingBufferTest {
+
+    @Test
+    void offer_shouldRejectWhenFullAndAcceptAgainAfterPoll() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        assertFalse(buffer.offer(4));
+        assertEquals(Integer.valueOf(0), buffer.poll());
+        assertTrue(buffer.offer(4));
+
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(Integer.valueOf(i), buffer.poll());
+        }
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void constructor_shouldRequirePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new LogRingBuffer<>(6));
+        assertThrows(IllegalArgumentException.class, () -> new LogRingBuffer<>(1));
+    }
+
+    @Test
+    void offer_shouldDeliverEveryElementOnceUnderContention() throws Exception {
+        int producers = 8;
+        int perProducer = 50_000;
+        LogRingBuffer<Long> buffer = new LogRingBuffer<>(1024);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        Set<Long> seen = new HashSet<>();
+        long[] lastByProducer = new long[producers];
+        Arrays.fill(lastByProducer, -1);
+        while (seen.size() < producers * perProducer) {
+            Long value = buffer.poll();
+            if (value == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            assertTrue(seen.add(value), "duplicate " + value);
+
+            // Elements of one producer come out in the order it offered them
+            int producer = (int) (value / perProducer);
+            assertTrue(value > lastByProducer[producer]);
+            lastByProducer[producer] = value;
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        assertTrue(buffer.isEmpty());
+    }
+}
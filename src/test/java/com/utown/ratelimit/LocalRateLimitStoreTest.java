@@ -0,0 +1,96 @@
+package com.utown.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalRateLimitStoreTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final BucketPolicy FIVE_PER_MINUTE = new BucketPolicy(5, 12_000);
+
+    @Test
+    void tryConsume_shouldAllowBurstThenReportWait() {
+        LocalRateLimitStore store = new LocalRateLimitStore(1_000, 4);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, store.tryConsume("phone", FIVE_PER_MINUTE, NOW));
+        }
+
+        assertEquals(12_000, store.tryConsume("phone", FIVE_PER_MINUTE, NOW));
+        assertEquals(2_000, store.tryConsume("phone", FIVE_PER_MINUTE, NOW + 10_000));
+    }
+
+    @Test
+    void tryConsume_shouldRefillOneTokenPerInterval() {
+        LocalRateLimitStore store = new LocalRateLimitStore(1_000, 4);
+        for (int i = 0; i < 5; i++) {
+            store.tryConsume("phone", FIVE_PER_MINUTE, NOW);
+        }
+
+        assertEquals(0, store.tryConsume("phone", FIVE_PER_MINUTE, NOW + 12_000));
+        assertTrue(store.tryConsume("phone", FIVE_PER_MINUTE, NOW + 12_000) > 0);
+
+        // A long pause refills the bucket to its capacity, not beyond
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, store.tryConsume("phone", FIVE_PER_MINUTE, NOW + 3_600_000));
+        }
+        assertTrue(store.tryConsume("phone", FIVE_PER_MINUTE, NOW + 3_600_000) > 0);
+    }
+
+    @Test
+    void tryConsume_shouldKeepKeysIndependent() {
+        LocalRateLimitStore store = new LocalRateLimitStore(1_000, 4);
+        for (int i = 0; i < 5; i++) {
+            store.tryConsume("a", FIVE_PER_MINUTE, NOW);
+        }
+
+        assertTrue(store.tryConsume("a", FIVE_PER_MINUTE, NOW) > 0);
+        assertEquals(0, store.tryConsume("b", FIVE_PER_MINUTE, NOW));
+    }
+
+    @Test
+    void tryConsume_shouldStayWithinMaxKeys() {
+        LocalRateLimitStore store = new LocalRateLimitStore(1_024, 16);
+
+        for (int i = 0; i < 100_000; i++) {
+            store.tryConsume("ip:" + i, FIVE_PER_MINUTE, NOW);
+        }
+
+        assertTrue(store.size() <= 1_024, "size: " + store.size());
+    }
+
+    @Test
+    void tryConsume_shouldAdmitExactlyCapacityUnderContention() throws Exception {
+        LocalRateLimitStore store = new LocalRateLimitStore(1_000, 4);
+        BucketPolicy policy = new BucketPolicy(50, 60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return store.tryConsume("phone", policy, NOW) == 0;
+            }));
+        }
+        start.countDown();
+
+        int admitted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                admitted++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(50, admitted);
+    }
+}
@@ -0,0 +1,83 @@
+package com.utown.ratelimit;
+
+import com.utown.config.RateLimitProperties;
+import com.utown.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitServiceTest {
+
+    @Test
+    void checkLogin_shouldRejectWithRetryAfterOncePhoneBucketIsEmpty() {
+        RateLimitService rateLimitService = new RateLimitService(new LocalRateLimitStore(1_000, 4), properties());
+
+        for (int i = 0; i < 3; i++) {
+            rateLimitService.checkLogin("+82 10-1234-5678", "10.0.0." + i);
+        }
+
+        TooManyRequestsException ex = assertThrows(
+                TooManyRequestsException.class,
+                () -> rateLimitService.checkLogin("+82 10-1234-5678 ", "10.0.0.99")
+        );
+        assertEquals(RateLimitService.ERROR_CODE, ex.getErrorCode());
+        assertTrue(ex.getRetryAfterSeconds() >= 1 && ex.getRetryAfterSeconds() <= 60);
+    }
+
+    @Test
+    void checkLogin_shouldLimitOneIpAcrossManyPhones() {
+        RateLimitService rateLimitService = new RateLimitService(new LocalRateLimitStore(1_000, 4), properties());
+
+        for (int i = 0; i < 10; i++) {
+            rateLimitService.checkLogin("010" + i, "203.0.113.7");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> rateLimitService.checkLogin("0109999", "203.0.113.7"));
+        assertDoesNotThrow(() -> rateLimitService.checkLogin("0109999", "203.0.113.8"));
+    }
+
+    @Test
+    void checkLogin_shouldShareLimitsBetweenNodesOnSharedStore() {
+        // Stand-in for a cluster-wide store: two nodes pointing at the same store instance
+        RateLimitStore shared = new LocalRateLimitStore(1_000, 4);
+        RateLimitService nodeA = new RateLimitService(shared, properties());
+        RateLimitService nodeB = new RateLimitService(shared, properties());
+
+        nodeA.checkLogin("01012345678", "10.0.0.1");
+        nodeB.checkLogin("01012345678", "10.0.0.2");
+        nodeA.checkLogin("01012345678", "10.0.0.3");
+
+        assertThrows(TooManyRequestsException.class, () -> nodeB.checkLogin("01012345678", "10.0.0.4"));
+    }
+
+    @Test
+    void checkPasswordReset_shouldLimitTokenOnlyStepsByIp() {
+        RateLimitService rateLimitService = new RateLimitService(new LocalRateLimitStore(1_000, 4), properties());
+
+        for (int i = 0; i < 4; i++) {
+            rateLimitService.checkPasswordReset(null, "198.51.100.1");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> rateLimitService.checkPasswordReset(null, "198.51.100.1"));
+    }
+
+    @Test
+    void check_shouldDoNothingWhenDisabled() {
+        RateLimitProperties properties = properties();
+        properties.setEnabled(false);
+        RateLimitService rateLimitService = new RateLimitService(new LocalRateLimitStore(1_000, 4), properties);
+
+        for (int i = 0; i < 100; i++) {
+            rateLimitService.checkLogin("01012345678", "10.0.0.1");
+        }
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLoginPerIp(new RateLimitProperties.Limit(10, 60_000));
+        properties.setLoginPerPhone(new RateLimitProperties.Limit(3, 60_000));
+        properties.setPasswordResetPerIp(new RateLimitProperties.Limit(4, 60_000));
+        properties.setPasswordResetPerPhone(new RateLimitProperties.Limit(2, 300_000));
+        return properties;
+    }
+}
@@ -0,0 +1,64 @@
+package com.utown.recommendation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoOccurrenceGraphTest {
+
+    @Test
+    void addBasket_shouldCountEachPairOncePerOrder() {
+        CoOccurrenceGraph graph = new CoOccurrenceGraph(5);
+
+        graph.addBasket(new long[]{1, 2, 2, 3});
+        graph.addBasket(new long[]{1, 2});
+
+        assertEquals(2, graph.count(1, 2));
+        assertEquals(2, graph.count(2, 1));
+        assertEquals(1, graph.count(2, 3));
+        assertEquals(0, graph.count(1, 4));
+        assertEquals(3, graph.itemCount());
+    }
+
+    @Test
+    void suggest_shouldRankByCombinedCountAndExcludeCartItems() {
+        CoOccurrenceGraph graph = new CoOccurrenceGraph(5);
+
+        graph.addBasket(new long[]{1, 10});
+        graph.addBasket(new long[]{1, 10});
+        graph.addBasket(new long[]{1, 11});
+        graph.addBasket(new long[]{2, 11});
+        graph.addBasket(new long[]{2, 11});
+        graph.addBasket(new long[]{1, 2});
+
+        assertArrayEquals(new long[]{11, 10}, graph.suggest(new long[]{1, 2}, 5));
+        assertArrayEquals(new long[]{11}, graph.suggest(new long[]{1, 2}, 1));
+    }
+
+    @Test
+    void suggest_shouldKeepOnlyTopNeighbours() {
+        CoOccurrenceGraph graph = new CoOccurrenceGraph(2);
+
+        graph.addBasket(new long[]{1, 10});
+        graph.addBasket(new long[]{1, 11});
+        graph.addBasket(new long[]{1, 11});
+        graph.addBasket(new long[]{1, 12});
+        graph.addBasket(new long[]{1, 12});
+        graph.addBasket(new long[]{1, 12});
+
+        assertArrayEquals(new long[]{12, 11}, graph.suggest(new long[]{1}, 5));
+
+        graph.addBasket(new long[]{1, 10});
+        graph.addBasket(new long[]{1, 10});
+        graph.addBasket(new long[]{1, 10});
+
+        assertArrayEquals(new long[]{10, 12}, graph.suggest(new long[]{1}, 5));
+    }
+
+    @Test
+    void suggest_shouldReturnEmptyForUnknownItems() {
+        CoOccurrenceGraph graph = new CoOccurrenceGraph(5);
+
+        assertEquals(0, graph.suggest(new long[]{42}, 5).length);
+    }
+}
@@ -0,0 +1,328 @@
+package com.utown.repository;
+
+import com.utown.model.entity.User;
+import com.utown.model.enums.OrderStatus;
+import com.utown.model.enums.ResetPasswordStatus;
+import com.utown.model.enums.RollupGranularity;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations on H2 in MySQL mode, calls every repository method and EXPLAINs the statements
+ * Hibernate actually sent, with their bound parameters. A plan that reads any table with a full scan fails
+ * the test, so a new or changed query must come with an index. A repository method that is neither called
+ * here nor listed in {@link #WHOLE_TABLE_READS} fails {@link #repositoryMethods_shouldAllBeExplained()}.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanTest {
+
+    /**
+     * Queries that read a whole table on purpose (exports, admin listings, startup rebuilds).
+     */
+    private static final Set<String> WHOLE_TABLE_READS = Set.of(
+            "OrderRepository.countGroupedByStatus",
+            "OrderRepository.streamAllForExport",
+            "RestaurantRepository.findAllWithCategory",
+            "RestaurantRepository.streamAllWithCategoryAndOwner",
+            "RestaurantRepository.findAllIds",
+            "RestaurantRepository.findOpeningHoursSources"
+    );
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime UNTIL = LocalDateTime.of(2026, 2, 1, 0, 0);
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    private static final List<QueryInfo> captured = new ArrayList<>();
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> repositoryCalls() {
+        return Stream.of(
+                call(AddressRepository.class, "findByUserId", r -> r.findByUserId(1L)),
+                call(AddressRepository.class, "findByUserIdAndIsDefaultTrue", r -> r.findByUserIdAndIsDefaultTrue(1L)),
+
+                call(CartRepository.class, "findByUserId", r -> r.findByUserId(1L)),
+                call(CartRepository.class, "deleteByUserId", r -> r.deleteByUserId(1L)),
+                call(CartRepository.class, "existsByUserId", r -> r.existsByUserId(1L)),
+                call(CartRepository.class, "findRestaurantIdByUserId", r -> r.findRestaurantIdByUserId(1L)),
+                call(CartItemRepository.class, "findByCartIdAndMenuItemId", r -> r.findByCartIdAndMenuItemId(1L, 2L)),
+                call(CartItemRepository.class, "findMenuItemIdsByUserId", r -> r.findMenuItemIdsByUserId(1L)),
+
+                call(CategoryRepository.class, "findByIsActiveTrueOrderByPriorityAsc",
+                        CategoryRepository::findByIsActiveTrueOrderByPriorityAsc),
+                call(CategoryRepository.class, "findAllActiveOrderedByPriority",
+                        CategoryRepository::findAllActiveOrderedByPriority),
+                call(CategoryRepository.class, "streamActiveCategoryDTOs",
+                        r -> r.streamActiveCategoryDTOs().close()),
+
+                call(MenuItemRepository.class, "findByRestaurantIdAndIsAvailable",
+                        r -> r.findByRestaurantIdAndIsAvailable(1L, true)),
+                call(MenuItemRepository.class, "findByRestaurantIdOrderBySortOrderAscCreatedAtDesc",
+                        r -> r.findByRestaurantIdOrderBySortOrderAscCreatedAtDesc(1L)),
+                call(MenuItemRepository.class, "findByRestaurantWithFilters",
+                        r -> r.findByRestaurantWithFilters(1L, "Soups", true)),
+                call(MenuItemRepository.class, "streamByRestaurantId", r -> r.streamByRestaurantId(1L).close()),
+
+                call(OrderRepository.class, "findByOrderNumber", r -> r.findByOrderNumber("ORD-1")),
+                call(OrderRepository.class, "findExportItemsByOrderIds", r -> r.findExportItemsByOrderIds(List.of(1L, 2L))),
+                call(OrderRepository.class, "findByUserId", r -> r.findByUserId(1L, PAGE)),
+                call(OrderRepository.class, "findByRestaurantId", r -> r.findByRestaurantId(1L, PAGE)),
+                call(OrderRepository.class, "findByUserIdAndStatus", r -> r.findByUserIdAndStatus(1L, OrderStatus.PENDING)),
+                call(OrderRepository.class, "findByRestaurantIdAndStatus",
+                        r -> r.findByRestaurantIdAndStatus(1L, OrderStatus.PENDING)),
+                call(OrderRepository.class, "existsByIdAndUserId", r -> r.existsByIdAndUserId(1L, 2L)),
+                call(OrderRepository.class, "existsByIdAndRestaurantOwnerId", r -> r.existsByIdAndRestaurantOwnerId(1L, 2L)),
+                call(OrderRepository.class, "findRestaurantIdByOrderId", r -> r.findRestaurantIdByOrderId(1L)),
+                call(OrderRepository.class, "countKitchenLoadByRestaurant", OrderRepository::countKitchenLoadByRestaurant),
+                call(OrderRepository.class, "sumTotalAmountSince", r -> r.sumTotalAmountSince(SINCE)),
+                call(OrderRepository.class, "streamClosedOrdersForRollup", r -> r.streamClosedOrdersForRollup(1L, UNTIL).close()),
+                call(OrderRepository.class, "streamCompletedItemsForRollup", r -> r.streamCompletedItemsForRollup(1L, UNTIL).close()),
+                call(OrderRepository.class, "findItemsForRollup", r -> r.findItemsForRollup(1L)),
+                call(OrderRepository.class, "findClosedAtById", r -> r.findClosedAtById(1L)),
+                call(OrderRepository.class, "findMenuItemIdsByOrderId", r -> r.findMenuItemIdsByOrderId(1L)),
+                call(OrderRepository.class, "streamCompletedBasketItems", r -> r.streamCompletedBasketItems(UNTIL).close()),
+                call(OrderRepository.class, "findOpenOrderDeadlines", OrderRepository::findOpenOrderDeadlines),
+                call(OrderRepository.class, "cancelIfPending", r -> r.cancelIfPending(1L, "timeout")),
+                call(OrderRepository.class, "findReadyOrdersWithoutRider",
+                        r -> r.findReadyOrdersWithoutRider(PageRequest.of(0, 50))),
+                call(OrderRepository.class, "findActiveRiderAssignments", OrderRepository::findActiveRiderAssignments),
+                Arguments.of("OrderRepository.assignRiderIfReady", (RepositoryCall) context -> {
+                    User rider = context.getBean(TestEntityManager.class).getEntityManager().getReference(User.class, 2L);
+                    context.getBean(OrderRepository.class).assignRiderIfReady(1L, rider);
+                }),
+
+                call(PasswordResetRequestRepository.class, "findByUserIdAndStatus",
+                        r -> r.findByUserIdAndStatus(1L, ResetPasswordStatus.PENDING)),
+                call(PasswordResetRequestRepository.class, "findByResetToken", r -> r.findByResetToken("token")),
+                call(PasswordResetRequestRepository.class, "deleteByUserId", r -> r.deleteByUserId(1L)),
+
+                call(RefreshTokenRepository.class, "findByTokenHash", r -> r.findByTokenHash(new byte[32])),
+                call(RefreshTokenRepository.class, "deleteAllByUserId", r -> r.deleteAllByUserId(1L)),
+                call(RefreshTokenRepository.class, "invalidateIfValid", r -> r.invalidateIfValid(1L, SINCE)),
+                call(RefreshTokenRepository.class, "invalidateFamily", r -> r.invalidateFamily("family", SINCE)),
+                call(RefreshTokenRepository.class, "findExpiredIds",
+                        r -> r.findExpiredIds(SINCE, PageRequest.of(0, 1000))),
+                call(RefreshTokenRepository.class, "findRevokedIds",
+                        r -> r.findRevokedIds(SINCE, PageRequest.of(0, 1000))),
+                call(RefreshTokenRepository.class, "deleteByIds", r -> r.deleteByIds(List.of(1L, 2L, 3L))),
+
+                call(RestaurantEmployeeRepository.class, "findByRestaurantIdAndUserId",
+                        r -> r.findByRestaurantIdAndUserId(1L, 2L)),
+                call(RestaurantEmployeeRepository.class, "existsByRestaurantIdAndUserIdAndIsActiveTrue",
+                        r -> r.existsByRestaurantIdAndUserIdAndIsActiveTrue(1L, 2L)),
+                call(RestaurantEmployeeRepository.class, "existsByRestaurantIdAndUserId",
+                        r -> r.existsByRestaurantIdAndUserId(1L, 2L)),
+                call(RestaurantEmployeeRepository.class, "findActiveRestaurantIdsByUserId",
+                        r -> r.findActiveRestaurantIdsByUserId(1L)),
+
+                call(RestaurantRepository.class, "findByIdWithCategory", r -> r.findByIdWithCategory(1L)),
+                call(RestaurantRepository.class, "findAllActiveWithCategory", r -> r.findAllActiveWithCategory(PAGE)),
+                call(RestaurantRepository.class, "findByCityWithCategory", r -> r.findByCityWithCategory("Seoul", PAGE)),
+                call(RestaurantRepository.class, "findByCategoryWithCategory", r -> r.findByCategoryWithCategory(1L, PAGE)),
+                call(RestaurantRepository.class, "findByIsOpenTrueAndIsActiveTrue",
+                        RestaurantRepository::findByIsOpenTrueAndIsActiveTrue),
+                call(RestaurantRepository.class, "findByIsFeaturedTrueAndIsActiveTrue",
+                        r -> r.findByIsFeaturedTrueAndIsActiveTrue(PageRequest.of(0, 10))),
+                call(RestaurantRepository.class, "findTopRatedRestaurants",
+                        r -> r.findTopRatedRestaurants(new BigDecimal("4.0"), PageRequest.of(0, 10))),
+                call(RestaurantRepository.class, "findByOwnerId", r -> r.findByOwnerId(1L, PAGE)),
+                call(RestaurantRepository.class, "streamByOwnerId", r -> r.streamByOwnerId(1L).close()),
+                call(RestaurantRepository.class, "existsByIdAndOwnerId", r -> r.existsByIdAndOwnerId(1L, 2L)),
+                call(RestaurantRepository.class, "findIdsByOwnerId", r -> r.findIdsByOwnerId(1L)),
+                call(RestaurantRepository.class, "countByIsActiveTrue", RestaurantRepository::countByIsActiveTrue),
+                call(RestaurantRepository.class, "applyOpenState", r -> r.applyOpenState(List.of(1L, 2L), List.of(1L))),
+                call(RestaurantRepository.class, "closeByIds", r -> r.closeByIds(List.of(1L, 2L))),
+
+                call(RevokedAccessTokenRepository.class, "findLive", r -> r.findLive(SINCE)),
+                call(RevokedAccessTokenRepository.class, "deleteExpired", r -> r.deleteExpired(SINCE)),
+
+                call(RiderTrackPointRepository.class, "findTrackByOrderId", r -> r.findTrackByOrderId(1L)),
+
+                call(SalesRollupRepository.class, "upsert",
+                        r -> r.upsert(1L, "DAY", SINCE, 1, 0, BigDecimal.TEN, 2)),
+                call(SalesRollupRepository.class, "findBuckets",
+                        r -> r.findBuckets(1L, RollupGranularity.DAY, SINCE, UNTIL)),
+                call(SalesRollupRepository.class, "deleteByRestaurantId", r -> r.deleteByRestaurantId(1L)),
+                call(ItemSalesRollupRepository.class, "upsert",
+                        r -> r.upsert(1L, "DAY", SINCE, 2L, "Soup", 1, BigDecimal.TEN)),
+                call(ItemSalesRollupRepository.class, "findTopItems",
+                        r -> r.findTopItems(1L, RollupGranularity.DAY, SINCE, UNTIL, PageRequest.of(0, 10))),
+                call(ItemSalesRollupRepository.class, "deleteByRestaurantId", r -> r.deleteByRestaurantId(1L)),
+
+                call(UserRepository.class, "findByPhoneNumber", r -> r.findByPhoneNumber("+821012345678")),
+                call(UserRepository.class, "existsByPhoneNumber", r -> r.existsByPhoneNumber("+821012345678")),
+                call(UserRepository.class, "updateTokensNotBefore", r -> r.updateTokensNotBefore(1L, 2L)),
+                call(UserRepository.class, "findTokensNotBeforeSince", r -> r.findTokensNotBeforeSince(1L))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryCalls")
+    void repositoryQuery_shouldNotScanWholeTable(String method, RepositoryCall call) {
+        List<QueryInfo> statements = capture(() -> call.invoke(context));
+
+        assertFalse(statements.isEmpty(), method + " sent no statement");
+        for (QueryInfo statement : statements) {
+            String plan = explain(statement);
+            assertFalse(plan.toLowerCase(Locale.ROOT).contains("tablescan"),
+                    () -> method + " reads a table without an index:\n" + plan);
+        }
+    }
+
+    @Test
+    void repositoryMethods_shouldAllBeExplained() {
+        Set<String> explained = repositoryCalls()
+                .map(arguments -> (String) arguments.get()[0])
+                .collect(Collectors.toSet());
+
+        Set<String> missing = new TreeSet<>();
+        for (JpaRepository<?, ?> repository : context.getBeansOfType(JpaRepository.class).values()) {
+            for (Class<?> type : repository.getClass().getInterfaces()) {
+                if (!JpaRepository.class.isAssignableFrom(type) || !type.getPackageName().equals(getClass().getPackageName())) {
+                    continue;
+                }
+                Arrays.stream(type.getDeclaredMethods())
+                        .filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                        .map(Method::getName)
+                        .map(name -> type.getSimpleName() + "." + name)
+                        .filter(name -> !explained.contains(name) && !WHOLE_TABLE_READS.contains(name))
+                        .forEach(missing::add);
+            }
+        }
+
+        assertTrue(missing.isEmpty(), () -> "Repository methods without a plan check: " + missing);
+    }
+
+    @Test
+    void explain_shouldReportTableScanWithoutIndex() {
+        // Guards the assertion above: a filter on an unindexed column must show up as a scan
+        String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM orders WHERE payment_method = 'CARD'", String.class);
+
+        assertTrue(plan.toLowerCase(Locale.ROOT).contains("tablescan"), plan);
+    }
+
+    private static List<QueryInfo> capture(Runnable invocation) {
+        synchronized (captured) {
+            captured.clear();
+        }
+        invocation.run();
+        synchronized (captured) {
+            return List.copyOf(captured);
+        }
+    }
+
+    // Re-binds the parameters the repository call used, so the planner sees the same statement
+    private String explain(QueryInfo statement) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.getQuery())) {
+                List<List<ParameterSetOperation>> parameters = statement.getParametersList();
+                if (!parameters.isEmpty()) {
+                    for (ParameterSetOperation operation : parameters.get(0)) {
+                        Object[] args = operation.getArgs();
+                        if (operation.getMethod().getName().equals("setNull")) {
+                            explain.setNull((Integer) args[0], (Integer) args[1]);
+                        } else {
+                            explain.setObject((Integer) args[0], args[1]);
+                        }
+                    }
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = explain.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private static <R> Arguments call(Class<R> repository, String method, Consumer<R> invocation) {
+        RepositoryCall call = context -> invocation.accept(context.getBean(repository));
+        return Arguments.of(repository.getSimpleName() + "." + method, call);
+    }
+
+    @FunctionalInterface
+    interface RepositoryCall {
+        void invoke(ApplicationContext context);
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            QueryExecutionListener listener = new QueryExecutionListener() {
+                @Override
+                public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                }
+
+                @Override
+                public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                    synchronized (captured) {
+                        captured.addAll(queryInfoList);
+                    }
+                }
+            };
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(listener).build();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.utown.security;
+
+import com.utown.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledPasswordEncoderTest {
+
+    private static PooledPasswordEncoder encoder(int cost, int threads, int queueCapacity) {
+        return new PooledPasswordEncoder(new SimpleMeterRegistry(), cost, 250, 4, 14, threads, queueCapacity);
+    }
+
+    @Test
+    void costFor_shouldDoublePerStepUntilTargetOrCeiling() {
+        long tenMillis = TimeUnit.MILLISECONDS.toNanos(10);
+
+        assertEquals(10, costFor(tenMillis, 10, TimeUnit.MILLISECONDS.toNanos(15), 14));
+        assertEquals(11, costFor(tenMillis, 10, TimeUnit.MILLISECONDS.toNanos(20), 14));
+        assertEquals(14, costFor(tenMillis, 10, TimeUnit.MILLISECONDS.toNanos(250), 14));
+        assertEquals(14, costFor(tenMillis, 10, TimeUnit.SECONDS.toNanos(60), 14));
+        assertEquals(10, costFor(TimeUnit.SECONDS.toNanos(1), 10, TimeUnit.MILLISECONDS.toNanos(250), 14));
+    }
+
+    private static int costFor(long baselineNanos, int baselineCost, long targetNanos, int maxCost) {
+        return PooledPasswordEncoder.costFor(baselineNanos, baselineCost, targetNanos, maxCost);
+    }
+
+    @Test
+    void encode_shouldHashAndMatchThroughThePool() {
+        PooledPasswordEncoder encoder = encoder(4, 2, 8);
+        try {
+            String hash = encoder.encode("Secret@123");
+
+            assertEquals(4, PooledPasswordEncoder.costOf(hash));
+            assertTrue(encoder.matches("Secret@123", hash));
+            assertFalse(encoder.matches("secret@123", hash));
+        } finally {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void upgradeEncoding_shouldUpgradeOnlyLowerCostHashes() {
+        PooledPasswordEncoder encoder = encoder(5, 1, 4);
+        try {
+            assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw")));
+            assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("pw")));
+            assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("pw")));
+            assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+            assertFalse(encoder.upgradeEncoding(null));
+        } finally {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void encode_shouldShedWhenQueueIsFull() throws Exception {
+        PooledPasswordEncoder encoder = encoder(12, 1, 1);
+        int callers = 6;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger shed = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        encoder.encode("pw");
+                    } catch (TooManyRequestsException e) {
+                        assertEquals(PooledPasswordEncoder.ERROR_CODE, e.getErrorCode());
+                        shed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            // one hash running and one queued at most; the rest arrive while both slots are taken
+            assertTrue(shed.get() >= 1, "expected at least one shed request");
+            assertTrue(shed.get() <= callers - 2);
+            assertEquals(0, encoder.getQueueDepth());
+        } finally {
+            pool.shutdownNow();
+            encoder.shutdown();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.utown.security.jwt;
+
+import com.utown.config.Jwtproperties;
+import com.utown.model.enums.UserRole;
+import com.utown.repository.RevokedAccessTokenRepository;
+import com.utown.repository.UserRepository;
+import com.utown.security.OwnershipIndex;
+import com.utown.security.revocation.TokenRevocationService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationService revocation;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        Jwtproperties jwtProperties = new Jwtproperties();
+        jwtProperties.setSecret("MySecretKeyForJWT2025UtownProjectVerySecureAndLongString");
+        jwtProperties.setAccessTokenExpiration(900000L);
+        jwtProperties.setRefreshTokenExpiration(604800000L);
+
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        revocation = new TokenRevocationService(
+                emptyRepository(UserRepository.class), emptyRepository(RevokedAccessTokenRepository.class),
+                jwtProperties, 100, 0.001);
+        // riders have no restaurants, so the ownership index never touches a repository
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, revocation, new OwnershipIndex(null, null, 300000L, 100));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldAuthenticateValidToken() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        filter.doFilter(request(jwtTokenProvider.generateAccessToken(7L, UserRole.RIDER.name())),
+                new MockHttpServletResponse(), (request, response) -> calls.incrementAndGet());
+
+        assertEquals(1, calls.get());
+        assertEquals(Long.valueOf(7L), SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    }
+
+    @Test
+    void doFilter_shouldRunChainOnceUnauthenticatedForRevokedToken() throws Exception {
+        String token = revokedToken();
+        AtomicInteger calls = new AtomicInteger();
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), (request, response) -> calls.incrementAndGet());
+
+        assertEquals(1, calls.get());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilter_shouldPropagateDownstreamFailureForRevokedToken() {
+        String token = revokedToken();
+        AtomicInteger calls = new AtomicInteger();
+        FilterChain failing = (request, response) -> {
+            calls.incrementAndGet();
+            throw new ServletException("downstream");
+        };
+
+        assertThrows(ServletException.class,
+                () -> filter.doFilter(request(token), new MockHttpServletResponse(), failing));
+        assertEquals(1, calls.get());
+    }
+
+    private String revokedToken() {
+        String token = jwtTokenProvider.generateAccessToken(7L, UserRole.RIDER.name());
+        revocation.revokeToken(jwtTokenProvider.getClaims(token).getId(), 7L, new Date(System.currentTimeMillis() + 60_000));
+        return token;
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/my");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    // the revocation state loads on the first check: an empty database revokes nothing
+    private static <T> T emptyRepository(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> method.getReturnType() == List.class ? List.of() : 0));
+    }
+}
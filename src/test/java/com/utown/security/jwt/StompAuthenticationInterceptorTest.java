@@ -0,0 +1,114 @@
+package com.utown.security.jwt;
+
+import com.utown.config.Jwtproperties;
+import com.utown.exception.UnauthorizedException;
+import com.utown.model.enums.UserRole;
+import com.utown.repository.RevokedAccessTokenRepository;
+import com.utown.repository.UserRepository;
+import com.utown.security.AuthenticatedUser;
+import com.utown.security.OwnershipIndex;
+import com.utown.security.revocation.TokenRevocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+import java.lang.reflect.Proxy;
+import java.security.Principal;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StompAuthenticationInterceptorTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    // riders have no restaurants, so the ownership index never touches a repository
+    private OwnershipIndex ownershipIndex;
+    private StompAuthenticationInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        Jwtproperties jwtProperties = new Jwtproperties();
+        jwtProperties.setSecret("MySecretKeyForJWT2025UtownProjectVerySecureAndLongString");
+        jwtProperties.setAccessTokenExpiration(900000L);
+        jwtProperties.setRefreshTokenExpiration(604800000L);
+
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        ownershipIndex = new OwnershipIndex(null, null, 300000L, 100);
+        TokenRevocationService revocation = new TokenRevocationService(
+                emptyRepository(UserRepository.class), emptyRepository(RevokedAccessTokenRepository.class),
+                jwtProperties, 100, 0.001);
+        interceptor = new StompAuthenticationInterceptor(jwtTokenProvider, revocation, ownershipIndex);
+    }
+
+    @Test
+    void connect_shouldAuthenticateFromBearerHeader() {
+        Message<?> connect = frame(StompCommand.CONNECT,
+                "Bearer " + jwtTokenProvider.generateAccessToken(7L, UserRole.RIDER.name()), null);
+
+        Principal user = accessorOf(interceptor.preSend(connect, null)).getUser();
+
+        JwtAuthenticationToken authentication = assertInstanceOf(JwtAuthenticationToken.class, user);
+        assertEquals(Long.valueOf(7L), authentication.getPrincipal());
+        assertEquals("7", authentication.getName());
+        assertEquals(UserRole.RIDER, authentication.getUser().getRole());
+        assertTrue(authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_RIDER".equals(authority.getAuthority())));
+    }
+
+    @Test
+    void connect_shouldRejectMissingInvalidAndRefreshTokens() {
+        assertThrows(UnauthorizedException.class,
+                () -> interceptor.preSend(frame(StompCommand.CONNECT, null, null), null));
+        assertThrows(UnauthorizedException.class,
+                () -> interceptor.preSend(frame(StompCommand.CONNECT, "Bearer not-a-jwt", null), null));
+        assertThrows(UnauthorizedException.class,
+                () -> interceptor.preSend(frame(StompCommand.CONNECT,
+                        "Bearer " + jwtTokenProvider.generateRefreshToken(7L), null), null));
+    }
+
+    @Test
+    void laterFrames_shouldBeRejectedOnceTokenExpires() {
+        long now = System.currentTimeMillis();
+        JwtAuthenticationToken live = token(new Date(now + 60_000));
+        JwtAuthenticationToken expired = token(new Date(now - 1));
+
+        assertNotNull(interceptor.preSend(frame(StompCommand.SUBSCRIBE, null, live), null));
+        assertThrows(UnauthorizedException.class,
+                () -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, null, expired), null));
+        assertNotNull(interceptor.preSend(frame(StompCommand.DISCONNECT, null, expired), null));
+    }
+
+    private JwtAuthenticationToken token(Date expiresAt) {
+        return new JwtAuthenticationToken(new AuthenticatedUser(
+                7L, UserRole.RIDER, "jti-7", new Date(), expiresAt, ownershipIndex));
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String authorization, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-1");
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        if (command == StompCommand.SUBSCRIBE) {
+            accessor.setDestination("/user/queue/notifications");
+        }
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    // the revocation state loads on the first check: an empty database revokes nothing
+    private static <T> T emptyRepository(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> method.getReturnType() == List.class ? List.of() : 0));
+    }
+
+    private static StompHeaderAccessor accessorOf(Message<?> message) {
+        return MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    }
+}
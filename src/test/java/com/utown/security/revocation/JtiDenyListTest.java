@@ -0,0 +1,70 @@
+package com.utown.security.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JtiDenyListTest {
+
+    private static final long FAR_FUTURE = Long.MAX_VALUE;
+
+    @Test
+    void contains_shouldDenyEveryRevokedToken() {
+        JtiDenyList denyList = new JtiDenyList(1_000, 0.01);
+        String[] revoked = new String[1_000];
+        for (int i = 0; i < revoked.length; i++) {
+            revoked[i] = UUID.randomUUID().toString();
+            denyList.add(revoked[i], FAR_FUTURE);
+        }
+
+        for (String jti : revoked) {
+            assertTrue(denyList.contains(jti));
+        }
+    }
+
+    @Test
+    void contains_shouldNotRejectValidTokenOnBloomFalsePositive() {
+        // 64 bits for 100 entries: nearly every lookup hits the filter
+        JtiDenyList denyList = new JtiDenyList(new BloomFilter(8, 0.5));
+        for (int i = 0; i < 100; i++) {
+            denyList.add(UUID.randomUUID().toString(), FAR_FUTURE);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(denyList.contains(UUID.randomUUID().toString()));
+        }
+        assertTrue(denyList.falsePositives() > 0, "the undersized filter should have produced false positives");
+    }
+
+    @Test
+    void mightContain_shouldStayNearConfiguredFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int hits = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                hits++;
+            }
+        }
+        assertTrue(hits < probes * 0.02, "false positive rate too high: " + hits + "/" + probes);
+    }
+
+    @Test
+    void rebuild_shouldDropExpiredTokens() {
+        JtiDenyList denyList = new JtiDenyList(100, 0.01);
+        denyList.add("expired", 1_000);
+        denyList.add("live", 5_000);
+
+        JtiDenyList rebuilt = denyList.rebuild(2_000, 100, 0.01);
+
+        assertEquals(1, rebuilt.size());
+        assertTrue(rebuilt.contains("live"));
+        assertFalse(rebuilt.contains("expired"));
+    }
+}
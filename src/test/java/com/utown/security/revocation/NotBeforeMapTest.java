@@ -0,0 +1,53 @@
+package com.utown.security.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotBeforeMapTest {
+
+    @Test
+    void get_shouldReturnZeroForUsersNeverRevoked() {
+        NotBeforeMap map = NotBeforeMap.EMPTY.with(7, 100);
+
+        assertEquals(0, map.get(3));
+        assertEquals(100, map.get(7));
+    }
+
+    @Test
+    void with_shouldKeepKeysSortedAcrossInserts() {
+        NotBeforeMap map = NotBeforeMap.EMPTY;
+        long[] ids = {50, 10, 90, 30, 70, 20};
+        for (long id : ids) {
+            map = map.with(id, id * 10);
+        }
+
+        assertEquals(ids.length, map.size());
+        for (long id : ids) {
+            assertEquals(id * 10, map.get(id));
+        }
+    }
+
+    @Test
+    void with_shouldKeepLaterTimestampAndLeaveSnapshotUnchanged() {
+        NotBeforeMap first = NotBeforeMap.EMPTY.with(1, 200);
+        NotBeforeMap earlier = first.with(1, 100);
+        NotBeforeMap later = first.with(1, 300);
+
+        assertSame(first, earlier);
+        assertEquals(200, first.get(1));
+        assertEquals(300, later.get(1));
+    }
+
+    @Test
+    void retainFrom_shouldDropEntriesOlderThanTokenLifetime() {
+        NotBeforeMap map = NotBeforeMap.EMPTY.with(1, 100).with(2, 500).with(3, 300);
+
+        NotBeforeMap retained = map.retainFrom(300);
+
+        assertEquals(2, retained.size());
+        assertEquals(0, retained.get(1));
+        assertEquals(500, retained.get(2));
+        assertEquals(300, retained.get(3));
+    }
+}
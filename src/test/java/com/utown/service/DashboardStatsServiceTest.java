@@ -0,0 +1,68 @@
+package com.utown.service;
+
+import com.utown.event.UserRegisteredEvent;
+import com.utown.model.enums.UserRole;
+import com.utown.repository.OrderRepository;
+import com.utown.repository.RestaurantRepository;
+import com.utown.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DashboardStatsServiceTest {
+
+    private final AtomicLong usersInDatabase = new AtomicLong();
+    private final AtomicReference<Runnable> duringUserCount = new AtomicReference<>(() -> { });
+
+    private final DashboardStatsService service = new DashboardStatsService(
+            repository(UserRepository.class, () -> {
+                duringUserCount.get().run();
+                return usersInDatabase.get();
+            }),
+            repository(RestaurantRepository.class, () -> 0L),
+            repository(OrderRepository.class, () -> 0L)
+    );
+
+    @Test
+    void reconcile_shouldCorrectDriftToDatabaseCount() {
+        usersInDatabase.set(5);
+
+        service.reconcile();
+
+        assertEquals(5L, service.snapshot().getTotalUsers());
+    }
+
+    @Test
+    void reconcile_shouldKeepIncrementLandingDuringQuery() {
+        usersInDatabase.set(5);
+        service.reconcile();
+
+        // a user registers after the count was read, and its event arrives before the correction is applied
+        duringUserCount.set(() -> service.onUserRegistered(new UserRegisteredEvent(7L, UserRole.CLIENT)));
+        service.reconcile();
+        duringUserCount.set(() -> { });
+
+        assertEquals(6L, service.snapshot().getTotalUsers());
+    }
+
+    // count() answers from the supplier; the grouped status count is empty and today's GMV zero
+    private static <T> T repository(Class<T> type, LongSupplier count) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getReturnType() == List.class) {
+                        return List.of();
+                    }
+                    if (method.getReturnType() == BigDecimal.class) {
+                        return BigDecimal.ZERO;
+                    }
+                    return count.getAsLong();
+                }));
+    }
+}
@@ -0,0 +1,197 @@
+package com.utown.service;
+
+import com.utown.exception.UnauthorizedException;
+import com.utown.model.entity.User;
+import com.utown.repository.RefreshTokenRepository;
+import com.utown.repository.UserRepository;
+import com.utown.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.SecureRandom;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Refresh token rotation on the migrated schema: the conditional UPDATE that lets exactly one of two
+ * concurrent refreshes win, family revocation on reuse, lookup by digest and the batched purge.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RefreshTokenServiceTest {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeAll
+    void seed() {
+        long userId = insert("INSERT INTO users (phone_number, password_hash, name, role, is_active, created_at) " +
+                "VALUES ('+821077770003', 'x', 'Refresh Client', 'CLIENT', TRUE, ?)", Timestamp.valueOf(LocalDateTime.now()));
+        user = userRepository.findById(userId).orElseThrow();
+    }
+
+    @Test
+    void issue_shouldStoreOnlyTheDigest() {
+        String token = refreshTokenService.issue(user);
+
+        assertArrayEquals(RefreshTokenService.digest(token), jdbcTemplate.queryForObject(
+                "SELECT token_hash FROM refresh_tokens WHERE user_id = ? ORDER BY id DESC LIMIT 1",
+                byte[].class, user.getId()));
+        assertTrue(refreshTokenRepository.findByTokenHash(RefreshTokenService.digest(token)).isPresent());
+        assertTrue(refreshTokenRepository.findByTokenHash(RefreshTokenService.digest(token + "x")).isEmpty());
+    }
+
+    @Test
+    void rotate_shouldInvalidateOldTokenAndKeepFamily() {
+        String first = refreshTokenService.issue(user);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(first);
+
+        assertEquals(user.getId(), rotation.user().getId());
+        assertFalse(isValid(first));
+        assertNotNull(revokedAt(first));
+        assertTrue(isValid(rotation.refreshToken()));
+        assertEquals(familyOf(first), familyOf(rotation.refreshToken()));
+    }
+
+    @Test
+    void rotate_shouldRevokeFamilyWhenRotatedTokenIsReused() {
+        String first = refreshTokenService.issue(user);
+        String second = refreshTokenService.rotate(first).refreshToken();
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(first));
+
+        // the revocation commits although the reuse fails
+        assertFalse(isValid(second));
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(second));
+    }
+
+    @Test
+    void rotate_shouldRevokeFamilyWhenLosingConcurrentRefresh() {
+        String first = refreshTokenService.issue(user);
+        String[] winner = new String[1];
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // the loser has read the token as valid before the winner rotates it
+            assertTrue(refreshTokenRepository.findByTokenHash(RefreshTokenService.digest(first)).orElseThrow().getIsValid());
+
+            Thread other = Thread.ofVirtual().start(() -> winner[0] = refreshTokenService.rotate(first).refreshToken());
+            try {
+                other.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+
+            assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(first));
+        });
+
+        assertNotNull(winner[0]);
+        assertFalse(isValid(winner[0]));
+    }
+
+    @Test
+    void rotate_shouldRejectUnknownAndExpiredTokens() {
+        assertThrows(UnauthorizedException.class,
+                () -> refreshTokenService.rotate(jwtTokenProvider.generateRefreshToken(user.getId())));
+
+        String expired = refreshTokenService.issue(user);
+        jdbcTemplate.update("UPDATE refresh_tokens SET expires_at = ? WHERE token_hash = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), RefreshTokenService.digest(expired));
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(expired));
+        assertTrue(isValid(expired));
+    }
+
+    @Test
+    void purge_shouldDeleteExpiredAndLongRevokedTokensInBatches() {
+        long purgeUserId = insert("INSERT INTO users (phone_number, password_hash, name, role, is_active, created_at) " +
+                "VALUES ('+821077770004', 'x', 'Purge Client', 'CLIENT', TRUE, ?)", Timestamp.valueOf(LocalDateTime.now()));
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            insertToken(purgeUserId, now.minusMinutes(1 + i), true, null);
+        }
+        for (int i = 0; i < 3; i++) {
+            insertToken(purgeUserId, now.plusDays(1), false, now.minusDays(2));
+        }
+        insertToken(purgeUserId, now.plusDays(1), false, now.minusMinutes(5));
+        insertToken(purgeUserId, now.plusDays(1), true, null);
+
+        // batches of two, so both loops run several times and stop on a short batch
+        new RefreshTokenService(refreshTokenRepository, jwtTokenProvider, 86_400_000L, 2).purge();
+
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ?", Integer.class, purgeUserId));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE expires_at < ? OR revoked_at < ?",
+                Integer.class, Timestamp.valueOf(now), Timestamp.valueOf(now.minusDays(1))));
+    }
+
+    private boolean isValid(String token) {
+        return jdbcTemplate.queryForObject("SELECT is_valid FROM refresh_tokens WHERE token_hash = ?",
+                Boolean.class, (Object) RefreshTokenService.digest(token));
+    }
+
+    private Timestamp revokedAt(String token) {
+        return jdbcTemplate.queryForObject("SELECT revoked_at FROM refresh_tokens WHERE token_hash = ?",
+                Timestamp.class, (Object) RefreshTokenService.digest(token));
+    }
+
+    private String familyOf(String token) {
+        return jdbcTemplate.queryForObject("SELECT family_id FROM refresh_tokens WHERE token_hash = ?",
+                String.class, (Object) RefreshTokenService.digest(token));
+    }
+
+    private void insertToken(long userId, LocalDateTime expiresAt, boolean valid, LocalDateTime revokedAt) {
+        byte[] hash = new byte[32];
+        RANDOM.nextBytes(hash);
+        jdbcTemplate.update("INSERT INTO refresh_tokens (user_id, token_hash, family_id, expires_at, is_valid, revoked_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                userId, hash, UUID.randomUUID().toString(), Timestamp.valueOf(expiresAt), valid,
+                revokedAt != null ? Timestamp.valueOf(revokedAt) : null);
+    }
+
+    private long insert(String sql, Object... args) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id"});
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+}
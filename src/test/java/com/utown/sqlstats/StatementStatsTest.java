@@ -0,0 +1,69 @@
+package com.utown.sqlstats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementStatsTest {
+
+    @Test
+    void shapeOf_shouldReplaceLiteralsAndCollapseInLists() {
+        assertEquals("select * from orders where id = ? and status = ?",
+                StatementStats.shapeOf("select *  from orders\n where id = 42 and status = 'READY'"));
+        assertEquals("select * from order_items i1_0 where i1_0.order_id in (?)",
+                StatementStats.shapeOf("select * from order_items i1_0 where i1_0.order_id in (?, ?, ?)"));
+        assertEquals("delete from t where id in (?)", StatementStats.shapeOf("delete from t where id IN (?,?,?,?)"));
+        assertEquals("delete from t where id in (?)", StatementStats.shapeOf("delete from t where id in (1, 2)"));
+    }
+
+    @Test
+    void repeated_shouldReportShapesAtThresholdMostFrequentFirst() {
+        StatementStats stats = new StatementStats();
+        stats.recordStatement("select * from orders o1_0 where o1_0.user_id=? limit ?");
+        for (long id = 1; id <= 6; id++) {
+            stats.recordStatement("select * from restaurants r1_0 where r1_0.id=" + id);
+        }
+        for (long id = 1; id <= 5; id++) {
+            stats.recordStatement("select * from addresses a1_0 where a1_0.id=?");
+        }
+
+        List<StatementStats.RepeatedStatement> repeated = stats.repeated(5);
+
+        assertEquals(12, stats.getStatements());
+        assertEquals(2, repeated.size());
+        assertEquals(6, repeated.get(0).count());
+        assertTrue(repeated.get(0).shape().startsWith("select * from restaurants"));
+        assertEquals(5, repeated.get(1).count());
+        assertTrue(stats.repeated(7).isEmpty());
+    }
+
+    @Test
+    void scope_shouldNotNestAndOnlyCloseItsOwnStats() {
+        StatementStats outer = StatementScope.open();
+        try {
+            assertNotNull(outer);
+            assertNull(StatementScope.open());
+
+            StatementScope.close(new StatementStats());
+            assertSame(outer, StatementScope.current());
+        } finally {
+            StatementScope.close(outer);
+        }
+        assertNull(StatementScope.current());
+    }
+
+    @Test
+    void violation_shouldReportOverrunsAndRepeatsOnly() {
+        StatementStats stats = new StatementStats();
+        for (long id = 1; id <= 3; id++) {
+            stats.recordStatement("select * from restaurants r1_0 where r1_0.id=" + id);
+        }
+
+        assertNull(StatementStatsReporter.violation("GET /api/restaurants", stats, 3, 5));
+        assertTrue(StatementStatsReporter.violation("GET /api/restaurants", stats, 2, 5)
+                .startsWith("GET /api/restaurants ran 3 statements (budget 2"));
+        assertTrue(StatementStatsReporter.violation("GET /api/restaurants", stats, 3, 3).contains("possible N+1"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.utown.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSpanExporterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void export_shouldRollOverAtMaxBytes() throws Exception {
+        Path path = dir.resolve("traces.jsonl");
+        FileSpanExporter exporter = new FileSpanExporter(path, 1, "test", new ObjectMapper());
+        try {
+            exporter.export(List.of());
+            String first = Files.readString(path);
+            exporter.export(List.of());
+            exporter.export(List.of());
+
+            assertEquals(first, Files.readString(path));
+            assertEquals(first, Files.readString(dir.resolve("traces.jsonl.1")));
+            try (Stream<Path> files = Files.list(dir)) {
+                assertEquals(2, files.count());
+            }
+        } finally {
+            exporter.close();
+        }
+    }
+
+    @Test
+    void export_shouldAppendBelowMaxBytes() throws Exception {
+        Path path = dir.resolve("traces.jsonl");
+        FileSpanExporter exporter = new FileSpanExporter(path, 1024 * 1024, "test", new ObjectMapper());
+        try {
+            exporter.export(List.of());
+            exporter.export(List.of());
+        } finally {
+            exporter.close();
+        }
+
+        assertEquals(2, Files.readAllLines(path).size());
+        assertFalse(Files.exists(dir.resolve("traces.jsonl.1")));
+    }
+}
@@ -0,0 +1,31 @@
+package com.utown.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TailSamplerTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final TailSampler sampler = new TailSampler(500, 0.01);
+
+    @Test
+    void decide_shouldAlwaysKeepErrorsAndSlowTraces() {
+        assertEquals(TailSampler.Decision.ERROR, sampler.decide(true, 1 * MS, false, 0.99));
+        assertEquals(TailSampler.Decision.SLOW, sampler.decide(false, 500 * MS, false, 0.99));
+        assertEquals(TailSampler.Decision.ERROR, sampler.decide(true, 900 * MS, true, 0.99));
+    }
+
+    @Test
+    void decide_shouldKeepUpstreamSampledTraces() {
+        assertEquals(TailSampler.Decision.UPSTREAM, sampler.decide(false, 10 * MS, true, 0.99));
+    }
+
+    @Test
+    void decide_shouldKeepFastTracesAtBaselineRate() {
+        assertEquals(TailSampler.Decision.BASELINE, sampler.decide(false, 10 * MS, false, 0.005));
+        assertEquals(TailSampler.Decision.DROP, sampler.decide(false, 499 * MS, false, 0.01));
+        assertFalse(TailSampler.Decision.DROP.keep());
+    }
+}
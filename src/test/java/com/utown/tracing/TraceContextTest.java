@@ -0,0 +1,43 @@
+package com.utown.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceContextTest {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @Test
+    void parse_shouldReadIdsAndSampledFlag() {
+        TraceContext context = TraceContext.parse(TRACEPARENT);
+
+        assertNotNull(context);
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.traceId());
+        assertEquals("00f067aa0ba902b7", context.spanId());
+        assertTrue(context.sampled());
+        assertEquals(TRACEPARENT, context.toTraceparent());
+        assertFalse(TraceContext.parse(TRACEPARENT.substring(0, 53) + "00").sampled());
+    }
+
+    @Test
+    void parse_shouldRejectMalformedHeaders() {
+        assertNull(TraceContext.parse(null));
+        assertNull(TraceContext.parse(""));
+        assertNull(TraceContext.parse(TRACEPARENT.toUpperCase()));
+        assertNull(TraceContext.parse(TRACEPARENT + "-extra"));
+        assertNull(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01"));
+        assertNull(TraceContext.parse("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00_4bf92f3577b34da6a3ce929d0e0e4736_00f067aa0ba902b7_01"));
+    }
+
+    @Test
+    void newIds_shouldBeFixedWidthLowerHex() {
+        for (int i = 0; i < 1000; i++) {
+            String traceparent = new TraceContext(TraceContext.newTraceId(), TraceContext.newSpanId(), false)
+                    .toTraceparent();
+            assertNotNull(TraceContext.parse(traceparent));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.utown.tracking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackBufferTest {
+
+    @Test
+    void decode_shouldReturnAppendedPointsAtMicroDegreePrecision() {
+        TrackBuffer buffer = new TrackBuffer();
+        buffer.append(37.5665351, 126.9779692, 1_700_000_000_000L);
+        buffer.append(37.5667012, 126.9781004, 1_700_000_003_000L);
+        buffer.append(-33.8688197, 151.2092955, 1_700_000_002_000L);
+
+        List<TrackBuffer.TrackPoint> points = buffer.decode();
+
+        assertEquals(3, points.size());
+        assertEquals(37.566535, points.get(0).latitude(), 1e-9);
+        assertEquals(126.978100, points.get(1).longitude(), 1e-9);
+        assertEquals(-33.868820, points.get(2).latitude(), 1e-9);
+        assertEquals(151.209296, points.get(2).longitude(), 1e-9);
+        assertEquals(1_700_000_002_000L, points.get(2).recordedAtMillis());
+    }
+
+    @Test
+    void append_shouldStoreNearbyPointsInAFewBytes() {
+        TrackBuffer buffer = new TrackBuffer(16);
+        Random random = new Random(1);
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+        long millis = 1_700_000_000_000L;
+
+        for (int i = 0; i < 1_000; i++) {
+            latitude += (random.nextDouble() - 0.5) * 0.0004;
+            longitude += (random.nextDouble() - 0.5) * 0.0004;
+            millis += 3_000;
+            buffer.append(latitude, longitude, millis);
+        }
+
+        assertEquals(1_000, buffer.size());
+        assertEquals(1_000, buffer.decode().size());
+        // First point carries the absolute values; the rest are small deltas
+        assertTrue(buffer.sizeInBytes() < 8 * 1_000, "bytes: " + buffer.sizeInBytes());
+        assertEquals(latitude, buffer.decode().get(999).latitude(), 1e-6);
+    }
+
+    @Test
+    void decode_shouldBeEmptyForNewBuffer() {
+        TrackBuffer buffer = new TrackBuffer();
+
+        assertTrue(buffer.isEmpty());
+        assertTrue(buffer.decode().isEmpty());
+    }
+}
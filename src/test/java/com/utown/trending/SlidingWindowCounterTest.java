@@ -0,0 +1,44 @@
+package com.utown.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCounterTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    void sum_shouldIncludeAllSlotsInsideWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(1), 15);
+
+        counter.add(0, 2);
+        counter.add(5 * MINUTE, 3);
+        counter.add(14 * MINUTE + 59_000, 1);
+
+        assertEquals(6, counter.sum(14 * MINUTE + 59_000));
+    }
+
+    @Test
+    void sum_shouldDropSlotsThatLeftWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(1), 15);
+
+        counter.add(0, 2);
+        counter.add(5 * MINUTE, 3);
+
+        assertEquals(3, counter.sum(15 * MINUTE));
+        assertEquals(0, counter.sum(20 * MINUTE));
+    }
+
+    @Test
+    void add_shouldResetReusedSlot() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(1), 15);
+
+        counter.add(MINUTE, 4);
+        counter.add(16 * MINUTE, 1);
+
+        assertEquals(1, counter.sum(16 * MINUTE));
+    }
+}